@@ -3,6 +3,7 @@ package org.folio.app.generator;
 import static java.lang.Boolean.parseBoolean;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
+import java.time.Duration;
 import java.util.List;
 import javax.inject.Inject;
 import org.apache.maven.execution.MavenSession;
@@ -12,6 +13,7 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.folio.app.generator.configuration.ApplicationContextBuilder;
 import org.folio.app.generator.model.ErrorDetail;
+import org.folio.app.generator.model.ExecutionMetrics;
 import org.folio.app.generator.model.ExecutionResult;
 import org.folio.app.generator.model.registry.ConfigModuleRegistry;
 import org.folio.app.generator.model.registry.artifact.ConfigArtifactRegistry;
@@ -19,6 +21,7 @@ import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.service.JsonProvider;
 import org.folio.app.generator.service.ModuleRegistryProvider;
 import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.folio.app.generator.service.metrics.RunMetrics;
 import org.folio.app.generator.utils.PluginConfig;
 import org.springframework.context.support.GenericApplicationContext;
 import software.amazon.awssdk.regions.Region;
@@ -76,12 +79,53 @@ public abstract class AbstractGeneratorMojo extends AbstractMojo {
   @Parameter(name = "moduleUrlsOnly", property = "moduleUrlsOnly", defaultValue = "false")
   protected String moduleUrlsOnly;
 
+  @Parameter(name = "spoolModuleDescriptors", property = "spoolModuleDescriptors", defaultValue = "false")
+  protected boolean spoolModuleDescriptors;
+
+  @Parameter(name = "binaryDescriptorFormat", property = "binaryDescriptorFormat")
+  protected String binaryDescriptorFormat;
+
+  @Parameter(name = "binaryDescriptorOnly", property = "binaryDescriptorOnly", defaultValue = "false")
+  protected boolean binaryDescriptorOnly;
+
+  @Parameter(name = "gzipDescriptor", property = "gzipDescriptor", defaultValue = "false")
+  protected boolean gzipDescriptor;
+
+  @Parameter(name = "skipUnchangedDescriptor", property = "skipUnchangedDescriptor", defaultValue = "false")
+  protected boolean skipUnchangedDescriptor;
+
+  @Parameter(name = "descriptorIncludes", property = "descriptorIncludes")
+  protected String descriptorIncludes;
+
+  @Parameter(name = "descriptorExcludes", property = "descriptorExcludes")
+  protected String descriptorExcludes;
+
   @Parameter(defaultValue = "${registryHeaders}")
   protected String registryHeaders;
 
   @Parameter(defaultValue = "${awsRegion}")
   protected String awsRegion;
 
+  @Parameter(name = "awsS3AsyncLoading", property = "awsS3AsyncLoading", defaultValue = "false")
+  protected boolean awsS3AsyncLoading;
+
+  @Parameter(name = "awsS3MaxConcurrency", property = "awsS3MaxConcurrency", defaultValue = "32")
+  protected int awsS3MaxConcurrency;
+
+  @Parameter(name = "awsS3ConnectionAcquisitionTimeoutSeconds", property = "awsS3ConnectionAcquisitionTimeoutSeconds",
+    defaultValue = "10")
+  protected int awsS3ConnectionAcquisitionTimeoutSeconds;
+
+  @Parameter(name = "awsS3ApiCallAttemptTimeoutSeconds", property = "awsS3ApiCallAttemptTimeoutSeconds",
+    defaultValue = "0")
+  protected int awsS3ApiCallAttemptTimeoutSeconds;
+
+  @Parameter(name = "awsS3RetryMode", property = "awsS3RetryMode")
+  protected String awsS3RetryMode;
+
+  @Parameter(name = "awsS3IndexMaxAgeMinutes", property = "awsS3IndexMaxAgeMinutes", defaultValue = "0")
+  protected int awsS3IndexMaxAgeMinutes;
+
   @Parameter(name = "validateArtifacts", property = "validateArtifacts", defaultValue = "false")
   protected String validateArtifacts;
 
@@ -115,6 +159,67 @@ public abstract class AbstractGeneratorMojo extends AbstractMojo {
   @Parameter(defaultValue = "${uiPreReleaseArtifactRegistries}")
   protected String cmdUiPreReleaseArtifactRegistries;
 
+  @Parameter(name = "circuitBreakerFailureThreshold", property = "circuitBreakerFailureThreshold", defaultValue = "5")
+  protected int circuitBreakerFailureThreshold;
+
+  @Parameter(name = "circuitBreakerOpenSeconds", property = "circuitBreakerOpenSeconds", defaultValue = "30")
+  protected int circuitBreakerOpenSeconds;
+
+  @Parameter(name = "okapiBatchLoading", property = "okapiBatchLoading", defaultValue = "false")
+  protected boolean okapiBatchLoading;
+
+  @Parameter(name = "okapiPrefetchDescriptors", property = "okapiPrefetchDescriptors", defaultValue = "false")
+  protected boolean okapiPrefetchDescriptors;
+
+  @Parameter(name = "hedgingEnabled", property = "hedgingEnabled", defaultValue = "false")
+  protected boolean hedgingEnabled;
+
+  @Parameter(name = "hedgingPercentile", property = "hedgingPercentile", defaultValue = "95")
+  protected double hedgingPercentile;
+
+  @Parameter(name = "hedgingMaxRate", property = "hedgingMaxRate", defaultValue = "0.1")
+  protected double hedgingMaxRate;
+
+  @Parameter(name = "hedgingMinDelayMillis", property = "hedgingMinDelayMillis", defaultValue = "50")
+  protected long hedgingMinDelayMillis;
+
+  @Parameter(name = "adaptiveTimeoutEnabled", property = "adaptiveTimeoutEnabled", defaultValue = "false")
+  protected boolean adaptiveTimeoutEnabled;
+
+  @Parameter(name = "adaptiveTimeoutPercentile", property = "adaptiveTimeoutPercentile", defaultValue = "99")
+  protected double adaptiveTimeoutPercentile;
+
+  @Parameter(name = "adaptiveTimeoutFactor", property = "adaptiveTimeoutFactor", defaultValue = "3")
+  protected double adaptiveTimeoutFactor;
+
+  @Parameter(name = "adaptiveTimeoutFloorSeconds", property = "adaptiveTimeoutFloorSeconds", defaultValue = "10")
+  protected int adaptiveTimeoutFloorSeconds;
+
+  @Parameter(name = "adaptiveTimeoutCeilingSeconds", property = "adaptiveTimeoutCeilingSeconds", defaultValue = "300")
+  protected int adaptiveTimeoutCeilingSeconds;
+
+  @Parameter(name = "httpExecutor", property = "httpExecutor", defaultValue = "default")
+  protected String httpExecutor;
+
+  @Parameter(name = "httpExecutorThreads", property = "httpExecutorThreads", defaultValue = "0")
+  protected int httpExecutorThreads;
+
+  @Parameter(name = "httpConnectTimeoutSeconds", property = "httpConnectTimeoutSeconds", defaultValue = "30")
+  protected int httpConnectTimeoutSeconds;
+
+  @Parameter(name = "httpMaxRequestsPerHost", property = "httpMaxRequestsPerHost", defaultValue = "0")
+  protected int httpMaxRequestsPerHost;
+
+  @Parameter(name = "artifactRateLimit", property = "artifactRateLimit", defaultValue = "0")
+  protected double artifactRateLimit;
+
+  @Parameter(name = "artifactRateLimitBurst", property = "artifactRateLimitBurst", defaultValue = "5")
+  protected int artifactRateLimitBurst;
+
+  @Parameter(name = "artifactRateLimitMaxPauseSeconds", property = "artifactRateLimitMaxPauseSeconds",
+    defaultValue = "300")
+  protected int artifactRateLimitMaxPauseSeconds;
+
   protected final ModuleRegistryProvider moduleRegistryProvider;
   protected final ApplicationContextBuilder applicationContextBuilder;
 
@@ -141,8 +246,21 @@ public abstract class AbstractGeneratorMojo extends AbstractMojo {
       .uiCmdFallbackRegistryString(cmdUiFallbackRegistriesString)
       .overrideConfigRegistries(parseBoolean(overrideConfigRegistries))
       .moduleUrlsOnly(parseBoolean(moduleUrlsOnly))
+      .spoolModuleDescriptors(spoolModuleDescriptors)
+      .binaryDescriptorFormat(binaryDescriptorFormat)
+      .binaryDescriptorOnly(binaryDescriptorOnly)
+      .gzipDescriptor(gzipDescriptor)
+      .skipUnchangedDescriptor(skipUnchangedDescriptor)
+      .descriptorIncludes(descriptorIncludes)
+      .descriptorExcludes(descriptorExcludes)
       .registryHeaders(registryHeaders)
       .awsRegion(isNotBlank(awsRegion) ? Region.of(awsRegion) : Region.US_EAST_1)
+      .awsS3AsyncLoading(awsS3AsyncLoading)
+      .awsS3MaxConcurrency(awsS3MaxConcurrency)
+      .awsS3ConnectionAcquisitionTimeout(Duration.ofSeconds(awsS3ConnectionAcquisitionTimeoutSeconds))
+      .awsS3ApiCallAttemptTimeout(Duration.ofSeconds(awsS3ApiCallAttemptTimeoutSeconds))
+      .awsS3RetryMode(awsS3RetryMode)
+      .awsS3IndexMaxAge(Duration.ofMinutes(awsS3IndexMaxAgeMinutes))
       .validateArtifacts(parseBoolean(validateArtifacts))
       .artifactRegistries(artifactRegistries)
       .beArtifactRegistries(beArtifactRegistries)
@@ -154,6 +272,26 @@ public abstract class AbstractGeneratorMojo extends AbstractMojo {
       .cmdUiArtifactRegistries(cmdUiArtifactRegistries)
       .cmdBePreReleaseArtifactRegistries(cmdBePreReleaseArtifactRegistries)
       .cmdUiPreReleaseArtifactRegistries(cmdUiPreReleaseArtifactRegistries)
+      .circuitBreakerFailureThreshold(circuitBreakerFailureThreshold)
+      .circuitBreakerOpenDuration(Duration.ofSeconds(circuitBreakerOpenSeconds))
+      .okapiBatchLoading(okapiBatchLoading)
+      .okapiPrefetchDescriptors(okapiPrefetchDescriptors)
+      .hedgingEnabled(hedgingEnabled)
+      .hedgingPercentile(hedgingPercentile)
+      .hedgingMaxRate(hedgingMaxRate)
+      .hedgingMinDelay(Duration.ofMillis(hedgingMinDelayMillis))
+      .adaptiveTimeoutEnabled(adaptiveTimeoutEnabled)
+      .adaptiveTimeoutPercentile(adaptiveTimeoutPercentile)
+      .adaptiveTimeoutFactor(adaptiveTimeoutFactor)
+      .adaptiveTimeoutFloor(Duration.ofSeconds(adaptiveTimeoutFloorSeconds))
+      .adaptiveTimeoutCeiling(Duration.ofSeconds(adaptiveTimeoutCeilingSeconds))
+      .httpExecutor(httpExecutor)
+      .httpExecutorThreads(httpExecutorThreads)
+      .httpConnectTimeout(Duration.ofSeconds(httpConnectTimeoutSeconds))
+      .httpMaxRequestsPerHost(httpMaxRequestsPerHost)
+      .artifactRateLimit(artifactRateLimit)
+      .artifactRateLimitBurst(artifactRateLimitBurst)
+      .artifactRateLimitMaxPause(Duration.ofSeconds(artifactRateLimitMaxPauseSeconds))
       .build();
 
     var registries = moduleRegistryProvider.getModuleRegistries(pluginConfig, getLog());
@@ -177,7 +315,7 @@ public abstract class AbstractGeneratorMojo extends AbstractMojo {
   protected void writeExecutionSuccess(GenericApplicationContext ctx, String goal, String appName, String appVersion,
                                        boolean changesDetected) throws ApplicationGeneratorException {
     var jsonProvider = ctx.getBean(JsonProvider.class);
-    var result = ExecutionResult.success(goal, appName, appVersion, changesDetected);
+    var result = ExecutionResult.success(goal, appName, appVersion, changesDetected).withMetrics(collectMetrics(ctx));
     jsonProvider.writeExecutionResult(result, mavenProject.getBuild().getDirectory());
   }
 
@@ -185,10 +323,15 @@ public abstract class AbstractGeneratorMojo extends AbstractMojo {
                                        ErrorCategory category, String message, List<ErrorDetail> errors)
       throws ApplicationGeneratorException {
     var jsonProvider = ctx.getBean(JsonProvider.class);
-    var result = ExecutionResult.failure(goal, appName, category, message, errors);
+    var result = ExecutionResult.failure(goal, appName, category, message, errors).withMetrics(collectMetrics(ctx));
     jsonProvider.writeExecutionResult(result, mavenProject.getBuild().getDirectory());
   }
 
+  protected ExecutionMetrics collectMetrics(GenericApplicationContext ctx) {
+    var runMetrics = ctx.getBean(RunMetrics.class);
+    return runMetrics != null ? runMetrics.snapshot() : null;
+  }
+
   protected ErrorCategory classifyException(Exception e) {
     return ErrorCategory.fromException(e);
   }
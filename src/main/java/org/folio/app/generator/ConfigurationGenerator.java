@@ -33,26 +33,28 @@ public class ConfigurationGenerator extends AbstractGeneratorMojo {
 
   @Override
   public void execute() throws MojoExecutionException {
-    var ctx = buildApplicationContext();
-    var appName = mavenProject.getArtifactId();
-
-    writeExecutionStarted(ctx, "generateFromConfiguration", appName);
-
-    try {
-      var template = new ApplicationDescriptorTemplate()
-        .dependencies(dependencies)
-        .modules(modules)
-        .uiModules(uiModules);
-
-      var appDescriptorGenerator = ctx.getBean(ApplicationDescriptorGenerator.class);
-      var application = appDescriptorGenerator.generate(template);
-
-      writeExecutionSuccess(ctx, "generateFromConfiguration", appName, application.getVersion(), true);
-    } catch (Exception e) {
-      var category = classifyException(e);
-      List<ErrorDetail> errors = e instanceof ApplicationGeneratorException age ? age.getErrors() : List.of();
-      writeExecutionFailure(ctx, "generateFromConfiguration", appName, category, e.getMessage(), errors);
-      throw toMojoExecutionException(e);
+    try (var ctx = buildApplicationContext()) {
+      var appName = mavenProject.getArtifactId();
+
+      writeExecutionStarted(ctx, "generateFromConfiguration", appName);
+
+      try {
+        var template = new ApplicationDescriptorTemplate()
+          .dependencies(dependencies)
+          .modules(modules)
+          .uiModules(uiModules);
+
+        var appDescriptorGenerator = ctx.getBean(ApplicationDescriptorGenerator.class);
+        var result = appDescriptorGenerator.generate(template);
+
+        writeExecutionSuccess(ctx, "generateFromConfiguration", appName, result.application().getVersion(),
+          result.changesDetected());
+      } catch (Exception e) {
+        var category = classifyException(e);
+        List<ErrorDetail> errors = e instanceof ApplicationGeneratorException age ? age.getErrors() : List.of();
+        writeExecutionFailure(ctx, "generateFromConfiguration", appName, category, e.getMessage(), errors);
+        throw toMojoExecutionException(e);
+      }
     }
   }
 }
@@ -35,35 +35,36 @@ public class IntegrityValidatorMojo extends JsonGenerator {
   public void execute() throws MojoExecutionException {
     prevalidateParameters();
 
-    var ctx = buildApplicationContext();
-    var appName = mavenProject.getArtifactId();
+    try (var ctx = buildApplicationContext()) {
+      var appName = mavenProject.getArtifactId();
 
-    writeExecutionStarted(ctx, "validateIntegrity", appName);
+      writeExecutionStarted(ctx, "validateIntegrity", appName);
 
-    try {
-      var applicationDescriptorService = ctx.getBean(ApplicationDescriptorService.class);
+      try {
+        var applicationDescriptorService = ctx.getBean(ApplicationDescriptorService.class);
 
-      // ApplicationModulesIntegrityValidator requires HTTP connectivity
-      // It won't be available when using only S3 registries without OKAPI or Simple registries
-      if (!ctx.containsBean("applicationModulesIntegrityValidator")) {
-        throw new MojoExecutionException(
-          "Integrity validation requires HTTP-based module registries (OKAPI or Simple) "
-            + "or artifact validation to be enabled. Current configuration uses only S3 registries.");
-      }
+        // ApplicationModulesIntegrityValidator requires HTTP connectivity
+        // It won't be available when using only S3 registries without OKAPI or Simple registries
+        if (!ctx.containsBean("applicationModulesIntegrityValidator")) {
+          throw new MojoExecutionException(
+            "Integrity validation requires HTTP-based module registries (OKAPI or Simple) "
+              + "or artifact validation to be enabled. Current configuration uses only S3 registries.");
+        }
 
-      var applicationModulesValidator = ctx.getBean(ApplicationModulesIntegrityValidator.class);
+        var applicationModulesValidator = ctx.getBean(ApplicationModulesIntegrityValidator.class);
 
-      var template = readTemplate();
-      var application = applicationDescriptorService.create(template);
+        var template = readTemplate(ctx);
+        var application = applicationDescriptorService.create(template);
 
-      applicationModulesValidator.validateApplication(application, baseUrl, token);
+        applicationModulesValidator.validateApplication(application, baseUrl, token);
 
-      writeExecutionSuccess(ctx, "validateIntegrity", appName, application.getVersion(), true);
-    } catch (Exception e) {
-      var category = classifyException(e);
-      List<ErrorDetail> errors = e instanceof ApplicationGeneratorException age ? age.getErrors() : List.of();
-      writeExecutionFailure(ctx, "validateIntegrity", appName, category, e.getMessage(), errors);
-      throw toMojoExecutionException(e);
+        writeExecutionSuccess(ctx, "validateIntegrity", appName, application.getVersion(), true);
+      } catch (Exception e) {
+        var category = classifyException(e);
+        List<ErrorDetail> errors = e instanceof ApplicationGeneratorException age ? age.getErrors() : List.of();
+        writeExecutionFailure(ctx, "validateIntegrity", appName, category, e.getMessage(), errors);
+        throw toMojoExecutionException(e);
+      }
     }
   }
 
@@ -15,6 +15,7 @@ import org.folio.app.generator.service.ApplicationDescriptorGenerator;
 import org.folio.app.generator.service.JsonProvider;
 import org.folio.app.generator.service.ModuleRegistryProvider;
 import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.springframework.context.support.GenericApplicationContext;
 
 @Mojo(name = "generateFromJson", defaultPhase = LifecyclePhase.COMPILE, requiresDependencyResolution = RUNTIME)
 public class JsonGenerator extends AbstractGeneratorMojo {
@@ -30,26 +31,28 @@ public class JsonGenerator extends AbstractGeneratorMojo {
 
   @Override
   public void execute() throws MojoExecutionException {
-    var ctx = buildApplicationContext();
-    var appName = mavenProject.getArtifactId();
-
-    writeExecutionStarted(ctx, "generateFromJson", appName);
-
-    try {
-      var applicationDescriptorGenerator = ctx.getBean(ApplicationDescriptorGenerator.class);
-      var application = applicationDescriptorGenerator.generate(readTemplate());
-
-      writeExecutionSuccess(ctx, "generateFromJson", appName, application.getVersion(), true);
-    } catch (Exception e) {
-      var category = classifyException(e);
-      List<ErrorDetail> errors = e instanceof ApplicationGeneratorException age ? age.getErrors() : List.of();
-      writeExecutionFailure(ctx, "generateFromJson", appName, category, e.getMessage(), errors);
-      throw toMojoExecutionException(e);
+    try (var ctx = buildApplicationContext()) {
+      var appName = mavenProject.getArtifactId();
+
+      writeExecutionStarted(ctx, "generateFromJson", appName);
+
+      try {
+        var applicationDescriptorGenerator = ctx.getBean(ApplicationDescriptorGenerator.class);
+        var result = applicationDescriptorGenerator.generate(readTemplate(ctx));
+
+        writeExecutionSuccess(ctx, "generateFromJson", appName, result.application().getVersion(),
+          result.changesDetected());
+      } catch (Exception e) {
+        var category = classifyException(e);
+        List<ErrorDetail> errors = e instanceof ApplicationGeneratorException age ? age.getErrors() : List.of();
+        writeExecutionFailure(ctx, "generateFromJson", appName, category, e.getMessage(), errors);
+        throw toMojoExecutionException(e);
+      }
     }
   }
 
-  protected ApplicationDescriptorTemplate readTemplate() throws ApplicationGeneratorException {
-    var ctx = buildApplicationContext();
+  protected ApplicationDescriptorTemplate readTemplate(GenericApplicationContext ctx)
+    throws ApplicationGeneratorException {
     var jsonProvider = ctx.getBean(JsonProvider.class);
     return jsonProvider.readJsonFromFile(templatePath, ApplicationDescriptorTemplate.class, true);
   }
@@ -41,32 +41,33 @@ public class TemplateUpdateGenerator extends AbstractUpdateMojo {
 
   @Override
   public void execute() throws MojoExecutionException {
-    var ctx = buildApplicationContext();
-    var appName = mavenProject.getArtifactId();
+    try (var ctx = buildApplicationContext()) {
+      var appName = mavenProject.getArtifactId();
 
-    writeExecutionStarted(ctx, "updateFromTemplate", appName);
+      writeExecutionStarted(ctx, "updateFromTemplate", appName);
 
-    try {
-      var jsonProvider = ctx.getBean(JsonProvider.class);
-      var application = jsonProvider.readJsonFromFile(appDescriptorPath, ApplicationDescriptor.class, false);
-      var template = jsonProvider.readJsonFromFile(templatePath, ApplicationDescriptorTemplate.class, true);
+      try {
+        var jsonProvider = ctx.getBean(JsonProvider.class);
+        var application = jsonProvider.readJsonFromFile(appDescriptorPath, ApplicationDescriptor.class, false);
+        var template = jsonProvider.readJsonFromFile(templatePath, ApplicationDescriptorTemplate.class, true);
 
-      application.setDependencies(emptyIfNull(template.getDependencies()));
+        application.setDependencies(emptyIfNull(template.getDependencies()));
 
-      var updateConfig = buildUpdateConfig(allowDowngrade, allowAddModules, removeUnlistedModules);
+        var updateConfig = buildUpdateConfig(allowDowngrade, allowAddModules, removeUnlistedModules);
 
-      var updateService = ctx.getBean(ApplicationDescriptorUpdateService.class);
-      var changesDetected = updateService.update(application,
-        emptyIfNull(template.getModules()),
-        emptyIfNull(template.getUiModules()),
-        updateConfig);
+        var updateService = ctx.getBean(ApplicationDescriptorUpdateService.class);
+        var changesDetected = updateService.update(application,
+          emptyIfNull(template.getModules()),
+          emptyIfNull(template.getUiModules()),
+          updateConfig);
 
-      writeExecutionSuccess(ctx, "updateFromTemplate", appName, application.getVersion(), changesDetected);
-    } catch (Exception e) {
-      var category = classifyException(e);
-      List<ErrorDetail> errors = e instanceof ApplicationGeneratorException age ? age.getErrors() : List.of();
-      writeExecutionFailure(ctx, "updateFromTemplate", appName, category, e.getMessage(), errors);
-      throw toMojoExecutionException(e);
+        writeExecutionSuccess(ctx, "updateFromTemplate", appName, application.getVersion(), changesDetected);
+      } catch (Exception e) {
+        var category = classifyException(e);
+        List<ErrorDetail> errors = e instanceof ApplicationGeneratorException age ? age.getErrors() : List.of();
+        writeExecutionFailure(ctx, "updateFromTemplate", appName, category, e.getMessage(), errors);
+        throw toMojoExecutionException(e);
+      }
     }
   }
 }
@@ -41,26 +41,27 @@ public class UpdateGenerator extends AbstractUpdateMojo {
 
   @Override
   public void execute() throws MojoExecutionException {
-    var ctx = buildApplicationContext();
-    var appName = mavenProject.getArtifactId();
+    try (var ctx = buildApplicationContext()) {
+      var appName = mavenProject.getArtifactId();
 
-    writeExecutionStarted(ctx, "updateFromJson", appName);
+      writeExecutionStarted(ctx, "updateFromJson", appName);
 
-    try {
-      var jsonProvider = ctx.getBean(JsonProvider.class);
-      var application = jsonProvider.readJsonFromFile(appDescriptorPath, ApplicationDescriptor.class, false);
+      try {
+        var jsonProvider = ctx.getBean(JsonProvider.class);
+        var application = jsonProvider.readJsonFromFile(appDescriptorPath, ApplicationDescriptor.class, false);
 
-      var descriptorUpdateService = ctx.getBean(ApplicationDescriptorUpdateService.class);
-      var updateConfig = buildUpdateConfig(allowDowngrade, allowAddModules, removeUnlistedModules);
-      var changesDetected = descriptorUpdateService.update(application, cmdModulesString, cmdUiModulesString,
-        updateConfig);
+        var descriptorUpdateService = ctx.getBean(ApplicationDescriptorUpdateService.class);
+        var updateConfig = buildUpdateConfig(allowDowngrade, allowAddModules, removeUnlistedModules);
+        var changesDetected = descriptorUpdateService.update(application, cmdModulesString, cmdUiModulesString,
+          updateConfig);
 
-      writeExecutionSuccess(ctx, "updateFromJson", appName, application.getVersion(), changesDetected);
-    } catch (Exception e) {
-      var category = classifyException(e);
-      List<ErrorDetail> errors = e instanceof ApplicationGeneratorException age ? age.getErrors() : List.of();
-      writeExecutionFailure(ctx, "updateFromJson", appName, category, e.getMessage(), errors);
-      throw toMojoExecutionException(e);
+        writeExecutionSuccess(ctx, "updateFromJson", appName, application.getVersion(), changesDetected);
+      } catch (Exception e) {
+        var category = classifyException(e);
+        List<ErrorDetail> errors = e instanceof ApplicationGeneratorException age ? age.getErrors() : List.of();
+        writeExecutionFailure(ctx, "updateFromJson", appName, category, e.getMessage(), errors);
+        throw toMojoExecutionException(e);
+      }
     }
   }
 }
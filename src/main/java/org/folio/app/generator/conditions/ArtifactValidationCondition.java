@@ -4,12 +4,13 @@ import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.context.annotation.Conditional;
 
 /**
- * Condition that matches when any artifact validation is enabled. This condition is true if either Docker Hub or Folio
- * NPM artifact validation is enabled.
+ * Condition that matches when any artifact validation is enabled. This condition is true if Docker Hub, Docker
+ * Registry or Folio NPM artifact validation is enabled.
  *
  * <p>This is a composite condition that checks:
  * <ul>
  *   <li>{@code folio-app-generator.docker-hub.enabled} (via {@link DockerHubCondition})</li>
+ *   <li>{@code folio-app-generator.docker-registry.enabled} (via {@link DockerRegistryCondition})</li>
  *   <li>{@code folio-app-generator.folio-npm.enabled} (via {@link FolioNpmCondition})</li>
  * </ul>
  */
@@ -22,6 +23,9 @@ public class ArtifactValidationCondition extends AnyNestedCondition {
   @Conditional(DockerHubCondition.class)
   static class DockerHub {}
 
+  @Conditional(DockerRegistryCondition.class)
+  static class DockerRegistry {}
+
   @Conditional(FolioNpmCondition.class)
   static class FolioNpm {}
 }
@@ -0,0 +1,21 @@
+package org.folio.app.generator.conditions;
+
+import static org.folio.app.generator.model.types.ArtifactRegistryType.DOCKER_REGISTRY;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Condition that matches when Docker Registry HTTP API v2 artifact validation is enabled.
+ *
+ * <p>This condition checks the system property: {@code folio-app-generator.docker-registry.enabled}
+ */
+public class DockerRegistryCondition implements Condition {
+
+  @Override
+  public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+    var dockerRegistryEnabled = context.getEnvironment().getProperty(DOCKER_REGISTRY.getPropertyName());
+    return Boolean.parseBoolean(dockerRegistryEnabled);
+  }
+}
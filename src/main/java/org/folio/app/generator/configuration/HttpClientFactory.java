@@ -0,0 +1,111 @@
+package org.folio.app.generator.configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.net.http.HttpClient;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.utils.PluginConfig;
+
+/**
+ * Creates the {@link HttpClient} used for registry requests from the plugin configuration.
+ *
+ * <p>The factory owns the executor of the created client and shuts it down on {@link #close()}, it is registered as
+ * a bean, so the executor lives as long as the application context.</p>
+ */
+public class HttpClientFactory implements AutoCloseable {
+
+  public static final String EXECUTOR_DEFAULT = "default";
+  public static final String EXECUTOR_FIXED = "fixed";
+  public static final String EXECUTOR_VIRTUAL = "virtual";
+
+  private final Log log;
+  private final PluginConfig pluginConfig;
+  private ExecutorService executor;
+
+  public HttpClientFactory(Log log, PluginConfig pluginConfig) {
+    this.log = log;
+    this.pluginConfig = pluginConfig;
+  }
+
+  /**
+   * Creates {@link HttpClient} with configured executor, connect timeout and per-host request limit.
+   *
+   * <p>The per-host limit restricts the number of in-flight requests, the JDK client pools connections on its own.
+   * Registry requests are sent one at a time, so the executor and the limit only apply to requests sent
+   * concurrently, which are hedged requests.</p>
+   *
+   * @return configured {@link HttpClient}
+   */
+  public HttpClient create() {
+    var builder = HttpClient.newBuilder()
+      .connectTimeout(pluginConfig.getHttpConnectTimeout());
+    createExecutor().ifPresent(createdExecutor -> {
+      executor = createdExecutor;
+      builder.executor(createdExecutor);
+    });
+
+    var httpClient = builder.build();
+    var maxRequestsPerHost = pluginConfig.getHttpMaxRequestsPerHost();
+    return maxRequestsPerHost > 0 ? new PerHostLimitingHttpClient(httpClient, maxRequestsPerHost) : httpClient;
+  }
+
+  /**
+   * Shuts down the executor of the created {@link HttpClient}, if a dedicated one is used.
+   */
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  Optional<ExecutorService> createExecutor() {
+    var executorType = pluginConfig.getHttpExecutor();
+    if (executorType == null || EXECUTOR_DEFAULT.equalsIgnoreCase(executorType)) {
+      return Optional.empty();
+    }
+
+    if (EXECUTOR_FIXED.equalsIgnoreCase(executorType)) {
+      var threads = pluginConfig.getHttpExecutorThreads() > 0
+        ? pluginConfig.getHttpExecutorThreads()
+        : Runtime.getRuntime().availableProcessors();
+      return Optional.of(Executors.newFixedThreadPool(threads, daemonThreadFactory()));
+    }
+
+    if (EXECUTOR_VIRTUAL.equalsIgnoreCase(executorType)) {
+      return createVirtualThreadExecutor();
+    }
+
+    log.warn(String.format("Unknown HTTP executor '%s', default executor is used", executorType));
+    return Optional.empty();
+  }
+
+  /**
+   * Virtual threads are available since JDK 21, the plugin is built for JDK 17, so the factory method is resolved
+   * reflectively.
+   */
+  private Optional<ExecutorService> createVirtualThreadExecutor() {
+    try {
+      var factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return Optional.of((ExecutorService) factoryMethod.invoke(null));
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      log.warn(String.format("Virtual threads are not supported by Java %s, default HTTP executor is used",
+        Runtime.version().feature()));
+      return Optional.empty();
+    }
+  }
+
+  private static ThreadFactory daemonThreadFactory() {
+    var counter = new AtomicInteger();
+    return runnable -> {
+      var thread = new Thread(runnable, "app-generator-http-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
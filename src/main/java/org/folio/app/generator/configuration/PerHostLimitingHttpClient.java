@@ -0,0 +1,172 @@
+package org.folio.app.generator.configuration;
+
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.PushPromiseHandler;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+
+/**
+ * {@link HttpClient} decorator limiting the number of concurrent exchanges per host.
+ *
+ * <p>A permit is held until the response headers are received or the exchange failed. Asynchronous requests waiting
+ * for a permit do not block the calling thread, they are sent once a permit is released.</p>
+ */
+class PerHostLimitingHttpClient extends HttpClient {
+
+  private final HttpClient delegate;
+  private final int maxRequestsPerHost;
+  private final Map<String, HostPermits> permitsByHost = new ConcurrentHashMap<>();
+
+  PerHostLimitingHttpClient(HttpClient delegate, int maxRequestsPerHost) {
+    this.delegate = delegate;
+    this.maxRequestsPerHost = maxRequestsPerHost;
+  }
+
+  @Override
+  public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler)
+    throws IOException, InterruptedException {
+    var permits = permitsFor(request.uri());
+    awaitPermit(permits);
+    try {
+      return delegate.send(request, responseBodyHandler);
+    } finally {
+      permits.release();
+    }
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+    return sendAsync(request, responseBodyHandler, null);
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler,
+    PushPromiseHandler<T> pushPromiseHandler) {
+    var permits = permitsFor(request.uri());
+    return permits.acquire()
+      .thenCompose(granted -> delegate.sendAsync(request, responseBodyHandler, pushPromiseHandler)
+        .whenComplete((response, error) -> permits.release()));
+  }
+
+  @Override
+  public Optional<CookieHandler> cookieHandler() {
+    return delegate.cookieHandler();
+  }
+
+  @Override
+  public Optional<Duration> connectTimeout() {
+    return delegate.connectTimeout();
+  }
+
+  @Override
+  public Redirect followRedirects() {
+    return delegate.followRedirects();
+  }
+
+  @Override
+  public Optional<ProxySelector> proxy() {
+    return delegate.proxy();
+  }
+
+  @Override
+  public SSLContext sslContext() {
+    return delegate.sslContext();
+  }
+
+  @Override
+  public SSLParameters sslParameters() {
+    return delegate.sslParameters();
+  }
+
+  @Override
+  public Optional<Authenticator> authenticator() {
+    return delegate.authenticator();
+  }
+
+  @Override
+  public Version version() {
+    return delegate.version();
+  }
+
+  @Override
+  public Optional<Executor> executor() {
+    return delegate.executor();
+  }
+
+  private HostPermits permitsFor(URI uri) {
+    var host = uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    return permitsByHost.computeIfAbsent(host, key -> new HostPermits(maxRequestsPerHost));
+  }
+
+  private static void awaitPermit(HostPermits permits) throws InterruptedException {
+    var permit = permits.acquire();
+    try {
+      permit.get();
+    } catch (InterruptedException e) {
+      if (!permit.cancel(false)) {
+        permits.release();
+      }
+      throw e;
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to acquire HTTP connection permit", e);
+    }
+  }
+
+  /**
+   * Permits of a single host, waiting requests are granted a permit in arrival order.
+   */
+  static final class HostPermits {
+
+    private final Queue<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+    private int available;
+
+    HostPermits(int permits) {
+      this.available = permits;
+    }
+
+    synchronized CompletableFuture<Void> acquire() {
+      if (available > 0) {
+        available--;
+        return CompletableFuture.completedFuture(null);
+      }
+
+      var permit = new CompletableFuture<Void>();
+      waiting.add(permit);
+      return permit;
+    }
+
+    void release() {
+      CompletableFuture<Void> next;
+      do {
+        synchronized (this) {
+          next = waiting.poll();
+          if (next == null) {
+            available++;
+            return;
+          }
+        }
+      } while (!next.complete(null));
+    }
+
+    synchronized int available() {
+      return available;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package org.folio.app.generator.configuration;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.utils.PluginConfig;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Creates {@link S3Client} and {@link S3AsyncClient} from the plugin configuration.
+ *
+ * <p>Both clients get a connection pool of {@code awsS3MaxConcurrency} connections, so parallel S3 loading is not
+ * queued on the SDK default pool, and share the connection acquisition timeout, API call attempt timeout and retry
+ * mode settings. Settings that are not configured keep the SDK defaults.</p>
+ */
+public class S3ClientFactory {
+
+  private final Log log;
+  private final PluginConfig pluginConfig;
+
+  public S3ClientFactory(Log log, PluginConfig pluginConfig) {
+    this.log = log;
+    this.pluginConfig = pluginConfig;
+  }
+
+  /**
+   * Creates synchronous {@link S3Client} using the Apache HTTP client.
+   *
+   * @return configured {@link S3Client}
+   */
+  public S3Client createClient() {
+    var httpClientBuilder = ApacheHttpClient.builder()
+      .maxConnections(getMaxConcurrency())
+      .connectionAcquisitionTimeout(pluginConfig.getAwsS3ConnectionAcquisitionTimeout());
+
+    var builder = S3Client.builder()
+      .region(pluginConfig.getAwsRegion())
+      .credentialsProvider(DefaultCredentialsProvider.create())
+      .httpClientBuilder(httpClientBuilder)
+      .overrideConfiguration(createOverrideConfiguration());
+
+    if (pluginConfig.getAwsEndpointOverride() != null) {
+      builder.endpointOverride(pluginConfig.getAwsEndpointOverride());
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Creates asynchronous {@link S3AsyncClient} using the Netty HTTP client.
+   *
+   * @return configured {@link S3AsyncClient}
+   */
+  public S3AsyncClient createAsyncClient() {
+    var httpClientBuilder = NettyNioAsyncHttpClient.builder()
+      .maxConcurrency(getMaxConcurrency())
+      .connectionAcquisitionTimeout(pluginConfig.getAwsS3ConnectionAcquisitionTimeout());
+
+    var builder = S3AsyncClient.builder()
+      .region(pluginConfig.getAwsRegion())
+      .credentialsProvider(DefaultCredentialsProvider.create())
+      .httpClientBuilder(httpClientBuilder)
+      .overrideConfiguration(createOverrideConfiguration());
+
+    if (pluginConfig.getAwsEndpointOverride() != null) {
+      builder.endpointOverride(pluginConfig.getAwsEndpointOverride());
+    }
+
+    return builder.build();
+  }
+
+  ClientOverrideConfiguration createOverrideConfiguration() {
+    var builder = ClientOverrideConfiguration.builder();
+    var attemptTimeout = pluginConfig.getAwsS3ApiCallAttemptTimeout();
+    if (attemptTimeout != null && attemptTimeout.compareTo(Duration.ZERO) > 0) {
+      builder.apiCallAttemptTimeout(attemptTimeout);
+    }
+
+    resolveRetryMode().ifPresent(builder::retryStrategy);
+    return builder.build();
+  }
+
+  Optional<RetryMode> resolveRetryMode() {
+    var retryMode = pluginConfig.getAwsS3RetryMode();
+    if (StringUtils.isBlank(retryMode)) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(RetryMode.valueOf(retryMode.trim().toUpperCase(Locale.ROOT)));
+    } catch (IllegalArgumentException e) {
+      log.warn(String.format("Unknown S3 retry mode '%s', default retry mode is used", retryMode));
+      return Optional.empty();
+    }
+  }
+
+  private int getMaxConcurrency() {
+    return Math.max(1, pluginConfig.getAwsS3MaxConcurrency());
+  }
+}
@@ -2,8 +2,9 @@ package org.folio.app.generator.configuration;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import java.net.http.HttpClient;
-import java.time.Duration;
+import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.conditions.AwsCondition;
 import org.folio.app.generator.conditions.HttpCondition;
 import org.folio.app.generator.utils.PluginConfig;
@@ -11,7 +12,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import org.springframework.context.annotation.Lazy;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
 @Configuration
@@ -22,28 +24,32 @@ public class SpringConfiguration {
   public ObjectMapper objectMapper() {
     return new ObjectMapper()
       .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true)
-      .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, false);
+      .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, false)
+      .registerModule(new BlackbirdModule());
+  }
+
+  @Bean(name = "httpClientFactory")
+  @Conditional(HttpCondition.class)
+  public HttpClientFactory httpClientFactory(Log log, PluginConfig config) {
+    return new HttpClientFactory(log, config);
   }
 
   @Bean(name = "httpClient")
   @Conditional(HttpCondition.class)
-  public HttpClient httpClient() {
-    return HttpClient.newBuilder()
-      .connectTimeout(Duration.ofSeconds(30))
-      .build();
+  public HttpClient httpClient(HttpClientFactory httpClientFactory) {
+    return httpClientFactory.create();
   }
 
   @Bean(name = "amazonS3Client")
   @Conditional(AwsCondition.class)
-  public S3Client amazonS3Client(PluginConfig config) {
-    var builder = S3Client.builder()
-      .region(config.getAwsRegion())
-      .credentialsProvider(DefaultCredentialsProvider.create());
-
-    if (config.getAwsEndpointOverride() != null) {
-      builder.endpointOverride(config.getAwsEndpointOverride());
-    }
+  public S3Client amazonS3Client(Log log, PluginConfig config) {
+    return new S3ClientFactory(log, config).createClient();
+  }
 
-    return builder.build();
+  @Lazy
+  @Bean(name = "amazonS3AsyncClient")
+  @Conditional(AwsCondition.class)
+  public S3AsyncClient amazonS3AsyncClient(Log log, PluginConfig config) {
+    return new S3ClientFactory(log, config).createAsyncClient();
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.app.generator.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.util.List;
 import java.util.Map;
 import lombok.Data;
@@ -45,13 +46,15 @@ public class ApplicationDescriptor {
   private List<Dependency> dependencies;
 
   /**
-   * List with module descriptor.
+   * List with module descriptor, read as {@link RawModuleDescriptor} values.
    */
+  @JsonDeserialize(contentUsing = RawModuleDescriptor.Deserializer.class)
   private List<Map<String, Object>> moduleDescriptors;
 
   /**
-   * List with UI module descriptors.
+   * List with UI module descriptors, read as {@link RawModuleDescriptor} values.
    */
+  @JsonDeserialize(contentUsing = RawModuleDescriptor.Deserializer.class)
   private List<Map<String, Object>> uiModuleDescriptors;
 
   /**
@@ -0,0 +1,12 @@
+package org.folio.app.generator.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Run metrics collected while a goal is executed.
+ *
+ * @param counters - named counters (e.g. {@code circuitBreaker.skippedCalls}), sorted by name
+ * @param events - notable events in the order they happened (e.g. circuit breaker state transitions)
+ */
+public record ExecutionMetrics(Map<String, Long> counters, List<String> events) {}
@@ -12,22 +12,34 @@ public record ExecutionResult(
   String errorCategory,
   String errorMessage,
   List<ErrorDetail> errors,
-  Boolean changesDetected
+  Boolean changesDetected,
+  ExecutionMetrics metrics
 ) {
 
   public static ExecutionResult started(String goal, String appName) {
-    return new ExecutionResult("STARTED", null, goal, appName, null, null, null, List.of(), null);
+    return new ExecutionResult("STARTED", null, goal, appName, null, null, null, List.of(), null, null);
   }
 
   public static ExecutionResult success(String goal, String appName, String appVersion,
                                         boolean changesDetected) {
     return new ExecutionResult("COMPLETED", true, goal, appName, appVersion,
-      ErrorCategory.NONE.name(), null, List.of(), changesDetected);
+      ErrorCategory.NONE.name(), null, List.of(), changesDetected, null);
   }
 
   public static ExecutionResult failure(String goal, String appName, ErrorCategory category,
                                         String message, List<ErrorDetail> errors) {
     return new ExecutionResult("COMPLETED", false, goal, appName, null,
-      category.name(), message, errors != null ? errors : List.of(), null);
+      category.name(), message, errors != null ? errors : List.of(), null, null);
+  }
+
+  /**
+   * Creates a copy of this result with the given run metrics attached.
+   *
+   * @param metrics - collected {@link ExecutionMetrics}, may be {@code null}
+   * @return new {@link ExecutionResult} with metrics
+   */
+  public ExecutionResult withMetrics(ExecutionMetrics metrics) {
+    return new ExecutionResult(status, success, goal, appName, appVersion, errorCategory, errorMessage, errors,
+      changesDetected, metrics);
   }
 }
@@ -0,0 +1,12 @@
+package org.folio.app.generator.model;
+
+/**
+ * Result of the application descriptor generation.
+ *
+ * @param application - generated {@link ApplicationDescriptor}
+ * @param changesDetected - false if the existing application descriptor files have the same content
+ */
+public record GenerationResult(
+  ApplicationDescriptor application,
+  boolean changesDetected
+) {}
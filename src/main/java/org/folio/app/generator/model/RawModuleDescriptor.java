@@ -0,0 +1,223 @@
+package org.folio.app.generator.model;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.SerializationException;
+
+/**
+ * Module descriptor kept as compact UTF-8 JSON bytes together with its {@code id}.
+ *
+ * <p>The generator reads only the {@code id} of loaded module descriptors, so the {@code id} and the number of
+ * fields are extracted when the descriptor is read, other fields are parsed on first access only. JSON output
+ * copies the bytes verbatim instead of serializing the fields again. Output in other formats parses the fields
+ * without keeping them, so that the descriptor does not hold both its bytes and its fields afterwards.</p>
+ */
+@JsonSerialize(using = RawModuleDescriptor.Serializer.class)
+public class RawModuleDescriptor extends AbstractMap<String, Object> {
+
+  private final String id;
+  private final byte[] json;
+  private final int size;
+  private final ObjectReader reader;
+  private volatile Map<String, Object> fields;
+
+  /**
+   * Creates a module descriptor from its JSON bytes.
+   *
+   * @param id - value of the string {@code id} field, null if the descriptor has none
+   * @param json - compact JSON object bytes, UTF-8 encoded
+   * @param size - number of fields of the JSON object
+   * @param reader - {@link ObjectReader} for a {@link Map}, used to parse the fields on first access
+   */
+  public RawModuleDescriptor(String id, byte[] json, int size, ObjectReader reader) {
+    this.id = id;
+    this.json = json;
+    this.size = size;
+    this.reader = reader;
+  }
+
+  /**
+   * Creates a module descriptor, which JSON bytes are provided by {@link #getJson()} of the subclass.
+   *
+   * @param id - value of the string {@code id} field, null if the descriptor has none
+   * @param size - number of fields of the JSON object
+   * @param reader - {@link ObjectReader} for a {@link Map}, used to parse the fields on first access
+   */
+  protected RawModuleDescriptor(String id, int size, ObjectReader reader) {
+    this(id, null, size, reader);
+  }
+
+  /**
+   * Returns the value of the string {@code id} field.
+   *
+   * @return module id, null if the descriptor has no string {@code id} field
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Returns the JSON bytes, the array is not copied and must not be modified.
+   *
+   * @return compact JSON object bytes, UTF-8 encoded
+   */
+  public byte[] getJson() {
+    return json;
+  }
+
+  /**
+   * Returns the reader used to parse the fields.
+   *
+   * @return {@link ObjectReader} for a {@link Map}
+   */
+  public ObjectReader getReader() {
+    return reader;
+  }
+
+  @Override
+  public Object get(Object key) {
+    return id != null && "id".equals(key) ? id : getFields().get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return id != null && "id".equals(key) || getFields().containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return getFields().entrySet();
+  }
+
+  private Map<String, Object> getFields() {
+    var result = fields;
+    if (result == null) {
+      result = readFields();
+      fields = result;
+    }
+    return result;
+  }
+
+  private Map<String, Object> readFields() {
+    try {
+      return Collections.unmodifiableMap(reader.<Map<String, Object>>readValue(getJson()));
+    } catch (IOException e) {
+      throw new SerializationException("Failed to parse module descriptor: " + id, e);
+    }
+  }
+
+  /**
+   * Writes the JSON bytes as a raw value to JSON generators and the fields to generators of other formats, the
+   * fields are parsed for the output only if they have not been accessed before.
+   */
+  public static class Serializer extends StdSerializer<RawModuleDescriptor> {
+
+    public Serializer() {
+      super(RawModuleDescriptor.class);
+    }
+
+    @Override
+    public void serialize(RawModuleDescriptor value, JsonGenerator generator, SerializerProvider provider)
+      throws IOException {
+      if (generator instanceof JsonGeneratorImpl) {
+        generator.writeRawValue(new String(value.getJson(), StandardCharsets.UTF_8));
+        return;
+      }
+
+      var fields = value.fields;
+      provider.defaultSerializeValue(fields != null ? fields : value.readFields(), generator);
+    }
+  }
+
+  /**
+   * Reads a JSON object as {@link RawModuleDescriptor}, copying its tokens into JSON bytes without building a map.
+   *
+   * <p>Fields are parsed with the {@link ObjectReader} passed in the {@link #FIELDS_READER_ATTRIBUTE} attribute,
+   * or with a reader of the mapper that reads the enclosing value, if the attribute is not set.</p>
+   */
+  public static class Deserializer extends StdDeserializer<Map<String, Object>> {
+
+    /**
+     * Name of the {@link ObjectReader} attribute holding the JSON reader for the fields of module descriptors.
+     */
+    public static final String FIELDS_READER_ATTRIBUTE = RawModuleDescriptor.class.getName() + ".fieldsReader";
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    public Deserializer() {
+      super(Map.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+      if (!parser.isExpectedStartObjectToken()) {
+        return (Map<String, Object>) context.handleUnexpectedToken(Map.class, parser);
+      }
+
+      var reader = getFieldsReader(parser, context);
+      var buffer = new ByteArrayBuilder();
+      var fieldNames = new HashSet<String>();
+      String id = null;
+      try (var generator = reader.getFactory().createGenerator(buffer, JsonEncoding.UTF8)) {
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          var fieldName = parser.currentName();
+          var fieldToken = parser.nextToken();
+          if ("id".equals(fieldName)) {
+            id = fieldToken == JsonToken.VALUE_STRING ? parser.getText() : null;
+          }
+
+          fieldNames.add(fieldName);
+          generator.writeFieldName(fieldName);
+          generator.copyCurrentStructure(parser);
+        }
+        generator.writeEndObject();
+      }
+
+      return new RawModuleDescriptor(id, buffer.toByteArray(), fieldNames.size(), reader);
+    }
+
+    private static ObjectReader getFieldsReader(JsonParser parser, DeserializationContext context) {
+      if (context.getAttribute(FIELDS_READER_ATTRIBUTE) instanceof ObjectReader fieldsReader) {
+        return fieldsReader;
+      }
+
+      var reader = parser.getCodec() instanceof ObjectReader codecReader
+        ? codecReader.forType(MAP_TYPE)
+        : ((ObjectMapper) parser.getCodec()).readerFor(MAP_TYPE);
+      var isJson = JsonFactory.FORMAT_NAME_JSON.equals(reader.getFactory().getFormatName());
+      return isJson ? reader : reader.with(JsonFactory.builder().build());
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package org.folio.app.generator.model;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import org.apache.commons.lang3.SerializationException;
+
+/**
+ * Module descriptor spooled to a file, only its {@code id}, the number of fields and the location of its JSON bytes
+ * are kept in memory.
+ *
+ * <p>The JSON bytes are read from the spool file on access, or transferred to the output file channel without being
+ * copied into the heap, see {@link #transferTo(WritableByteChannel)}.</p>
+ */
+public class SpooledModuleDescriptor extends RawModuleDescriptor {
+
+  private final FileChannel channel;
+  private final long position;
+  private final int length;
+
+  /**
+   * Creates a module descriptor stored in the spool file.
+   *
+   * @param id - value of the string {@code id} field, null if the descriptor has none
+   * @param size - number of fields of the JSON object
+   * @param reader - {@link ObjectReader} for a {@link java.util.Map}, used to parse the fields on first access
+   * @param channel - {@link FileChannel} of the spool file
+   * @param position - position of the JSON bytes in the spool file
+   * @param length - number of JSON bytes
+   */
+  public SpooledModuleDescriptor(String id, int size, ObjectReader reader, FileChannel channel, long position,
+    int length) {
+    super(id, size, reader);
+    this.channel = channel;
+    this.position = position;
+    this.length = length;
+  }
+
+  /**
+   * Reads the JSON bytes from the spool file.
+   *
+   * @return JSON object bytes, UTF-8 encoded
+   */
+  @Override
+  public byte[] getJson() {
+    var buffer = ByteBuffer.allocate(length);
+    try {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0) {
+          throw new IOException("Unexpected end of spool file");
+        }
+      }
+    } catch (IOException e) {
+      throw new SerializationException("Failed to read spooled module descriptor: " + getId(), e);
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Transfers the JSON bytes from the spool file to the target channel.
+   *
+   * @param target - {@link WritableByteChannel} to write to, at its current position
+   * @throws IOException if the bytes cannot be transferred
+   */
+  public void transferTo(WritableByteChannel target) throws IOException {
+    var transferred = 0L;
+    while (transferred < length) {
+      var count = channel.transferTo(position + transferred, length - transferred, target);
+      if (count <= 0) {
+        throw new IOException("Failed to transfer spooled module descriptor: " + getId());
+      }
+      transferred += count;
+    }
+  }
+}
@@ -33,6 +33,11 @@ public class ConfigModuleRegistry {
    */
   private String bucket;
 
+  /**
+   * A key of the optional registry index object relative to the path, e.g. {@code index.json} (S3 only).
+   */
+  private String index;
+
   /**
    * Custom HTTP headers sent with every request to this registry.
    *
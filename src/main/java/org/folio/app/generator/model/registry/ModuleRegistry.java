@@ -51,4 +51,14 @@ public interface ModuleRegistry {
    * @return registry identifier (e.g., URL for Okapi/Simple, bucket/path for S3)
    */
   String getRegistryIdentifier();
+
+  /**
+   * Returns a key, which is unique across registries of all types, used to keep per-registry state, like circuit
+   * breakers, latency trackers and prefetched descriptors.
+   *
+   * @return registry key in format {@code <type>::<registry identifier>}
+   */
+  default String getRegistryKey() {
+    return getType().getValue() + "::" + getRegistryIdentifier();
+  }
 }
@@ -19,6 +19,7 @@ public class S3ModuleRegistry implements ModuleRegistry {
   private String path;
   private String bucket;
   private String publicUrl;
+  private String index;
   private Map<String, String> headers = new LinkedHashMap<>();
 
   /**
@@ -51,6 +52,16 @@ public class S3ModuleRegistry implements ModuleRegistry {
     return this;
   }
 
+  /**
+   * Sets index field and returns {@link S3ModuleRegistry}.
+   *
+   * @return modified {@link S3ModuleRegistry} value
+   */
+  public S3ModuleRegistry index(String index) {
+    this.index = index;
+    return this;
+  }
+
   /**
    * Sets headers field and returns {@link S3ModuleRegistry}.
    *
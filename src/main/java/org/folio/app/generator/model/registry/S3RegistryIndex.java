@@ -0,0 +1,24 @@
+package org.folio.app.generator.model.registry;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+/**
+ * Index object of an S3 registry, listing all module descriptors stored under the registry path.
+ *
+ * @param modules - indexed module descriptor objects
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record S3RegistryIndex(List<Entry> modules) {
+
+  /**
+   * Indexed module descriptor object.
+   *
+   * @param id - module id
+   * @param key - object key, {@code path + id + ".json"} if not specified
+   * @param size - object size in bytes
+   * @param etag - object ETag
+   */
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public record Entry(String id, String key, Long size, String etag) {}
+}
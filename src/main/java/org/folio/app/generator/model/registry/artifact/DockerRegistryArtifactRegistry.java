@@ -0,0 +1,21 @@
+package org.folio.app.generator.model.registry.artifact;
+
+import lombok.EqualsAndHashCode;
+import org.folio.app.generator.model.types.ArtifactRegistryType;
+
+@EqualsAndHashCode(callSuper = true)
+public class DockerRegistryArtifactRegistry extends AbstractArtifactRegistry<DockerRegistryArtifactRegistry> {
+
+  public static final String DEFAULT_BASE_URL = "https://registry-1.docker.io";
+
+  private static final ArtifactRegistryType TYPE = ArtifactRegistryType.DOCKER_REGISTRY;
+
+  public DockerRegistryArtifactRegistry() {
+    super(DEFAULT_BASE_URL);
+  }
+
+  @Override
+  public ArtifactRegistryType getType() {
+    return TYPE;
+  }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 public enum ArtifactRegistryType {
 
   DOCKER_HUB("docker-hub", "folio-app-generator.docker-hub.enabled"),
+  DOCKER_REGISTRY("docker-registry", "folio-app-generator.docker-registry.enabled"),
   FOLIO_NPM("folio-npm", "folio-app-generator.folio-npm.enabled");
 
   private final String value;
@@ -0,0 +1,89 @@
+package org.folio.app.generator.model.types;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Encoding of the application descriptor file, the value is used as the file extension.
+ *
+ * <p>Files can additionally be gzip-compressed, then {@link #GZIP_EXTENSION} is appended to the file name.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DescriptorFormat {
+
+  JSON("json", JsonFactory::new),
+  SMILE("smile", SmileFactory::new),
+  CBOR("cbor", CBORFactory::new);
+
+  public static final String GZIP_EXTENSION = ".gz";
+
+  private final String value;
+  private final Supplier<JsonFactory> factorySupplier;
+
+  /**
+   * Creates a new {@link JsonFactory} for the format.
+   *
+   * @return new {@link JsonFactory} instance without codec
+   */
+  public JsonFactory createFactory() {
+    return factorySupplier.get();
+  }
+
+  /**
+   * Checks if the format is a binary one.
+   *
+   * @return true for Smile and CBOR
+   */
+  public boolean isBinary() {
+    return this != JSON;
+  }
+
+  /**
+   * Finds a format by its value, case-insensitive.
+   *
+   * @param value - format value
+   * @return {@link Optional} with the format, empty if the value is blank or unknown
+   */
+  public static Optional<DescriptorFormat> fromValue(String value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+
+    var normalizedValue = value.trim().toLowerCase(Locale.ROOT);
+    for (var format : values()) {
+      if (format.value.equals(normalizedValue)) {
+        return Optional.of(format);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Resolves a format by the file name extension, ignoring {@link #GZIP_EXTENSION}.
+   *
+   * @param fileName - file name
+   * @return binary format for {@code .smile} and {@code .cbor} files, {@link #JSON} otherwise
+   */
+  public static DescriptorFormat fromFileName(String fileName) {
+    var name = isCompressed(fileName) ? fileName.substring(0, fileName.length() - GZIP_EXTENSION.length()) : fileName;
+    var extensionIndex = name.lastIndexOf('.');
+    return extensionIndex < 0 ? JSON : fromValue(name.substring(extensionIndex + 1)).orElse(JSON);
+  }
+
+  /**
+   * Checks if the file name has {@link #GZIP_EXTENSION}.
+   *
+   * @param fileName - file name
+   * @return true if the file is gzip-compressed by its name
+   */
+  public static boolean isCompressed(String fileName) {
+    return fileName.endsWith(GZIP_EXTENSION);
+  }
+}
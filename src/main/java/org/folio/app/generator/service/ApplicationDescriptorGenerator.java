@@ -5,6 +5,7 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
 import org.folio.app.generator.model.ApplicationDescriptor;
 import org.folio.app.generator.model.ApplicationDescriptorTemplate;
+import org.folio.app.generator.model.GenerationResult;
 import org.folio.app.generator.validator.ApplicationDependencyValidator;
 import org.springframework.stereotype.Component;
 
@@ -21,14 +22,14 @@ public class ApplicationDescriptorGenerator {
    * Generates application descriptor from template.
    *
    * @param template - application descriptor {@link ApplicationDescriptorTemplate} object
-   * @return generated {@link ApplicationDescriptor}
+   * @return {@link GenerationResult} with generated {@link ApplicationDescriptor}
    * @throws MojoExecutionException if application description was failed to generate
    */
-  public ApplicationDescriptor generate(ApplicationDescriptorTemplate template) throws MojoExecutionException {
+  public GenerationResult generate(ApplicationDescriptorTemplate template) throws MojoExecutionException {
     applicationDependencyValidator.validateDependencies(template);
     var application = applicationDescriptorService.create(template);
 
-    jsonProvider.writeApplication(application, mavenProject.getBuild().getDirectory());
-    return application;
+    var written = jsonProvider.writeApplication(application, mavenProject.getBuild().getDirectory());
+    return new GenerationResult(application, written);
   }
 }
@@ -374,7 +374,7 @@ public class ApplicationDescriptorUpdateService {
       if (newDescriptor != null) {
         mergedDescriptors.add(newDescriptor);
       } else if (processResult.modules().stream().anyMatch(m -> m.getName().equals(moduleName))) {
-        mergedDescriptors.add(existing);
+        mergedDescriptors.add(moduleDescriptorService.project(existing));
       }
     }
 
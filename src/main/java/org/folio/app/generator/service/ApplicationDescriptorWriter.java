@@ -0,0 +1,296 @@
+package org.folio.app.generator.service;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.SerializationException;
+import org.folio.app.generator.model.ApplicationDescriptor;
+import org.folio.app.generator.model.SpooledModuleDescriptor;
+import org.folio.app.generator.model.types.DescriptorFormat;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes {@link ApplicationDescriptor} with a {@link JsonGenerator}, one module descriptor at a time.
+ *
+ * <p>Header fields are written first, then {@code moduleDescriptors} and {@code uiModuleDescriptors} are written
+ * element by element while their lists are iterated, so descriptor lists producing elements on access are never
+ * materialized as a whole. The output is the same as {@link ObjectMapper} produces for the descriptor.</p>
+ *
+ * <p>Bytes of {@link SpooledModuleDescriptor} values are transferred from the spool file to the output file channel
+ * with {@link FileChannel#transferTo(long, long, WritableByteChannel)}.</p>
+ *
+ * <p>Files with {@link DescriptorFormat#GZIP_EXTENSION} are compressed while being written, spooled bytes are then
+ * transferred through the compressing stream.</p>
+ *
+ * <p>Binary formats are written with a generator of the format factory using the same {@link ObjectMapper} as codec,
+ * raw module descriptors are parsed and written field by field there.</p>
+ *
+ * <p>{@link #writeIfChanged(ApplicationDescriptor, File, DescriptorFormat)} computes a SHA-256 hash of the
+ * uncompressed output while it is written to a temporary file, and replaces the target file only if the hash differs
+ * from the hash of the existing file. The hash is recorded next to the target file in a {@code .sha256} file together
+ * with the size and modification time of the target file, the recorded hash is trusted only while both match,
+ * otherwise the existing file is hashed again.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationDescriptorWriter {
+
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final String HASH_EXTENSION = ".sha256";
+
+  private final ObjectMapper objectMapper;
+  private final Map<DescriptorFormat, JsonFactory> binaryFactories = new ConcurrentHashMap<>();
+
+  /**
+   * Writes {@link ApplicationDescriptor} to the file as JSON.
+   *
+   * @param application - {@link ApplicationDescriptor} to write
+   * @param file - target file, overwritten if exists
+   */
+  public void write(ApplicationDescriptor application, File file) {
+    write(application, file, DescriptorFormat.JSON);
+  }
+
+  /**
+   * Writes {@link ApplicationDescriptor} to the file in the given format.
+   *
+   * @param application - {@link ApplicationDescriptor} to write
+   * @param file - target file, overwritten if exists, gzip-compressed if its name ends with {@code .gz}
+   * @param format - {@link DescriptorFormat} of the file
+   */
+  public void write(ApplicationDescriptor application, File file, DescriptorFormat format) {
+    try {
+      writeFile(application, file.toPath(), DescriptorFormat.isCompressed(file.getName()), format, null);
+    } catch (IOException e) {
+      throw new SerializationException("Failed to write value to file: " + file.getAbsolutePath(), e);
+    }
+  }
+
+  /**
+   * Writes {@link ApplicationDescriptor} to the file in the given format, if its content hash differs from the hash
+   * recorded for the existing file.
+   *
+   * @param application - {@link ApplicationDescriptor} to write
+   * @param file - target file, gzip-compressed if its name ends with {@code .gz}
+   * @param format - {@link DescriptorFormat} of the file
+   * @return true if the file has been written, false if the existing file has the same content
+   */
+  public boolean writeIfChanged(ApplicationDescriptor application, File file, DescriptorFormat format) {
+    var targetFile = file.getAbsoluteFile().toPath();
+    var hashFile = targetFile.resolveSibling(targetFile.getFileName() + HASH_EXTENSION);
+    Path tempFile = null;
+    try {
+      tempFile = Files.createTempFile(targetFile.getParent(), targetFile.getFileName() + ".", ".tmp");
+      var digest = createDigest();
+      writeFile(application, tempFile, DescriptorFormat.isCompressed(file.getName()), format, digest);
+      var hash = HexFormat.of().formatHex(digest.digest());
+
+      if (Files.isRegularFile(targetFile) && isSameContent(targetFile, hashFile, hash)) {
+        Files.delete(tempFile);
+        return false;
+      }
+
+      Files.move(tempFile, targetFile, REPLACE_EXISTING);
+      recordHash(hashFile, targetFile, hash);
+      return true;
+    } catch (IOException e) {
+      deleteQuietly(tempFile);
+      throw new SerializationException("Failed to write value to file: " + file.getAbsolutePath(), e);
+    }
+  }
+
+  /**
+   * Writes {@link ApplicationDescriptor} as a JSON object to the generator.
+   *
+   * @param application - {@link ApplicationDescriptor} to write
+   * @param generator - {@link JsonGenerator} to write to
+   * @throws IOException if the value cannot be written
+   */
+  public void write(ApplicationDescriptor application, JsonGenerator generator) throws IOException {
+    write(application, generator, null);
+  }
+
+  private void write(ApplicationDescriptor application, JsonGenerator generator, WritableByteChannel target)
+    throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("id", application.getId());
+    generator.writeStringField("name", application.getName());
+    generator.writeStringField("version", application.getVersion());
+    generator.writeStringField("description", application.getDescription());
+    generator.writeObjectField("modules", application.getModules());
+    generator.writeObjectField("uiModules", application.getUiModules());
+    generator.writeObjectField("dependencies", application.getDependencies());
+    writeModuleDescriptors(generator, target, "moduleDescriptors", application.getModuleDescriptors());
+    writeModuleDescriptors(generator, target, "uiModuleDescriptors", application.getUiModuleDescriptors());
+    generator.writeEndObject();
+  }
+
+  private void writeFile(ApplicationDescriptor application, Path path, boolean compressed, DescriptorFormat format,
+    MessageDigest digest) throws IOException {
+    try (var channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+      OutputStream outputStream = Channels.newOutputStream(channel);
+      if (compressed) {
+        outputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+      }
+      if (digest != null) {
+        outputStream = new DigestOutputStream(outputStream, digest);
+      }
+
+      // spooled bytes are transferred directly to the file channel only if they need no compression or hashing
+      var target = compressed || digest != null ? Channels.newChannel(outputStream) : channel;
+      try (var generator = createGenerator(outputStream, format)) {
+        write(application, generator, format.isBinary() ? null : target);
+      }
+    }
+  }
+
+  /**
+   * Compares the hash with the hash recorded for the target file, if the size and the modification time of the file
+   * are the recorded ones, or with the hash of the file content otherwise, recording it if it is the same.
+   */
+  private static boolean isSameContent(Path targetFile, Path hashFile, String hash) throws IOException {
+    var recordedHash = readRecordedHash(hashFile);
+    if (recordedHash != null && recordedHash.matches(targetFile)) {
+      return hash.equals(recordedHash.hash());
+    }
+
+    if (!hash.equals(hashContent(targetFile))) {
+      return false;
+    }
+
+    recordHash(hashFile, targetFile, hash);
+    return true;
+  }
+
+  private static RecordedHash readRecordedHash(Path hashFile) throws IOException {
+    if (!Files.isRegularFile(hashFile)) {
+      return null;
+    }
+
+    var values = Files.readString(hashFile, StandardCharsets.UTF_8).trim().split(" ");
+    if (values.length != 3) {
+      return null;
+    }
+
+    try {
+      return new RecordedHash(values[0], Long.parseLong(values[1]), Long.parseLong(values[2]));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static void recordHash(Path hashFile, Path targetFile, String hash) throws IOException {
+    var size = Files.size(targetFile);
+    var lastModified = Files.getLastModifiedTime(targetFile).toMillis();
+    Files.writeString(hashFile, hash + " " + size + " " + lastModified + "\n", StandardCharsets.UTF_8);
+  }
+
+  private static String hashContent(Path file) throws IOException {
+    var digest = createDigest();
+    try (InputStream inputStream = openUncompressed(file);
+      var digestInputStream = new DigestInputStream(inputStream, digest)) {
+      digestInputStream.transferTo(OutputStream.nullOutputStream());
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static InputStream openUncompressed(Path file) throws IOException {
+    var inputStream = Files.newInputStream(file);
+    if (!DescriptorFormat.isCompressed(file.getFileName().toString())) {
+      return inputStream;
+    }
+
+    try {
+      return new GZIPInputStream(inputStream, GZIP_BUFFER_SIZE);
+    } catch (IOException e) {
+      inputStream.close();
+      throw e;
+    }
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Hash algorithm is not available: " + HASH_ALGORITHM, e);
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      // the temporary file is left in the build directory, the original error is more relevant
+    }
+  }
+
+  private JsonGenerator createGenerator(OutputStream outputStream, DescriptorFormat format) throws IOException {
+    if (!format.isBinary()) {
+      return objectMapper.createGenerator(outputStream);
+    }
+
+    var factory = binaryFactories.computeIfAbsent(format, f -> f.createFactory().setCodec(objectMapper));
+    return factory.createGenerator(outputStream);
+  }
+
+  private static void writeModuleDescriptors(JsonGenerator generator, WritableByteChannel target, String fieldName,
+    List<Map<String, Object>> moduleDescriptors) throws IOException {
+    generator.writeFieldName(fieldName);
+    if (moduleDescriptors == null) {
+      generator.writeNull();
+      return;
+    }
+
+    generator.writeStartArray();
+    for (var moduleDescriptor : moduleDescriptors) {
+      if (target != null && moduleDescriptor instanceof SpooledModuleDescriptor spooledModuleDescriptor) {
+        // an empty raw value makes the generator write the separator, then the bytes are appended to the output
+        generator.writeRawValue("");
+        generator.flush();
+        spooledModuleDescriptor.transferTo(target);
+        continue;
+      }
+
+      generator.writeObject(moduleDescriptor);
+    }
+    generator.writeEndArray();
+  }
+
+  private record RecordedHash(String hash, long size, long lastModified) {
+
+    boolean matches(Path file) throws IOException {
+      return size == Files.size(file) && lastModified == Files.getLastModifiedTime(file).toMillis();
+    }
+  }
+}
@@ -17,6 +17,7 @@ import org.folio.app.generator.model.registry.artifact.ArtifactRegistries;
 import org.folio.app.generator.model.registry.artifact.ArtifactRegistry;
 import org.folio.app.generator.model.registry.artifact.ConfigArtifactRegistry;
 import org.folio.app.generator.model.registry.artifact.DockerHubArtifactRegistry;
+import org.folio.app.generator.model.registry.artifact.DockerRegistryArtifactRegistry;
 import org.folio.app.generator.model.registry.artifact.FolioNpmArtifactRegistry;
 import org.folio.app.generator.model.types.ArtifactRegistryType;
 import org.folio.app.generator.service.parsers.StringArtifactRegistryParser;
@@ -28,7 +29,8 @@ import org.springframework.stereotype.Component;
 public class ArtifactRegistryProvider {
 
   private final StringArtifactRegistryParser artifactRegistryParser;
-  private final List<String> supportedDockerTypes = List.of(ArtifactRegistryType.DOCKER_HUB.getValue());
+  private final List<String> supportedDockerTypes = List.of(
+    ArtifactRegistryType.DOCKER_HUB.getValue(), ArtifactRegistryType.DOCKER_REGISTRY.getValue());
   private final List<String> supportedNpmTypes = List.of(ArtifactRegistryType.FOLIO_NPM.getValue());
 
   public ArtifactRegistries getArtifactRegistries(PluginConfig config) {
@@ -59,6 +61,14 @@ public class ArtifactRegistryProvider {
       return dockerRegistry;
     }
 
+    if (ArtifactRegistryType.DOCKER_REGISTRY.getValue().equals(lowerCase(registry.getType()))) {
+      var dockerRegistry = new DockerRegistryArtifactRegistry().namespace(registry.getNamespace());
+      if (isNotBlank(registry.getBaseUrl())) {
+        dockerRegistry.baseUrl(registry.getBaseUrl());
+      }
+      return dockerRegistry;
+    }
+
     var npmRegistry = new FolioNpmArtifactRegistry().namespace(registry.getNamespace());
     if (isNotBlank(registry.getBaseUrl())) {
       npmRegistry.baseUrl(registry.getBaseUrl());
@@ -1,10 +1,15 @@
 package org.folio.app.generator.service;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringSubstitutor;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
@@ -12,21 +17,30 @@ import org.folio.app.generator.model.ApplicationDescriptor;
 import org.folio.app.generator.model.ErrorDetail;
 import org.folio.app.generator.model.ExecutionResult;
 import org.folio.app.generator.model.UpdateResult;
+import org.folio.app.generator.model.types.DescriptorFormat;
 import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
 import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JsonProvider {
 
+  private static final int GZIP_MAGIC = 0x8b1f;
+
   private final Log log;
   private final JsonConverter jsonConverter;
+  private final ApplicationDescriptorWriter applicationDescriptorWriter;
+  private final PluginConfig pluginConfig;
   private final Map<String, String> substitutionMap;
 
-  public JsonProvider(Log log, JsonConverter jsonConverter, MavenProject mavenProject) {
+  public JsonProvider(Log log, JsonConverter jsonConverter, ApplicationDescriptorWriter applicationDescriptorWriter,
+    MavenProject mavenProject, PluginConfig pluginConfig) {
     this.log = log;
     this.jsonConverter = jsonConverter;
+    this.applicationDescriptorWriter = applicationDescriptorWriter;
+    this.pluginConfig = pluginConfig;
     this.substitutionMap = Map.of(
       "project.name", mavenProject.getName(),
       "project.version", mavenProject.getVersion(),
@@ -37,6 +51,9 @@ public class JsonProvider {
   /**
    * Reads and substitutes variables depending on condition in source file.
    *
+   * <p>Files with {@code .smile} or {@code .cbor} extension are read in the corresponding binary format without
+   * substitution. Gzip-compressed files are detected by their content and decompressed while being read.</p>
+   *
    * @param path - file path
    * @param clazz - object type to return
    * @param useSubstitution - defines whether apply substitution in the read content or not
@@ -55,8 +72,13 @@ public class JsonProvider {
         ErrorCategory.CONFIGURATION_ERROR, errorDetail);
     }
 
-    try {
-      var content = Files.readString(file.toPath(), StandardCharsets.UTF_8)
+    var format = DescriptorFormat.fromFileName(file.getName());
+    try (var inputStream = openInputStream(file)) {
+      if (format.isBinary()) {
+        return jsonConverter.parse(inputStream, clazz, format);
+      }
+
+      var content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)
         .replace("\r\n", "\n")
         .replace("\r", "\n");
       if (useSubstitution) {
@@ -70,13 +92,20 @@ public class JsonProvider {
   }
 
   /**
-   * Writes {@link ApplicationDescriptor} object to the specific directory.
+   * Writes {@link ApplicationDescriptor} object to the specific directory, streaming module descriptors one by one.
+   *
+   * <p>If {@code binaryDescriptorFormat} is configured, the descriptor is also written in this format, or only in this
+   * format if {@code binaryDescriptorOnly} is enabled. If {@code gzipDescriptor} is enabled, the files are
+   * gzip-compressed while being written and get the {@code .gz} extension.</p>
+   *
+   * <p>If {@code skipUnchangedDescriptor} is enabled, existing files with the same content hash are not rewritten.</p>
    *
    * @param application - object to store
    * @param path - file path where to store object
+   * @return true if any application descriptor file has been written
    * @throws ApplicationGeneratorException for any issues related to parse and write operations
    */
-  public void writeApplication(ApplicationDescriptor application, String path)
+  public boolean writeApplication(ApplicationDescriptor application, String path)
     throws ApplicationGeneratorException {
     var file = new File(path);
     if (!file.exists() && !file.mkdirs()) {
@@ -84,8 +113,19 @@ public class JsonProvider {
         ErrorCategory.CONFIGURATION_ERROR);
     }
 
-    var applicationFile = new File(file, application.getId() + ".json");
-    jsonConverter.writeValue(applicationFile, application);
+    var written = false;
+    var binaryFormat = getBinaryDescriptorFormat();
+    if (binaryFormat.isEmpty() || !pluginConfig.isBinaryDescriptorOnly()) {
+      var applicationFile = new File(file, application.getId() + ".json" + getCompressionExtension());
+      written = writeApplicationFile(application, applicationFile, DescriptorFormat.JSON);
+    }
+
+    if (binaryFormat.isPresent()) {
+      var format = binaryFormat.get();
+      var applicationFile = new File(file, application.getId() + "." + format.getValue() + getCompressionExtension());
+      written |= writeApplicationFile(application, applicationFile, format);
+    }
+    return written;
   }
 
   public void writeUpdateResult(UpdateResult updateResult, String path)
@@ -122,6 +162,49 @@ public class JsonProvider {
     log.debug("Execution result saved to: " + executionResultFile.getAbsolutePath());
   }
 
+  private boolean writeApplicationFile(ApplicationDescriptor application, File file, DescriptorFormat format) {
+    if (!pluginConfig.isSkipUnchangedDescriptor()) {
+      if (format.isBinary()) {
+        applicationDescriptorWriter.write(application, file, format);
+      } else {
+        applicationDescriptorWriter.write(application, file);
+      }
+      return true;
+    }
+
+    var written = applicationDescriptorWriter.writeIfChanged(application, file, format);
+    if (!written) {
+      log.info("Application descriptor is unchanged, file is not rewritten: " + file.getAbsolutePath());
+    }
+    return written;
+  }
+
+  private String getCompressionExtension() {
+    return pluginConfig.isGzipDescriptor() ? DescriptorFormat.GZIP_EXTENSION : "";
+  }
+
+  private static InputStream openInputStream(File file) throws IOException {
+    var inputStream = new BufferedInputStream(Files.newInputStream(file.toPath()));
+    inputStream.mark(2);
+    var magic = inputStream.read() | inputStream.read() << 8;
+    inputStream.reset();
+    return magic == GZIP_MAGIC ? new GZIPInputStream(inputStream) : inputStream;
+  }
+
+  private Optional<DescriptorFormat> getBinaryDescriptorFormat() {
+    var formatValue = pluginConfig.getBinaryDescriptorFormat();
+    if (StringUtils.isBlank(formatValue)) {
+      return Optional.empty();
+    }
+
+    var format = DescriptorFormat.fromValue(formatValue).filter(DescriptorFormat::isBinary);
+    if (format.isEmpty()) {
+      log.warn(String.format("Unknown binary descriptor format '%s', application descriptor is written as JSON",
+        formatValue));
+    }
+    return format;
+  }
+
   private String performSubstitution(String content) {
     var stringSubstitutor = new StringSubstitutor(substitutionMap);
     return stringSubstitutor.replace(content);
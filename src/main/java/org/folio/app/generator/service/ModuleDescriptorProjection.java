@@ -0,0 +1,212 @@
+package org.folio.app.generator.service;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.model.RawModuleDescriptor;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.utils.PluginConfig;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops configured fields from loaded module descriptors, before they are spooled or written to the application
+ * descriptor.
+ *
+ * <p>Fields are selected with JSON pointers: {@code descriptorExcludes} drops the pointed values, if
+ * {@code descriptorIncludes} is set, only the pointed values (and the {@code id} field) are kept. Descriptor tokens
+ * are copied into new JSON bytes with the dropped values skipped, no map is built for the descriptor.</p>
+ *
+ * <p>Sizes of the descriptors before and after the projection and the time spent are added to {@link RunMetrics}.</p>
+ */
+@Component
+public class ModuleDescriptorProjection {
+
+  public static final String DESCRIPTORS_COUNTER = "projection.descriptors";
+  public static final String BYTES_BEFORE_COUNTER = "projection.bytesBefore";
+  public static final String BYTES_AFTER_COUNTER = "projection.bytesAfter";
+  public static final String TIME_MICROS_COUNTER = "projection.timeMicros";
+
+  private static final String ID_POINTER = "/id";
+  private static final TypeReference<Map<String, Object>> MODULE_DESCRIPTOR_TYPE = new TypeReference<>() {};
+
+  private final Log log;
+  private final PluginConfig pluginConfig;
+  private final RunMetrics runMetrics;
+  private final ObjectMapper objectMapper;
+  private final ObjectReader moduleDescriptorReader;
+  private final Set<String> includes;
+  private final Set<String> excludes;
+
+  public ModuleDescriptorProjection(Log log, PluginConfig pluginConfig, RunMetrics runMetrics,
+    ObjectMapper objectMapper) {
+    this.log = log;
+    this.pluginConfig = pluginConfig;
+    this.runMetrics = runMetrics;
+    this.objectMapper = objectMapper;
+    this.moduleDescriptorReader = objectMapper.readerFor(MODULE_DESCRIPTOR_TYPE);
+    this.includes = parsePointers("descriptorIncludes", pluginConfig.getDescriptorIncludes());
+    this.excludes = parsePointers("descriptorExcludes", pluginConfig.getDescriptorExcludes());
+    if (!includes.isEmpty()) {
+      includes.add(ID_POINTER);
+    }
+    excludes.remove(ID_POINTER);
+  }
+
+  /**
+   * Checks if loaded module descriptors must be projected.
+   *
+   * @return true if any pointer is configured and module descriptors are written to the application descriptor
+   */
+  public boolean isEnabled() {
+    return (!includes.isEmpty() || !excludes.isEmpty()) && !pluginConfig.isModuleUrlsOnly();
+  }
+
+  /**
+   * Applies the projection to the module descriptor.
+   *
+   * @param moduleDescriptor - loaded module descriptor
+   * @return {@link RawModuleDescriptor} without the dropped fields
+   * @throws IOException if the module descriptor cannot be read or written
+   */
+  public Map<String, Object> apply(Map<String, Object> moduleDescriptor) throws IOException {
+    var startTime = System.nanoTime();
+    var json = moduleDescriptor instanceof RawModuleDescriptor rawModuleDescriptor
+      ? rawModuleDescriptor.getJson()
+      : objectMapper.writeValueAsBytes(moduleDescriptor);
+
+    var buffer = new ByteArrayBuilder();
+    var fieldCount = 0;
+    String id = null;
+    try (var parser = objectMapper.createParser(json);
+      var generator = objectMapper.getFactory().createGenerator(buffer, JsonEncoding.UTF8)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Expected JSON object, but found: " + parser.currentToken());
+      }
+
+      generator.writeStartObject();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var fieldName = parser.currentName();
+        var fieldToken = parser.nextToken();
+        if (copyField(parser, generator, "", fieldName, includes.isEmpty())) {
+          fieldCount++;
+          if ("id".equals(fieldName) && fieldToken == JsonToken.VALUE_STRING) {
+            id = parser.getText();
+          }
+        }
+      }
+      generator.writeEndObject();
+    }
+
+    var projectedJson = buffer.toByteArray();
+    runMetrics.increment(DESCRIPTORS_COUNTER);
+    runMetrics.add(BYTES_BEFORE_COUNTER, json.length);
+    runMetrics.add(BYTES_AFTER_COUNTER, projectedJson.length);
+    runMetrics.add(TIME_MICROS_COUNTER, NANOSECONDS.toMicros(System.nanoTime() - startTime));
+    var reader = moduleDescriptor instanceof RawModuleDescriptor rawModuleDescriptor
+      ? rawModuleDescriptor.getReader()
+      : moduleDescriptorReader;
+    return new RawModuleDescriptor(id, projectedJson, fieldCount, reader);
+  }
+
+  private boolean copyField(JsonParser parser, JsonGenerator generator, String parentPath, String name,
+    boolean parentIncluded) throws IOException {
+    var path = parentPath + "/" + escape(name);
+    if (!isSelected(path, parentIncluded)) {
+      parser.skipChildren();
+      return false;
+    }
+
+    generator.writeFieldName(name);
+    copyValue(parser, generator, path, parentIncluded || includes.contains(path));
+    return true;
+  }
+
+  private void copyValue(JsonParser parser, JsonGenerator generator, String path, boolean included)
+    throws IOException {
+    var token = parser.currentToken();
+    if (!token.isStructStart() || included && !hasExcludesUnder(path)) {
+      generator.copyCurrentStructure(parser);
+      return;
+    }
+
+    if (token == JsonToken.START_OBJECT) {
+      generator.writeStartObject();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var fieldName = parser.currentName();
+        parser.nextToken();
+        copyField(parser, generator, path, fieldName, included);
+      }
+      generator.writeEndObject();
+      return;
+    }
+
+    generator.writeStartArray();
+    var index = 0;
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      var elementPath = path + "/" + index++;
+      if (isSelected(elementPath, included)) {
+        copyValue(parser, generator, elementPath, included || includes.contains(elementPath));
+      } else {
+        parser.skipChildren();
+      }
+    }
+    generator.writeEndArray();
+  }
+
+  private boolean isSelected(String path, boolean parentIncluded) {
+    if (excludes.contains(path)) {
+      return false;
+    }
+
+    if (parentIncluded || includes.isEmpty() || includes.contains(path)) {
+      return true;
+    }
+
+    var prefix = path + "/";
+    return includes.stream().anyMatch(include -> include.startsWith(prefix));
+  }
+
+  private boolean hasExcludesUnder(String path) {
+    var prefix = path + "/";
+    return excludes.stream().anyMatch(exclude -> exclude.startsWith(prefix));
+  }
+
+  private Set<String> parsePointers(String parameterName, String value) {
+    var pointers = new LinkedHashSet<String>();
+    if (StringUtils.isBlank(value)) {
+      return pointers;
+    }
+
+    for (var pointer : value.split(",")) {
+      var trimmedPointer = pointer.trim();
+      if (trimmedPointer.isEmpty()) {
+        continue;
+      }
+
+      try {
+        pointers.add(JsonPointer.compile(trimmedPointer).toString());
+      } catch (IllegalArgumentException e) {
+        log.warn(String.format("Invalid JSON pointer '%s' in '%s' is ignored", trimmedPointer, parameterName));
+      }
+    }
+    return pointers;
+  }
+
+  private static String escape(String name) {
+    return name.replace("~", "~0").replace("/", "~1");
+  }
+}
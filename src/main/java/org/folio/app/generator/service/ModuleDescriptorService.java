@@ -3,17 +3,20 @@ package org.folio.app.generator.service;
 import static org.folio.app.generator.utils.PluginUtils.collectToBulletedList;
 import static org.folio.app.generator.utils.PluginUtils.createModuleDefinitionFromId;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.ErrorDetail;
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.ModulesLoadResult;
 import org.folio.app.generator.model.registry.ModuleRegistries;
+import org.folio.app.generator.model.registry.ModuleRegistry;
 import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
@@ -30,6 +33,8 @@ public class ModuleDescriptorService {
   private final JsonConverter jsonConverter;
   private final ModuleRegistries moduleRegistries;
   private final ModuleDescriptorLoaderFacade moduleDescriptorLoaderFacade;
+  private final ModuleDescriptorSpool moduleDescriptorSpool;
+  private final ModuleDescriptorProjection moduleDescriptorProjection;
 
   /**
    * Loads module descriptors as {@link ModulesLoadResult} for a list with module definitions.
@@ -49,15 +54,7 @@ public class ModuleDescriptorService {
     }
 
     for (var registry : registries) {
-      for (var module : modules) {
-        var moduleId = module.getId();
-        if (foundDescriptors.containsKey(moduleId)) {
-          continue;
-        }
-
-        moduleDescriptorLoaderFacade.find(registry, module)
-          .ifPresent(md -> foundDescriptors.put(moduleId, md));
-      }
+      foundDescriptors.putAll(findInRegistry(registry, modules, foundDescriptors));
     }
 
     var allModuleIds = modules.stream().map(ModuleDefinition::getId).toList();
@@ -75,18 +72,10 @@ public class ModuleDescriptorService {
           .toList();
 
         for (var registry : fallbackRegistries) {
-          for (var module : notFoundModules) {
-            var moduleId = module.getId();
-            if (foundDescriptors.containsKey(moduleId)) {
-              continue;
-            }
-
-            moduleDescriptorLoaderFacade.find(registry, module)
-              .ifPresent(md -> {
-                log.info("Found " + moduleId + " in fallback registry: " + registry.getRegistryIdentifier());
-                foundDescriptors.put(moduleId, md);
-              });
-          }
+          findInRegistry(registry, notFoundModules, foundDescriptors).forEach((moduleId, md) -> {
+            log.info("Found " + moduleId + " in fallback registry: " + registry.getRegistryIdentifier());
+            foundDescriptors.put(moduleId, md);
+          });
         }
 
         notFoundModuleIds.removeAll(foundDescriptors.keySet());
@@ -108,6 +97,84 @@ public class ModuleDescriptorService {
     return new ModulesLoadResult(convertToArtifacts(foundDescriptors.values()), loadedModuleDescriptors);
   }
 
+  private Map<String, LoaderResultContainer> findInRegistry(ModuleRegistry registry, List<ModuleDefinition> modules,
+    Map<String, LoaderResultContainer> foundDescriptors) throws ApplicationGeneratorException {
+    if (moduleDescriptorLoaderFacade.supportsBatchLoading(registry)) {
+      var notFoundModules = modules.stream()
+        .filter(module -> !foundDescriptors.containsKey(module.getId()))
+        .toList();
+      if (notFoundModules.isEmpty()) {
+        return Map.of();
+      }
+
+      var loadedDescriptors = moduleDescriptorLoaderFacade.findAll(registry, notFoundModules);
+      for (var loadedDescriptor : loadedDescriptors.values()) {
+        spool(project(loadedDescriptor));
+      }
+      return loadedDescriptors;
+    }
+
+    var result = new LinkedHashMap<String, LoaderResultContainer>();
+    for (var module : modules) {
+      var moduleId = module.getId();
+      if (foundDescriptors.containsKey(moduleId) || result.containsKey(moduleId)) {
+        continue;
+      }
+
+      var moduleDescriptor = moduleDescriptorLoaderFacade.find(registry, module);
+      if (moduleDescriptor.isPresent()) {
+        result.put(moduleId, spool(project(moduleDescriptor.get())));
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Applies the descriptor projection to a module descriptor taken from an existing application descriptor, so that
+   * descriptors of unchanged modules are written with the same fields as loaded ones.
+   *
+   * @param moduleDescriptor - module descriptor of an unchanged module
+   * @return projected module descriptor, the given one if the projection is disabled
+   * @throws ApplicationGeneratorException if the module descriptor cannot be projected
+   */
+  public Map<String, Object> project(Map<String, Object> moduleDescriptor) throws ApplicationGeneratorException {
+    if (!moduleDescriptorProjection.isEnabled()) {
+      return moduleDescriptor;
+    }
+
+    try {
+      return moduleDescriptorProjection.apply(moduleDescriptor);
+    } catch (IOException e) {
+      throw new ApplicationGeneratorException("Failed to project module descriptor: " + moduleDescriptor.get("id"),
+        ErrorCategory.INFRASTRUCTURE, e);
+    }
+  }
+
+  private LoaderResultContainer project(LoaderResultContainer loaderResultContainer)
+      throws ApplicationGeneratorException {
+    if (!moduleDescriptorProjection.isEnabled()) {
+      return loaderResultContainer;
+    }
+
+    return loaderResultContainer.moduleDescriptor(project(loaderResultContainer.getModuleDescriptor()));
+  }
+
+  private LoaderResultContainer spool(LoaderResultContainer loaderResultContainer)
+      throws ApplicationGeneratorException {
+    if (!moduleDescriptorSpool.isEnabled()) {
+      return loaderResultContainer;
+    }
+
+    var moduleDescriptor = loaderResultContainer.getModuleDescriptor();
+    try {
+      return loaderResultContainer.moduleDescriptor(moduleDescriptorSpool.spool(moduleDescriptor));
+    } catch (IOException e) {
+      throw new ApplicationGeneratorException("Failed to spool module descriptor: " + moduleDescriptor.get("id"),
+        ErrorCategory.INFRASTRUCTURE, e);
+    }
+  }
+
   private ArrayList<ModuleDefinition> convertToArtifacts(Collection<LoaderResultContainer> values)
       throws ApplicationGeneratorException {
     var moduleDefinitions = new ArrayList<ModuleDefinition>();
@@ -0,0 +1,118 @@
+package org.folio.app.generator.service;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.folio.app.generator.model.RawModuleDescriptor;
+import org.folio.app.generator.model.SpooledModuleDescriptor;
+import org.folio.app.generator.utils.PluginConfig;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spools loaded module descriptors to a file in the build directory, so that only their ids are kept in memory
+ * until the application descriptor is written.
+ *
+ * <p>Used if {@code spoolModuleDescriptors} is enabled and module descriptors are included into the application
+ * descriptor. The spool file is created on first use and deleted when the mojo closes its application context, or
+ * when the JVM exits.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ModuleDescriptorSpool implements AutoCloseable {
+
+  private static final TypeReference<Map<String, Object>> MODULE_DESCRIPTOR_TYPE = new TypeReference<>() {};
+
+  private final Log log;
+  private final PluginConfig pluginConfig;
+  private final MavenProject mavenProject;
+  private final ObjectMapper objectMapper;
+
+  private ObjectReader moduleDescriptorReader;
+  private Path spoolFile;
+  private FileChannel channel;
+  private long spoolSize;
+
+  /**
+   * Checks if loaded module descriptors must be spooled.
+   *
+   * @return true if spooling is enabled and module descriptors are written to the application descriptor
+   */
+  public boolean isEnabled() {
+    return pluginConfig.isSpoolModuleDescriptors() && !pluginConfig.isModuleUrlsOnly();
+  }
+
+  /**
+   * Appends the module descriptor to the spool file.
+   *
+   * @param moduleDescriptor - loaded module descriptor
+   * @return {@link SpooledModuleDescriptor} referring to the spooled JSON bytes
+   * @throws IOException if the spool file cannot be created or written
+   */
+  public synchronized SpooledModuleDescriptor spool(Map<String, Object> moduleDescriptor) throws IOException {
+    if (moduleDescriptor instanceof SpooledModuleDescriptor spooledModuleDescriptor) {
+      return spooledModuleDescriptor;
+    }
+
+    var json = moduleDescriptor instanceof RawModuleDescriptor rawModuleDescriptor
+      ? rawModuleDescriptor.getJson()
+      : objectMapper.writeValueAsBytes(moduleDescriptor);
+    var id = moduleDescriptor.get("id") instanceof String moduleId ? moduleId : null;
+
+    var spoolChannel = getChannel();
+    var position = spoolSize;
+    var buffer = ByteBuffer.wrap(json);
+    while (buffer.hasRemaining()) {
+      spoolChannel.write(buffer, position + buffer.position());
+    }
+    spoolSize += json.length;
+
+    var reader = moduleDescriptor instanceof RawModuleDescriptor rawModuleDescriptor
+      ? rawModuleDescriptor.getReader()
+      : getModuleDescriptorReader();
+    return new SpooledModuleDescriptor(id, moduleDescriptor.size(), reader, spoolChannel, position, json.length);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (channel == null) {
+      return;
+    }
+
+    channel.close();
+    Files.deleteIfExists(spoolFile);
+    channel = null;
+    spoolFile = null;
+    spoolSize = 0;
+  }
+
+  private ObjectReader getModuleDescriptorReader() {
+    if (moduleDescriptorReader == null) {
+      moduleDescriptorReader = objectMapper.readerFor(MODULE_DESCRIPTOR_TYPE);
+    }
+    return moduleDescriptorReader;
+  }
+
+  private FileChannel getChannel() throws IOException {
+    if (channel == null) {
+      var directory = Files.createDirectories(Path.of(mavenProject.getBuild().getDirectory()));
+      spoolFile = Files.createTempFile(directory, "module-descriptors-", ".spool");
+      spoolFile.toFile().deleteOnExit();
+      channel = FileChannel.open(spoolFile, READ, WRITE);
+      log.debug("Module descriptors are spooled to: " + spoolFile.toAbsolutePath());
+    }
+
+    return channel;
+  }
+}
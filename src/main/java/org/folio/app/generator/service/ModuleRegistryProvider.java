@@ -7,6 +7,7 @@ import static org.apache.commons.lang3.StringUtils.lowerCase;
 import static org.apache.commons.lang3.StringUtils.removeEnd;
 import static org.apache.commons.lang3.StringUtils.removeStart;
 import static org.apache.commons.lang3.StringUtils.trim;
+import static org.apache.commons.lang3.StringUtils.trimToNull;
 import static org.folio.app.generator.utils.PluginUtils.PATH_DELIMITER;
 import static org.folio.app.generator.utils.PluginUtils.collectToBulletedList;
 
@@ -161,6 +162,7 @@ public class ModuleRegistryProvider {
         .path(StringUtils.isEmpty(path) ? path : path + PATH_DELIMITER)
         .bucket(trim(registry.getBucket()))
         .publicUrl(trim(registry.getPublicUrlTemplate()))
+        .index(trimToNull(registry.getIndex()))
         .headers(headers);
     }
 
@@ -52,6 +52,13 @@ public class ModuleVersionService {
       log.warn("Module registries are empty for type: " + type.name());
     }
 
+    var constrainedDependencies = dependencies.stream()
+      .filter(dependency -> SemverUtils.parse(dependency.getVersion()) == null)
+      .toList();
+    for (var registry : registries) {
+      moduleVersionResolverFacade.prefetchVersions(registry, constrainedDependencies, type);
+    }
+
     List<Dependency> resolved = new ArrayList<>();
     for (Dependency dependency : dependencies) {
       resolved.add(resolveModuleConstraints(dependency, type, registries));
@@ -146,7 +153,9 @@ public class ModuleVersionService {
     log.info(String.format("Resolved %s module '%s' version constraint '%s' to '%s' from %s",
       type, moduleName, versionConstraint, resolvedVersionString, registryIdentifier));
 
-    return new Dependency(moduleName, resolvedVersionString, dependency.getPreRelease());
+    var resolved = new Dependency(moduleName, resolvedVersionString, dependency.getPreRelease());
+    moduleVersionResolverFacade.versionResolved(resolved, greatestVersion.registry());
+    return resolved;
   }
 
   /**
@@ -2,11 +2,21 @@ package org.folio.app.generator.service.artifact.existence;
 
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.artifact.ArtifactRegistry;
+import org.folio.app.generator.model.types.ArtifactRegistryType;
 import org.folio.app.generator.model.types.ModuleType;
 
 public interface ArtifactExistenceChecker {
 
   ModuleType getModuleType();
 
+  /**
+   * Returns artifact registry type served by this checker.
+   *
+   * @return {@link ArtifactRegistryType} value, null if the checker is the default one for its module type
+   */
+  default ArtifactRegistryType getRegistryType() {
+    return null;
+  }
+
   boolean exists(ModuleDefinition module, ArtifactRegistry registry);
 }
@@ -5,10 +5,13 @@ import static java.util.stream.Collectors.toMap;
 
 import java.util.List;
 import java.util.Map;
+import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.conditions.ArtifactValidationCondition;
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.artifact.ArtifactRegistry;
+import org.folio.app.generator.model.types.ArtifactRegistryType;
 import org.folio.app.generator.model.types.ModuleType;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
@@ -17,21 +20,49 @@ import org.springframework.stereotype.Component;
 @Conditional(ArtifactValidationCondition.class)
 public class ArtifactExistenceCheckerFacade {
 
+  private final Log log;
   private final Map<ModuleType, ArtifactExistenceChecker> checkersMap;
+  private final Map<ArtifactRegistryType, ArtifactExistenceChecker> registryCheckersMap;
+  private final RegistryCircuitBreakers circuitBreakers;
 
   @Autowired
-  public ArtifactExistenceCheckerFacade(List<ArtifactExistenceChecker> checkers) {
-    this.checkersMap = checkers.stream().collect(toMap(ArtifactExistenceChecker::getModuleType, identity()));
+  public ArtifactExistenceCheckerFacade(Log log, List<ArtifactExistenceChecker> checkers,
+    RegistryCircuitBreakers circuitBreakers) {
+    this.log = log;
+    this.circuitBreakers = circuitBreakers;
+    this.checkersMap = checkers.stream()
+      .filter(checker -> checker.getRegistryType() == null)
+      .collect(toMap(ArtifactExistenceChecker::getModuleType, identity()));
+    this.registryCheckersMap = checkers.stream()
+      .filter(checker -> checker.getRegistryType() != null)
+      .collect(toMap(ArtifactExistenceChecker::getRegistryType, identity()));
   }
 
+  /**
+   * Checks if the module artifact exists in the artifact registry.
+   *
+   * <p>If the circuit breaker of the registry is open, the registry is skipped and the artifact is reported as not
+   * found in it, so that the next artifact registry is checked.</p>
+   *
+   * @param module - module definition with name and version
+   * @param registry - artifact registry to check
+   * @param type - module type
+   * @return true if the artifact exists in the registry, false otherwise or if the registry is skipped
+   */
   public boolean exists(ModuleDefinition module, ArtifactRegistry registry, ModuleType type) {
-    var checker = checkersMap.get(type);
+    var checker = registryCheckersMap.getOrDefault(registry.getType(), checkersMap.get(type));
     if (checker == null) {
       throw new IllegalStateException(
         "No artifact existence checker found for module type: " + type
           + ". This indicates a configuration or programming error.");
     }
 
+    if (!circuitBreakers.tryAcquire(registry)) {
+      log.warn(String.format("Artifact registry '%s' is skipped for %s:%s: circuit breaker is open",
+        registry.getBaseUrl(), module.getName(), module.getVersion()));
+      return false;
+    }
+
     return checker.exists(module, registry);
   }
 }
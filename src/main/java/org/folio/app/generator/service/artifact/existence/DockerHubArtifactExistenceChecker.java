@@ -13,6 +13,8 @@ import org.folio.app.generator.model.registry.artifact.ArtifactRegistry;
 import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryRateLimiters;
 import org.folio.app.generator.utils.JsonConverter;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
@@ -25,8 +27,9 @@ public class DockerHubArtifactExistenceChecker extends HttpArtifactExistenceChec
   private static final int NOT_FOUND_STATUS_CODE = 404;
   private static final int SERVER_ERROR_STATUS_CODE = 500;
 
-  public DockerHubArtifactExistenceChecker(HttpClient httpClient, Log log, JsonConverter jsonConverter) {
-    super(httpClient, log, jsonConverter);
+  public DockerHubArtifactExistenceChecker(HttpClient httpClient, Log log, JsonConverter jsonConverter,
+    RegistryCircuitBreakers circuitBreakers, RegistryRateLimiters rateLimiters) {
+    super(httpClient, log, jsonConverter, circuitBreakers, rateLimiters);
   }
 
   @Override
@@ -46,7 +49,8 @@ public class DockerHubArtifactExistenceChecker extends HttpArtifactExistenceChec
       .GET()
       .build();
 
-    var response = retryLoad(request, BodyHandlers.discarding());
+    var response = retryLoad(request, BodyHandlers.discarding(), circuitBreakers.forRegistry(registry),
+      rateLimiters.forRegistry(registry));
     var statusCode = response.statusCode();
 
     if (statusCode == SUCCESS_STATUS_CODE) {
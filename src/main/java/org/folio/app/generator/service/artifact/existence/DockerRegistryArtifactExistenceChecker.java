@@ -0,0 +1,220 @@
+package org.folio.app.generator.service.artifact.existence;
+
+import static java.net.URLEncoder.encode;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.conditions.DockerRegistryCondition;
+import org.folio.app.generator.model.ErrorDetail;
+import org.folio.app.generator.model.ModuleDefinition;
+import org.folio.app.generator.model.registry.artifact.ArtifactRegistry;
+import org.folio.app.generator.model.types.ArtifactRegistryType;
+import org.folio.app.generator.model.types.ErrorCategory;
+import org.folio.app.generator.model.types.ModuleType;
+import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryRateLimiters;
+import org.folio.app.generator.utils.JsonConverter;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks Docker image existence with {@code HEAD /v2/<name>/manifests/<tag>} of the Docker Registry HTTP API v2.
+ *
+ * <p>Registries requiring a bearer token answer with {@code 401} and a {@code WWW-Authenticate} challenge, an anonymous
+ * pull token is requested from the challenge realm and cached until it expires. Tokens are cached per registry base
+ * URL, token service and repository scope, so a token is never sent to a registry other than the one it was issued
+ * for. Token requests are retried and limited by the circuit breaker and the rate limiter of the registry, as
+ * manifest requests are.</p>
+ */
+@Component
+@Conditional(DockerRegistryCondition.class)
+public class DockerRegistryArtifactExistenceChecker extends HttpArtifactExistenceChecker {
+
+  static final String MANIFEST_MEDIA_TYPES = String.join(", ",
+    "application/vnd.oci.image.index.v1+json",
+    "application/vnd.docker.distribution.manifest.list.v2+json",
+    "application/vnd.docker.distribution.manifest.v2+json",
+    "application/vnd.oci.image.manifest.v1+json");
+
+  private static final int SUCCESS_STATUS_CODE = 200;
+  private static final TypeReference<Map<String, Object>> JSON_OBJECT_TYPE = new TypeReference<>() {};
+  private static final int UNAUTHORIZED_STATUS_CODE = 401;
+  private static final int NOT_FOUND_STATUS_CODE = 404;
+  private static final int SERVER_ERROR_STATUS_CODE = 500;
+  private static final long DEFAULT_TOKEN_TTL_SECONDS = 60;
+  private static final long TOKEN_EXPIRY_MARGIN_SECONDS = 10;
+  private static final Pattern CHALLENGE_PARAMETER = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+
+  private final Map<String, String> tokenServices = new ConcurrentHashMap<>();
+  private final Map<String, BearerToken> tokens = new ConcurrentHashMap<>();
+
+  public DockerRegistryArtifactExistenceChecker(HttpClient httpClient, Log log, JsonConverter jsonConverter,
+    RegistryCircuitBreakers circuitBreakers, RegistryRateLimiters rateLimiters) {
+    super(httpClient, log, jsonConverter, circuitBreakers, rateLimiters);
+  }
+
+  @Override
+  public ModuleType getModuleType() {
+    return ModuleType.BE;
+  }
+
+  @Override
+  public ArtifactRegistryType getRegistryType() {
+    return ArtifactRegistryType.DOCKER_REGISTRY;
+  }
+
+  @Override
+  public boolean exists(ModuleDefinition module, ArtifactRegistry registry) {
+    var repository = registry.getNamespace() + "/" + module.getName();
+    var registryUrl = cleanUrl(registry.getBaseUrl());
+    var url = registryUrl + "/v2/" + repository + "/manifests/" + module.getVersion();
+    log.debug("Checking Docker image manifest: " + url);
+
+    var scope = "repository:" + repository + ":pull";
+    HttpResponse<Void> response;
+    try {
+      response = headManifest(url, registry, getCachedToken(registryUrl, scope));
+      if (response.statusCode() == UNAUTHORIZED_STATUS_CODE) {
+        var token = requestToken(response, registry, registryUrl, scope);
+        if (token != null) {
+          response = headManifest(url, registry, token);
+        }
+      }
+    } catch (IOException e) {
+      var errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+      throw new ApplicationGeneratorException(
+        String.format("Network error while checking Docker image %s:%s (url: %s): %s",
+          module.getName(), module.getVersion(), url, errorMsg),
+        ErrorCategory.INFRASTRUCTURE, ErrorDetail.infrastructureError(url, errorMsg), e);
+    }
+
+    var statusCode = response.statusCode();
+    if (statusCode == SUCCESS_STATUS_CODE) {
+      log.debug("Docker image found: " + module.getName() + ":" + module.getVersion());
+      return true;
+    }
+
+    if (statusCode == NOT_FOUND_STATUS_CODE) {
+      log.warn("Docker image not found: " + module.getName() + ":" + module.getVersion()
+        + " (status: " + statusCode + ", url: " + url + ")");
+      return false;
+    }
+
+    var errorType = statusCode >= SERVER_ERROR_STATUS_CODE ? "server" : "access";
+    throw new ApplicationGeneratorException(
+      String.format("Docker registry %s error %d for %s:%s (url: %s)",
+        errorType, statusCode, module.getName(), module.getVersion(), url),
+      ErrorCategory.INFRASTRUCTURE);
+  }
+
+  private HttpResponse<Void> headManifest(String url, ArtifactRegistry registry, String token) {
+    var requestBuilder = HttpRequest.newBuilder()
+      .uri(URI.create(url))
+      .timeout(Duration.ofMinutes(1))
+      .header("Accept", MANIFEST_MEDIA_TYPES)
+      .method("HEAD", BodyPublishers.noBody());
+
+    if (token != null) {
+      requestBuilder.header("Authorization", "Bearer " + token);
+    }
+
+    return retryLoad(requestBuilder.build(), BodyHandlers.discarding(), circuitBreakers.forRegistry(registry),
+      rateLimiters.forRegistry(registry));
+  }
+
+  private String getCachedToken(String registryUrl, String scope) {
+    var tokenService = tokenServices.get(registryUrl);
+    if (tokenService == null) {
+      return null;
+    }
+
+    var token = tokens.get(tokenKey(registryUrl, tokenService, scope));
+    if (token == null || System.nanoTime() - token.expiresAt() >= 0) {
+      return null;
+    }
+
+    return token.value();
+  }
+
+  /**
+   * Requests anonymous bearer token using the {@code WWW-Authenticate} challenge of the unauthorized response.
+   *
+   * @return bearer token, null if the registry does not use bearer token authentication
+   */
+  private String requestToken(HttpResponse<?> unauthorizedResponse, ArtifactRegistry registry, String registryUrl,
+    String scope) throws IOException {
+    var challenge = unauthorizedResponse.headers().firstValue("WWW-Authenticate").orElse("");
+    if (!challenge.regionMatches(true, 0, "Bearer ", 0, 7)) {
+      return null;
+    }
+
+    var parameters = parseChallenge(challenge);
+    var realm = parameters.get("realm");
+    if (realm == null) {
+      return null;
+    }
+
+    var tokenScope = parameters.getOrDefault("scope", scope);
+    var tokenUrl = realm + (realm.contains("?") ? "&" : "?") + "scope=" + encode(tokenScope, UTF_8);
+    if (parameters.containsKey("service")) {
+      tokenUrl += "&service=" + encode(parameters.get("service"), UTF_8);
+    }
+
+    var request = HttpRequest.newBuilder()
+      .uri(URI.create(tokenUrl))
+      .timeout(Duration.ofMinutes(1))
+      .GET()
+      .build();
+
+    var response = retryLoad(request, BodyHandlers.ofInputStream(), circuitBreakers.forRegistry(registry),
+      rateLimiters.forRegistry(registry));
+    try (var inputStream = response.body()) {
+      if (response.statusCode() != SUCCESS_STATUS_CODE) {
+        log.warn("Failed to get Docker registry token (status: " + response.statusCode() + ", url: " + tokenUrl + ")");
+        return null;
+      }
+
+      var body = jsonConverter.parse(inputStream, JSON_OBJECT_TYPE);
+      var token = (String) (body.get("token") != null ? body.get("token") : body.get("access_token"));
+      if (token == null) {
+        return null;
+      }
+
+      var expiresIn = body.get("expires_in") instanceof Number number ? number.longValue() : DEFAULT_TOKEN_TTL_SECONDS;
+      var ttl = Duration.ofSeconds(Math.max(0, expiresIn - TOKEN_EXPIRY_MARGIN_SECONDS));
+      var tokenService = realm + " " + parameters.getOrDefault("service", "");
+      tokenServices.put(registryUrl, tokenService);
+      tokens.put(tokenKey(registryUrl, tokenService, scope), new BearerToken(token, System.nanoTime() + ttl.toNanos()));
+      return token;
+    }
+  }
+
+  private static String tokenKey(String registryUrl, String tokenService, String scope) {
+    return registryUrl + " " + tokenService + " " + scope;
+  }
+
+  private static Map<String, String> parseChallenge(String challenge) {
+    var parameters = new HashMap<String, String>();
+    var matcher = CHALLENGE_PARAMETER.matcher(challenge);
+    while (matcher.find()) {
+      parameters.put(matcher.group(1).toLowerCase(), matcher.group(2));
+    }
+    return parameters;
+  }
+
+  private record BearerToken(String value, long expiresAt) {}
+}
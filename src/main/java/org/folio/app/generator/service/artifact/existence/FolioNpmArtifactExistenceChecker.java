@@ -1,18 +1,23 @@
 package org.folio.app.generator.service.artifact.existence;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Set;
 import lombok.SneakyThrows;
 import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.conditions.FolioNpmCondition;
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.artifact.ArtifactRegistry;
 import org.folio.app.generator.model.types.ModuleType;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryRateLimiters;
+import org.folio.app.generator.service.resilience.RequestCoalescer;
 import org.folio.app.generator.utils.JsonConverter;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
@@ -22,9 +27,14 @@ import org.springframework.stereotype.Component;
 public class FolioNpmArtifactExistenceChecker extends HttpArtifactExistenceChecker {
 
   private static final int SUCCESS_STATUS_CODE = 200;
+  private static final TypeReference<Map<String, Object>> JSON_OBJECT_TYPE = new TypeReference<>() {};
 
-  public FolioNpmArtifactExistenceChecker(HttpClient httpClient, Log log, JsonConverter jsonConverter) {
-    super(httpClient, log, jsonConverter);
+  private final RequestCoalescer requestCoalescer;
+
+  public FolioNpmArtifactExistenceChecker(HttpClient httpClient, Log log, JsonConverter jsonConverter,
+    RegistryCircuitBreakers circuitBreakers, RegistryRateLimiters rateLimiters, RequestCoalescer requestCoalescer) {
+    super(httpClient, log, jsonConverter, circuitBreakers, rateLimiters);
+    this.requestCoalescer = requestCoalescer;
   }
 
   @Override
@@ -45,21 +55,17 @@ public class FolioNpmArtifactExistenceChecker extends HttpArtifactExistenceCheck
       .GET()
       .build();
 
-    var response = retryLoad(request, BodyHandlers.ofInputStream());
-    var statusCode = response.statusCode();
+    var packument = requestCoalescer.executeCached(RequestCoalescer.key(request),
+      () -> loadPackument(request, registry), Packument::isLoaded);
+    var statusCode = packument.statusCode();
 
     if (statusCode != SUCCESS_STATUS_CODE) {
       log.warn("NPM package not found: " + packageName + " (status: " + statusCode + ", url: " + url + ")");
       return false;
     }
 
-    Map<?, ?> versions;
-    try (var inputStream = response.body()) {
-      var body = jsonConverter.parse(inputStream, new TypeReference<Map<String, Object>>() {});
-      versions = (Map<?, ?>) body.get("versions");
-    }
-
-    if (versions == null || !versions.containsKey(module.getVersion())) {
+    var versions = packument.versions();
+    if (versions == null || !versions.contains(module.getVersion())) {
       log.warn("NPM package version not found: " + packageName + "@" + module.getVersion() + " (url: " + url + ")");
       return false;
     }
@@ -68,6 +74,23 @@ public class FolioNpmArtifactExistenceChecker extends HttpArtifactExistenceCheck
     return true;
   }
 
+  /**
+   * Loads package versions, a loaded package is reused for other versions of the module checked in the run.
+   */
+  private Packument loadPackument(HttpRequest request, ArtifactRegistry registry) throws IOException {
+    var response = retryLoad(request, BodyHandlers.ofInputStream(), circuitBreakers.forRegistry(registry),
+      rateLimiters.forRegistry(registry));
+    try (var inputStream = response.body()) {
+      if (response.statusCode() != SUCCESS_STATUS_CODE) {
+        return new Packument(response.statusCode(), null);
+      }
+
+      var body = jsonConverter.parse(inputStream, JSON_OBJECT_TYPE);
+      var versions = (Map<?, ?>) body.get("versions");
+      return new Packument(response.statusCode(), versions != null ? Set.copyOf(versions.keySet()) : null);
+    }
+  }
+
   public static String transformModuleNameToPackage(String moduleName) {
     var name = moduleName;
     if (name.startsWith("folio_")) {
@@ -80,4 +103,11 @@ public class FolioNpmArtifactExistenceChecker extends HttpArtifactExistenceCheck
   private static String buildUrl(String baseUrl, String repository, String packageName) {
     return cleanUrl(baseUrl) + "/" + repository + "/" + packageName;
   }
+
+  private record Packument(int statusCode, Set<?> versions) {
+
+    boolean isLoaded() {
+      return statusCode == SUCCESS_STATUS_CODE;
+    }
+  }
 }
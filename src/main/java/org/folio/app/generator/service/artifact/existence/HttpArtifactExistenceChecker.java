@@ -11,6 +11,10 @@ import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.service.resilience.CircuitBreaker;
+import org.folio.app.generator.service.resilience.RateLimiter;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryRateLimiters;
 import org.folio.app.generator.utils.JsonConverter;
 
 @RequiredArgsConstructor
@@ -19,36 +23,92 @@ public abstract class HttpArtifactExistenceChecker implements ArtifactExistenceC
   protected static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(429, 500, 502, 503, 504);
   protected static final int RETRYABLE_ATTEMPTS_NUMBER = 5;
   protected static final long RETRY_DELAY_MS = 1000;
+  protected static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
 
   protected final HttpClient httpClient;
   protected final Log log;
   protected final JsonConverter jsonConverter;
+  protected final RegistryCircuitBreakers circuitBreakers;
+  protected final RegistryRateLimiters rateLimiters;
 
+  /**
+   * Sends request with retries, reporting each attempt outcome to the given circuit breaker and rate limiter.
+   *
+   * <p>Retries stop as soon as the circuit breaker opens, the last retryable response is returned in this case.
+   * Each attempt waits for a rate limiter permit. If the rate limiter is present, {@code 429} responses are not
+   * followed by the linear retry delay, the rate limiter pauses for the {@code Retry-After} period instead.</p>
+   *
+   * @param request - {@link HttpRequest} to send
+   * @param bodyHandler - response {@link BodyHandler}
+   * @param circuitBreaker - {@link CircuitBreaker} of the artifact registry, nullable
+   * @param rateLimiter - {@link RateLimiter} of the artifact registry, nullable
+   * @return {@link HttpResponse} object
+   */
   @SneakyThrows
-  protected <T> HttpResponse<T> retryLoad(HttpRequest request, BodyHandler<T> bodyHandler) {
+  protected <T> HttpResponse<T> retryLoad(HttpRequest request, BodyHandler<T> bodyHandler,
+    CircuitBreaker circuitBreaker, RateLimiter rateLimiter) {
     var attemptsCount = 0;
     IOException lastException = null;
+    HttpResponse<T> lastResponse = null;
 
     while (attemptsCount < RETRYABLE_ATTEMPTS_NUMBER) {
+      var rateLimited = false;
       try {
-        var response = httpClient.send(request, bodyHandler);
+        var response = send(request, bodyHandler, rateLimiter);
         if (!RETRYABLE_STATUS_CODES.contains(response.statusCode())) {
+          recordSuccess(circuitBreaker);
           return response;
         }
+        lastResponse = response;
+        rateLimited = rateLimiter != null && response.statusCode() == TOO_MANY_REQUESTS_STATUS_CODE;
         log.debug("Retrying request due to status code " + response.statusCode()
           + " (attempt " + (attemptsCount + 1) + ")");
       } catch (SocketException | SocketTimeoutException e) {
         lastException = e;
         log.warn("Network error, retrying (attempt " + (attemptsCount + 1) + "): " + e.getMessage());
       }
+      if (recordFailureAndCheckOpen(circuitBreaker)) {
+        break;
+      }
       attemptsCount++;
-      Thread.sleep(RETRY_DELAY_MS * attemptsCount);
+      if (!rateLimited) {
+        Thread.sleep(RETRY_DELAY_MS * attemptsCount);
+      }
     }
 
     if (lastException != null) {
       throw lastException;
     }
-    return httpClient.send(request, bodyHandler);
+    if (circuitBreaker != null && circuitBreaker.isOpen()) {
+      return lastResponse;
+    }
+    return send(request, bodyHandler, rateLimiter);
+  }
+
+  private <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> bodyHandler, RateLimiter rateLimiter)
+    throws IOException, InterruptedException {
+    if (rateLimiter == null) {
+      return httpClient.send(request, bodyHandler);
+    }
+
+    rateLimiter.acquire();
+    var response = httpClient.send(request, bodyHandler);
+    rateLimiter.onResponse(response.statusCode(), response.headers());
+    return response;
+  }
+
+  private static void recordSuccess(CircuitBreaker circuitBreaker) {
+    if (circuitBreaker != null) {
+      circuitBreaker.recordSuccess();
+    }
+  }
+
+  private static boolean recordFailureAndCheckOpen(CircuitBreaker circuitBreaker) {
+    if (circuitBreaker == null) {
+      return false;
+    }
+    circuitBreaker.recordFailure();
+    return circuitBreaker.isOpen();
   }
 
   protected static String cleanUrl(String url) {
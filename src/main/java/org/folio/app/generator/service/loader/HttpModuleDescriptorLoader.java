@@ -7,7 +7,12 @@ import java.net.http.HttpResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.model.registry.ModuleRegistry;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryTimeouts;
+import org.folio.app.generator.service.resilience.RequestHedger;
 import org.folio.app.generator.utils.HttpRequestUtils;
+import org.folio.app.generator.utils.HttpRequestUtils.RequestSender;
 import org.folio.app.generator.utils.JsonConverter;
 import org.springframework.stereotype.Component;
 
@@ -18,10 +23,31 @@ public abstract class HttpModuleDescriptorLoader implements ModuleDescriptorLoad
   protected final HttpClient httpClient;
   protected final Log log;
   protected final JsonConverter jsonConverter;
+  protected final RegistryCircuitBreakers circuitBreakers;
+  protected final RequestHedger requestHedger;
+  protected final RegistryTimeouts registryTimeouts;
 
+  protected HttpResponse<InputStream> retryLoad(ModuleRegistry registry, HttpRequest request) {
+    return retryLoad(registry, request, false);
+  }
+
+  /**
+   * Sends request with retries, the request is sent with the ceiling timeout if it is a bulk request.
+   *
+   * @param registry - {@link ModuleRegistry} the request is sent to
+   * @param request - {@link HttpRequest} to send
+   * @param bulk - whether the request loads many module descriptors at once
+   * @return {@link HttpResponse} object
+   */
   @SneakyThrows
-  protected HttpResponse<InputStream> retryLoad(HttpRequest request) {
-    return HttpRequestUtils.sendWithRetry(httpClient, log, request);
+  protected HttpResponse<InputStream> retryLoad(ModuleRegistry registry, HttpRequest request, boolean bulk) {
+    var circuitBreaker = circuitBreakers.forRegistry(registry);
+    RequestSender sender = requestHedger.isEnabled()
+      ? req -> requestHedger.send(httpClient, registry, req)
+      : req -> httpClient.send(req, HttpResponse.BodyHandlers.ofInputStream());
+    var timedSender = bulk ? registryTimeouts.withBulkTimeout(registry, sender)
+      : registryTimeouts.withTimeout(registry, sender);
+    return HttpRequestUtils.sendWithRetry(timedSender, log, request, circuitBreaker);
   }
 
   protected static String cleanUrl(String url) {
@@ -1,5 +1,8 @@
 package org.folio.app.generator.service.loader;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.ModuleRegistry;
@@ -16,5 +19,33 @@ public interface ModuleDescriptorLoader {
    */
   Optional<LoaderResultContainer> findModuleDescriptor(ModuleRegistry registry, ModuleDefinition artifact);
 
+  /**
+   * Checks if module descriptors can be loaded from the registry with
+   * {@link #findModuleDescriptors(ModuleRegistry, List)} in fewer round-trips than one per module.
+   *
+   * @param registry - {@link ModuleRegistry} description
+   * @return true if batch loading is supported, false - otherwise
+   */
+  default boolean supportsBatchLoading(ModuleRegistry registry) {
+    return false;
+  }
+
+  /**
+   * Tries to find module descriptors for several modules in specified registry.
+   *
+   * @param registry - {@link ModuleRegistry} description
+   * @param artifacts - list of {@link ModuleDefinition} objects
+   * @return {@link Map} of module id to the found {@link LoaderResultContainer}
+   */
+  default Map<String, LoaderResultContainer> findModuleDescriptors(ModuleRegistry registry,
+    List<ModuleDefinition> artifacts) {
+    var result = new LinkedHashMap<String, LoaderResultContainer>();
+    for (var artifact : artifacts) {
+      findModuleDescriptor(registry, artifact).ifPresent(container -> result.put(artifact.getId(), container));
+    }
+
+    return result;
+  }
+
   RegistryType getType();
 }
@@ -10,6 +10,7 @@ import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.ModuleRegistry;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -18,10 +19,13 @@ public class ModuleDescriptorLoaderFacade {
 
   private final Log log;
   private final Map<RegistryType, ModuleDescriptorLoader> loadersMap;
+  private final RegistryCircuitBreakers circuitBreakers;
 
   @Autowired
-  public ModuleDescriptorLoaderFacade(Log log, List<ModuleDescriptorLoader> loaders) {
+  public ModuleDescriptorLoaderFacade(Log log, List<ModuleDescriptorLoader> loaders,
+    RegistryCircuitBreakers circuitBreakers) {
     this.log = log;
+    this.circuitBreakers = circuitBreakers;
     this.loadersMap = loaders.stream().collect(toMap(ModuleDescriptorLoader::getType, identity()));
   }
 
@@ -39,6 +43,46 @@ public class ModuleDescriptorLoaderFacade {
       return Optional.empty();
     }
 
+    if (!circuitBreakers.tryAcquire(registry)) {
+      log.debug(String.format("Registry '%s' is skipped for module '%s': circuit breaker is open",
+        registry.getRegistryIdentifier(), module.getId()));
+      return Optional.empty();
+    }
+
     return moduleDescriptorLoader.findModuleDescriptor(registry, module);
   }
+
+  /**
+   * Checks if module descriptors can be loaded from the registry in a batch.
+   *
+   * @param registry - {@link ModuleRegistry} description
+   * @return true if {@link #findAll(ModuleRegistry, List)} must be used for the registry, false - otherwise
+   */
+  public boolean supportsBatchLoading(ModuleRegistry registry) {
+    var moduleDescriptorLoader = loadersMap.get(registry.getType());
+    return moduleDescriptorLoader != null && moduleDescriptorLoader.supportsBatchLoading(registry);
+  }
+
+  /**
+   * Tries to find module descriptors for several modules in specified registry in a batch.
+   *
+   * @param registry - {@link ModuleRegistry} description
+   * @param modules - list of {@link ModuleDefinition} objects
+   * @return {@link Map} of module id to the found {@link LoaderResultContainer}
+   */
+  public Map<String, LoaderResultContainer> findAll(ModuleRegistry registry, List<ModuleDefinition> modules) {
+    var moduleDescriptorLoader = loadersMap.get(registry.getType());
+    if (moduleDescriptorLoader == null) {
+      log.warn("Failed to find module descriptor loader for a registry: " + registry.getClass().getSimpleName());
+      return Map.of();
+    }
+
+    if (!circuitBreakers.tryAcquire(registry)) {
+      log.debug(String.format("Registry '%s' is skipped for %d module(s): circuit breaker is open",
+        registry.getRegistryIdentifier(), modules.size()));
+      return Map.of();
+    }
+
+    return moduleDescriptorLoader.findModuleDescriptors(registry, modules);
+  }
 }
@@ -1,15 +1,20 @@
 package org.folio.app.generator.service.loader;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toSet;
+
+import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.net.http.HttpClient;
 import java.net.http.HttpClient.Version;
 import java.net.http.HttpRequest;
-import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.SneakyThrows;
 import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.conditions.OkapiCondition;
@@ -17,8 +22,12 @@ import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.ModuleRegistry;
 import org.folio.app.generator.model.registry.OkapiModuleRegistry;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryTimeouts;
+import org.folio.app.generator.service.resilience.RequestHedger;
 import org.folio.app.generator.utils.HttpRequestUtils;
 import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
 
@@ -26,8 +35,17 @@ import org.springframework.stereotype.Component;
 @Conditional(OkapiCondition.class)
 public class OkapiModuleDescriptorLoader extends HttpModuleDescriptorLoader {
 
-  public OkapiModuleDescriptorLoader(HttpClient httpClient, Log log, JsonConverter jsonConverter) {
-    super(httpClient, log, jsonConverter);
+  private static final String LATEST_VERSION = "latest";
+
+  private final PluginConfig pluginConfig;
+  private final PrefetchedModuleDescriptors prefetchedModuleDescriptors;
+
+  public OkapiModuleDescriptorLoader(HttpClient httpClient, Log log, JsonConverter jsonConverter,
+    RegistryCircuitBreakers circuitBreakers, RequestHedger requestHedger, RegistryTimeouts registryTimeouts,
+    PluginConfig pluginConfig, PrefetchedModuleDescriptors prefetchedModuleDescriptors) {
+    super(httpClient, log, jsonConverter, circuitBreakers, requestHedger, registryTimeouts);
+    this.pluginConfig = pluginConfig;
+    this.prefetchedModuleDescriptors = prefetchedModuleDescriptors;
   }
 
   @Override
@@ -36,7 +54,9 @@ public class OkapiModuleDescriptorLoader extends HttpModuleDescriptorLoader {
     var okapiRegistry = (OkapiModuleRegistry) registry;
     var url = okapiRegistry.getUrl();
     try {
-      return loadModuleDescriptor(url, module, okapiRegistry.getHeaders()).map(
+      return findPrefetched(okapiRegistry, module.getId())
+        .or(() -> loadModuleDescriptor(okapiRegistry, module))
+        .map(
         md -> new LoaderResultContainer()
           .sourceUrl(createDirectUrl(url, String.valueOf(md.get("id"))))
           .moduleDescriptor(md));
@@ -46,25 +66,147 @@ public class OkapiModuleDescriptorLoader extends HttpModuleDescriptorLoader {
     }
   }
 
+  @Override
+  public boolean supportsBatchLoading(ModuleRegistry registry) {
+    return pluginConfig.isOkapiBatchLoading();
+  }
+
+  /**
+   * Loads module descriptors with a single catalog query ({@code /_/proxy/modules?full=true}).
+   *
+   * <p>The response is streamed and only descriptors of the requested modules are deserialized. Modules with
+   * {@code latest} version are resolved with a dedicated request per module. If the catalog query fails, the
+   * remaining modules are loaded one by one while the circuit breaker of the registry stays closed.</p>
+   *
+   * <p>The {@code filter} parameter of Okapi accepts a single module id, so there is no multi-id query to split the
+   * catalog into chunks. Descriptors of other modules are skipped at token level while the response is streamed,
+   * so the catalog costs transfer time, but not heap.</p>
+   *
+   * @param registry - {@link ModuleRegistry} description
+   * @param modules - list of {@link ModuleDefinition} objects
+   * @return {@link Map} of module id to the found {@link LoaderResultContainer}
+   */
+  @Override
+  public Map<String, LoaderResultContainer> findModuleDescriptors(ModuleRegistry registry,
+    List<ModuleDefinition> modules) {
+    var okapiRegistry = (OkapiModuleRegistry) registry;
+    var url = cleanUrl(okapiRegistry.getUrl());
+    var result = new LinkedHashMap<String, LoaderResultContainer>();
+
+    var latestModules = modules.stream().filter(module -> LATEST_VERSION.equals(module.getVersion())).toList();
+    var moduleIds = modules.stream()
+      .filter(module -> !LATEST_VERSION.equals(module.getVersion()))
+      .map(ModuleDefinition::getId)
+      .collect(toCollection(LinkedHashSet::new));
+
+    for (var iterator = moduleIds.iterator(); iterator.hasNext(); ) {
+      var moduleId = iterator.next();
+      findPrefetched(okapiRegistry, moduleId).ifPresent(md -> {
+        result.put(moduleId, toResultContainer(url, moduleId, md));
+        iterator.remove();
+      });
+    }
+
+    if (!moduleIds.isEmpty() && !loadFromCatalog(okapiRegistry, moduleIds, result)) {
+      var remainingModules = modules.stream()
+        .filter(module -> moduleIds.contains(module.getId()) && !result.containsKey(module.getId()))
+        .toList();
+      log.info(String.format("Loading %d module descriptor(s) one by one from %s", remainingModules.size(), url));
+      loadOneByOne(okapiRegistry, remainingModules, result);
+    }
+
+    loadOneByOne(okapiRegistry, latestModules, result);
+    return result;
+  }
+
   @Override
   public RegistryType getType() {
     return RegistryType.OKAPI;
   }
 
-  private Optional<Map<String, Object>> loadModuleDescriptor(String url, ModuleDefinition module,
-    Map<String, String> headers) {
-    var request = prepareHttpRequest(url, module, headers);
+  /**
+   * Loads module descriptors with a request per module, stopping as soon as the circuit breaker of the registry is
+   * open, so that the modules left are resolved from the next registry instead of waiting for a timeout each.
+   */
+  private void loadOneByOne(OkapiModuleRegistry registry, List<ModuleDefinition> modules,
+    Map<String, LoaderResultContainer> result) {
+    for (var i = 0; i < modules.size(); i++) {
+      if (!circuitBreakers.tryAcquire(registry)) {
+        log.warn(String.format("Registry '%s' is skipped for %d module(s): circuit breaker is open",
+          registry.getRegistryIdentifier(), modules.size() - i));
+        return;
+      }
+
+      var module = modules.get(i);
+      findModuleDescriptor(registry, module).ifPresent(container -> result.put(module.getId(), container));
+    }
+  }
+
+  private boolean loadFromCatalog(OkapiModuleRegistry registry, Set<String> moduleIds,
+    Map<String, LoaderResultContainer> result) {
+    var url = cleanUrl(registry.getUrl());
+    try {
+      var moduleDescriptors = loadModuleDescriptors(registry, moduleIds);
+      if (moduleDescriptors.isEmpty()) {
+        return false;
+      }
+
+      for (var moduleDescriptor : moduleDescriptors.get()) {
+        var moduleId = String.valueOf(moduleDescriptor.get("id"));
+        result.put(moduleId, toResultContainer(url, moduleId, moduleDescriptor));
+      }
+      return true;
+    } catch (Exception e) {
+      log.warn(String.format("Failed to load %d module descriptor(s) from %s", moduleIds.size(), url), e);
+      return false;
+    }
+  }
+
+  private Optional<List<Map<String, Object>>> loadModuleDescriptors(OkapiModuleRegistry registry,
+    Set<String> moduleIds) throws IOException {
+    var url = cleanUrl(registry.getUrl());
+    var request = prepareHttpRequest(url + "/_/proxy/modules?full=true", registry.getHeaders());
+
+    var response = retryLoad(registry, request, true);
+    try (var body = response.body()) {
+      if (response.statusCode() != 200) {
+        log.warn(String.format("Failed to load %d module descriptor(s) from %s: %s",
+          moduleIds.size(), url, response.statusCode()));
+        return Optional.empty();
+      }
+
+      var moduleDescriptors = jsonConverter.parseArrayFilteredById(body, moduleIds::contains);
+      var loadedIds = moduleDescriptors.stream().map(md -> md.get("id")).collect(toSet());
+      moduleIds.stream()
+        .filter(moduleId -> !loadedIds.contains(moduleId))
+        .forEach(moduleId -> log.warn(String.format("Module descriptor '%s' is not found in %s", moduleId, url)));
+
+      log.info(String.format("%d module descriptor(s) loaded from %s in a single request",
+        moduleDescriptors.size(), url));
+      return Optional.of(moduleDescriptors);
+    }
+  }
+
+  private Optional<Map<String, Object>> findPrefetched(OkapiModuleRegistry registry, String moduleId) {
+    var moduleDescriptor = prefetchedModuleDescriptors.take(registry, moduleId);
+    moduleDescriptor.ifPresent(md -> log.info(String.format(
+      "Module descriptor '%s' taken from version listing of %s", moduleId, registry.getUrl())));
+    return moduleDescriptor;
+  }
+
+  private Optional<Map<String, Object>> loadModuleDescriptor(OkapiModuleRegistry registry, ModuleDefinition module) {
+    var url = registry.getUrl();
+    var request = prepareHttpRequest(url, module, registry.getHeaders());
     var moduleId = module.getId();
 
-    var response = retryLoad(request);
+    var response = retryLoad(registry, request);
     var responseStatus = response.statusCode();
     if (responseStatus != 200) {
       log.warn(String.format("Failed to load module descriptor '%s' from %s: %s", moduleId, url, responseStatus));
       return Optional.empty();
     }
 
-    var searchResult = jsonConverter
-      .parse(response.body(), new TypeReference<List<Map<String, Object>>>() {});
+    var searchResult = jsonConverter.parseArrayFilteredById(response.body(), id -> true);
 
     if (searchResult.isEmpty()) {
       log.warn(String.format("Module descriptor '%s' is not found in %s", moduleId, url));
@@ -75,6 +217,13 @@ public class OkapiModuleDescriptorLoader extends HttpModuleDescriptorLoader {
     return Optional.of(searchResult.get(0));
   }
 
+  private static LoaderResultContainer toResultContainer(String url, String moduleId,
+    Map<String, Object> moduleDescriptor) {
+    return new LoaderResultContainer()
+      .sourceUrl(createDirectUrl(url, moduleId))
+      .moduleDescriptor(moduleDescriptor);
+  }
+
   @SneakyThrows
   private static URL createDirectUrl(String baseUrl, String moduleId) {
     var cleanBaseUrl = cleanUrl(baseUrl);
@@ -82,11 +231,13 @@ public class OkapiModuleDescriptorLoader extends HttpModuleDescriptorLoader {
   }
 
   private static HttpRequest prepareHttpRequest(String url, ModuleDefinition module, Map<String, String> headers) {
-    var baseUrl = cleanUrl(url);
+    return prepareHttpRequest(prepareUriString(cleanUrl(url), module), headers);
+  }
+
+  private static HttpRequest prepareHttpRequest(String uri, Map<String, String> headers) {
     var builder = HttpRequest.newBuilder()
       .GET()
-      .uri(URI.create(prepareUriString(baseUrl, module)))
-      .timeout(Duration.ofMinutes(5))
+      .uri(URI.create(uri))
       .version(Version.HTTP_1_1);
 
     HttpRequestUtils.applyHeaders(builder, headers);
@@ -97,7 +248,7 @@ public class OkapiModuleDescriptorLoader extends HttpModuleDescriptorLoader {
   private static String prepareUriString(String baseUrl, ModuleDefinition module) {
     var moduleName = module.getName();
     var version = module.getVersion();
-    var filter = "latest".equals(version) ? moduleName : module.getId();
+    var filter = LATEST_VERSION.equals(version) ? moduleName : module.getId();
 
     return baseUrl + "/_/proxy/modules"
       + "?filter=" + filter
@@ -0,0 +1,65 @@
+package org.folio.app.generator.service.loader;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.folio.app.generator.model.registry.ModuleRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands module descriptors received while resolving module versions over to the module descriptor loaders, so the
+ * same descriptor is not requested from a registry twice.
+ *
+ * <p>A descriptor is prefetched per registry before the version of the module is resolved, so descriptors of versions
+ * that are not resolved in the end are evicted with {@link #retain(String, ModuleRegistry, String)}.</p>
+ */
+@Component
+public class PrefetchedModuleDescriptors {
+
+  private final Map<String, Map<String, Object>> moduleDescriptors = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> keysByModuleName = new ConcurrentHashMap<>();
+
+  /**
+   * Stores module descriptor received from the registry.
+   *
+   * @param registry - {@link ModuleRegistry} the descriptor was received from
+   * @param moduleName - module name
+   * @param moduleDescriptor - module descriptor with {@code id} field
+   */
+  public void put(ModuleRegistry registry, String moduleName, Map<String, Object> moduleDescriptor) {
+    var key = key(registry, String.valueOf(moduleDescriptor.get("id")));
+    keysByModuleName.computeIfAbsent(moduleName, name -> ConcurrentHashMap.newKeySet()).add(key);
+    moduleDescriptors.put(key, moduleDescriptor);
+  }
+
+  /**
+   * Removes and returns module descriptor received from the registry.
+   *
+   * @param registry - {@link ModuleRegistry} to take descriptor for
+   * @param moduleId - module id
+   * @return {@link Optional} of module descriptor, empty if it was not prefetched
+   */
+  public Optional<Map<String, Object>> take(ModuleRegistry registry, String moduleId) {
+    return Optional.ofNullable(moduleDescriptors.remove(key(registry, moduleId)));
+  }
+
+  /**
+   * Evicts descriptors prefetched for the module, except the descriptor of the resolved version.
+   *
+   * @param moduleName - module name
+   * @param registry - {@link ModuleRegistry} the version is resolved from
+   * @param moduleId - resolved module id
+   */
+  public void retain(String moduleName, ModuleRegistry registry, String moduleId) {
+    var keys = keysByModuleName.remove(moduleName);
+    if (keys != null) {
+      keys.remove(key(registry, moduleId));
+      keys.forEach(moduleDescriptors::remove);
+    }
+  }
+
+  private static String key(ModuleRegistry registry, String moduleId) {
+    return registry.getRegistryKey() + "::" + moduleId;
+  }
+}
@@ -0,0 +1,223 @@
+package org.folio.app.generator.service.loader;
+
+import static java.lang.Boolean.TRUE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.folio.app.generator.conditions.AwsCondition;
+import org.folio.app.generator.model.registry.S3ModuleRegistry;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.utils.PluginConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * Sends S3 registry requests with {@link S3AsyncClient}, running requests for several modules in parallel.
+ *
+ * <p>The number of modules processed at once is limited by {@code awsS3MaxConcurrency}. Object bodies are streamed
+ * into the body reader as they arrive. The asynchronous client is created on first use only.</p>
+ */
+@Component
+@Conditional(AwsCondition.class)
+public class S3AsyncRequestExecutor {
+
+  private static final int NOT_FOUND_STATUS_CODE = 404;
+
+  private final ObjectProvider<S3AsyncClient> s3AsyncClientProvider;
+  private final PluginConfig pluginConfig;
+  private final RegistryCircuitBreakers circuitBreakers;
+
+  public S3AsyncRequestExecutor(ObjectProvider<S3AsyncClient> s3AsyncClientProvider, PluginConfig pluginConfig,
+    RegistryCircuitBreakers circuitBreakers) {
+    this.s3AsyncClientProvider = s3AsyncClientProvider;
+    this.pluginConfig = pluginConfig;
+    this.circuitBreakers = circuitBreakers;
+  }
+
+  /**
+   * Checks if S3 registries must be queried with the asynchronous client.
+   *
+   * @return true if asynchronous loading is enabled, false - otherwise
+   */
+  public boolean isEnabled() {
+    return pluginConfig.isAwsS3AsyncLoading();
+  }
+
+  /**
+   * Runs the given tasks, keeping at most {@code awsS3MaxConcurrency} of them in flight, and waits for all of them.
+   *
+   * @param tasks - map of task key to the task starting an asynchronous request
+   * @param onFailure - failure consumer called with the task key and the cause, failed tasks are not in the result
+   * @param <T> - task result type
+   * @return map of task key to non-null task result in the order of the given tasks
+   * @throws InterruptedException if thread is interrupted while waiting for a free slot
+   */
+  public <T> Map<String, T> executeAll(Map<String, Supplier<CompletableFuture<T>>> tasks,
+    BiConsumer<String, Throwable> onFailure) throws InterruptedException {
+    var permits = new Semaphore(Math.max(1, pluginConfig.getAwsS3MaxConcurrency()));
+    var results = new ConcurrentHashMap<String, T>();
+    var futures = new ArrayList<CompletableFuture<?>>();
+
+    for (var task : tasks.entrySet()) {
+      permits.acquire();
+      var future = start(task.getValue()).whenComplete((result, error) -> {
+        permits.release();
+        if (error != null) {
+          onFailure.accept(task.getKey(), unwrap(error));
+        } else if (result != null) {
+          results.put(task.getKey(), result);
+        }
+      });
+      futures.add(future.exceptionally(error -> null));
+    }
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    var orderedResults = new LinkedHashMap<String, T>();
+    tasks.keySet().stream()
+      .filter(results::containsKey)
+      .forEach(key -> orderedResults.put(key, results.get(key)));
+    return orderedResults;
+  }
+
+  /**
+   * Lists all objects under the prefix, requesting pages one after another.
+   *
+   * @param registry - {@link S3ModuleRegistry} to list objects in
+   * @param prefix - object key prefix
+   * @return future with all listed {@link S3Object} objects
+   */
+  public CompletableFuture<List<S3Object>> listObjects(S3ModuleRegistry registry, String prefix) {
+    return listPages(registry, prefix, null, new ArrayList<>());
+  }
+
+  /**
+   * Downloads the object and reads its body while it is being received.
+   *
+   * @param registry - {@link S3ModuleRegistry} the object is stored in
+   * @param key - object key
+   * @param bodyReader - function reading the value from the object body
+   * @param <T> - read value type
+   * @return future with the read value
+   */
+  public <T> CompletableFuture<T> getObject(S3ModuleRegistry registry, String key,
+    Function<InputStream, T> bodyReader) {
+    var request = GetObjectRequest.builder()
+      .bucket(registry.getBucket())
+      .key(key)
+      .build();
+
+    return s3AsyncClient().getObject(request, AsyncResponseTransformer.toBlockingInputStream())
+      .whenComplete((response, error) -> recordOutcome(registry, error))
+      .thenApply(inputStream -> {
+        try (inputStream) {
+          return bodyReader.apply(inputStream);
+        } catch (IOException e) {
+          throw new CompletionException(e);
+        }
+      });
+  }
+
+  /**
+   * Requests metadata of the object without downloading its body.
+   *
+   * @param registry - {@link S3ModuleRegistry} the object is stored in
+   * @param key - object key
+   * @return future with the {@link HeadObjectResponse}
+   */
+  public CompletableFuture<HeadObjectResponse> headObject(S3ModuleRegistry registry, String key) {
+    var request = HeadObjectRequest.builder()
+      .bucket(registry.getBucket())
+      .key(key)
+      .build();
+
+    return s3AsyncClient().headObject(request)
+      .whenComplete((response, error) -> recordOutcome(registry, error));
+  }
+
+  /**
+   * Checks if the S3 request failed because the requested object does not exist.
+   *
+   * @param error - request failure, may be wrapped into {@link CompletionException}
+   * @return true if the object is not found, false - otherwise
+   */
+  static boolean isNotFound(Throwable error) {
+    var cause = unwrap(error);
+    return cause instanceof NoSuchKeyException
+      || cause instanceof S3Exception s3Exception && s3Exception.statusCode() == NOT_FOUND_STATUS_CODE;
+  }
+
+  /**
+   * Returns S3 utilities of the asynchronous client.
+   *
+   * @return {@link S3Utilities} object
+   */
+  public S3Utilities utilities() {
+    return s3AsyncClient().utilities();
+  }
+
+  private CompletableFuture<List<S3Object>> listPages(S3ModuleRegistry registry, String prefix,
+    String continuationToken, List<S3Object> s3Objects) {
+    var request = ListObjectsV2Request.builder()
+      .bucket(registry.getBucket())
+      .prefix(prefix)
+      .maxKeys(pluginConfig.getAwsS3BatchSize())
+      .continuationToken(continuationToken)
+      .build();
+
+    return s3AsyncClient().listObjectsV2(request)
+      .whenComplete((response, error) -> recordOutcome(registry, error))
+      .thenCompose(response -> {
+        s3Objects.addAll(response.contents());
+        return TRUE.equals(response.isTruncated())
+          ? listPages(registry, prefix, response.nextContinuationToken(), s3Objects)
+          : CompletableFuture.completedFuture(s3Objects);
+      });
+  }
+
+  private void recordOutcome(S3ModuleRegistry registry, Throwable error) {
+    if (error == null || isNotFound(error)) {
+      circuitBreakers.onSuccess(registry);
+    } else {
+      circuitBreakers.onFailure(registry);
+    }
+  }
+
+  private S3AsyncClient s3AsyncClient() {
+    return s3AsyncClientProvider.getObject();
+  }
+
+  private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> task) {
+    try {
+      return task.get();
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+  }
+}
@@ -5,12 +5,15 @@ import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static org.folio.app.generator.utils.PluginUtils.createModuleDefinitionFromId;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
 import java.net.URL;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.maven.plugin.logging.Log;
@@ -19,17 +22,19 @@ import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.ModuleRegistry;
 import org.folio.app.generator.model.registry.S3ModuleRegistry;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
 import org.folio.app.generator.utils.JsonConverter;
 import org.folio.app.generator.utils.PluginConfig;
 import org.folio.app.generator.utils.SemverUtils;
 import org.semver4j.Semver;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Utilities;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
@@ -45,6 +50,9 @@ public class S3ModuleDescriptorLoader implements ModuleDescriptorLoader {
   private final S3Client s3Client;
   private final PluginConfig pluginConfig;
   private final JsonConverter jsonConverter;
+  private final RegistryCircuitBreakers circuitBreakers;
+  private final S3AsyncRequestExecutor s3AsyncRequestExecutor;
+  private final S3RegistryIndexes s3RegistryIndexes;
 
   @Override
   public Optional<LoaderResultContainer> findModuleDescriptor(ModuleRegistry registry,
@@ -52,21 +60,176 @@ public class S3ModuleDescriptorLoader implements ModuleDescriptorLoader {
     var s3Registry = (S3ModuleRegistry) registry;
     var version = module.getVersion();
     var id = module.getId();
+    if (isStableVersion(module)) {
+      try {
+        var result = findByExactKey(module, s3Registry);
+        if (result != null) {
+          return Optional.of(result);
+        }
+      } catch (Exception e) {
+        log.warn(format("Failed to load module descriptor '%s' from s3 bucket: %s", id, getBucketPath(s3Registry)), e);
+        return Optional.empty();
+      }
+    }
+
     var filter = "latest".equals(version) ? module.getName() : module.getId();
     var fullPrefix = s3Registry.getPath() + filter;
     return findVersionByPrefix(module, s3Registry, fullPrefix)
       .flatMap(s3Object -> readS3Object(id, s3Object, s3Registry)
         .map(md -> new LoaderResultContainer()
-          .sourceUrl(buildPublicUrl(s3Registry, s3Object))
+          .sourceUrl(buildPublicUrl(s3Client.utilities(), s3Registry, s3Object.key()))
           .moduleDescriptor(md)));
   }
 
+  @Override
+  public boolean supportsBatchLoading(ModuleRegistry registry) {
+    return s3AsyncRequestExecutor.isEnabled();
+  }
+
+  /**
+   * Loads module descriptors with the asynchronous S3 client, listing and downloading objects for several modules
+   * in parallel.
+   *
+   * @param registry - {@link ModuleRegistry} description
+   * @param modules - list of {@link ModuleDefinition} objects
+   * @return {@link Map} of module id to the found {@link LoaderResultContainer}
+   */
+  @Override
+  public Map<String, LoaderResultContainer> findModuleDescriptors(ModuleRegistry registry,
+    List<ModuleDefinition> modules) {
+    var s3Registry = (S3ModuleRegistry) registry;
+    var tasks = new LinkedHashMap<String, Supplier<CompletableFuture<LoaderResultContainer>>>();
+    for (var module : modules) {
+      tasks.putIfAbsent(module.getId(), () -> loadModuleDescriptorAsync(s3Registry, module));
+    }
+
+    try {
+      return s3AsyncRequestExecutor.executeAll(tasks, (moduleId, error) -> log.warn(format(
+        "Failed to load module descriptor '%s' from s3 bucket: %s", moduleId, getBucketPath(s3Registry)), error));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn(format("Loading of %d module descriptor(s) from s3 bucket %s is interrupted",
+        modules.size(), getBucketPath(s3Registry)));
+      return Map.of();
+    }
+  }
+
   @Override
   public RegistryType getType() {
     return RegistryType.AWS_S3;
   }
 
+  /**
+   * Loads the module descriptor of an exact stable version by its predicted object key {@code path + id + ".json"}.
+   * Only the object metadata is requested if module descriptors are not included into the application descriptor.
+   *
+   * @param module - {@link ModuleDefinition} with a stable version
+   * @param mr - {@link S3ModuleRegistry} description
+   * @return {@link LoaderResultContainer} object, null if there is no object with the predicted key
+   * @throws IOException if the object body cannot be read
+   */
+  private LoaderResultContainer findByExactKey(ModuleDefinition module, S3ModuleRegistry mr) throws IOException {
+    var key = getExactKey(mr, module);
+    var urlOnly = pluginConfig.isModuleUrlsOnly();
+    Map<String, Object> moduleDescriptor;
+    try {
+      if (urlOnly) {
+        s3Client.headObject(HeadObjectRequest.builder().bucket(mr.getBucket()).key(key).build());
+        moduleDescriptor = Map.of("id", module.getId());
+      } else {
+        moduleDescriptor = parseObject(buildGetObjectRequest(mr, key));
+      }
+      circuitBreakers.onSuccess(mr);
+    } catch (SdkException e) {
+      if (!S3AsyncRequestExecutor.isNotFound(e)) {
+        circuitBreakers.onFailure(mr);
+        throw e;
+      }
+
+      circuitBreakers.onSuccess(mr);
+      return null;
+    }
+
+    log.info(format("Module descriptor '%s' %s s3 bucket: %s",
+      module.getId(), urlOnly ? "found in" : "loaded from", getBucketPath(mr)));
+    return new LoaderResultContainer()
+      .sourceUrl(buildPublicUrl(s3Client.utilities(), mr, key))
+      .moduleDescriptor(moduleDescriptor);
+  }
+
+  private CompletableFuture<LoaderResultContainer> loadModuleDescriptorAsync(S3ModuleRegistry mr,
+    ModuleDefinition module) {
+    if (!isStableVersion(module)) {
+      return loadLatestModuleDescriptorAsync(mr, module);
+    }
+
+    var key = getExactKey(mr, module);
+    var urlOnly = pluginConfig.isModuleUrlsOnly();
+    var moduleDescriptorFuture = urlOnly
+      ? s3AsyncRequestExecutor.headObject(mr, key).thenApply(response -> Map.<String, Object>of("id", module.getId()))
+      : s3AsyncRequestExecutor.getObject(mr, key, jsonConverter::readModuleDescriptor);
+
+    return moduleDescriptorFuture
+      .thenApply(moduleDescriptor -> {
+        log.info(format("Module descriptor '%s' %s s3 bucket: %s",
+          module.getId(), urlOnly ? "found in" : "loaded from", getBucketPath(mr)));
+        return new LoaderResultContainer()
+          .sourceUrl(buildPublicUrl(s3AsyncRequestExecutor.utilities(), mr, key))
+          .moduleDescriptor(moduleDescriptor);
+      })
+      .exceptionallyCompose(error -> S3AsyncRequestExecutor.isNotFound(error)
+        ? loadLatestModuleDescriptorAsync(mr, module)
+        : CompletableFuture.failedFuture(error));
+  }
+
+  private CompletableFuture<LoaderResultContainer> loadLatestModuleDescriptorAsync(S3ModuleRegistry mr,
+    ModuleDefinition module) {
+    var filter = "latest".equals(module.getVersion()) ? module.getName() : module.getId();
+    var prefix = mr.getPath() + filter;
+    return s3RegistryIndexes.findObjects(mr, prefix)
+      .map(CompletableFuture::completedFuture)
+      .orElseGet(() -> s3AsyncRequestExecutor.listObjects(mr, prefix))
+      .thenCompose(s3Objects -> selectVersion(module, mr, s3Objects)
+        .map(s3Object -> s3AsyncRequestExecutor.getObject(mr, s3Object.key(), jsonConverter::readModuleDescriptor)
+          .thenApply(moduleDescriptor -> {
+            log.info(format("Module descriptor '%s' loaded from s3 bucket: %s", module.getId(), getBucketPath(mr)));
+            return new LoaderResultContainer()
+              .sourceUrl(buildPublicUrl(s3AsyncRequestExecutor.utilities(), mr, s3Object.key()))
+              .moduleDescriptor(moduleDescriptor);
+          }))
+        .orElseGet(() -> CompletableFuture.completedFuture(null)));
+  }
+
+  private Optional<S3Object> selectVersion(ModuleDefinition module, S3ModuleRegistry mr, List<S3Object> s3Objects) {
+    var exactMatch = isStableVersion(module);
+    Pair<Semver, S3Object> maxValueHolder = null;
+    for (var s3Object : s3Objects) {
+      if (exactMatch) {
+        if (match(module, parseS3ObjectKey(s3Object, mr.getPath()))) {
+          return Optional.of(s3Object);
+        }
+      } else {
+        var nextMaxValue = tryFindNextMaxValue(mr.getPath(), module, s3Object, maxValueHolder);
+        if (nextMaxValue != null) {
+          maxValueHolder = nextMaxValue;
+        }
+      }
+    }
+
+    if (maxValueHolder == null) {
+      log.warn(format("Module '%s' is not found in s3 bucket: %s", module.getId(), getBucketPath(mr)));
+      return Optional.empty();
+    }
+
+    return Optional.of(maxValueHolder.getRight());
+  }
+
   private Optional<S3Object> findVersionByPrefix(ModuleDefinition module, S3ModuleRegistry mr, String prefix) {
+    var indexedObjects = s3RegistryIndexes.findObjects(mr, prefix);
+    if (indexedObjects.isPresent()) {
+      return selectVersion(module, mr, indexedObjects.get());
+    }
+
     var request = buildListObjectsRequest(mr, prefix, null);
     var moduleId = module.getId();
 
@@ -77,7 +240,9 @@ public class S3ModuleDescriptorLoader implements ModuleDescriptorLoader {
     do {
       try {
         result = s3Client.listObjectsV2(request);
+        circuitBreakers.onSuccess(mr);
       } catch (Exception e) {
+        circuitBreakers.onFailure(mr);
         log.warn(format("Failed to find module descriptor '%s' in s3 bucket: %s", moduleId, getBucketPath(mr)), e);
         return Optional.empty();
       }
@@ -133,23 +298,32 @@ public class S3ModuleDescriptorLoader implements ModuleDescriptorLoader {
   }
 
   private Optional<Map<String, Object>> readS3Object(String id, S3Object object, S3ModuleRegistry mr) {
-    var request = GetObjectRequest.builder()
-      .bucket(mr.getBucket())
-      .key(object.key())
-      .build();
+    var request = buildGetObjectRequest(mr, object.key());
 
     try {
-      var responseBytes = s3Client.getObject(request, ResponseTransformer.toBytes());
-      var inputStream = responseBytes.asInputStream();
-      var moduleDescriptor = jsonConverter.parse(inputStream, new TypeReference<Map<String, Object>>() {});
+      var moduleDescriptor = parseObject(request);
+      circuitBreakers.onSuccess(mr);
       log.info(format("Module descriptor '%s' loaded from s3 bucket: %s", id, getBucketPath(mr)));
       return Optional.ofNullable(moduleDescriptor);
+    } catch (SdkException e) {
+      circuitBreakers.onFailure(mr);
+      log.warn(format("Failed to load module descriptor '%s' from s3 bucket: %s", id, getBucketPath(mr)), e);
+      return Optional.empty();
     } catch (Exception e) {
       log.warn(format("Failed to load module descriptor '%s' from s3 bucket: %s", id, getBucketPath(mr)), e);
       return Optional.empty();
     }
   }
 
+  /**
+   * Reads the object body as a module descriptor keeping the received bytes, without building a map of its fields.
+   */
+  private Map<String, Object> parseObject(GetObjectRequest request) throws IOException {
+    try (var inputStream = s3Client.getObject(request)) {
+      return jsonConverter.readModuleDescriptor(inputStream);
+    }
+  }
+
   private ListObjectsV2Request buildListObjectsRequest(S3ModuleRegistry registry, String prefix, String nct) {
     return ListObjectsV2Request.builder()
       .bucket(registry.getBucket())
@@ -159,15 +333,25 @@ public class S3ModuleDescriptorLoader implements ModuleDescriptorLoader {
       .build();
   }
 
-  private URL buildPublicUrl(S3ModuleRegistry mr, S3Object object) {
-    S3Utilities utils = s3Client.utilities();
+  private static GetObjectRequest buildGetObjectRequest(S3ModuleRegistry registry, String key) {
+    return GetObjectRequest.builder()
+      .bucket(registry.getBucket())
+      .key(key)
+      .build();
+  }
+
+  private static URL buildPublicUrl(S3Utilities utils, S3ModuleRegistry mr, String key) {
     var req = GetUrlRequest.builder()
       .bucket(mr.getBucket())
-      .key(object.key())
+      .key(key)
       .build();
     return utils.getUrl(req);
   }
 
+  private static String getExactKey(S3ModuleRegistry mr, ModuleDefinition module) {
+    return mr.getPath() + module.getId() + "." + FILE_EXTENSIONS.get(0);
+  }
+
   private static Pair<String, Semver> parseS3ObjectKey(S3Object s3Object, String pathPrefix) {
     var s3ObjectKey = s3Object.key();
     var fileName = s3ObjectKey.substring(pathPrefix.length());
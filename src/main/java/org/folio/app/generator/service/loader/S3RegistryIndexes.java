@@ -0,0 +1,198 @@
+package org.folio.app.generator.service.loader;
+
+import static java.lang.Boolean.TRUE;
+import static java.lang.String.format;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.app.generator.utils.PluginUtils.createModuleDefinitionFromId;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.conditions.AwsCondition;
+import org.folio.app.generator.model.registry.S3ModuleRegistry;
+import org.folio.app.generator.model.registry.S3RegistryIndex;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * Provides objects of S3 registries from their optional index object instead of listing the registry path.
+ *
+ * <p>The index object is requested once per registry and plugin execution, together with the listing of the registry
+ * path. The index is ignored, and objects are listed per module, if a module descriptor of the listing is not indexed
+ * or was modified after the index, as well as if the index is missing, unreadable or older than
+ * {@code awsS3IndexMaxAge}. The registry path is listed page by page once per execution, instead of a listing per
+ * module, and the listing stops at the first module descriptor that is not indexed.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Conditional(AwsCondition.class)
+public class S3RegistryIndexes {
+
+  private static final TypeReference<S3RegistryIndex> INDEX_TYPE = new TypeReference<>() {};
+
+  private final Log log;
+  private final S3Client s3Client;
+  private final PluginConfig pluginConfig;
+  private final JsonConverter jsonConverter;
+  private final RegistryCircuitBreakers circuitBreakers;
+  private final Map<String, Optional<NavigableMap<String, S3Object>>> indexes = new ConcurrentHashMap<>();
+
+  /**
+   * Checks if objects of the registry can be taken from its index.
+   *
+   * @param registry - {@link S3ModuleRegistry} description
+   * @return true if the registry has a fresh index, false - otherwise
+   */
+  public boolean isAvailable(S3ModuleRegistry registry) {
+    return getIndex(registry).isPresent();
+  }
+
+  /**
+   * Finds indexed objects with keys starting with the prefix.
+   *
+   * @param registry - {@link S3ModuleRegistry} description
+   * @param prefix - object key prefix, including the registry path
+   * @return {@link List} of indexed {@link S3Object} objects in key order, empty if the registry has no fresh index
+   *   or no object with the prefix is indexed
+   */
+  public Optional<List<S3Object>> findObjects(S3ModuleRegistry registry, String prefix) {
+    return getIndex(registry)
+      .map(objects -> objects.subMap(prefix, true, prefix + Character.MAX_VALUE, false))
+      .filter(objects -> !objects.isEmpty())
+      .map(objects -> new ArrayList<>(objects.values()));
+  }
+
+  private Optional<NavigableMap<String, S3Object>> getIndex(S3ModuleRegistry registry) {
+    if (isBlank(registry.getIndex())) {
+      return Optional.empty();
+    }
+
+    return indexes.computeIfAbsent(registry.getBucket() + "/" + registry.getPath() + registry.getIndex(),
+      indexKey -> loadIndex(registry));
+  }
+
+  private Optional<NavigableMap<String, S3Object>> loadIndex(S3ModuleRegistry registry) {
+    var key = registry.getPath() + registry.getIndex();
+    var request = GetObjectRequest.builder()
+      .bucket(registry.getBucket())
+      .key(key)
+      .build();
+
+    try (var inputStream = s3Client.getObject(request)) {
+      circuitBreakers.onSuccess(registry);
+      var lastModified = inputStream.response().lastModified();
+      if (isStale(lastModified)) {
+        log.info(format("Index '%s' of s3 bucket %s is stale (last modified: %s), objects are listed instead",
+          key, registry.getBucket(), lastModified));
+        return Optional.empty();
+      }
+
+      var index = jsonConverter.parse(inputStream, INDEX_TYPE);
+      var objects = toS3Objects(registry, index);
+      var unindexedObject = findUnindexedObject(registry, objects, lastModified);
+      if (unindexedObject.isPresent()) {
+        log.info(format("Index '%s' of s3 bucket %s is stale (object '%s' is not indexed or modified after the index), "
+          + "objects are listed instead", key, registry.getBucket(), unindexedObject.get().key()));
+        return Optional.empty();
+      }
+
+      log.info(format("Index '%s' of s3 bucket %s is used, %d module(s) indexed", key, registry.getBucket(),
+        objects.size()));
+      return Optional.of(objects);
+    } catch (SdkException e) {
+      if (S3AsyncRequestExecutor.isNotFound(e)) {
+        circuitBreakers.onSuccess(registry);
+        log.info(format("Index '%s' is not found in s3 bucket %s, objects are listed instead",
+          key, registry.getBucket()));
+      } else {
+        circuitBreakers.onFailure(registry);
+        log.warn(format("Failed to load index '%s' from s3 bucket %s, objects are listed instead",
+          key, registry.getBucket()), e);
+      }
+      return Optional.empty();
+    } catch (Exception e) {
+      log.warn(format("Failed to read index '%s' from s3 bucket %s, objects are listed instead",
+        key, registry.getBucket()), e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Compares the index with all pages of the registry listing.
+   *
+   * @return module descriptor object missing in the index or modified after it, empty if there is no such object
+   */
+  private Optional<S3Object> findUnindexedObject(S3ModuleRegistry registry, Map<String, S3Object> objects,
+    Instant indexLastModified) {
+    var request = ListObjectsV2Request.builder()
+      .bucket(registry.getBucket())
+      .prefix(registry.getPath())
+      .maxKeys(pluginConfig.getAwsS3BatchSize())
+      .build();
+
+    ListObjectsV2Response response;
+    do {
+      response = s3Client.listObjectsV2(request);
+      var unindexedObject = response.contents().stream()
+        .filter(s3Object -> isModuleDescriptor(registry, s3Object.key()))
+        .filter(s3Object -> !objects.containsKey(s3Object.key())
+          || indexLastModified != null && s3Object.lastModified() != null
+            && s3Object.lastModified().isAfter(indexLastModified))
+        .findFirst();
+      if (unindexedObject.isPresent()) {
+        return unindexedObject;
+      }
+
+      request = request.toBuilder().continuationToken(response.nextContinuationToken()).build();
+    } while (TRUE.equals(response.isTruncated()));
+
+    return Optional.empty();
+  }
+
+  private static boolean isModuleDescriptor(S3ModuleRegistry registry, String key) {
+    var fileName = key.substring(registry.getPath().length());
+    var moduleId = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+    return !moduleId.contains("/") && createModuleDefinitionFromId(moduleId).isPresent();
+  }
+
+  private boolean isStale(Instant lastModified) {
+    var maxAge = pluginConfig.getAwsS3IndexMaxAge();
+    return lastModified != null && maxAge != null && !maxAge.isZero() && !maxAge.isNegative()
+      && lastModified.plus(maxAge).isBefore(Instant.now());
+  }
+
+  private static NavigableMap<String, S3Object> toS3Objects(S3ModuleRegistry registry, S3RegistryIndex index) {
+    var objects = new TreeMap<String, S3Object>();
+    if (index == null || index.modules() == null) {
+      return objects;
+    }
+
+    for (var entry : index.modules()) {
+      if (entry == null || isBlank(entry.key()) && isBlank(entry.id())) {
+        continue;
+      }
+
+      var key = isBlank(entry.key()) ? registry.getPath() + entry.id() + ".json" : entry.key();
+      objects.put(key, S3Object.builder().key(key).size(entry.size()).eTag(entry.etag()).build());
+    }
+
+    return objects;
+  }
+}
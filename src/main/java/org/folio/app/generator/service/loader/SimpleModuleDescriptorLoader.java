@@ -1,12 +1,10 @@
 package org.folio.app.generator.service.loader;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import java.net.URI;
 import java.net.URL;
 import java.net.http.HttpClient;
 import java.net.http.HttpClient.Version;
 import java.net.http.HttpRequest;
-import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import lombok.SneakyThrows;
@@ -16,6 +14,9 @@ import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.ModuleRegistry;
 import org.folio.app.generator.model.registry.SimpleModuleRegistry;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryTimeouts;
+import org.folio.app.generator.service.resilience.RequestHedger;
 import org.folio.app.generator.utils.HttpRequestUtils;
 import org.folio.app.generator.utils.JsonConverter;
 import org.springframework.context.annotation.Conditional;
@@ -25,8 +26,9 @@ import org.springframework.stereotype.Component;
 @Conditional(SimpleCondition.class)
 public class SimpleModuleDescriptorLoader extends HttpModuleDescriptorLoader {
 
-  public SimpleModuleDescriptorLoader(HttpClient httpClient, Log log, JsonConverter jsonConverter) {
-    super(httpClient, log, jsonConverter);
+  public SimpleModuleDescriptorLoader(HttpClient httpClient, Log log, JsonConverter jsonConverter,
+    RegistryCircuitBreakers circuitBreakers, RequestHedger requestHedger, RegistryTimeouts registryTimeouts) {
+    super(httpClient, log, jsonConverter, circuitBreakers, requestHedger, registryTimeouts);
   }
 
   @Override
@@ -36,7 +38,7 @@ public class SimpleModuleDescriptorLoader extends HttpModuleDescriptorLoader {
     var request = prepareHttpRequest(simpleRegistry.getUrl(), module, simpleRegistry.getHeaders());
 
     try {
-      return loadModuleDescriptor(request, module).map(
+      return loadModuleDescriptor(simpleRegistry, request, module).map(
         md -> new LoaderResultContainer()
           .sourceUrl(createDirectUrl(simpleRegistry.getUrl(), String.valueOf(md.get("id"))))
           .moduleDescriptor(md));
@@ -52,16 +54,17 @@ public class SimpleModuleDescriptorLoader extends HttpModuleDescriptorLoader {
     return RegistryType.SIMPLE;
   }
 
-  private Optional<Map<String, Object>> loadModuleDescriptor(HttpRequest request, ModuleDefinition module) {
+  private Optional<Map<String, Object>> loadModuleDescriptor(SimpleModuleRegistry registry, HttpRequest request,
+    ModuleDefinition module) {
 
     var uri = request.uri().toString();
     var moduleId = module.getId();
 
-    var response = retryLoad(request);
+    var response = retryLoad(registry, request);
     var responseStatus = response.statusCode();
 
     if (responseStatus == 200) {
-      var searchResult = jsonConverter.parse(response.body(), new TypeReference<Map<String, Object>>() {});
+      var searchResult = jsonConverter.readModuleDescriptor(response.body());
 
       if (!searchResult.isEmpty()) {
         log.info(String.format("Module descriptor '%s' loaded from %s", moduleId, uri));
@@ -86,7 +89,6 @@ public class SimpleModuleDescriptorLoader extends HttpModuleDescriptorLoader {
     var builder = HttpRequest.newBuilder()
       .GET()
       .uri(URI.create(prepareUriString(url, module)))
-      .timeout(Duration.ofMinutes(5))
       .version(Version.HTTP_1_1);
 
     HttpRequestUtils.applyHeaders(builder, headers);
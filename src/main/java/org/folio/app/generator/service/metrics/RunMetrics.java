@@ -0,0 +1,76 @@
+package org.folio.app.generator.service.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.folio.app.generator.model.ExecutionMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects counters and events for a single plugin execution.
+ *
+ * <p>The collected values are written to {@code execution-result.json} as {@link ExecutionMetrics}.</p>
+ */
+@Component
+public class RunMetrics {
+
+  private final Map<String, LongAdder> counters = new ConcurrentSkipListMap<>();
+  private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+  /**
+   * Increments the named counter by one.
+   *
+   * @param name - counter name
+   */
+  public void increment(String name) {
+    add(name, 1);
+  }
+
+  /**
+   * Adds the given value to the named counter.
+   *
+   * @param name - counter name
+   * @param value - value to add
+   */
+  public void add(String name, long value) {
+    counters.computeIfAbsent(name, key -> new LongAdder()).add(value);
+  }
+
+  /**
+   * Records an event message.
+   *
+   * @param event - event description
+   */
+  public void recordEvent(String event) {
+    events.add(event);
+  }
+
+  /**
+   * Returns the current value of the named counter.
+   *
+   * @param name - counter name
+   * @return counter value, 0 if the counter was never updated
+   */
+  public long get(String name) {
+    var counter = counters.get(name);
+    return counter == null ? 0L : counter.sum();
+  }
+
+  /**
+   * Creates an immutable snapshot of the collected metrics.
+   *
+   * @return {@link ExecutionMetrics} snapshot
+   */
+  public ExecutionMetrics snapshot() {
+    var values = new LinkedHashMap<String, Long>();
+    counters.forEach((name, counter) -> values.put(name, counter.sum()));
+
+    synchronized (events) {
+      return new ExecutionMetrics(Collections.unmodifiableMap(values), List.copyOf(events));
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package org.folio.app.generator.service.resilience;
+
+import java.util.function.LongSupplier;
+import lombok.Getter;
+
+/**
+ * Consecutive-failure circuit breaker for a single registry.
+ *
+ * <p>The breaker starts {@link State#CLOSED}. After {@code failureThreshold} consecutive failures it moves to
+ * {@link State#OPEN} and rejects calls. Once {@code openDurationNanos} elapsed, a single probe call is let through
+ * ({@link State#HALF_OPEN}): a successful probe closes the breaker, a failed one opens it again.</p>
+ */
+public class CircuitBreaker {
+
+  @Getter private final String name;
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final LongSupplier nanoClock;
+  private final TransitionListener listener;
+
+  @Getter private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAt;
+  private long probeStartedAt;
+  private boolean probeInFlight;
+
+  /**
+   * Creates a circuit breaker.
+   *
+   * @param name - breaker name, used in logs and metrics
+   * @param failureThreshold - number of consecutive failures that opens the breaker, {@code <= 0} disables it
+   * @param openDurationNanos - time in nanoseconds to stay open before a half-open probe is allowed
+   * @param nanoClock - monotonic clock, e.g. {@code System::nanoTime}
+   * @param listener - state transition listener
+   */
+  public CircuitBreaker(String name, int failureThreshold, long openDurationNanos, LongSupplier nanoClock,
+                        TransitionListener listener) {
+    this.name = name;
+    this.failureThreshold = failureThreshold;
+    this.openDurationNanos = openDurationNanos;
+    this.nanoClock = nanoClock;
+    this.listener = listener;
+  }
+
+  /**
+   * Checks if a call is allowed to proceed.
+   *
+   * @return true if the call can be sent to the registry, false if the registry must be skipped
+   */
+  public synchronized boolean tryAcquire() {
+    var now = nanoClock.getAsLong();
+    return switch (state) {
+      case CLOSED -> true;
+      case OPEN -> {
+        if (now - openedAt < openDurationNanos) {
+          yield false;
+        }
+        transitionTo(State.HALF_OPEN);
+        startProbe(now);
+        yield true;
+      }
+      case HALF_OPEN -> {
+        // a probe that never reported its outcome must not keep the registry blocked forever
+        if (probeInFlight && now - probeStartedAt < openDurationNanos) {
+          yield false;
+        }
+        startProbe(now);
+        yield true;
+      }
+    };
+  }
+
+  /**
+   * Records a successful call: resets the failure counter and closes the breaker.
+   */
+  public synchronized void recordSuccess() {
+    consecutiveFailures = 0;
+    probeInFlight = false;
+    if (state != State.CLOSED) {
+      transitionTo(State.CLOSED);
+    }
+  }
+
+  /**
+   * Records a failed call, opening the breaker when the threshold is reached or when a half-open probe fails.
+   */
+  public synchronized void recordFailure() {
+    probeInFlight = false;
+    if (failureThreshold <= 0) {
+      return;
+    }
+
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+      openedAt = nanoClock.getAsLong();
+      transitionTo(State.OPEN);
+    }
+  }
+
+  /**
+   * Checks if the breaker is currently open (calls are rejected until the open duration elapses).
+   *
+   * @return true if the breaker is open, false - otherwise
+   */
+  public synchronized boolean isOpen() {
+    return state == State.OPEN;
+  }
+
+  private void startProbe(long now) {
+    probeInFlight = true;
+    probeStartedAt = now;
+  }
+
+  private void transitionTo(State newState) {
+    var oldState = state;
+    state = newState;
+    listener.onTransition(this, oldState, newState);
+  }
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  /**
+   * Receives circuit breaker state transitions.
+   */
+  @FunctionalInterface
+  public interface TransitionListener {
+
+    void onTransition(CircuitBreaker circuitBreaker, State from, State to);
+  }
+}
@@ -0,0 +1,59 @@
+package org.folio.app.generator.service.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Keeps a sliding window of the most recent call latencies of a single registry.
+ */
+public class LatencyTracker {
+
+  private final long[] samples;
+  private int next;
+  private int count;
+
+  /**
+   * Creates a latency tracker.
+   *
+   * @param windowSize - number of most recent samples used to calculate percentiles
+   */
+  public LatencyTracker(int windowSize) {
+    this.samples = new long[windowSize];
+  }
+
+  /**
+   * Records a call latency.
+   *
+   * @param latencyNanos - call latency in nanoseconds
+   */
+  public synchronized void record(long latencyNanos) {
+    samples[next] = latencyNanos;
+    next = (next + 1) % samples.length;
+    count = Math.min(count + 1, samples.length);
+  }
+
+  /**
+   * Returns the number of samples in the window.
+   *
+   * @return number of recorded samples, capped by the window size
+   */
+  public synchronized int getCount() {
+    return count;
+  }
+
+  /**
+   * Calculates the given latency percentile over the recorded samples (nearest-rank method).
+   *
+   * @param percentile - percentile in range {@code (0, 100]}
+   * @return latency percentile in nanoseconds, {@code -1} if no samples were recorded
+   */
+  public synchronized long percentile(double percentile) {
+    if (count == 0) {
+      return -1L;
+    }
+
+    var sorted = Arrays.copyOf(samples, count);
+    Arrays.sort(sorted);
+    var rank = (int) Math.ceil(percentile / 100.0 * count);
+    return sorted[Math.min(Math.max(rank, 1), count) - 1];
+  }
+}
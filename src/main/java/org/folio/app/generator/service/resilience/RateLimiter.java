@@ -0,0 +1,220 @@
+package org.folio.app.generator.service.resilience;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+
+/**
+ * Adaptive token-bucket rate limiter for a single registry.
+ *
+ * <p>Requests are spread out at {@code permitsPerSecond}, up to {@code burst} requests can be sent at once after an
+ * idle period. The limiter adapts to the registry responses: a {@code 429} response halves the rate and pauses the
+ * limiter for the {@code Retry-After} period, an exhausted {@code RateLimit-Remaining} quota pauses it until
+ * {@code RateLimit-Reset}, and every successful response restores a part of the configured rate.</p>
+ *
+ * <p>A pause longer than {@code maxPause} is not waited for: requests fail with {@link IOException} until the pause
+ * requested by the registry is over.</p>
+ */
+public class RateLimiter {
+
+  static final int TOO_MANY_REQUESTS = 429;
+  static final double MIN_RATE_FACTOR = 0.05;
+  static final double RECOVERY_FACTOR = 0.1;
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  @Getter private final String name;
+  private final double configuredRate;
+  private final double burst;
+  private final Duration maxPause;
+  private final LongSupplier nanoClock;
+  private final Listener listener;
+
+  @Getter private double permitsPerSecond;
+  private double storedPermits;
+  private long nextFreeAt;
+  private long blockedUntil;
+  private Duration blockedFor;
+
+  /**
+   * Creates a rate limiter.
+   *
+   * @param name - limiter name, used in logs and metrics
+   * @param permitsPerSecond - configured request rate, must be positive
+   * @param burst - maximum number of requests sent without waiting after an idle period, at least 1
+   * @param maxPause - maximum pause requested by the registry that is waited for
+   * @param nanoClock - monotonic clock, e.g. {@code System::nanoTime}
+   * @param listener - wait and throttling listener
+   */
+  public RateLimiter(String name, double permitsPerSecond, int burst, Duration maxPause, LongSupplier nanoClock,
+    Listener listener) {
+    this.name = name;
+    this.configuredRate = permitsPerSecond;
+    this.permitsPerSecond = permitsPerSecond;
+    this.burst = Math.max(1, burst);
+    this.maxPause = maxPause;
+    this.storedPermits = this.burst;
+    this.nanoClock = nanoClock;
+    this.listener = listener;
+    this.nextFreeAt = nanoClock.getAsLong();
+  }
+
+  /**
+   * Waits until a request can be sent to the registry.
+   *
+   * @throws IOException if the registry asked to pause for longer than the maximum pause
+   * @throws InterruptedException if thread is interrupted while waiting
+   */
+  public void acquire() throws IOException, InterruptedException {
+    checkNotBlocked();
+    var waitNanos = reserve();
+    if (waitNanos > 0) {
+      listener.onWait(this, waitNanos);
+      NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  /**
+   * Reserves a permit for the next request.
+   *
+   * @return time in nanoseconds to wait before the request can be sent
+   */
+  synchronized long reserve() {
+    var now = nanoClock.getAsLong();
+    refill(now);
+
+    var availableAt = nextFreeAt;
+    var spentPermits = Math.min(1, storedPermits);
+    storedPermits -= spentPermits;
+    nextFreeAt += (long) ((1 - spentPermits) * intervalNanos());
+    return Math.max(0, availableAt - now);
+  }
+
+  private synchronized void checkNotBlocked() throws IOException {
+    if (blockedFor != null && nanoClock.getAsLong() - blockedUntil < 0) {
+      throw new IOException(String.format("Registry '%s' asked to pause requests for %ds, "
+        + "which exceeds the maximum pause of %ds", name, blockedFor.toSeconds(), maxPause.toSeconds()));
+    }
+  }
+
+  /**
+   * Adapts the rate to the registry response.
+   *
+   * @param statusCode - response status code
+   * @param headers - response {@link HttpHeaders}
+   */
+  public void onResponse(int statusCode, HttpHeaders headers) {
+    if (statusCode == TOO_MANY_REQUESTS) {
+      var retryAfter = headers.firstValue("Retry-After").map(RateLimiter::parseRetryAfter).orElse(null);
+      throttle(retryAfter);
+      listener.onThrottled(this, retryAfter);
+      return;
+    }
+
+    var remaining = headers.firstValue("RateLimit-Remaining").map(RateLimiter::parseLeadingNumber).orElse(null);
+    if (remaining != null && remaining <= 0) {
+      var reset = headers.firstValue("RateLimit-Reset").map(RateLimiter::parseLeadingNumber).orElse(null);
+      pauseFor(reset != null ? Duration.ofSeconds(reset) : null);
+    }
+
+    recover();
+  }
+
+  private synchronized void throttle(Duration retryAfter) {
+    permitsPerSecond = Math.max(configuredRate * MIN_RATE_FACTOR, permitsPerSecond / 2);
+    pauseFor(retryAfter);
+  }
+
+  private synchronized void recover() {
+    permitsPerSecond = Math.min(configuredRate, permitsPerSecond + configuredRate * RECOVERY_FACTOR);
+  }
+
+  private synchronized void pauseFor(Duration duration) {
+    var now = nanoClock.getAsLong();
+    if (duration != null && duration.compareTo(maxPause) > 0) {
+      blockedFor = duration;
+      blockedUntil = now + duration.toNanos();
+      return;
+    }
+
+    refill(now);
+    storedPermits = 0;
+    var pauseNanos = duration != null ? duration.toNanos() : (long) intervalNanos();
+    nextFreeAt = Math.max(nextFreeAt, now + pauseNanos);
+  }
+
+  private void refill(long now) {
+    if (now > nextFreeAt) {
+      storedPermits = Math.min(burst, storedPermits + (now - nextFreeAt) / intervalNanos());
+      nextFreeAt = now;
+    }
+  }
+
+  private double intervalNanos() {
+    return NANOS_PER_SECOND / permitsPerSecond;
+  }
+
+  /**
+   * Parses {@code Retry-After} header value given in seconds or as HTTP date.
+   *
+   * @param value - header value
+   * @return retry delay, null if value cannot be parsed
+   */
+  static Duration parseRetryAfter(String value) {
+    var seconds = parseLeadingNumber(value);
+    if (seconds != null) {
+      return Duration.ofSeconds(Math.max(0, seconds));
+    }
+
+    try {
+      var retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+      var delay = Duration.between(Instant.now(), retryAt);
+      return delay.isNegative() ? Duration.ZERO : delay;
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Parses the leading number of a header value, e.g. {@code 98} for Docker Hub's {@code 98;w=21600}.
+   */
+  private static Long parseLeadingNumber(String value) {
+    var trimmed = value.trim();
+    var end = 0;
+    while (end < trimmed.length() && Character.isDigit(trimmed.charAt(end))) {
+      end++;
+    }
+
+    return end == 0 ? null : Long.parseLong(trimmed.substring(0, end));
+  }
+
+  /**
+   * Receives rate limiter waits and throttling responses.
+   */
+  public interface Listener {
+
+    /**
+     * Called before the calling thread waits for a permit.
+     *
+     * @param rateLimiter - rate limiter
+     * @param waitNanos - wait time in nanoseconds
+     */
+    void onWait(RateLimiter rateLimiter, long waitNanos);
+
+    /**
+     * Called when the registry answered with {@code 429 Too Many Requests}.
+     *
+     * @param rateLimiter - rate limiter
+     * @param retryAfter - {@code Retry-After} delay, null if not provided
+     */
+    void onThrottled(RateLimiter rateLimiter, Duration retryAfter);
+  }
+}
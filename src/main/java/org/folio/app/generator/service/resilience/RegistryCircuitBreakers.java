@@ -0,0 +1,113 @@
+package org.folio.app.generator.service.resilience;
+
+import static org.folio.app.generator.utils.HttpRequestUtils.cleanUrl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.model.registry.ModuleRegistry;
+import org.folio.app.generator.model.registry.artifact.ArtifactRegistry;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.service.resilience.CircuitBreaker.State;
+import org.folio.app.generator.utils.PluginConfig;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds a {@link CircuitBreaker} per module and artifact registry for the current plugin execution.
+ */
+@Component
+public class RegistryCircuitBreakers {
+
+  public static final String OPENED_COUNTER = "circuitBreaker.opened";
+  public static final String SKIPPED_CALLS_COUNTER = "circuitBreaker.skippedCalls";
+
+  private final Log log;
+  private final RunMetrics runMetrics;
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+  public RegistryCircuitBreakers(Log log, PluginConfig pluginConfig, RunMetrics runMetrics) {
+    this.log = log;
+    this.runMetrics = runMetrics;
+    this.failureThreshold = pluginConfig.getCircuitBreakerFailureThreshold();
+    this.openDurationNanos = pluginConfig.getCircuitBreakerOpenDuration().toNanos();
+  }
+
+  /**
+   * Returns circuit breaker for the given module registry.
+   *
+   * @param registry - {@link ModuleRegistry} object
+   * @return {@link CircuitBreaker} shared by all calls to this registry
+   */
+  public CircuitBreaker forRegistry(ModuleRegistry registry) {
+    return getOrCreate(registry.getRegistryKey());
+  }
+
+  /**
+   * Returns circuit breaker for the given artifact registry.
+   *
+   * @param registry - {@link ArtifactRegistry} object
+   * @return {@link CircuitBreaker} shared by all calls to this registry
+   */
+  public CircuitBreaker forRegistry(ArtifactRegistry registry) {
+    var baseUrl = registry.getBaseUrl() == null ? "" : cleanUrl(registry.getBaseUrl());
+    return getOrCreate(registry.getType().getValue() + "::" + baseUrl + "/" + registry.getNamespace());
+  }
+
+  /**
+   * Checks if a call to the module registry is allowed, counting rejected calls in the run metrics.
+   *
+   * @param registry - {@link ModuleRegistry} object
+   * @return true if the registry can be called, false if it must be skipped
+   */
+  public boolean tryAcquire(ModuleRegistry registry) {
+    return tryAcquire(forRegistry(registry));
+  }
+
+  /**
+   * Checks if a call to the artifact registry is allowed, counting rejected calls in the run metrics.
+   *
+   * @param registry - {@link ArtifactRegistry} object
+   * @return true if the registry can be called, false if it must be skipped
+   */
+  public boolean tryAcquire(ArtifactRegistry registry) {
+    return tryAcquire(forRegistry(registry));
+  }
+
+  public void onSuccess(ModuleRegistry registry) {
+    forRegistry(registry).recordSuccess();
+  }
+
+  public void onFailure(ModuleRegistry registry) {
+    forRegistry(registry).recordFailure();
+  }
+
+  private boolean tryAcquire(CircuitBreaker circuitBreaker) {
+    if (circuitBreaker.tryAcquire()) {
+      return true;
+    }
+
+    runMetrics.increment(SKIPPED_CALLS_COUNTER);
+    return false;
+  }
+
+  private CircuitBreaker getOrCreate(String name) {
+    return circuitBreakers.computeIfAbsent(name,
+      key -> new CircuitBreaker(key, failureThreshold, openDurationNanos, System::nanoTime, this::onTransition));
+  }
+
+  private void onTransition(CircuitBreaker circuitBreaker, State from, State to) {
+    var name = circuitBreaker.getName();
+    runMetrics.recordEvent(String.format("circuitBreaker '%s': %s -> %s", name, from, to));
+
+    if (to == State.OPEN) {
+      runMetrics.increment(OPENED_COUNTER);
+      log.warn(String.format("Circuit breaker for registry '%s' is open, the registry will be skipped", name));
+    } else if (to == State.HALF_OPEN) {
+      log.info(String.format("Circuit breaker for registry '%s' is half-open, sending a probe request", name));
+    } else {
+      log.info(String.format("Circuit breaker for registry '%s' is closed", name));
+    }
+  }
+}
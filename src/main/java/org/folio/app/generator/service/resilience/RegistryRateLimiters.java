@@ -0,0 +1,69 @@
+package org.folio.app.generator.service.resilience;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.folio.app.generator.utils.HttpRequestUtils.cleanUrl;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.model.registry.artifact.ArtifactRegistry;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.utils.PluginConfig;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds a {@link RateLimiter} per artifact registry for the current plugin execution.
+ */
+@Component
+public class RegistryRateLimiters implements RateLimiter.Listener {
+
+  public static final String WAITS_COUNTER = "rateLimiter.waits";
+  public static final String WAIT_MILLIS_COUNTER = "rateLimiter.waitMillis";
+  public static final String THROTTLED_COUNTER = "rateLimiter.throttledResponses";
+
+  private final Log log;
+  private final RunMetrics runMetrics;
+  private final double permitsPerSecond;
+  private final int burst;
+  private final Duration maxPause;
+  private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+  public RegistryRateLimiters(Log log, PluginConfig pluginConfig, RunMetrics runMetrics) {
+    this.log = log;
+    this.runMetrics = runMetrics;
+    this.permitsPerSecond = pluginConfig.getArtifactRateLimit();
+    this.burst = pluginConfig.getArtifactRateLimitBurst();
+    this.maxPause = pluginConfig.getArtifactRateLimitMaxPause();
+  }
+
+  /**
+   * Returns rate limiter for the given artifact registry.
+   *
+   * @param registry - {@link ArtifactRegistry} object
+   * @return {@link RateLimiter} shared by all calls to this registry, null if rate limiting is disabled
+   */
+  public RateLimiter forRegistry(ArtifactRegistry registry) {
+    if (permitsPerSecond <= 0) {
+      return null;
+    }
+
+    var baseUrl = registry.getBaseUrl() == null ? "" : cleanUrl(registry.getBaseUrl());
+    return rateLimiters.computeIfAbsent(registry.getType().getValue() + "::" + baseUrl + "/" + registry.getNamespace(),
+      key -> new RateLimiter(key, permitsPerSecond, burst, maxPause, System::nanoTime, this));
+  }
+
+  @Override
+  public void onWait(RateLimiter rateLimiter, long waitNanos) {
+    runMetrics.increment(WAITS_COUNTER);
+    runMetrics.add(WAIT_MILLIS_COUNTER, NANOSECONDS.toMillis(waitNanos));
+  }
+
+  @Override
+  public void onThrottled(RateLimiter rateLimiter, Duration retryAfter) {
+    runMetrics.increment(THROTTLED_COUNTER);
+    var retryMessage = retryAfter != null ? ", retrying after " + retryAfter.toSeconds() + "s" : "";
+    log.info(String.format("Registry '%s' is rate limited, request rate is reduced to %.2f/s%s",
+      rateLimiter.getName(), rateLimiter.getPermitsPerSecond(), retryMessage));
+  }
+}
@@ -0,0 +1,117 @@
+package org.folio.app.generator.service.resilience;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.folio.app.generator.model.registry.ModuleRegistry;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.utils.HttpRequestUtils.RequestSender;
+import org.folio.app.generator.utils.PluginConfig;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives request timeouts of module registries from their observed latencies.
+ *
+ * <p>Once {@value #MIN_SAMPLES} responses have been received from a registry, every request attempt gets the timeout
+ * of {@code adaptiveTimeoutPercentile} latency multiplied by {@code adaptiveTimeoutFactor}, bounded by the
+ * configured floor and ceiling. Until then, and if adaptive timeouts are disabled, the ceiling is used.</p>
+ *
+ * <p>Bulk requests, e.g. the Okapi module descriptor catalog, take much longer than the requests the latency is learned
+ * from. They are always sent with the ceiling timeout and their latency is not recorded.</p>
+ */
+@Component
+public class RegistryTimeouts {
+
+  public static final String TIMED_OUT_COUNTER = "timeouts.timedOutRequests";
+
+  static final int MIN_SAMPLES = 20;
+  static final int WINDOW_SIZE = 512;
+
+  private final RunMetrics runMetrics;
+  private final boolean enabled;
+  private final double percentile;
+  private final double factor;
+  private final long floorNanos;
+  private final long ceilingNanos;
+  private final Map<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+
+  public RegistryTimeouts(PluginConfig pluginConfig, RunMetrics runMetrics) {
+    this.runMetrics = runMetrics;
+    this.enabled = pluginConfig.isAdaptiveTimeoutEnabled();
+    this.percentile = pluginConfig.getAdaptiveTimeoutPercentile();
+    this.factor = pluginConfig.getAdaptiveTimeoutFactor();
+    this.ceilingNanos = pluginConfig.getAdaptiveTimeoutCeiling().toNanos();
+    this.floorNanos = Math.max(1, Math.min(pluginConfig.getAdaptiveTimeoutFloor().toNanos(), ceilingNanos));
+  }
+
+  /**
+   * Returns the current request timeout for the given module registry.
+   *
+   * @param registry - {@link ModuleRegistry} object
+   * @return request timeout
+   */
+  public Duration getTimeout(ModuleRegistry registry) {
+    if (!enabled) {
+      return Duration.ofNanos(ceilingNanos);
+    }
+
+    var tracker = getTracker(registry);
+    if (tracker.getCount() < MIN_SAMPLES) {
+      return Duration.ofNanos(ceilingNanos);
+    }
+
+    var timeoutNanos = (long) Math.min(tracker.percentile(percentile) * factor, ceilingNanos);
+    return Duration.ofNanos(Math.max(floorNanos, timeoutNanos));
+  }
+
+  /**
+   * Wraps the request sender, so that every attempt is sent with the current registry timeout and its latency is
+   * recorded.
+   *
+   * @param registry - {@link ModuleRegistry} the requests are sent to
+   * @param sender - {@link RequestSender} performing a single attempt
+   * @return {@link RequestSender} applying adaptive timeouts
+   */
+  public RequestSender withTimeout(ModuleRegistry registry, RequestSender sender) {
+    return request -> send(registry, sender, request, false);
+  }
+
+  /**
+   * Wraps the request sender of bulk requests, so that every attempt is sent with the ceiling timeout.
+   *
+   * @param registry - {@link ModuleRegistry} the requests are sent to
+   * @param sender - {@link RequestSender} performing a single attempt
+   * @return {@link RequestSender} applying the ceiling timeout
+   */
+  public RequestSender withBulkTimeout(ModuleRegistry registry, RequestSender sender) {
+    return request -> send(registry, sender, request, true);
+  }
+
+  private HttpResponse<InputStream> send(ModuleRegistry registry, RequestSender sender, HttpRequest request,
+    boolean bulk) throws IOException, InterruptedException {
+    var timedRequest = HttpRequest.newBuilder(request, (name, value) -> true)
+      .timeout(bulk ? Duration.ofNanos(ceilingNanos) : getTimeout(registry))
+      .build();
+
+    var startedAt = System.nanoTime();
+    try {
+      var response = sender.send(timedRequest);
+      if (enabled && !bulk) {
+        getTracker(registry).record(System.nanoTime() - startedAt);
+      }
+      return response;
+    } catch (HttpTimeoutException e) {
+      runMetrics.increment(TIMED_OUT_COUNTER);
+      throw e;
+    }
+  }
+
+  private LatencyTracker getTracker(ModuleRegistry registry) {
+    return latencyTrackers.computeIfAbsent(registry.getRegistryKey(), key -> new LatencyTracker(WINDOW_SIZE));
+  }
+}
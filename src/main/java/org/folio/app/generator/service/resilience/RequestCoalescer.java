@@ -0,0 +1,115 @@
+package org.folio.app.generator.service.resilience;
+
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces identical in-flight registry requests (single-flight) and reuses their results for the run.
+ *
+ * <p>The first caller for a key performs the request, callers arriving with the same key while it is in flight wait
+ * for its result instead of sending their own request. Registry requests are sent one at a time today, so requests
+ * are deduplicated by {@link #executeCached(String, Callable, Predicate)}, which keeps the reusable results until the
+ * end of the run.</p>
+ */
+@Component
+public class RequestCoalescer {
+
+  public static final String COALESCED_COUNTER = "coalescing.coalescedRequests";
+  public static final String REUSED_COUNTER = "coalescing.reusedResponses";
+
+  private final RunMetrics runMetrics;
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final Map<String, Object> completed = new ConcurrentHashMap<>();
+
+  public RequestCoalescer(RunMetrics runMetrics) {
+    this.runMetrics = runMetrics;
+  }
+
+  /**
+   * Executes loader for the key, or waits for the result of the in-flight loader with the same key.
+   *
+   * @param key - request identity, see {@link #key(HttpRequest)}
+   * @param loader - loader performing the request and reading the response, the result must not be mutated
+   * @param <T> - result type
+   * @return loader result
+   * @throws Exception the loader exception, rethrown to every caller attached to the request
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String key, Callable<T> loader) throws Exception {
+    var future = new CompletableFuture<Object>();
+    var existing = inFlight.putIfAbsent(key, future);
+    if (existing != null) {
+      runMetrics.increment(COALESCED_COUNTER);
+      return (T) await(existing);
+    }
+
+    try {
+      var result = loader.call();
+      future.complete(result);
+      return result;
+    } catch (Exception | Error e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  /**
+   * Returns the result kept for the key, or executes loader as {@link #execute(String, Callable)} does and keeps the
+   * result for the rest of the run if it is reusable.
+   *
+   * @param key - request identity, see {@link #key(HttpRequest)}
+   * @param loader - loader performing the request and reading the response, the result must not be mutated
+   * @param reusable - tells if the result can be reused, e.g. it is not an error response
+   * @param <T> - result type
+   * @return kept or loaded result
+   * @throws Exception the loader exception, failed requests are not kept
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T executeCached(String key, Callable<T> loader, Predicate<T> reusable) throws Exception {
+    var result = completed.get(key);
+    if (result != null) {
+      runMetrics.increment(REUSED_COUNTER);
+      return (T) result;
+    }
+
+    return execute(key, () -> {
+      var loaded = loader.call();
+      if (reusable.test(loaded)) {
+        completed.put(key, loaded);
+      }
+      return loaded;
+    });
+  }
+
+  /**
+   * Builds coalescing key from the HTTP request method, URI and headers.
+   *
+   * @param request - {@link HttpRequest} to build key for
+   * @return request identity
+   */
+  public static String key(HttpRequest request) {
+    return request.method() + " " + request.uri() + " " + new TreeMap<>(request.headers().map());
+  }
+
+  private static Object await(CompletableFuture<Object> future) throws Exception {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      var cause = e.getCause();
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw (Exception) cause;
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package org.folio.app.generator.service.resilience;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.model.registry.ModuleRegistry;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.utils.PluginConfig;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends idempotent registry GET requests with hedging.
+ *
+ * <p>If a request has not been answered within the configured latency percentile of the registry, a duplicate request
+ * is sent and the first response wins, the other exchange is cancelled. The number of hedged requests is capped by
+ * {@code hedgingMaxRate} of all requests sent through the hedger, so the extra load on a registry stays bounded.</p>
+ */
+@Component
+public class RequestHedger {
+
+  public static final String HEDGED_COUNTER = "hedging.hedgedRequests";
+  public static final String HEDGE_WINS_COUNTER = "hedging.hedgeWins";
+  public static final String RATE_CAPPED_COUNTER = "hedging.rateCapped";
+
+  static final int MIN_SAMPLES = 20;
+  static final int WINDOW_SIZE = 512;
+
+  private final Log log;
+  private final RunMetrics runMetrics;
+  private final boolean enabled;
+  private final double percentile;
+  private final double maxRate;
+  private final long minDelayNanos;
+  private final Map<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+
+  private long requestsCount;
+  private long hedgesCount;
+
+  public RequestHedger(Log log, PluginConfig pluginConfig, RunMetrics runMetrics) {
+    this.log = log;
+    this.runMetrics = runMetrics;
+    this.enabled = pluginConfig.isHedgingEnabled();
+    this.percentile = pluginConfig.getHedgingPercentile();
+    this.maxRate = pluginConfig.getHedgingMaxRate();
+    this.minDelayNanos = pluginConfig.getHedgingMinDelay().toNanos();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sends request to the module registry, hedging it if the response is slower than the registry latency percentile.
+   *
+   * <p>Hedging starts once {@value #MIN_SAMPLES} latency samples are collected for the registry.</p>
+   *
+   * @param httpClient - {@link HttpClient} to send request with
+   * @param registry - {@link ModuleRegistry} the request is sent to
+   * @param request - idempotent {@link HttpRequest}
+   * @return the first received {@link HttpResponse}
+   * @throws IOException if request failed (both requests failed, if hedged)
+   * @throws InterruptedException if thread is interrupted while waiting for the response
+   */
+  public HttpResponse<InputStream> send(HttpClient httpClient, ModuleRegistry registry, HttpRequest request)
+    throws IOException, InterruptedException {
+    var tracker = latencyTrackers.computeIfAbsent(registry.getRegistryKey(), key -> new LatencyTracker(WINDOW_SIZE));
+    var hedgeDelay = tracker.getCount() >= MIN_SAMPLES ? Math.max(minDelayNanos, tracker.percentile(percentile)) : -1;
+    countRequest();
+
+    var startedAt = System.nanoTime();
+    var primary = httpClient.sendAsync(request, BodyHandlers.ofInputStream());
+    var response = hedgeDelay < 0 ? await(primary) : awaitWithHedge(httpClient, request, primary, hedgeDelay);
+    tracker.record(System.nanoTime() - startedAt);
+    return response;
+  }
+
+  private HttpResponse<InputStream> awaitWithHedge(HttpClient httpClient, HttpRequest request,
+    CompletableFuture<HttpResponse<InputStream>> primary, long hedgeDelay) throws IOException, InterruptedException {
+    try {
+      return primary.get(hedgeDelay, NANOSECONDS);
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    } catch (TimeoutException e) {
+      // primary request is slower than the registry latency percentile
+    }
+
+    if (!tryAcquireHedge()) {
+      runMetrics.increment(RATE_CAPPED_COUNTER);
+      return await(primary);
+    }
+
+    runMetrics.increment(HEDGED_COUNTER);
+    log.debug(String.format("Sending hedged request after %d ms: %s", NANOSECONDS.toMillis(hedgeDelay),
+      request.uri()));
+    var hedge = httpClient.sendAsync(request, BodyHandlers.ofInputStream());
+    var winner = firstSuccessful(primary, hedge);
+    try {
+      var response = await(winner);
+      if (hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.join() == response) {
+        runMetrics.increment(HEDGE_WINS_COUNTER);
+        discard(primary);
+      } else {
+        discard(hedge);
+      }
+      return response;
+    } catch (IOException | InterruptedException | RuntimeException e) {
+      discard(primary);
+      discard(hedge);
+      throw e;
+    }
+  }
+
+  private synchronized void countRequest() {
+    requestsCount++;
+  }
+
+  private synchronized boolean tryAcquireHedge() {
+    if (hedgesCount + 1 > requestsCount * maxRate) {
+      return false;
+    }
+
+    hedgesCount++;
+    return true;
+  }
+
+  private static CompletableFuture<HttpResponse<InputStream>> firstSuccessful(
+    CompletableFuture<HttpResponse<InputStream>> primary, CompletableFuture<HttpResponse<InputStream>> hedge) {
+    var result = new CompletableFuture<HttpResponse<InputStream>>();
+    var failures = new AtomicInteger();
+    BiConsumer<HttpResponse<InputStream>, Throwable> completion = (response, error) -> {
+      if (error == null) {
+        result.complete(response);
+      } else if (failures.incrementAndGet() == 2) {
+        result.completeExceptionally(error);
+      }
+    };
+
+    primary.whenComplete(completion);
+    hedge.whenComplete(completion);
+    return result;
+  }
+
+  private static HttpResponse<InputStream> await(CompletableFuture<HttpResponse<InputStream>> future)
+    throws IOException, InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      throw e;
+    }
+  }
+
+  /**
+   * Cancels the losing exchange and releases its connection if the response has already been received.
+   */
+  private static void discard(CompletableFuture<HttpResponse<InputStream>> future) {
+    future.cancel(true);
+    future.thenAccept(response -> closeQuietly(response.body()));
+  }
+
+  private static void closeQuietly(InputStream inputStream) {
+    try {
+      inputStream.close();
+    } catch (IOException e) {
+      // the response is discarded anyway
+    }
+  }
+
+  private static IOException unwrap(Throwable cause) {
+    var error = cause instanceof CompletionException && cause.getCause() != null
+      ? cause.getCause() : cause;
+    if (error instanceof IOException ioException) {
+      return ioException;
+    }
+    if (error instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    }
+    return new IOException(error);
+  }
+}
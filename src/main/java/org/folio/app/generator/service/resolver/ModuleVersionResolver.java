@@ -22,5 +22,16 @@ public interface ModuleVersionResolver {
    */
   Optional<List<String>> getAvailableVersions(ModuleRegistry registry, Dependency dependency, ModuleType type);
 
+  /**
+   * Prepares available versions of several modules ahead of {@link #getAvailableVersions} calls, e.g. by requesting
+   * them in parallel. Implementations that cannot benefit from it ignore the call.
+   *
+   * @param registry the module registry to query
+   * @param dependencies the dependencies that are going to be resolved
+   * @param type the module type (BE or UI)
+   */
+  default void prefetchVersions(ModuleRegistry registry, List<Dependency> dependencies, ModuleType type) {
+  }
+
   RegistryType getType();
 }
@@ -9,8 +9,12 @@ import java.util.Optional;
 import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.Dependency;
 import org.folio.app.generator.model.registry.ModuleRegistry;
+import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.folio.app.generator.service.loader.PrefetchedModuleDescriptors;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -19,10 +23,15 @@ public class ModuleVersionResolverFacade {
 
   private final Log log;
   private final Map<RegistryType, ModuleVersionResolver> resolversMap;
+  private final RegistryCircuitBreakers circuitBreakers;
+  private final PrefetchedModuleDescriptors prefetchedModuleDescriptors;
 
   @Autowired
-  public ModuleVersionResolverFacade(Log log, List<ModuleVersionResolver> resolvers) {
+  public ModuleVersionResolverFacade(Log log, List<ModuleVersionResolver> resolvers,
+    RegistryCircuitBreakers circuitBreakers, PrefetchedModuleDescriptors prefetchedModuleDescriptors) {
     this.log = log;
+    this.circuitBreakers = circuitBreakers;
+    this.prefetchedModuleDescriptors = prefetchedModuleDescriptors;
     this.resolversMap = resolvers.stream().collect(toMap(ModuleVersionResolver::getType, identity()));
   }
 
@@ -33,6 +42,7 @@ public class ModuleVersionResolverFacade {
    * @param dependency the dependency specification
    * @param type the module type (BE or UI)
    * @return list of available versions sorted in descending order, or empty if not found or on error
+   * @throws ApplicationGeneratorException if circuit breaker of the registry is open
    */
   public Optional<List<String>> getAvailableVersions(ModuleRegistry registry, Dependency dependency, ModuleType type) {
     var resolver = resolversMap.get(registry.getType());
@@ -40,6 +50,40 @@ public class ModuleVersionResolverFacade {
       log.warn("Failed to find module version resolver for registry: " + registry.getClass().getSimpleName());
       return Optional.empty();
     }
+
+    if (!circuitBreakers.tryAcquire(registry)) {
+      throw new ApplicationGeneratorException(String.format(
+        "Registry '%s' is skipped: circuit breaker is open", registry.getRegistryIdentifier()),
+        ErrorCategory.INFRASTRUCTURE);
+    }
+
     return resolver.getAvailableVersions(registry, dependency, type);
   }
+
+  /**
+   * Prepares available versions of several modules in the specified registry, if the registry resolver supports it.
+   *
+   * @param registry the module registry to query
+   * @param dependencies the dependencies that are going to be resolved
+   * @param type the module type (BE or UI)
+   */
+  public void prefetchVersions(ModuleRegistry registry, List<Dependency> dependencies, ModuleType type) {
+    var resolver = resolversMap.get(registry.getType());
+    if (resolver != null && !dependencies.isEmpty()) {
+      resolver.prefetchVersions(registry, dependencies, type);
+    }
+  }
+
+  /**
+   * Keeps only the module descriptor of the resolved version among descriptors prefetched while versions of the
+   * module were fetched, so descriptors of versions that lost to other registries or failed artifact validation are
+   * not kept until the end of the run.
+   *
+   * @param resolved the dependency with the resolved exact version
+   * @param registry the module registry the version is resolved from
+   */
+  public void versionResolved(Dependency resolved, ModuleRegistry registry) {
+    var moduleName = resolved.getName();
+    prefetchedModuleDescriptors.retain(moduleName, registry, moduleName + "-" + resolved.getVersion());
+  }
 }
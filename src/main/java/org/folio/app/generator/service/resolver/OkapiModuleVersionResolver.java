@@ -1,15 +1,17 @@
 package org.folio.app.generator.service.resolver;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpClient.Version;
 import java.net.http.HttpRequest;
-import java.time.Duration;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.conditions.OkapiCondition;
@@ -22,9 +24,18 @@ import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.model.types.RegistryType;
 import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.folio.app.generator.service.loader.PrefetchedModuleDescriptors;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryTimeouts;
+import org.folio.app.generator.service.resilience.RequestHedger;
 import org.folio.app.generator.utils.HttpRequestUtils;
+import org.folio.app.generator.utils.HttpRequestUtils.RequestSender;
 import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
 import org.folio.app.generator.utils.PluginUtils;
+import org.folio.app.generator.utils.SemverUtils;
+import org.semver4j.RangesListFactory;
+import org.semver4j.Semver;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
 
@@ -36,13 +47,18 @@ public class OkapiModuleVersionResolver implements ModuleVersionResolver {
   private final HttpClient httpClient;
   private final Log log;
   private final JsonConverter jsonConverter;
+  private final RegistryCircuitBreakers circuitBreakers;
+  private final RequestHedger requestHedger;
+  private final RegistryTimeouts registryTimeouts;
+  private final PluginConfig pluginConfig;
+  private final PrefetchedModuleDescriptors prefetchedModuleDescriptors;
 
   @Override
   public Optional<List<String>> getAvailableVersions(ModuleRegistry registry, Dependency module, ModuleType type) {
     var okapiRegistry = (OkapiModuleRegistry) registry;
     var url = okapiRegistry.getUrl();
     try {
-      return getVersions(url, module, type, okapiRegistry.getHeaders());
+      return getVersions(okapiRegistry, module, type);
     } catch (IOException e) {
       log.warn(String.format("Failed to fetch versions for module '%s' from %s", module.getName(), url), e);
       var errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
@@ -62,12 +78,21 @@ public class OkapiModuleVersionResolver implements ModuleVersionResolver {
     return RegistryType.OKAPI;
   }
 
-  private Optional<List<String>> getVersions(String url, Dependency module, ModuleType type,
-    Map<String, String> headers) throws Exception {
-    var request = prepareHttpRequest(url, module, type, headers);
+  private Optional<List<String>> getVersions(OkapiModuleRegistry registry, Dependency module, ModuleType type)
+    throws Exception {
+    var url = registry.getUrl();
+    var prefetchDescriptors = pluginConfig.isOkapiPrefetchDescriptors()
+      && module.getPreRelease() == PreReleaseFilter.FALSE;
+    var request = prepareHttpRequest(url, module, type, registry.getHeaders(), prefetchDescriptors);
     var moduleName = module.getName();
 
-    var response = HttpRequestUtils.sendWithRetry(httpClient, log, request);
+    var circuitBreaker = circuitBreakers.forRegistry(registry);
+    RequestSender sender = requestHedger.isEnabled()
+      ? req -> requestHedger.send(httpClient, registry, req)
+      : req -> httpClient.send(req, BodyHandlers.ofInputStream());
+    var timedSender = prefetchDescriptors ? registryTimeouts.withBulkTimeout(registry, sender)
+      : registryTimeouts.withTimeout(registry, sender);
+    var response = HttpRequestUtils.sendWithRetry(timedSender, log, request, circuitBreaker);
     var responseStatus = response.statusCode();
 
     if (responseStatus != 200) {
@@ -76,18 +101,13 @@ public class OkapiModuleVersionResolver implements ModuleVersionResolver {
       return Optional.empty();
     }
 
-    List<Map<String, Object>> modules;
+    List<String> versions;
     try (var inputStream = response.body()) {
-      modules = jsonConverter.parse(inputStream, new TypeReference<>() {});
+      versions = prefetchDescriptors
+        ? readVersionsAndPrefetch(registry, module, inputStream)
+        : readVersions(inputStream);
     }
 
-    var versions = modules.stream()
-      .map(md -> String.valueOf(md.get("id")))
-      .map(PluginUtils::splitModuleId)
-      .flatMap(Optional::stream)
-      .map(Dependency::getVersion)
-      .toList();
-
     if (versions.isEmpty()) {
       log.warn(String.format("Module '%s' is not found in %s", moduleName, url));
       return Optional.empty();
@@ -97,13 +117,57 @@ public class OkapiModuleVersionResolver implements ModuleVersionResolver {
     return Optional.of(versions);
   }
 
+  private List<String> readVersions(InputStream inputStream) {
+    return jsonConverter.readIds(inputStream).stream()
+      .map(PluginUtils::splitModuleId)
+      .flatMap(Optional::stream)
+      .map(Dependency::getVersion)
+      .toList();
+  }
+
+  /**
+   * Reads versions from a listing with full module descriptors, keeping only the descriptor of the greatest version
+   * matching the dependency constraint for the module descriptor loader.
+   *
+   * <p>Full descriptors are requested only for listings without pre-release versions, as listings with snapshots
+   * can contain thousands of versions.</p>
+   */
+  private List<String> readVersionsAndPrefetch(OkapiModuleRegistry registry, Dependency module,
+    InputStream inputStream) {
+    var preRelease = module.getPreRelease();
+    var includePreRelease = preRelease == null || preRelease.isPreRelease();
+    var ranges = RangesListFactory.create(SemverUtils.normalizeVersion(module.getVersion()), includePreRelease);
+
+    var versions = new ArrayList<String>();
+    var bestVersion = new AtomicReference<Semver>();
+    var bestDescriptor = new AtomicReference<Map<String, Object>>();
+    jsonConverter.readArrayFilteredById(inputStream, id -> {
+      var version = PluginUtils.splitModuleId(id).map(Dependency::getVersion);
+      version.ifPresent(versions::add);
+      var semver = version.map(SemverUtils::parse).orElse(null);
+      if (semver == null || !ranges.isSatisfiedBy(semver)
+        || bestVersion.get() != null && semver.compareTo(bestVersion.get()) <= 0) {
+        return false;
+      }
+
+      bestVersion.set(semver);
+      return true;
+    }, bestDescriptor::set);
+
+    if (bestDescriptor.get() != null) {
+      prefetchedModuleDescriptors.put(registry, module.getName(), bestDescriptor.get());
+    }
+
+    return versions;
+  }
+
   private static HttpRequest prepareHttpRequest(String url, Dependency module, ModuleType type,
-    Map<String, String> headers) {
+    Map<String, String> headers, boolean fullDescriptors) {
     var baseUrl = HttpRequestUtils.cleanUrl(url);
+    var fullParameter = fullDescriptors ? "&full=true" : "";
     var builder = HttpRequest.newBuilder()
       .GET()
-      .uri(URI.create(prepareUriString(baseUrl, module, type)))
-      .timeout(Duration.ofMinutes(5))
+      .uri(URI.create(prepareUriString(baseUrl, module, type) + fullParameter))
       .version(Version.HTTP_1_1);
 
     HttpRequestUtils.applyHeaders(builder, headers);
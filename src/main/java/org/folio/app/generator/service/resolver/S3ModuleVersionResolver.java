@@ -6,8 +6,13 @@ import static org.folio.app.generator.utils.PluginUtils.createModuleDefinitionFr
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.maven.plugin.logging.Log;
@@ -18,6 +23,9 @@ import org.folio.app.generator.model.registry.ModuleRegistry;
 import org.folio.app.generator.model.registry.S3ModuleRegistry;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.loader.S3AsyncRequestExecutor;
+import org.folio.app.generator.service.loader.S3RegistryIndexes;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
 import org.folio.app.generator.utils.PluginConfig;
 import org.semver4j.Semver;
 import org.springframework.context.annotation.Conditional;
@@ -37,6 +45,10 @@ public class S3ModuleVersionResolver implements ModuleVersionResolver {
   private final Log log;
   private final S3Client s3Client;
   private final PluginConfig pluginConfig;
+  private final RegistryCircuitBreakers circuitBreakers;
+  private final S3AsyncRequestExecutor s3AsyncRequestExecutor;
+  private final S3RegistryIndexes s3RegistryIndexes;
+  private final Map<String, List<S3Object>> prefetchedListings = new ConcurrentHashMap<>();
 
   @Override
   public Optional<List<String>> getAvailableVersions(ModuleRegistry registry, Dependency dependency, ModuleType type) {
@@ -45,32 +57,29 @@ public class S3ModuleVersionResolver implements ModuleVersionResolver {
     var preReleaseFilter = dependency.getPreRelease();
     var prefix = s3Registry.getPath() + moduleName + "-";
 
-    var request = buildListObjectsRequest(s3Registry, prefix, null);
-    ListObjectsV2Response result;
-    var collected = new ArrayList<Pair<String, Semver>>();
-
-    do {
-      try {
-        result = s3Client.listObjectsV2(request);
-      } catch (Exception e) {
-        log.warn(format("Failed to list versions for module '%s' in s3 bucket: %s",
-              moduleName, getBucketPath(s3Registry)), e);
-        return Optional.empty();
+    var s3Objects = s3RegistryIndexes.findObjects(s3Registry, prefix)
+      .orElseGet(() -> prefetchedListings.remove(listingKey(s3Registry, prefix)));
+    try {
+      if (s3Objects == null) {
+        s3Objects = listObjects(s3Registry, prefix);
       }
+    } catch (Exception e) {
+      log.warn(format("Failed to list versions for module '%s' in s3 bucket: %s",
+            moduleName, getBucketPath(s3Registry)), e);
+      return Optional.empty();
+    }
 
-      for (S3Object s3Object : result.contents()) {
-        Pair<String, Semver> parsed = parseS3ObjectKey(s3Object, s3Registry.getPath());
-
-        // Defensive check: parsed.getRight() != null is currently unreachable since parseS3ObjectKey
-        // filters out null Semver values (line 111), but kept for safety in case implementation changes
-        if (parsed != null && parsed.getLeft().equals(moduleName)
-            && parsed.getRight() != null && matchesPreReleaseFilter(parsed.getRight(), preReleaseFilter)) {
-          collected.add(parsed);
-        }
+    var collected = new ArrayList<Pair<String, Semver>>();
+    for (S3Object s3Object : s3Objects) {
+      Pair<String, Semver> parsed = parseS3ObjectKey(s3Object, s3Registry.getPath());
+
+      // Defensive check: parsed.getRight() != null is currently unreachable since parseS3ObjectKey
+      // filters out null Semver values, but kept for safety in case implementation changes
+      if (parsed != null && parsed.getLeft().equals(moduleName)
+          && parsed.getRight() != null && matchesPreReleaseFilter(parsed.getRight(), preReleaseFilter)) {
+        collected.add(parsed);
       }
-
-      request = buildListObjectsRequest(s3Registry, prefix, result.nextContinuationToken());
-    } while (TRUE.equals(result.isTruncated()));
+    }
 
     if (collected.isEmpty()) {
       log.warn(format("Module '%s' is not found in s3 bucket: %s", moduleName, getBucketPath(s3Registry)));
@@ -84,11 +93,70 @@ public class S3ModuleVersionResolver implements ModuleVersionResolver {
     return Optional.of(collected.stream().map(p -> p.getRight().getVersion()).toList());
   }
 
+  /**
+   * Lists versions of all given modules in parallel with the asynchronous S3 client, if it is enabled and the registry
+   * has no index.
+   *
+   * @param registry the module registry to query
+   * @param dependencies the dependencies that are going to be resolved
+   * @param type the module type (BE or UI)
+   */
+  @Override
+  public void prefetchVersions(ModuleRegistry registry, List<Dependency> dependencies, ModuleType type) {
+    var s3Registry = (S3ModuleRegistry) registry;
+    if (!s3AsyncRequestExecutor.isEnabled() || s3RegistryIndexes.isAvailable(s3Registry)) {
+      return;
+    }
+
+    var tasks = new LinkedHashMap<String, Supplier<CompletableFuture<List<S3Object>>>>();
+    for (var dependency : dependencies) {
+      var prefix = s3Registry.getPath() + dependency.getName() + "-";
+      tasks.putIfAbsent(listingKey(s3Registry, prefix),
+        () -> s3AsyncRequestExecutor.listObjects(s3Registry, prefix));
+    }
+
+    try {
+      prefetchedListings.putAll(s3AsyncRequestExecutor.executeAll(tasks,
+        (listingKey, error) -> log.warn(format("Failed to prefetch versions from %s", listingKey), error)));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn(format("Prefetching of versions from s3 bucket %s is interrupted", getBucketPath(s3Registry)));
+    }
+  }
+
   @Override
   public RegistryType getType() {
     return RegistryType.AWS_S3;
   }
 
+  /**
+   * Lists all objects under the prefix.
+   */
+  private List<S3Object> listObjects(S3ModuleRegistry registry, String prefix) {
+    var request = buildListObjectsRequest(registry, prefix, null);
+    var s3Objects = new ArrayList<S3Object>();
+    ListObjectsV2Response result;
+
+    do {
+      try {
+        result = s3Client.listObjectsV2(request);
+        circuitBreakers.onSuccess(registry);
+      } catch (RuntimeException e) {
+        circuitBreakers.onFailure(registry);
+        throw e;
+      }
+
+      s3Objects.addAll(result.contents());
+      request = buildListObjectsRequest(registry, prefix, result.nextContinuationToken());
+    } while (TRUE.equals(result.isTruncated()));
+
+    return s3Objects;
+  }
+
+  private static String listingKey(S3ModuleRegistry registry, String prefix) {
+    return "s3://" + registry.getBucket() + "/" + prefix;
+  }
+
   private ListObjectsV2Request buildListObjectsRequest(S3ModuleRegistry registry, String prefix, String nct) {
     return ListObjectsV2Request.builder()
       .bucket(registry.getBucket())
@@ -1,15 +1,14 @@
 package org.folio.app.generator.service.resolver;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpClient.Version;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.maven.plugin.logging.Log;
@@ -20,7 +19,12 @@ import org.folio.app.generator.model.registry.ModuleRegistry;
 import org.folio.app.generator.model.registry.SimpleModuleRegistry;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryTimeouts;
+import org.folio.app.generator.service.resilience.RequestCoalescer;
+import org.folio.app.generator.service.resilience.RequestHedger;
 import org.folio.app.generator.utils.HttpRequestUtils;
+import org.folio.app.generator.utils.HttpRequestUtils.RequestSender;
 import org.folio.app.generator.utils.JsonConverter;
 import org.folio.app.generator.utils.PluginUtils;
 import org.folio.app.generator.utils.SemverUtils;
@@ -35,6 +39,10 @@ public class SimpleModuleVersionResolver implements ModuleVersionResolver {
   private final HttpClient httpClient;
   private final Log log;
   private final JsonConverter jsonConverter;
+  private final RegistryCircuitBreakers circuitBreakers;
+  private final RequestHedger requestHedger;
+  private final RequestCoalescer requestCoalescer;
+  private final RegistryTimeouts registryTimeouts;
 
   @Override
   public Optional<List<String>> getAvailableVersions(ModuleRegistry registry, Dependency dependency, ModuleType type) {
@@ -46,27 +54,21 @@ public class SimpleModuleVersionResolver implements ModuleVersionResolver {
       var requestBuilder = HttpRequest.newBuilder()
         .GET()
         .uri(URI.create(cleanUrl(simpleRegistry.getUrl())))
-        .timeout(Duration.ofMinutes(5))
         .version(Version.HTTP_1_1);
 
       HttpRequestUtils.applyHeaders(requestBuilder, simpleRegistry.getHeaders());
 
       var request = requestBuilder.build();
-      var response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+      var listing = requestCoalescer.executeCached(RequestCoalescer.key(request),
+        () -> loadListing(simpleRegistry, request), Listing::isLoaded);
 
-      if (response.statusCode() != 200) {
+      if (listing.statusCode() != 200) {
         log.warn(String.format("Failed to fetch versions for module '%s' from Simple registry: HTTP %d",
-          moduleName, response.statusCode()));
+          moduleName, listing.statusCode()));
         return Optional.empty();
       }
 
-      List<Map<String, Object>> modules;
-      try (var inputStream = response.body()) {
-        modules = jsonConverter.parse(inputStream, new TypeReference<>() {});
-      }
-
-      var versions = modules.stream()
-        .map(md -> (String) md.get("id"))
+      var versions = listing.ids().stream()
         .map(PluginUtils::splitModuleId)
         .flatMap(Optional::stream)
         .filter(dep -> moduleName.equals(dep.getName()))
@@ -97,6 +99,39 @@ public class SimpleModuleVersionResolver implements ModuleVersionResolver {
     return RegistryType.SIMPLE;
   }
 
+  /**
+   * Loads the registry listing, it is the same for all modules, so a loaded listing is reused for the run.
+   */
+  private Listing loadListing(SimpleModuleRegistry registry, HttpRequest request)
+    throws IOException, InterruptedException {
+    HttpResponse<InputStream> response;
+    try {
+      RequestSender sender = requestHedger.isEnabled()
+        ? req -> requestHedger.send(httpClient, registry, req)
+        : req -> httpClient.send(req, HttpResponse.BodyHandlers.ofInputStream());
+      response = registryTimeouts.withTimeout(registry, sender).send(request);
+    } catch (IOException e) {
+      circuitBreakers.onFailure(registry);
+      throw e;
+    }
+    recordOutcome(registry, response.statusCode());
+
+    try (var inputStream = response.body()) {
+      if (response.statusCode() != 200) {
+        return new Listing(response.statusCode(), List.of());
+      }
+      return new Listing(response.statusCode(), jsonConverter.readIds(inputStream));
+    }
+  }
+
+  private void recordOutcome(SimpleModuleRegistry registry, int statusCode) {
+    if (HttpRequestUtils.RETRYABLE_STATUS_CODES.contains(statusCode)) {
+      circuitBreakers.onFailure(registry);
+    } else {
+      circuitBreakers.onSuccess(registry);
+    }
+  }
+
   private boolean matchesPreReleaseFilter(String version, PreReleaseFilter filter) {
     var effective = filter == null ? PreReleaseFilter.TRUE : filter;
     var semver = SemverUtils.parse(version);
@@ -112,4 +147,11 @@ public class SimpleModuleVersionResolver implements ModuleVersionResolver {
   private static String cleanUrl(String url) {
     return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
   }
+
+  private record Listing(int statusCode, List<String> ids) {
+
+    boolean isLoaded() {
+      return statusCode == 200;
+    }
+  }
 }
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.Set;
 import lombok.experimental.UtilityClass;
 import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.service.resilience.CircuitBreaker;
 
 @UtilityClass
 public class HttpRequestUtils {
@@ -22,16 +23,55 @@ public class HttpRequestUtils {
 
   public static HttpResponse<InputStream> sendWithRetry(HttpClient httpClient, Log log, HttpRequest request)
       throws IOException, InterruptedException {
+    return sendWithRetry(httpClient, log, request, null);
+  }
+
+  /**
+   * Sends request with retries, reporting every attempt to the registry circuit breaker.
+   *
+   * <p>Retries stop as soon as the circuit breaker opens: the last retryable response is returned or the last
+   * network error is thrown without waiting for the remaining attempts.</p>
+   *
+   * @param httpClient - {@link HttpClient} to send request with
+   * @param log - Maven {@link Log}
+   * @param request - {@link HttpRequest} to send
+   * @param circuitBreaker - registry {@link CircuitBreaker}, may be {@code null}
+   * @return {@link HttpResponse} with input stream body
+   * @throws IOException if network error persists after all attempts
+   * @throws InterruptedException if thread is interrupted while waiting for the next attempt
+   */
+  public static HttpResponse<InputStream> sendWithRetry(HttpClient httpClient, Log log, HttpRequest request,
+    CircuitBreaker circuitBreaker) throws IOException, InterruptedException {
+    return sendWithRetry(req -> httpClient.send(req, HttpResponse.BodyHandlers.ofInputStream()), log, request,
+      circuitBreaker);
+  }
+
+  /**
+   * Sends request with retries using the given {@link RequestSender} for every attempt.
+   *
+   * @param sender - {@link RequestSender} performing a single attempt
+   * @param log - Maven {@link Log}
+   * @param request - {@link HttpRequest} to send
+   * @param circuitBreaker - registry {@link CircuitBreaker}, may be {@code null}
+   * @return {@link HttpResponse} with input stream body
+   * @throws IOException if network error persists after all attempts
+   * @throws InterruptedException if thread is interrupted while waiting for the next attempt
+   */
+  public static HttpResponse<InputStream> sendWithRetry(RequestSender sender, Log log, HttpRequest request,
+    CircuitBreaker circuitBreaker) throws IOException, InterruptedException {
     var attemptsCount = 0;
     IOException lastException = null;
+    HttpResponse<InputStream> lastResponse = null;
 
     while (attemptsCount < RETRYABLE_ATTEMPTS_NUMBER) {
       try {
-        var response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        var response = sender.send(request);
         var statusCode = response.statusCode();
         if (!RETRYABLE_STATUS_CODES.contains(statusCode)) {
+          recordSuccess(circuitBreaker);
           return response;
         }
+        lastResponse = response;
         log.debug("Retrying request due to status code " + statusCode
           + " (attempt " + (attemptsCount + 1) + ")");
       } catch (SocketException | SocketTimeoutException | HttpTimeoutException e) {
@@ -39,6 +79,11 @@ public class HttpRequestUtils {
         var errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
         log.warn("Network error, retrying (attempt " + (attemptsCount + 1) + "): " + errorMsg);
       }
+
+      if (recordFailureAndCheckOpen(circuitBreaker)) {
+        break;
+      }
+
       attemptsCount++;
       Thread.sleep(RETRY_DELAY_MS * attemptsCount);
     }
@@ -46,7 +91,27 @@ public class HttpRequestUtils {
     if (lastException != null) {
       throw lastException;
     }
-    return httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+    if (circuitBreaker != null && circuitBreaker.isOpen()) {
+      return lastResponse;
+    }
+
+    return sender.send(request);
+  }
+
+  private static void recordSuccess(CircuitBreaker circuitBreaker) {
+    if (circuitBreaker != null) {
+      circuitBreaker.recordSuccess();
+    }
+  }
+
+  private static boolean recordFailureAndCheckOpen(CircuitBreaker circuitBreaker) {
+    if (circuitBreaker == null) {
+      return false;
+    }
+
+    circuitBreaker.recordFailure();
+    return circuitBreaker.isOpen();
   }
 
   public static String cleanUrl(String url) {
@@ -66,4 +131,13 @@ public class HttpRequestUtils {
 
     headers.forEach(builder::header);
   }
+
+  /**
+   * Performs a single attempt of an HTTP request.
+   */
+  @FunctionalInterface
+  public interface RequestSender {
+
+    HttpResponse<InputStream> send(HttpRequest request) throws IOException, InterruptedException;
+  }
 }
@@ -1,32 +1,76 @@
 package org.folio.app.generator.utils;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import lombok.RequiredArgsConstructor;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import org.apache.commons.lang3.SerializationException;
+import org.folio.app.generator.model.RawModuleDescriptor;
+import org.folio.app.generator.model.types.DescriptorFormat;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class JsonConverter {
 
+  private static final TypeReference<Map<String, Object>> MODULE_DESCRIPTOR_TYPE = new TypeReference<>() {};
+
   private final ObjectMapper objectMapper;
+  private final ObjectReader moduleDescriptorReader;
+
+  /**
+   * Creates a converter for the given {@link ObjectMapper}.
+   *
+   * @param objectMapper - configured {@link ObjectMapper}
+   */
+  public JsonConverter(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.moduleDescriptorReader = objectMapper.readerFor(MODULE_DESCRIPTOR_TYPE);
+  }
 
   public <T> T parse(File file, Class<T> targetClass) {
     try {
-      return objectMapper.readValue(file, targetClass);
+      return readerFor(targetClass).readValue(file);
     } catch (IOException e) {
       throw new SerializationException("Failed to read value from file: " + file.getAbsolutePath(), e);
     }
   }
 
+  /**
+   * Reads a value from the input stream encoded in the given format.
+   *
+   * @param inputStream - input stream with the encoded value
+   * @param targetClass - target type
+   * @param format - {@link DescriptorFormat} of the input
+   * @return parsed value
+   */
+  public <T> T parse(InputStream inputStream, Class<T> targetClass, DescriptorFormat format) {
+    var reader = readerFor(targetClass);
+    try {
+      return format.isBinary()
+        ? reader.with(format.createFactory()).readValue(inputStream)
+        : reader.readValue(inputStream);
+    } catch (IOException e) {
+      throw new SerializationException("Failed to parse value from input stream", e);
+    }
+  }
+
   public <T> T parse(String json, Class<T> targetClass) {
     try {
-      return objectMapper.readValue(json, targetClass);
+      return readerFor(targetClass).readValue(json);
     } catch (IOException e) {
       throw new SerializationException("Failed to read value from string", e);
     }
@@ -34,7 +78,106 @@ public class JsonConverter {
 
   public <T> T parse(InputStream inputStream, TypeReference<T> typeReference) {
     try {
-      return objectMapper.readValue(inputStream, typeReference);
+      return readerFor(typeReference.getType()).readValue(inputStream);
+    } catch (IOException e) {
+      throw new SerializationException("Failed to parse value from input stream", e);
+    }
+  }
+
+  /**
+   * Reads a module descriptor JSON object, copying its tokens into compact UTF-8 JSON bytes.
+   *
+   * <p>The {@code id} is extracted at token level, no map is built for the fields, see {@link RawModuleDescriptor}.
+   * The input encoding is detected by the parser, so a byte order mark, the input encoding and the whitespace of the
+   * response are not copied into the output.</p>
+   *
+   * @param inputStream - input stream with a module descriptor JSON object
+   * @return module descriptor as {@link RawModuleDescriptor}
+   */
+  public Map<String, Object> readModuleDescriptor(InputStream inputStream) {
+    try (var parser = objectMapper.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new SerializationException("Expected JSON object, but found: " + parser.currentToken());
+      }
+
+      var moduleDescriptor = copyObject(parser, id -> true);
+      if (parser.nextToken() != null) {
+        throw new SerializationException("Unexpected content after JSON object: " + parser.currentToken());
+      }
+
+      return moduleDescriptor;
+    } catch (IOException e) {
+      throw new SerializationException("Failed to parse value from input stream", e);
+    }
+  }
+
+  /**
+   * Streams a JSON array of objects, keeping only objects with an {@code id} accepted by the given filter.
+   *
+   * <p>Accepted objects are copied token by token into {@link RawModuleDescriptor} values without being
+   * deserialized. If {@code id} is the first field of an object, rejected objects are skipped at token level.</p>
+   *
+   * @param inputStream - input stream with a JSON array of objects
+   * @param idFilter - predicate for the {@code id} field value
+   * @return list of accepted objects in the order of the input array
+   */
+  public List<Map<String, Object>> parseArrayFilteredById(InputStream inputStream, Predicate<String> idFilter) {
+    var result = new ArrayList<Map<String, Object>>();
+    readArrayFilteredById(inputStream, idFilter, result::add);
+    return result;
+  }
+
+  /**
+   * Streams a JSON array of objects, passing objects with an {@code id} accepted by the given filter to the consumer.
+   *
+   * <p>The filter is called exactly once for every object having a string {@code id} field, so it can also be used
+   * to collect all ids of the array. Objects without {@code id} are ignored.</p>
+   *
+   * @param inputStream - input stream with a JSON array of objects
+   * @param idFilter - predicate for the {@code id} field value
+   * @param consumer - consumer of accepted objects
+   */
+  public void readArrayFilteredById(InputStream inputStream, Predicate<String> idFilter,
+    Consumer<Map<String, Object>> consumer) {
+    try (var parser = objectMapper.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new SerializationException("Expected JSON array, but found: " + parser.currentToken());
+      }
+
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        var value = readObjectFilteredById(parser, idFilter);
+        if (value != null) {
+          consumer.accept(value);
+        }
+      }
+    } catch (IOException e) {
+      throw new SerializationException("Failed to parse value from input stream", e);
+    }
+  }
+
+  /**
+   * Streams a JSON array of objects, collecting only the string {@code id} field of every object.
+   *
+   * <p>All other fields are skipped at token level, so no intermediate maps are created for the array elements.
+   * Objects without a string {@code id} are ignored.</p>
+   *
+   * @param inputStream - input stream with a JSON array of objects
+   * @return list of ids in the order of the input array
+   */
+  public List<String> readIds(InputStream inputStream) {
+    try (var parser = objectMapper.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new SerializationException("Expected JSON array, but found: " + parser.currentToken());
+      }
+
+      var ids = new ArrayList<String>();
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        var id = readIdField(parser);
+        if (id != null) {
+          ids.add(id);
+        }
+      }
+      return ids;
     } catch (IOException e) {
       throw new SerializationException("Failed to parse value from input stream", e);
     }
@@ -55,4 +198,84 @@ public class JsonConverter {
       throw new SerializationException("Failed to convert value to json", e);
     }
   }
+
+  private Map<String, Object> readObjectFilteredById(JsonParser parser, Predicate<String> idFilter)
+    throws IOException {
+    var value = copyObject(parser, idFilter);
+    return value != null && value.getId() != null ? value : null;
+  }
+
+  /**
+   * Copies the current JSON object into compact UTF-8 JSON bytes.
+   *
+   * <p>The filter is called once if the object has a string {@code id} field. If {@code id} is the first field of the
+   * object, a rejected object is skipped at token level.</p>
+   *
+   * @return copied object, null if its {@code id} is rejected by the filter
+   */
+  private RawModuleDescriptor copyObject(JsonParser parser, Predicate<String> idFilter) throws IOException {
+    var buffer = new ByteArrayBuilder();
+    var fieldNames = new HashSet<String>();
+    String id = null;
+    var idAccepted = false;
+    try (var generator = objectMapper.getFactory().createGenerator(buffer, JsonEncoding.UTF8)) {
+      generator.writeStartObject();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var fieldName = parser.currentName();
+        var fieldToken = parser.nextToken();
+        if ("id".equals(fieldName)) {
+          id = fieldToken == JsonToken.VALUE_STRING ? parser.getText() : null;
+          if (fieldNames.isEmpty() && id != null) {
+            if (!idFilter.test(id)) {
+              skipRemainingFields(parser);
+              return null;
+            }
+            idAccepted = true;
+          }
+        }
+
+        fieldNames.add(fieldName);
+        generator.writeFieldName(fieldName);
+        generator.copyCurrentStructure(parser);
+      }
+      generator.writeEndObject();
+    }
+
+    if (idAccepted || id == null || idFilter.test(id)) {
+      return new RawModuleDescriptor(id, buffer.toByteArray(), fieldNames.size(), moduleDescriptorReader);
+    }
+
+    return null;
+  }
+
+  /**
+   * Creates {@link ObjectReader} for the target type, so module descriptors read as {@link RawModuleDescriptor}
+   * values parse their fields with the reader of {@link #readModuleDescriptor(InputStream)}.
+   */
+  private ObjectReader readerFor(Type type) {
+    return objectMapper.readerFor(objectMapper.constructType(type))
+      .withAttribute(RawModuleDescriptor.Deserializer.FIELDS_READER_ATTRIBUTE, moduleDescriptorReader);
+  }
+
+  private static String readIdField(JsonParser parser) throws IOException {
+    String id = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var fieldToken = parser.nextToken();
+      if (id == null && fieldToken == JsonToken.VALUE_STRING && "id".equals(parser.currentName())) {
+        id = parser.getText();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return id;
+  }
+
+  private static void skipRemainingFields(JsonParser parser) throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_OBJECT) {
+      if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+        parser.skipChildren();
+      }
+    }
+  }
 }
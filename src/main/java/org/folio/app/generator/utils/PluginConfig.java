@@ -1,6 +1,7 @@
 package org.folio.app.generator.utils;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import lombok.Builder;
 import lombok.Data;
@@ -31,6 +32,13 @@ public class PluginConfig {
   private final String uiCmdFallbackRegistryString;
 
   private final boolean moduleUrlsOnly;
+  private final boolean spoolModuleDescriptors;
+  private final String binaryDescriptorFormat;
+  private final boolean binaryDescriptorOnly;
+  private final boolean gzipDescriptor;
+  private final boolean skipUnchangedDescriptor;
+  private final String descriptorIncludes;
+  private final String descriptorExcludes;
   private final boolean overrideConfigRegistries;
 
   private final String registryHeaders;
@@ -41,6 +49,20 @@ public class PluginConfig {
   @Builder.Default
   private final int awsS3BatchSize = 1000;
 
+  private final boolean awsS3AsyncLoading;
+
+  @Builder.Default
+  private final int awsS3MaxConcurrency = 32;
+
+  @Builder.Default
+  private final Duration awsS3ConnectionAcquisitionTimeout = Duration.ofSeconds(10);
+
+  private final Duration awsS3ApiCallAttemptTimeout;
+  private final String awsS3RetryMode;
+
+  @Builder.Default
+  private final Duration awsS3IndexMaxAge = Duration.ZERO;
+
   private final boolean validateArtifacts;
 
   private final List<ConfigArtifactRegistry> artifactRegistries;
@@ -54,4 +76,56 @@ public class PluginConfig {
   private final String cmdUiArtifactRegistries;
   private final String cmdBePreReleaseArtifactRegistries;
   private final String cmdUiPreReleaseArtifactRegistries;
+
+  @Builder.Default
+  private final int circuitBreakerFailureThreshold = 5;
+
+  @Builder.Default
+  private final Duration circuitBreakerOpenDuration = Duration.ofSeconds(30);
+
+  private final boolean okapiBatchLoading;
+  private final boolean okapiPrefetchDescriptors;
+
+  private final boolean hedgingEnabled;
+
+  @Builder.Default
+  private final double hedgingPercentile = 95.0;
+
+  @Builder.Default
+  private final double hedgingMaxRate = 0.1;
+
+  @Builder.Default
+  private final Duration hedgingMinDelay = Duration.ofMillis(50);
+
+  private final boolean adaptiveTimeoutEnabled;
+
+  @Builder.Default
+  private final double adaptiveTimeoutPercentile = 99.0;
+
+  @Builder.Default
+  private final double adaptiveTimeoutFactor = 3.0;
+
+  @Builder.Default
+  private final Duration adaptiveTimeoutFloor = Duration.ofSeconds(10);
+
+  @Builder.Default
+  private final Duration adaptiveTimeoutCeiling = Duration.ofMinutes(5);
+
+  @Builder.Default
+  private final String httpExecutor = "default";
+
+  private final int httpExecutorThreads;
+
+  @Builder.Default
+  private final Duration httpConnectTimeout = Duration.ofSeconds(30);
+
+  private final int httpMaxRequestsPerHost;
+
+  private final double artifactRateLimit;
+
+  @Builder.Default
+  private final int artifactRateLimitBurst = 5;
+
+  @Builder.Default
+  private final Duration artifactRateLimitMaxPause = Duration.ofMinutes(5);
 }
@@ -21,6 +21,7 @@ import org.folio.app.generator.model.ApplicationDescriptorTemplate;
 import org.folio.app.generator.model.Dependency;
 import org.folio.app.generator.model.ErrorDetail;
 import org.folio.app.generator.model.ExecutionResult;
+import org.folio.app.generator.model.GenerationResult;
 import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.service.ApplicationDescriptorGenerator;
 import org.folio.app.generator.service.JsonProvider;
@@ -65,7 +66,8 @@ class ConfigurationGeneratorTest {
 
     setupContextMocks();
     var application = new ApplicationDescriptor().version("1.0.0");
-    when(mockAppDescriptorGenerator.generate(any(ApplicationDescriptorTemplate.class))).thenReturn(application);
+    when(mockAppDescriptorGenerator.generate(any(ApplicationDescriptorTemplate.class)))
+      .thenReturn(new GenerationResult(application, true));
 
     assertDoesNotThrow(() -> mojo.execute());
 
@@ -85,7 +87,8 @@ class ConfigurationGeneratorTest {
 
     setupContextMocks();
     var application = new ApplicationDescriptor().version("1.0.0");
-    when(mockAppDescriptorGenerator.generate(any(ApplicationDescriptorTemplate.class))).thenReturn(application);
+    when(mockAppDescriptorGenerator.generate(any(ApplicationDescriptorTemplate.class)))
+      .thenReturn(new GenerationResult(application, true));
 
     assertDoesNotThrow(() -> mojo.execute());
 
@@ -1,5 +1,6 @@
 package org.folio.app.generator;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
@@ -19,6 +20,7 @@ import org.folio.app.generator.model.ApplicationDescriptor;
 import org.folio.app.generator.model.ApplicationDescriptorTemplate;
 import org.folio.app.generator.model.ErrorDetail;
 import org.folio.app.generator.model.ExecutionResult;
+import org.folio.app.generator.model.GenerationResult;
 import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.service.ApplicationDescriptorGenerator;
 import org.folio.app.generator.service.JsonProvider;
@@ -28,6 +30,7 @@ import org.folio.app.generator.support.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -60,12 +63,33 @@ class JsonGeneratorTest {
     when(mockJsonProvider.readJsonFromFile("/path/to/template.json", ApplicationDescriptorTemplate.class, true))
       .thenReturn(new ApplicationDescriptorTemplate());
     var application = new ApplicationDescriptor().version("1.0.0");
-    when(mockAppDescriptorGenerator.generate(any(ApplicationDescriptorTemplate.class))).thenReturn(application);
+    when(mockAppDescriptorGenerator.generate(any(ApplicationDescriptorTemplate.class)))
+      .thenReturn(new GenerationResult(application, true));
 
     assertDoesNotThrow(() -> mojo.execute());
 
     verify(mockAppDescriptorGenerator).generate(any(ApplicationDescriptorTemplate.class));
     verify(mockJsonProvider, times(2)).writeExecutionResult(any(ExecutionResult.class), eq("/target"));
+    verify(mockGenericApplicationContext).close();
+  }
+
+  @Test
+  @SneakyThrows
+  void execute_positive_unchangedDescriptor() {
+    mojo.templatePath = "/path/to/template.json";
+
+    setupContextMocks();
+    when(mockJsonProvider.readJsonFromFile("/path/to/template.json", ApplicationDescriptorTemplate.class, true))
+      .thenReturn(new ApplicationDescriptorTemplate());
+    var application = new ApplicationDescriptor().version("1.0.0");
+    when(mockAppDescriptorGenerator.generate(any(ApplicationDescriptorTemplate.class)))
+      .thenReturn(new GenerationResult(application, false));
+
+    assertDoesNotThrow(() -> mojo.execute());
+
+    var resultCaptor = ArgumentCaptor.forClass(ExecutionResult.class);
+    verify(mockJsonProvider, times(2)).writeExecutionResult(resultCaptor.capture(), eq("/target"));
+    assertThat(resultCaptor.getValue().changesDetected()).isFalse();
   }
 
   @Test
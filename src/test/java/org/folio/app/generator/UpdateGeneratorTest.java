@@ -191,6 +191,7 @@ class UpdateGeneratorTest {
       .hasCause(exception);
 
     verify(mockJsonProvider, times(2)).writeExecutionResult(any(ExecutionResult.class), eq("/target"));
+    verify(mockGenericApplicationContext).close();
   }
 
   @Test
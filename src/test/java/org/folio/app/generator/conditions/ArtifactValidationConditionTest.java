@@ -2,6 +2,7 @@ package org.folio.app.generator.conditions;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.app.generator.model.types.ArtifactRegistryType.DOCKER_HUB;
+import static org.folio.app.generator.model.types.ArtifactRegistryType.DOCKER_REGISTRY;
 import static org.folio.app.generator.model.types.ArtifactRegistryType.FOLIO_NPM;
 import static org.folio.app.generator.model.types.RegistryType.AWS_S3;
 import static org.folio.app.generator.model.types.RegistryType.OKAPI;
@@ -26,6 +27,7 @@ class ArtifactValidationConditionTest {
     // Clear any lingering properties from previous tests
     var properties = context.getEnvironment().getSystemProperties();
     properties.remove(DOCKER_HUB.getPropertyName());
+    properties.remove(DOCKER_REGISTRY.getPropertyName());
     properties.remove(FOLIO_NPM.getPropertyName());
     properties.remove(AWS_S3.getPropertyName());
     properties.remove(OKAPI.getPropertyName());
@@ -35,6 +37,7 @@ class ArtifactValidationConditionTest {
   void tearDown() {
     var properties = context.getEnvironment().getSystemProperties();
     properties.remove(DOCKER_HUB.getPropertyName());
+    properties.remove(DOCKER_REGISTRY.getPropertyName());
     properties.remove(FOLIO_NPM.getPropertyName());
     properties.remove(AWS_S3.getPropertyName());
     properties.remove(OKAPI.getPropertyName());
@@ -50,6 +53,15 @@ class ArtifactValidationConditionTest {
     assertThat(context.containsBean("testBean")).isTrue();
   }
 
+  @Test
+  void matches_positive_whenDockerRegistryEnabled() {
+    context.getEnvironment().getSystemProperties().put(DOCKER_REGISTRY.getPropertyName(), true);
+    context.register(TestConfiguration.class);
+    context.refresh();
+
+    assertThat(context.containsBean("testBean")).isTrue();
+  }
+
   @Test
   void matches_positive_whenFolioNpmEnabled() {
     context.getEnvironment().getSystemProperties().put(FOLIO_NPM.getPropertyName(), true);
@@ -100,6 +112,7 @@ class ArtifactValidationConditionTest {
   @Test
   void nestedClasses_positive_notNull() {
     assertThat(new ArtifactValidationCondition.DockerHub()).isNotNull();
+    assertThat(new ArtifactValidationCondition.DockerRegistry()).isNotNull();
     assertThat(new ArtifactValidationCondition.FolioNpm()).isNotNull();
   }
 
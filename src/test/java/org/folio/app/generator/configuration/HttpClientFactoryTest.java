@@ -0,0 +1,92 @@
+package org.folio.app.generator.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class HttpClientFactoryTest {
+
+  @Mock private Log log;
+
+  @Test
+  void create_positive_defaultConfiguration() {
+    var httpClient = new HttpClientFactory(log, PluginConfig.builder().build()).create();
+
+    assertThat(httpClient).isNotInstanceOf(PerHostLimitingHttpClient.class);
+    assertThat(httpClient.connectTimeout()).contains(Duration.ofSeconds(30));
+    assertThat(httpClient.executor()).isEmpty();
+  }
+
+  @Test
+  void create_positive_fixedExecutorAndConnectTimeout() {
+    var config = PluginConfig.builder()
+      .httpExecutor("fixed")
+      .httpExecutorThreads(2)
+      .httpConnectTimeout(Duration.ofSeconds(5))
+      .build();
+
+    var httpClientFactory = new HttpClientFactory(log, config);
+    var httpClient = httpClientFactory.create();
+
+    assertThat(httpClient.connectTimeout()).contains(Duration.ofSeconds(5));
+    assertThat(httpClient.executor()).get().isInstanceOf(ExecutorService.class);
+
+    httpClientFactory.close();
+
+    assertThat(((ExecutorService) httpClient.executor().orElseThrow()).isShutdown()).isTrue();
+  }
+
+  @Test
+  void create_positive_maxRequestsPerHost() {
+    var config = PluginConfig.builder().httpMaxRequestsPerHost(4).build();
+
+    var httpClient = new HttpClientFactory(log, config).create();
+
+    assertThat(httpClient).isInstanceOf(PerHostLimitingHttpClient.class);
+    assertThat(httpClient.connectTimeout()).contains(Duration.ofSeconds(30));
+  }
+
+  @Test
+  void createExecutor_positive_virtualThreadsOnJava21() {
+    assumeTrue(Runtime.version().feature() >= 21);
+    var config = PluginConfig.builder().httpExecutor("virtual").build();
+
+    var executor = new HttpClientFactory(log, config).createExecutor();
+
+    assertThat(executor).isPresent();
+  }
+
+  @Test
+  void createExecutor_positive_virtualThreadsFallbackBeforeJava21() {
+    assumeTrue(Runtime.version().feature() < 21);
+    var config = PluginConfig.builder().httpExecutor("virtual").build();
+
+    var executor = new HttpClientFactory(log, config).createExecutor();
+
+    assertThat(executor).isEmpty();
+    verify(log).warn(anyString());
+  }
+
+  @Test
+  void createExecutor_negative_unknownExecutor() {
+    var config = PluginConfig.builder().httpExecutor("unknown").build();
+
+    var executor = new HttpClientFactory(log, config).createExecutor();
+
+    assertThat(executor).isEmpty();
+    verify(log).warn("Unknown HTTP executor 'unknown', default executor is used");
+  }
+}
@@ -0,0 +1,95 @@
+package org.folio.app.generator.configuration;
+
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.concurrent.CompletableFuture;
+import org.folio.app.generator.configuration.PerHostLimitingHttpClient.HostPermits;
+import org.folio.app.generator.support.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class PerHostLimitingHttpClientTest {
+
+  private static final HttpRequest REQUEST = HttpRequest.newBuilder(URI.create("http://localhost:8080/test")).build();
+
+  @Mock private HttpClient delegate;
+  @Mock private HttpResponse<InputStream> response;
+
+  @Test
+  void send_positive_permitReleasedAfterFailure() throws Exception {
+    when(delegate.send(eq(REQUEST), anyBodyHandler()))
+      .thenThrow(new IOException("Connection refused"))
+      .thenReturn(response);
+    var httpClient = new PerHostLimitingHttpClient(delegate, 1);
+
+    assertThatThrownBy(() -> httpClient.send(REQUEST, BodyHandlers.ofInputStream()))
+      .isInstanceOf(IOException.class);
+    var result = assertTimeoutPreemptively(ofSeconds(5), () -> httpClient.send(REQUEST, BodyHandlers.ofInputStream()));
+
+    assertThat(result).isSameAs(response);
+    verify(delegate, times(2)).send(eq(REQUEST), any());
+  }
+
+  @Test
+  void sendAsync_positive_waitsForPermit() {
+    var firstResponse = new CompletableFuture<HttpResponse<InputStream>>();
+    when(delegate.sendAsync(eq(REQUEST), anyBodyHandler(), any()))
+      .thenReturn(firstResponse)
+      .thenReturn(CompletableFuture.completedFuture(response));
+    var httpClient = new PerHostLimitingHttpClient(delegate, 1);
+
+    var first = httpClient.sendAsync(REQUEST, BodyHandlers.ofInputStream());
+    var second = httpClient.sendAsync(REQUEST, BodyHandlers.ofInputStream());
+
+    assertThat(second).isNotDone();
+    verify(delegate).sendAsync(eq(REQUEST), any(), any());
+
+    firstResponse.complete(response);
+
+    assertThat(first).isCompletedWithValue(response);
+    assertThat(second).isCompletedWithValue(response);
+    verify(delegate, times(2)).sendAsync(eq(REQUEST), any(), any());
+  }
+
+  private static BodyHandler<InputStream> anyBodyHandler() {
+    return any();
+  }
+
+  @Test
+  void hostPermits_positive_cancelledWaiterIsSkipped() {
+    var permits = new HostPermits(1);
+
+    var first = permits.acquire();
+    var cancelled = permits.acquire();
+    var waiting = permits.acquire();
+    cancelled.cancel(false);
+    permits.release();
+
+    assertThat(first).isDone();
+    assertThat(waiting).isDone();
+    assertThat(permits.available()).isZero();
+
+    permits.release();
+    assertThat(permits.available()).isOne();
+  }
+}
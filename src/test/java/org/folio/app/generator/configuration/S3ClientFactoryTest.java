@@ -0,0 +1,81 @@
+package org.folio.app.generator.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.regions.Region;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class S3ClientFactoryTest {
+
+  @Mock private Log log;
+
+  @Test
+  void createOverrideConfiguration_positive_defaultConfiguration() {
+    var factory = new S3ClientFactory(log, PluginConfig.builder().build());
+
+    var overrideConfiguration = factory.createOverrideConfiguration();
+
+    assertThat(overrideConfiguration.apiCallAttemptTimeout()).isEmpty();
+    assertThat(overrideConfiguration.retryStrategy()).isEmpty();
+  }
+
+  @Test
+  void createOverrideConfiguration_positive_attemptTimeoutAndAdaptiveRetryMode() {
+    var config = PluginConfig.builder()
+      .awsS3ApiCallAttemptTimeout(Duration.ofSeconds(5))
+      .awsS3RetryMode("adaptive_v2")
+      .build();
+
+    var overrideConfiguration = new S3ClientFactory(log, config).createOverrideConfiguration();
+
+    assertThat(overrideConfiguration.apiCallAttemptTimeout()).contains(Duration.ofSeconds(5));
+    assertThat(overrideConfiguration.retryMode()).contains(RetryMode.ADAPTIVE_V2);
+  }
+
+  @Test
+  void createOverrideConfiguration_positive_zeroAttemptTimeoutIgnored() {
+    var config = PluginConfig.builder().awsS3ApiCallAttemptTimeout(Duration.ZERO).build();
+
+    var overrideConfiguration = new S3ClientFactory(log, config).createOverrideConfiguration();
+
+    assertThat(overrideConfiguration.apiCallAttemptTimeout()).isEmpty();
+  }
+
+  @Test
+  void resolveRetryMode_negative_unknownRetryMode() {
+    var config = PluginConfig.builder().awsS3RetryMode("aggressive").build();
+
+    var retryMode = new S3ClientFactory(log, config).resolveRetryMode();
+
+    assertThat(retryMode).isEmpty();
+    verify(log).warn("Unknown S3 retry mode 'aggressive', default retry mode is used");
+  }
+
+  @Test
+  void create_positive_syncAndAsyncClients() {
+    var config = PluginConfig.builder()
+      .awsRegion(Region.US_EAST_1)
+      .awsS3MaxConcurrency(8)
+      .awsS3ConnectionAcquisitionTimeout(Duration.ofSeconds(2))
+      .awsS3RetryMode("standard")
+      .build();
+    var factory = new S3ClientFactory(log, config);
+
+    try (var client = factory.createClient(); var asyncClient = factory.createAsyncClient()) {
+      assertThat(client.serviceClientConfiguration().region()).isEqualTo(Region.US_EAST_1);
+      assertThat(client.serviceClientConfiguration().overrideConfiguration().retryStrategy()).isPresent();
+      assertThat(asyncClient.serviceClientConfiguration().region()).isEqualTo(Region.US_EAST_1);
+    }
+  }
+}
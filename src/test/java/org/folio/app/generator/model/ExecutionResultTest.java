@@ -3,6 +3,7 @@ package org.folio.app.generator.model;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.Map;
 import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.support.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -109,4 +110,17 @@ class ExecutionResultTest {
     assertThat(result3.goal()).isEqualTo("validateIntegrity");
     assertThat(result3.errorCategory()).isEqualTo("VALIDATION_FAILED");
   }
+
+  @Test
+  void withMetrics_attachesMetricsToCopy() {
+    var result = ExecutionResult.success("generateFromJson", "app-platform", "1.0.0", true);
+    var metrics = new ExecutionMetrics(Map.of("circuitBreaker.opened", 1L), List.of("event"));
+
+    var withMetrics = result.withMetrics(metrics);
+
+    assertThat(withMetrics.metrics()).isSameAs(metrics);
+    assertThat(withMetrics.appVersion()).isEqualTo("1.0.0");
+    assertThat(withMetrics.changesDetected()).isTrue();
+    assertThat(result.metrics()).isNull();
+  }
 }
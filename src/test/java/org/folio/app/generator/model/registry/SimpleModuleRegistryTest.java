@@ -45,6 +45,12 @@ public class SimpleModuleRegistryTest {
     assertTrue(simpleModuleRegistry.isValid());
   }
 
+  @Test
+  void getRegistryKey_positive() {
+    simpleModuleRegistry.url(MOCK_URL);
+    assertThat(simpleModuleRegistry.getRegistryKey()).isEqualTo("simple::" + MOCK_URL);
+  }
+
   @DisplayName("isValid_positive_returnsFalse")
   @ParameterizedTest(name = "[{index}] url = {0}")
   @ValueSource(strings = { "", "Malformed URL" })
@@ -0,0 +1,39 @@
+package org.folio.app.generator.model.registry.artifact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.folio.app.generator.model.types.ArtifactRegistryType;
+import org.folio.app.generator.support.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class DockerRegistryArtifactRegistryTest {
+
+  @Test
+  void isValid_positive() {
+    var registry = new DockerRegistryArtifactRegistry().namespace("folioorg").baseUrl("http://localhost:5000");
+
+    assertThat(registry.isValid()).isTrue();
+  }
+
+  @Test
+  void isValid_negative_nullNamespace() {
+    var registry = new DockerRegistryArtifactRegistry();
+
+    assertThat(registry.isValid()).isFalse();
+  }
+
+  @Test
+  void getType_positive() {
+    var registry = new DockerRegistryArtifactRegistry();
+
+    assertThat(registry.getType()).isEqualTo(ArtifactRegistryType.DOCKER_REGISTRY);
+  }
+
+  @Test
+  void getBaseUrl_positive_defaultValue() {
+    var registry = new DockerRegistryArtifactRegistry();
+
+    assertThat(registry.getBaseUrl()).isEqualTo(DockerRegistryArtifactRegistry.DEFAULT_BASE_URL);
+  }
+}
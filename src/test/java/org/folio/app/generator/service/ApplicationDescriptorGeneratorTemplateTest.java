@@ -71,7 +71,8 @@ class ApplicationDescriptorGeneratorTemplateTest {
     lenient().when(mavenProject.getBuild()).thenReturn(build);
     lenient().when(build.getDirectory()).thenReturn(tempDir.toString());
 
-    jsonProvider = new JsonProvider(log, jsonConverter, mavenProject);
+    jsonProvider = new JsonProvider(log, jsonConverter, new ApplicationDescriptorWriter(objectMapper), mavenProject,
+      pluginConfig);
 
     applicationDescriptorService = new ApplicationDescriptorService(
       mavenProject, pluginConfig, moduleDescriptorService, moduleVersionService);
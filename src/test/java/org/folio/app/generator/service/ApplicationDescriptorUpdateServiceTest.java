@@ -7,7 +7,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -55,6 +54,7 @@ class ApplicationDescriptorUpdateServiceTest {
       .thenAnswer(invocation -> invocation.getArgument(0));
     lenient().when(moduleVersionService.resolveModulesConstraints(anyList(), eq(UI)))
       .thenAnswer(invocation -> invocation.getArgument(0));
+    lenient().when(moduleDescriptorService.project(any())).thenAnswer(invocation -> invocation.getArgument(0));
   }
 
   @Test
@@ -131,7 +131,7 @@ class ApplicationDescriptorUpdateServiceTest {
             Map.of("id", "uiModule2-1.0.10010000000200"))));
 
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application,
       "module1-1.1.0,module2:latest",
@@ -215,7 +215,7 @@ class ApplicationDescriptorUpdateServiceTest {
           List.of(new ModuleDefinition().id("uiModule1-1.1.0").name("uiModule1").version("1.1.0")),
           List.of(Map.of("id", "uiModule1-1.1.0"))));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "", "uiModule1-1.1.0", UpdateConfig.defaults());
 
@@ -244,7 +244,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var result = updateService.update(application, "module1-1.1.0", "", UpdateConfig.defaults());
 
@@ -273,7 +273,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "module1-1.1.0", "", UpdateConfig.defaults());
 
@@ -300,7 +300,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "module1-1.1.0", "", UpdateConfig.defaults());
 
@@ -329,7 +329,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "module1-1.1.0", "", UpdateConfig.defaults());
 
@@ -357,7 +357,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var config = UpdateConfig.builder().allowDowngrade(true).build();
     updateService.update(application, "module1-1.0.0", "", config);
@@ -386,7 +386,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var config = UpdateConfig.builder().allowAddModules(true).build();
     updateService.update(application, "module1-1.0.0,module2-1.0.0", "", config);
@@ -416,7 +416,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var config = UpdateConfig.builder().removeUnlistedModules(true).build();
     updateService.update(application, "module1-1.0.0", "", config);
@@ -448,7 +448,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "module1-1.1.0", "", UpdateConfig.defaults());
 
@@ -479,7 +479,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "module1-1.1.0", "", UpdateConfig.defaults());
 
@@ -524,7 +524,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "module1-1x,module2-1.1.0", "", UpdateConfig.defaults());
 
@@ -557,7 +557,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "module1-1.1.0", "", UpdateConfig.defaults());
 
@@ -590,7 +590,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var config = UpdateConfig.builder().removeUnlistedModules(false).build();
     updateService.update(application, "module1-1.1.0", "", config);
@@ -600,6 +600,42 @@ class ApplicationDescriptorUpdateServiceTest {
     assertThat(applicationCaptor.getValue().getModuleDescriptors().get(1)).containsEntry("id", "module2-1.0.0");
   }
 
+  @Test
+  @SneakyThrows
+  void update_positive_unchangedDescriptorProjected() {
+    var build = new Build();
+    build.setDirectory("dir");
+
+    final var application = new ApplicationDescriptor()
+      .id("name-1.0.0-SNAPSHOT")
+      .name("name")
+      .version("1.0.0-SNAPSHOT")
+      .modules(List.of(
+        new ModuleDefinition().id("module1-1.0.0").name("module1").version("1.0.0"),
+        new ModuleDefinition().id("module2-1.0.0").name("module2").version("1.0.0")))
+      .uiModules(List.of())
+      .moduleDescriptors(List.of(
+        Map.of("id", "module1-1.0.0"),
+        Map.of("id", "module2-1.0.0", "metadata", Map.of("containsModuleDescriptor", true))));
+
+    when(moduleDescriptorService.loadModules(eq(BE), anyList()))
+      .thenReturn(new ModulesLoadResult(
+        List.of(new ModuleDefinition().id("module1-1.1.0").name("module1").version("1.1.0")),
+        List.of(Map.of("id", "module1-1.1.0"))));
+    when(moduleDescriptorService.loadModules(eq(UI), anyList()))
+      .thenReturn(new ModulesLoadResult(List.of(), List.of()));
+    when(moduleDescriptorService.project(Map.of("id", "module2-1.0.0",
+      "metadata", Map.of("containsModuleDescriptor", true)))).thenReturn(Map.of("id", "module2-1.0.0"));
+    when(mavenProject.getBuild()).thenReturn(build);
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
+
+    var config = UpdateConfig.builder().removeUnlistedModules(false).build();
+    updateService.update(application, "module1-1.1.0", "", config);
+
+    assertThat(applicationCaptor.getValue().getModuleDescriptors()).containsExactly(
+      Map.of("id", "module1-1.1.0"), Map.of("id", "module2-1.0.0"));
+  }
+
   @Test
   @SneakyThrows
   void update_positive_moduleUrlsOnlyMode_invalidDescriptorIdFiltered() {
@@ -628,7 +664,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "module1-1.1.0,module2-1.0.0", "", UpdateConfig.defaults());
 
@@ -664,7 +700,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "module1-1.1.0,module2-1.0.0", "", UpdateConfig.defaults());
 
@@ -700,7 +736,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     updateService.update(application, "module1-1.1.0,module2-1.0.0", "", UpdateConfig.defaults());
 
@@ -729,7 +765,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var config = UpdateConfig.builder().useProjectVersion(true).build();
     updateService.update(application, "module1-1.1.0", "", config);
@@ -760,7 +796,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var config = UpdateConfig.builder().useProjectVersion(true).build();
     updateService.update(application, "module1-1.1.0", "", config);
@@ -789,7 +825,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var config = UpdateConfig.builder().useProjectVersion(false).build();
     updateService.update(application, "module1-1.1.0", "", config);
@@ -818,7 +854,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var config = UpdateConfig.builder().noVersionBump(true).build();
     updateService.update(application, "module1-1.1.0", "", config);
@@ -848,7 +884,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var config = UpdateConfig.builder().useProjectVersion(true).noVersionBump(true).build();
     updateService.update(application, "module1-1.1.0", "", config);
@@ -878,7 +914,7 @@ class ApplicationDescriptorUpdateServiceTest {
     when(moduleDescriptorService.loadModules(eq(UI), anyList()))
       .thenReturn(new ModulesLoadResult(List.of(), List.of()));
     when(mavenProject.getBuild()).thenReturn(build);
-    doNothing().when(jsonProvider).writeApplication(applicationCaptor.capture(), any());
+    when(jsonProvider.writeApplication(applicationCaptor.capture(), any())).thenReturn(true);
 
     var config = UpdateConfig.builder().noVersionBump(true).build();
     updateService.update(application, "module1-1.1.0", "", config);
@@ -0,0 +1,208 @@
+package org.folio.app.generator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import lombok.SneakyThrows;
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.folio.app.generator.configuration.SpringConfiguration;
+import org.folio.app.generator.model.ApplicationDescriptor;
+import org.folio.app.generator.model.Dependency;
+import org.folio.app.generator.model.ModuleDefinition;
+import org.folio.app.generator.model.types.DescriptorFormat;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@UnitTest
+class ApplicationDescriptorWriterTest {
+
+  private final SpringConfiguration springConfiguration = new SpringConfiguration();
+  private final ApplicationDescriptorWriter writer =
+    new ApplicationDescriptorWriter(springConfiguration.objectMapper());
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  @SneakyThrows
+  void write_positive_sameOutputAsObjectMapper() {
+    var jsonConverter = new JsonConverter(springConfiguration.objectMapper());
+    var rawDescriptor = jsonConverter.readModuleDescriptor(new ByteArrayInputStream(
+      "{\"id\":\"mod-bar-2.0.0\",\"provides\":[]}".getBytes(StandardCharsets.UTF_8)));
+    var application = new ApplicationDescriptor()
+      .id("app-test-1.0.0").name("app-test").version("1.0.0").description("Test application")
+      .modules(List.of(new ModuleDefinition().id("mod-foo-1.0.0").name("mod-foo").version("1.0.0")))
+      .uiModules(List.of())
+      .dependencies(List.of(new Dependency("app-platform", "^1.0.0", null)))
+      .moduleDescriptors(List.of(Map.of("id", "mod-foo-1.0.0"), rawDescriptor))
+      .uiModuleDescriptors(List.of());
+    var file = tempDir.resolve("app-test-1.0.0.json").toFile();
+
+    writer.write(application, file);
+
+    var expected = springConfiguration.objectMapper().writeValueAsString(application);
+    assertThat(Files.readString(file.toPath())).isEqualTo(expected);
+  }
+
+  @Test
+  @SneakyThrows
+  void write_positive_spooledDescriptorsTransferred() {
+    var build = new Build();
+    build.setDirectory(tempDir.resolve("spool").toString());
+    var mavenProject = new MavenProject();
+    mavenProject.setBuild(build);
+    var config = PluginConfig.builder().spoolModuleDescriptors(true).build();
+    var application = new ApplicationDescriptor().id("app-test-1.0.0")
+      .moduleDescriptors(List.of(Map.of("id", "mod-foo-1.0.0"), Map.of("id", "mod-bar-1.0.0", "name", "mod-bar")))
+      .uiModuleDescriptors(List.of(Map.of("id", "folio_foo-1.0.0")));
+    var expected = springConfiguration.objectMapper().writeValueAsString(application);
+    var file = tempDir.resolve("app-test-1.0.0.json").toFile();
+
+    try (var spool = new ModuleDescriptorSpool(mock(Log.class), config, mavenProject,
+      springConfiguration.objectMapper())) {
+      var descriptors = new ArrayList<Map<String, Object>>();
+      for (var moduleDescriptor : application.getModuleDescriptors()) {
+        descriptors.add(spool.spool(moduleDescriptor));
+      }
+      application.moduleDescriptors(descriptors)
+        .uiModuleDescriptors(List.of(spool.spool(application.getUiModuleDescriptors().get(0))));
+
+      writer.write(application, file);
+    }
+
+    assertThat(Files.readString(file.toPath())).isEqualTo(expected);
+  }
+
+  @Test
+  @SneakyThrows
+  void write_positive_gzipCompressed() {
+    var build = new Build();
+    build.setDirectory(tempDir.resolve("spool").toString());
+    var mavenProject = new MavenProject();
+    mavenProject.setBuild(build);
+    var config = PluginConfig.builder().spoolModuleDescriptors(true).build();
+    var application = new ApplicationDescriptor().id("app-test-1.0.0")
+      .moduleDescriptors(List.of(Map.of("id", "mod-foo-1.0.0"), Map.of("id", "mod-bar-1.0.0", "name", "mod-bar")));
+    var expected = springConfiguration.objectMapper().writeValueAsString(application);
+    var file = tempDir.resolve("app-test-1.0.0.json.gz").toFile();
+
+    try (var spool = new ModuleDescriptorSpool(mock(Log.class), config, mavenProject,
+      springConfiguration.objectMapper())) {
+      application.moduleDescriptors(List.of(spool.spool(application.getModuleDescriptors().get(0)),
+        application.getModuleDescriptors().get(1)));
+
+      writer.write(application, file);
+    }
+
+    try (var inputStream = new GZIPInputStream(Files.newInputStream(file.toPath()))) {
+      assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+  }
+
+  @SneakyThrows
+  @ParameterizedTest
+  @EnumSource(value = DescriptorFormat.class, names = {"SMILE", "CBOR"})
+  void write_positive_binaryFormat(DescriptorFormat format) {
+    var jsonConverter = new JsonConverter(springConfiguration.objectMapper());
+    var rawDescriptor = jsonConverter.readModuleDescriptor(new ByteArrayInputStream(
+      "{\"id\":\"mod-bar-2.0.0\",\"provides\":[{\"id\":\"bar\",\"version\":\"2.0\"}]}"
+        .getBytes(StandardCharsets.UTF_8)));
+    var application = new ApplicationDescriptor()
+      .id("app-test-1.0.0").name("app-test").version("1.0.0")
+      .modules(List.of(new ModuleDefinition().id("mod-bar-2.0.0").name("mod-bar").version("2.0.0")))
+      .moduleDescriptors(List.of(rawDescriptor))
+      .uiModuleDescriptors(List.of(Map.of("id", "folio_foo-1.0.0")));
+    var file = tempDir.resolve("app-test-1.0.0." + format.getValue()).toFile();
+
+    writer.write(application, file, format);
+
+    var result = jsonConverter.parse(Files.newInputStream(file.toPath()), ApplicationDescriptor.class, format);
+    assertThat(Files.readAllBytes(file.toPath())).isNotEqualTo(jsonConverter.toJsonString(application).getBytes());
+    assertThat(jsonConverter.toJsonString(result)).isEqualTo(jsonConverter.toJsonString(application));
+  }
+
+  @Test
+  @SneakyThrows
+  void writeIfChanged_positive_unchangedContentNotRewritten() {
+    var application = new ApplicationDescriptor().id("app-test-1.0.0")
+      .moduleDescriptors(List.of(Map.of("id", "mod-foo-1.0.0")));
+    var file = tempDir.resolve("app-test-1.0.0.json.gz").toFile();
+    var hashFile = tempDir.resolve("app-test-1.0.0.json.gz.sha256");
+
+    assertThat(writer.writeIfChanged(application, file, DescriptorFormat.JSON)).isTrue();
+    var hash = Files.readString(hashFile);
+    var lastModified = FileTime.fromMillis(1_000_000L);
+    Files.setLastModifiedTime(file.toPath(), lastModified);
+
+    assertThat(writer.writeIfChanged(application, file, DescriptorFormat.JSON)).isFalse();
+    assertThat(Files.getLastModifiedTime(file.toPath())).isEqualTo(lastModified);
+
+    application.moduleDescriptors(List.of(Map.of("id", "mod-foo-1.0.1")));
+    assertThat(writer.writeIfChanged(application, file, DescriptorFormat.JSON)).isTrue();
+    assertThat(Files.readString(hashFile)).isNotEqualTo(hash);
+    try (var inputStream = new GZIPInputStream(Files.newInputStream(file.toPath()))) {
+      assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8))
+        .isEqualTo(springConfiguration.objectMapper().writeValueAsString(application));
+    }
+    assertThat(Files.list(tempDir)).hasSize(2);
+  }
+
+  @Test
+  @SneakyThrows
+  void writeIfChanged_positive_targetChangedAfterHashRecorded() {
+    var application = new ApplicationDescriptor().id("app-test-1.0.0")
+      .moduleDescriptors(List.of(Map.of("id", "mod-foo-1.0.0")));
+    var file = tempDir.resolve("app-test-1.0.0.json").toFile();
+
+    assertThat(writer.writeIfChanged(application, file, DescriptorFormat.JSON)).isTrue();
+    Files.writeString(file.toPath(), "{}");
+
+    assertThat(writer.writeIfChanged(application, file, DescriptorFormat.JSON)).isTrue();
+    assertThat(Files.readString(file.toPath()))
+      .isEqualTo(springConfiguration.objectMapper().writeValueAsString(application));
+  }
+
+  @Test
+  @SneakyThrows
+  void writeIfChanged_positive_hashRecordedWithoutFileAttributes() {
+    var application = new ApplicationDescriptor().id("app-test-1.0.0");
+    var file = tempDir.resolve("app-test-1.0.0.json").toFile();
+    var hashFile = tempDir.resolve("app-test-1.0.0.json.sha256");
+
+    assertThat(writer.writeIfChanged(application, file, DescriptorFormat.JSON)).isTrue();
+    var record = Files.readString(hashFile);
+    var hash = record.substring(0, record.indexOf(' '));
+    Files.writeString(hashFile, hash + "\n");
+
+    assertThat(writer.writeIfChanged(application, file, DescriptorFormat.JSON)).isFalse();
+    assertThat(Files.readString(hashFile)).isEqualTo(record);
+  }
+
+  @Test
+  @SneakyThrows
+  void write_positive_nullFields() {
+    var application = new ApplicationDescriptor().id("app-test-1.0.0");
+    var file = tempDir.resolve("app-test-1.0.0.json").toFile();
+
+    writer.write(application, file);
+
+    var expected = springConfiguration.objectMapper().writeValueAsString(application);
+    assertThat(Files.readString(file.toPath())).isEqualTo(expected);
+  }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import org.folio.app.generator.model.registry.artifact.ConfigArtifactRegistry;
+import org.folio.app.generator.model.types.ArtifactRegistryType;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.service.parsers.StringArtifactRegistryParser;
 import org.folio.app.generator.support.UnitTest;
@@ -176,6 +177,24 @@ class ArtifactRegistryProviderTest {
     assertThat(result.beRegistries().get(0).getNamespace()).isEqualTo("custom-ns");
   }
 
+  @Test
+  void getArtifactRegistries_positive_dockerRegistryFromConfig() {
+    var beRegistry = new ConfigArtifactRegistry();
+    beRegistry.setType("docker-registry");
+    beRegistry.setNamespace("folioorg");
+    beRegistry.setBaseUrl("https://mirror.example.org");
+    var config = PluginConfig.builder()
+      .beArtifactRegistries(List.of(beRegistry))
+      .build();
+
+    var result = artifactRegistryProvider.getArtifactRegistries(config);
+
+    assertThat(result.beRegistries()).hasSize(1);
+    assertThat(result.beRegistries().get(0).getType()).isEqualTo(ArtifactRegistryType.DOCKER_REGISTRY);
+    assertThat(result.beRegistries().get(0).getBaseUrl()).isEqualTo("https://mirror.example.org");
+    assertThat(result.beRegistries().get(0).getNamespace()).isEqualTo("folioorg");
+  }
+
   @Test
   void getArtifactRegistries_positive_getRegistriesByModuleTypeAndReleaseVersion() {
     var config = PluginConfig.builder().build();
@@ -7,10 +7,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import lombok.SneakyThrows;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
@@ -18,10 +23,12 @@ import org.folio.app.generator.model.ApplicationDescriptor;
 import org.folio.app.generator.model.ApplicationDescriptorTemplate;
 import org.folio.app.generator.model.ExecutionResult;
 import org.folio.app.generator.model.UpdateResult;
+import org.folio.app.generator.model.types.DescriptorFormat;
 import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
 import org.folio.app.generator.support.UnitTest;
 import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -33,7 +40,10 @@ class JsonProviderTest {
   private static final String PATH = "src/test/resources/json/";
   private static final String APPLICATION_JSON = "{ \"id\": \"app-consortia-1.0.0-SNAPSHOT\" }";
   private final JsonConverter jsonConverter = mock(JsonConverter.class);
-  private final JsonProvider jsonProvider = new JsonProvider(mock(Log.class), jsonConverter, getMavenProject());
+  private final ApplicationDescriptorWriter applicationDescriptorWriter = mock(ApplicationDescriptorWriter.class);
+  private final PluginConfig pluginConfig = mock(PluginConfig.class);
+  private final JsonProvider jsonProvider = new JsonProvider(mock(Log.class), jsonConverter,
+    applicationDescriptorWriter, getMavenProject(), pluginConfig);
 
   @Test
   @SneakyThrows
@@ -63,9 +73,110 @@ class JsonProviderTest {
   @SneakyThrows
   void writeApplication_positive() {
     var application = new ApplicationDescriptor().id("test-app");
+    assertThat(jsonProvider.writeApplication(application, PATH)).isTrue();
+
+    verify(applicationDescriptorWriter).write(application, new File(PATH, "test-app.json"));
+  }
+
+  @Test
+  @SneakyThrows
+  void writeApplication_positive_binaryFormatNextToJson() {
+    when(pluginConfig.getBinaryDescriptorFormat()).thenReturn("SMILE");
+    var application = new ApplicationDescriptor().id("test-app");
+
+    jsonProvider.writeApplication(application, PATH);
+
+    verify(applicationDescriptorWriter).write(application, new File(PATH, "test-app.json"));
+    verify(applicationDescriptorWriter).write(application, new File(PATH, "test-app.smile"), DescriptorFormat.SMILE);
+  }
+
+  @Test
+  @SneakyThrows
+  void writeApplication_positive_binaryFormatOnly() {
+    when(pluginConfig.getBinaryDescriptorFormat()).thenReturn("cbor");
+    when(pluginConfig.isBinaryDescriptorOnly()).thenReturn(true);
+    var application = new ApplicationDescriptor().id("test-app");
+
     jsonProvider.writeApplication(application, PATH);
 
-    verify(jsonConverter).writeValue(any(File.class), eq(application));
+    verify(applicationDescriptorWriter).write(application, new File(PATH, "test-app.cbor"), DescriptorFormat.CBOR);
+    verifyNoMoreInteractions(applicationDescriptorWriter);
+  }
+
+  @Test
+  @SneakyThrows
+  void writeApplication_positive_gzipDescriptor() {
+    when(pluginConfig.getBinaryDescriptorFormat()).thenReturn("smile");
+    when(pluginConfig.isGzipDescriptor()).thenReturn(true);
+    var application = new ApplicationDescriptor().id("test-app");
+
+    jsonProvider.writeApplication(application, PATH);
+
+    verify(applicationDescriptorWriter).write(application, new File(PATH, "test-app.json.gz"));
+    verify(applicationDescriptorWriter).write(application, new File(PATH, "test-app.smile.gz"), DescriptorFormat.SMILE);
+  }
+
+  @Test
+  @SneakyThrows
+  void readJsonFromFile_positive_gzipInput() {
+    var tempDir = Files.createTempDirectory("json-provider-gzip-test");
+    var gzipFile = new File(tempDir.toFile(), "application.json");
+    try (var outputStream = new GZIPOutputStream(Files.newOutputStream(gzipFile.toPath()))) {
+      outputStream.write(Files.readAllBytes(new File(PATH, "application.json").toPath()));
+    }
+
+    try {
+      jsonProvider.readJsonFromFile(gzipFile.getPath(), ApplicationDescriptor.class, false);
+
+      verify(jsonConverter).parse(APPLICATION_JSON, ApplicationDescriptor.class);
+    } finally {
+      Files.deleteIfExists(gzipFile.toPath());
+      Files.deleteIfExists(tempDir);
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void writeApplication_positive_skipUnchangedDescriptor() {
+    when(pluginConfig.isSkipUnchangedDescriptor()).thenReturn(true);
+    var application = new ApplicationDescriptor().id("test-app");
+    var file = new File(PATH, "test-app.json");
+    when(applicationDescriptorWriter.writeIfChanged(application, file, DescriptorFormat.JSON)).thenReturn(false);
+
+    assertThat(jsonProvider.writeApplication(application, PATH)).isFalse();
+
+    verify(applicationDescriptorWriter).writeIfChanged(application, file, DescriptorFormat.JSON);
+    verifyNoMoreInteractions(applicationDescriptorWriter);
+  }
+
+  @Test
+  @SneakyThrows
+  void writeApplication_positive_unknownBinaryFormatWrittenAsJson() {
+    when(pluginConfig.getBinaryDescriptorFormat()).thenReturn("xml");
+    when(pluginConfig.isBinaryDescriptorOnly()).thenReturn(true);
+    var application = new ApplicationDescriptor().id("test-app");
+
+    jsonProvider.writeApplication(application, PATH);
+
+    verify(applicationDescriptorWriter).write(application, new File(PATH, "test-app.json"));
+    verifyNoMoreInteractions(applicationDescriptorWriter);
+  }
+
+  @Test
+  @SneakyThrows
+  void readJsonFromFile_positive_binaryFormat() {
+    var tempDir = Files.createTempDirectory("json-provider-binary-test");
+    var binaryFile = new File(tempDir.toFile(), "test-app.cbor");
+    binaryFile.createNewFile();
+
+    try {
+      jsonProvider.readJsonFromFile(binaryFile.getPath(), ApplicationDescriptor.class, false);
+
+      verify(jsonConverter).parse(any(InputStream.class), eq(ApplicationDescriptor.class), eq(DescriptorFormat.CBOR));
+    } finally {
+      Files.deleteIfExists(binaryFile.toPath());
+      Files.deleteIfExists(tempDir);
+    }
   }
 
   @Test
@@ -0,0 +1,107 @@
+package org.folio.app.generator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.configuration.SpringConfiguration;
+import org.folio.app.generator.model.RawModuleDescriptor;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ModuleDescriptorProjectionTest {
+
+  private static final String MOD_FOO_JSON = "{\"id\":\"mod-foo-1.0.0\",\"name\":\"Foo\","
+    + "\"provides\":[{\"id\":\"foo\",\"version\":\"1.0\",\"handlers\":[{\"methods\":[\"GET\"]}]}],"
+    + "\"launchDescriptor\":{\"dockerImage\":\"mod-foo:1.0.0\",\"env\":[{\"name\":\"DB_HOST\"}]},"
+    + "\"metadata\":{\"a/b\":1}}";
+
+  @Mock private Log log;
+
+  private final RunMetrics runMetrics = new RunMetrics();
+
+  @Test
+  void apply_positive_excludedFieldsDropped() {
+    var projection = projection(null, "/metadata, /launchDescriptor/env, /provides/0/handlers, /id");
+
+    var result = apply(projection, MOD_FOO_JSON);
+
+    assertThat(result.getJson()).asString(StandardCharsets.UTF_8).isEqualTo("{\"id\":\"mod-foo-1.0.0\","
+      + "\"name\":\"Foo\",\"provides\":[{\"id\":\"foo\",\"version\":\"1.0\"}],"
+      + "\"launchDescriptor\":{\"dockerImage\":\"mod-foo:1.0.0\"}}");
+    assertThat(result.getId()).isEqualTo("mod-foo-1.0.0");
+    assertThat(result).hasSize(4);
+    assertThat(runMetrics.get(ModuleDescriptorProjection.DESCRIPTORS_COUNTER)).isEqualTo(1);
+    assertThat(runMetrics.get(ModuleDescriptorProjection.BYTES_BEFORE_COUNTER)).isEqualTo(MOD_FOO_JSON.length());
+    assertThat(runMetrics.get(ModuleDescriptorProjection.BYTES_AFTER_COUNTER))
+      .isEqualTo(result.getJson().length);
+  }
+
+  @Test
+  void apply_positive_onlyIncludedFieldsKept() {
+    var projection = projection("/provides/0/id,/launchDescriptor,/metadata/a~1b", "/launchDescriptor/env");
+
+    var result = apply(projection, MOD_FOO_JSON);
+
+    assertThat(result.getJson()).asString(StandardCharsets.UTF_8).isEqualTo("{\"id\":\"mod-foo-1.0.0\","
+      + "\"provides\":[{\"id\":\"foo\"}],\"launchDescriptor\":{\"dockerImage\":\"mod-foo:1.0.0\"},"
+      + "\"metadata\":{\"a/b\":1}}");
+    assertThat(result).hasSize(4).containsEntry("metadata", Map.of("a/b", 1));
+  }
+
+  @Test
+  @SneakyThrows
+  void apply_positive_parsedDescriptor() {
+    var projection = projection(null, "/name");
+
+    var result = projection.apply(Map.of("id", "mod-bar-1.0.0", "name", "Bar"));
+
+    assertThat(result).isInstanceOf(RawModuleDescriptor.class).isEqualTo(Map.of("id", "mod-bar-1.0.0"));
+  }
+
+  @Test
+  @SneakyThrows
+  void apply_positive_readerOfLoadedDescriptorKept() {
+    var jsonConverter = new JsonConverter(new SpringConfiguration().objectMapper());
+    var moduleDescriptor = (RawModuleDescriptor) jsonConverter.readModuleDescriptor(
+      new ByteArrayInputStream(MOD_FOO_JSON.getBytes(StandardCharsets.UTF_8)));
+
+    var result = (RawModuleDescriptor) projection(null, "/metadata").apply(moduleDescriptor);
+
+    assertThat(result.getReader()).isSameAs(moduleDescriptor.getReader());
+  }
+
+  @Test
+  void isEnabled_positive() {
+    assertThat(projection(null, null).isEnabled()).isFalse();
+    assertThat(projection("/provides", null).isEnabled()).isTrue();
+    assertThat(projection(null, "invalid, ,").isEnabled()).isFalse();
+
+    verify(log).warn("Invalid JSON pointer 'invalid' in 'descriptorExcludes' is ignored");
+  }
+
+  @SneakyThrows
+  private static RawModuleDescriptor apply(ModuleDescriptorProjection projection, String json) {
+    var jsonConverter = new JsonConverter(new SpringConfiguration().objectMapper());
+    var moduleDescriptor = jsonConverter.readModuleDescriptor(
+      new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    return (RawModuleDescriptor) projection.apply(moduleDescriptor);
+  }
+
+  private ModuleDescriptorProjection projection(String includes, String excludes) {
+    var config = PluginConfig.builder().descriptorIncludes(includes).descriptorExcludes(excludes).build();
+    return new ModuleDescriptorProjection(log, config, runMetrics, new SpringConfiguration().objectMapper());
+  }
+}
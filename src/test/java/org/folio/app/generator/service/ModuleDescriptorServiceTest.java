@@ -3,11 +3,13 @@ package org.folio.app.generator.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
@@ -15,6 +17,7 @@ import java.util.Map;
 import java.util.Optional;
 import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.ModuleDefinition;
+import org.folio.app.generator.model.SpooledModuleDescriptor;
 import org.folio.app.generator.model.registry.ModuleRegistries;
 import org.folio.app.generator.model.registry.OkapiModuleRegistry;
 import org.folio.app.generator.model.types.ErrorCategory;
@@ -40,6 +43,8 @@ class ModuleDescriptorServiceTest {
   @Mock private JsonConverter jsonConverter;
   @Mock private ModuleRegistries moduleRegistries;
   @Mock private ModuleDescriptorLoaderFacade moduleDescriptorLoaderFacade;
+  @Mock private ModuleDescriptorSpool moduleDescriptorSpool;
+  @Mock private ModuleDescriptorProjection moduleDescriptorProjection;
 
   @AfterEach
   void tearDown() {
@@ -64,6 +69,82 @@ class ModuleDescriptorServiceTest {
     assertThat(result.descriptors()).hasSize(2);
   }
 
+  @Test
+  void loadModules_positive_descriptorsSpooled() throws IOException {
+    var module = moduleDefinition("mod-users", "1.0.0");
+    var registry = okapiRegistry();
+    var loaderResult = loaderResult("mod-users", "1.0.0");
+    var spooledDescriptor = mock(SpooledModuleDescriptor.class);
+
+    when(moduleRegistries.getRegistries(ModuleType.BE)).thenReturn(List.of(registry));
+    when(moduleDescriptorLoaderFacade.find(registry, module)).thenReturn(Optional.of(loaderResult));
+    when(moduleDescriptorSpool.isEnabled()).thenReturn(true);
+    when(moduleDescriptorSpool.spool(Map.of("id", "mod-users-1.0.0", "name", "mod-users")))
+      .thenReturn(spooledDescriptor);
+    when(spooledDescriptor.get("id")).thenReturn("mod-users-1.0.0");
+
+    var result = service.loadModules(ModuleType.BE, List.of(module));
+
+    assertThat(result.artifacts()).extracting(ModuleDefinition::getId).containsExactly("mod-users-1.0.0");
+    assertThat(result.descriptors()).containsExactly(spooledDescriptor);
+  }
+
+  @Test
+  void loadModules_positive_descriptorsProjected() throws IOException {
+    var module = moduleDefinition("mod-users", "1.0.0");
+    var registry = okapiRegistry();
+    Map<String, Object> projectedDescriptor = Map.of("id", "mod-users-1.0.0");
+
+    when(moduleRegistries.getRegistries(ModuleType.BE)).thenReturn(List.of(registry));
+    when(moduleDescriptorLoaderFacade.find(registry, module))
+      .thenReturn(Optional.of(loaderResult("mod-users", "1.0.0")));
+    when(moduleDescriptorProjection.isEnabled()).thenReturn(true);
+    when(moduleDescriptorProjection.apply(Map.of("id", "mod-users-1.0.0", "name", "mod-users")))
+      .thenReturn(projectedDescriptor);
+
+    var result = service.loadModules(ModuleType.BE, List.of(module));
+
+    assertThat(result.artifacts()).extracting(ModuleDefinition::getId).containsExactly("mod-users-1.0.0");
+    assertThat(result.descriptors()).containsExactly(projectedDescriptor);
+  }
+
+  @Test
+  void project_positive_existingDescriptorProjected() throws IOException {
+    Map<String, Object> existingDescriptor = Map.of("id", "mod-users-1.0.0", "name", "mod-users");
+    Map<String, Object> projectedDescriptor = Map.of("id", "mod-users-1.0.0");
+    when(moduleDescriptorProjection.isEnabled()).thenReturn(true);
+    when(moduleDescriptorProjection.apply(existingDescriptor)).thenReturn(projectedDescriptor);
+
+    assertThat(service.project(existingDescriptor)).isSameAs(projectedDescriptor);
+  }
+
+  @Test
+  void project_positive_projectionDisabled() throws IOException {
+    Map<String, Object> existingDescriptor = Map.of("id", "mod-users-1.0.0", "name", "mod-users");
+
+    assertThat(service.project(existingDescriptor)).isSameAs(existingDescriptor);
+    verify(moduleDescriptorProjection, never()).apply(any());
+  }
+
+  @Test
+  void loadModules_negative_spoolFailed() throws IOException {
+    var module = moduleDefinition("mod-users", "1.0.0");
+    var registry = okapiRegistry();
+
+    when(moduleRegistries.getRegistries(ModuleType.BE)).thenReturn(List.of(registry));
+    when(moduleDescriptorLoaderFacade.find(registry, module))
+      .thenReturn(Optional.of(loaderResult("mod-users", "1.0.0")));
+    when(moduleDescriptorSpool.isEnabled()).thenReturn(true);
+    when(moduleDescriptorSpool.spool(any())).thenThrow(new IOException("No space left on device"));
+
+    var modules = List.of(module);
+    assertThatThrownBy(() -> service.loadModules(ModuleType.BE, modules))
+      .isInstanceOf(ApplicationGeneratorException.class)
+      .hasMessage("Failed to spool module descriptor: mod-users-1.0.0")
+      .satisfies(e -> assertThat(((ApplicationGeneratorException) e).getCategory())
+        .isEqualTo(ErrorCategory.INFRASTRUCTURE));
+  }
+
   @Test
   void loadModules_positive_emptyModuleList() {
     var registry = okapiRegistry();
@@ -225,6 +306,7 @@ class ModuleDescriptorServiceTest {
     var result = service.loadModules(ModuleType.BE, List.of(module));
 
     assertThat(result.artifacts()).hasSize(1);
+    verify(moduleDescriptorLoaderFacade).supportsBatchLoading(mainRegistry);
     verify(moduleDescriptorLoaderFacade).find(mainRegistry, module);
     verifyNoMoreInteractions(moduleDescriptorLoaderFacade);
     verify(moduleRegistries, never()).getFallbackRegistries(any());
@@ -294,6 +376,47 @@ class ModuleDescriptorServiceTest {
     verify(log).info("Found folio_users-1.0.0 in fallback registry: http://fallback");
   }
 
+  @Test
+  void loadModules_positive_batchLoading() throws MalformedURLException {
+    var module1 = moduleDefinition("mod-users", "1.0.0");
+    var module2 = moduleDefinition("mod-orders", "2.0.0");
+    var registry = okapiRegistry();
+
+    when(moduleRegistries.getRegistries(ModuleType.BE)).thenReturn(List.of(registry));
+    when(moduleDescriptorLoaderFacade.supportsBatchLoading(registry)).thenReturn(true);
+    when(moduleDescriptorLoaderFacade.findAll(registry, List.of(module1, module2))).thenReturn(Map.of(
+      "mod-users-1.0.0", loaderResult("mod-users", "1.0.0"),
+      "mod-orders-2.0.0", loaderResult("mod-orders", "2.0.0")));
+
+    var result = service.loadModules(ModuleType.BE, List.of(module1, module2));
+
+    assertThat(result.artifacts()).hasSize(2);
+    assertThat(result.descriptors()).hasSize(2);
+    verify(moduleDescriptorLoaderFacade, never()).find(any(), any());
+  }
+
+  @Test
+  void loadModules_positive_batchLoadingRequestsOnlyMissingModules() throws MalformedURLException {
+    var module1 = moduleDefinition("mod-users", "1.0.0");
+    var module2 = moduleDefinition("mod-orders", "2.0.0");
+    var mainRegistry = okapiRegistry();
+    var batchRegistry = new OkapiModuleRegistry().url("http://batch").withGeneratedFields();
+
+    when(moduleRegistries.getRegistries(ModuleType.BE)).thenReturn(List.of(mainRegistry, batchRegistry));
+    when(moduleDescriptorLoaderFacade.supportsBatchLoading(mainRegistry)).thenReturn(false);
+    when(moduleDescriptorLoaderFacade.supportsBatchLoading(batchRegistry)).thenReturn(true);
+    when(moduleDescriptorLoaderFacade.find(mainRegistry, module1))
+      .thenReturn(Optional.of(loaderResult("mod-users", "1.0.0")));
+    when(moduleDescriptorLoaderFacade.find(mainRegistry, module2)).thenReturn(Optional.empty());
+    when(moduleDescriptorLoaderFacade.findAll(batchRegistry, List.of(module2)))
+      .thenReturn(Map.of("mod-orders-2.0.0", loaderResult("mod-orders", "2.0.0")));
+
+    var result = service.loadModules(ModuleType.BE, List.of(module1, module2));
+
+    assertThat(result.artifacts()).extracting(ModuleDefinition::getId)
+      .containsExactly("mod-users-1.0.0", "mod-orders-2.0.0");
+  }
+
   private static ModuleDefinition moduleDefinition(String name, String version) {
     return new ModuleDefinition()
       .id(name + "-" + version)
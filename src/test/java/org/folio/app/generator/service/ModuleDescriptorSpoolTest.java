@@ -0,0 +1,83 @@
+package org.folio.app.generator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.folio.app.generator.configuration.SpringConfiguration;
+import org.folio.app.generator.model.RawModuleDescriptor;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ModuleDescriptorSpoolTest {
+
+  private static final String MOD_FOO_JSON = "{\"id\":\"mod-foo-1.0.0\",\"provides\":[{\"id\":\"foo\"}]}";
+
+  @Mock private Log log;
+  @Mock private MavenProject mavenProject;
+  @Mock private Build build;
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  @SneakyThrows
+  void spool_positive_descriptorsReadAndTransferredFromSpoolFile() {
+    when(mavenProject.getBuild()).thenReturn(build);
+    when(build.getDirectory()).thenReturn(tempDir.toString());
+    var objectMapper = new SpringConfiguration().objectMapper();
+    var rawDescriptor = new JsonConverter(objectMapper)
+      .readModuleDescriptor(new ByteArrayInputStream(MOD_FOO_JSON.getBytes(StandardCharsets.UTF_8)));
+
+    try (var spool = new ModuleDescriptorSpool(log, spoolingConfig(), mavenProject, objectMapper)) {
+      var spooledFoo = spool.spool(rawDescriptor);
+      var spooledBar = spool.spool(Map.of("id", "mod-bar-1.0.0"));
+
+      assertThat(spooledFoo.getId()).isEqualTo("mod-foo-1.0.0");
+      assertThat(spooledFoo).hasSize(2).isEqualTo(rawDescriptor);
+      assertThat(spooledFoo.getReader()).isSameAs(((RawModuleDescriptor) rawDescriptor).getReader());
+      assertThat(new String(spooledBar.getJson(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":\"mod-bar-1.0.0\"}");
+      assertThat(spool.spool(spooledBar)).isSameAs(spooledBar);
+
+      var output = new ByteArrayOutputStream();
+      spooledFoo.transferTo(Channels.newChannel(output));
+      assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(MOD_FOO_JSON);
+      assertThat(Files.list(tempDir)).singleElement().satisfies(file -> assertThat(file).hasExtension("spool"));
+    }
+
+    assertThat(Files.list(tempDir)).isEmpty();
+  }
+
+  @Test
+  void isEnabled_positive() {
+    var objectMapper = new SpringConfiguration().objectMapper();
+
+    assertThat(new ModuleDescriptorSpool(log, spoolingConfig(), mavenProject, objectMapper).isEnabled()).isTrue();
+    assertThat(new ModuleDescriptorSpool(log, PluginConfig.builder().build(), mavenProject, objectMapper).isEnabled())
+      .isFalse();
+    var urlsOnlyConfig = PluginConfig.builder().spoolModuleDescriptors(true).moduleUrlsOnly(true).build();
+    assertThat(new ModuleDescriptorSpool(log, urlsOnlyConfig, mavenProject, objectMapper).isEnabled()).isFalse();
+  }
+
+  private static PluginConfig spoolingConfig() {
+    return PluginConfig.builder().spoolModuleDescriptors(true).build();
+  }
+}
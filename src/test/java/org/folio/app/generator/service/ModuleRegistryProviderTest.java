@@ -64,6 +64,18 @@ class ModuleRegistryProviderTest {
     verify(log, never()).warn(any(CharSequence.class));
   }
 
+  @Test
+  void getModuleRegistries_positive_s3IndexFlowsToRegistry() {
+    var configRegistry = s3ConfigRegistry();
+    configRegistry.setIndex(" index.json ");
+    var config = PluginConfig.builder().registries(List.of(configRegistry)).build();
+
+    var result = moduleRegistryProvider.getModuleRegistries(config, log);
+
+    assertThat(result.beRegistries()).singleElement()
+      .satisfies(registry -> assertThat(((S3ModuleRegistry) registry).getIndex()).isEqualTo("index.json"));
+  }
+
   @Test
   void getModuleRegistries_positive_nullConfigHeadersBecomeEmptyMap() {
     var config = PluginConfig.builder().registries(List.of(okapiConfigRegistry())).build();
@@ -181,7 +193,8 @@ class ModuleRegistryProviderTest {
       .isInstanceOf(IllegalArgumentException.class)
       .hasMessage("""
         Invalid registries found, check documentation at README.md and provided registry list:
-          * ConfigModuleRegistry(type=unknown, url=https://localhost:8000/registry, path=null, bucket=null)""");
+          * ConfigModuleRegistry(type=unknown, url=https://localhost:8000/registry, \
+        path=null, bucket=null, index=null)""");
   }
 
   @Test
@@ -203,7 +216,7 @@ class ModuleRegistryProviderTest {
       .isInstanceOf(IllegalArgumentException.class)
       .hasMessage("""
         Invalid registries found, check documentation at README.md and provided registry list:
-          * ConfigModuleRegistry(type=okapi, url=unknown-url, path=null, bucket=null)""");
+          * ConfigModuleRegistry(type=okapi, url=unknown-url, path=null, bucket=null, index=null)""");
   }
 
   @Test
@@ -216,7 +229,7 @@ class ModuleRegistryProviderTest {
       .isInstanceOf(IllegalArgumentException.class)
       .hasMessage("""
         Invalid registries found, check documentation at README.md and provided registry list:
-          * ConfigModuleRegistry(type=s3, url=null, path=null, bucket=null)""");
+          * ConfigModuleRegistry(type=s3, url=null, path=null, bucket=null, index=null)""");
   }
 
   private static Stream<Arguments> pluginConfigProvider() {
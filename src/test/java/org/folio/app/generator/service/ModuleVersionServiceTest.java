@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,8 +24,11 @@ import org.folio.app.generator.model.registry.artifact.DockerHubArtifactRegistry
 import org.folio.app.generator.model.registry.artifact.FolioNpmArtifactRegistry;
 import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.model.types.ModuleType;
+import org.folio.app.generator.service.artifact.existence.ArtifactExistenceChecker;
 import org.folio.app.generator.service.artifact.existence.ArtifactExistenceCheckerFacade;
 import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
 import org.folio.app.generator.service.resolver.ModuleVersionResolverFacade;
 import org.folio.app.generator.support.UnitTest;
 import org.folio.app.generator.utils.PluginConfig;
@@ -69,6 +73,21 @@ class ModuleVersionServiceTest {
     assertThat(result.get(0).getVersion()).isEqualTo("1.2.0");
   }
 
+  @Test
+  void resolveModulesConstraints_positive_constrainedVersionsPrefetched()  {
+    var constrained = new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.FALSE);
+    var exact = new Dependency("mod-bar", "2.0.0", PreReleaseFilter.FALSE);
+    var registry = okapiRegistry();
+
+    when(moduleRegistries.getRegistries(ModuleType.BE)).thenReturn(List.of(registry));
+    when(resolverFacade.getAvailableVersions(registry, constrained, ModuleType.BE))
+        .thenReturn(Optional.of(List.of("1.1.0")));
+
+    service.resolveModulesConstraints(List.of(constrained, exact), ModuleType.BE);
+
+    verify(resolverFacade).prefetchVersions(registry, List.of(constrained), ModuleType.BE);
+  }
+
   @Test
   void resolveModulesConstraints_positive_exactVersion()  {
     var dependency = new Dependency("mod-foo", "1.2.0", PreReleaseFilter.FALSE);
@@ -140,6 +159,7 @@ class ModuleVersionServiceTest {
 
     assertThat(result).hasSize(1);
     assertThat(result.get(0).getVersion()).isEqualTo("1.2.0");
+    verify(resolverFacade).versionResolved(result.get(0), s3Reg);
   }
 
   @Test
@@ -385,6 +405,37 @@ class ModuleVersionServiceTest {
     assertThat(result.get(0).getVersion()).isEqualTo("1.3.0");
   }
 
+  @Test
+  void resolveModulesConstraints_positive_artifactRegistryWithOpenCircuitBreakerSkipped() {
+    var dependency = new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.FALSE);
+    var registry = okapiRegistry();
+    var unavailableRegistry = new DockerHubArtifactRegistry().namespace("folioorg");
+    var availableRegistry = new DockerHubArtifactRegistry().namespace("folio-mirror");
+    var artifactRegistries = new ArtifactRegistries(List.of(unavailableRegistry, availableRegistry),
+      List.of(), List.of(), List.of(), List.of());
+    var checker = mock(ArtifactExistenceChecker.class);
+    when(checker.getModuleType()).thenReturn(ModuleType.BE);
+    var circuitBreakers = new RegistryCircuitBreakers(log,
+      PluginConfig.builder().circuitBreakerFailureThreshold(1).build(), new RunMetrics());
+    var facade = new ArtifactExistenceCheckerFacade(log, List.of(checker), circuitBreakers);
+    var serviceWithFacade = new ModuleVersionService(log, moduleRegistries, resolverFacade,
+      pluginConfig, artifactRegistryProvider, Optional.of(facade));
+    circuitBreakers.forRegistry(unavailableRegistry).recordFailure();
+
+    when(checker.exists(any(), eq(availableRegistry))).thenReturn(true);
+    when(pluginConfig.isValidateArtifacts()).thenReturn(true);
+    when(moduleRegistries.getRegistries(ModuleType.BE)).thenReturn(List.of(registry));
+    when(resolverFacade.getAvailableVersions(registry, dependency, ModuleType.BE))
+        .thenReturn(Optional.of(List.of("1.1.0")));
+    when(artifactRegistryProvider.getArtifactRegistries(pluginConfig)).thenReturn(artifactRegistries);
+
+    var result = serviceWithFacade.resolveModulesConstraints(List.of(dependency), ModuleType.BE);
+
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0).getVersion()).isEqualTo("1.1.0");
+    verify(checker, never()).exists(any(), eq(unavailableRegistry));
+  }
+
   @Test
   void resolveModulesConstraints_positive_skipArtifactValidationWhenDisabled() {
     var dependency = new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.FALSE);
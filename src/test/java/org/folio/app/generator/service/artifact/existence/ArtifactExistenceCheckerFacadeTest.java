@@ -2,15 +2,24 @@ package org.folio.app.generator.service.artifact.existence;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.artifact.DockerHubArtifactRegistry;
+import org.folio.app.generator.model.registry.artifact.DockerRegistryArtifactRegistry;
 import org.folio.app.generator.model.registry.artifact.FolioNpmArtifactRegistry;
+import org.folio.app.generator.model.types.ArtifactRegistryType;
 import org.folio.app.generator.model.types.ModuleType;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
 import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.PluginConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,14 +32,18 @@ class ArtifactExistenceCheckerFacadeTest {
 
   @Mock private ArtifactExistenceChecker beChecker;
   @Mock private ArtifactExistenceChecker uiChecker;
+  @Mock private Log log;
 
+  private RegistryCircuitBreakers circuitBreakers;
   private ArtifactExistenceCheckerFacade facade;
 
   @BeforeEach
   void setUp() {
     when(beChecker.getModuleType()).thenReturn(ModuleType.BE);
     when(uiChecker.getModuleType()).thenReturn(ModuleType.UI);
-    facade = new ArtifactExistenceCheckerFacade(List.of(beChecker, uiChecker));
+    var pluginConfig = PluginConfig.builder().circuitBreakerFailureThreshold(1).build();
+    circuitBreakers = new RegistryCircuitBreakers(log, pluginConfig, new RunMetrics());
+    facade = new ArtifactExistenceCheckerFacade(log, List.of(beChecker, uiChecker), circuitBreakers);
   }
 
   @Test
@@ -59,6 +72,23 @@ class ArtifactExistenceCheckerFacadeTest {
     verify(uiChecker).exists(module, registry);
   }
 
+  @Test
+  void exists_positive_checkerSelectedByRegistryType() {
+    var dockerRegistryChecker = mock(ArtifactExistenceChecker.class);
+    when(dockerRegistryChecker.getRegistryType()).thenReturn(ArtifactRegistryType.DOCKER_REGISTRY);
+    var facadeWithRegistryChecker = new ArtifactExistenceCheckerFacade(log,
+      List.of(beChecker, uiChecker, dockerRegistryChecker), circuitBreakers);
+    var module = new ModuleDefinition().name("mod-users").version("1.0.0");
+    var registry = new DockerRegistryArtifactRegistry().namespace("folioorg");
+
+    when(dockerRegistryChecker.exists(module, registry)).thenReturn(true);
+
+    var result = facadeWithRegistryChecker.exists(module, registry, ModuleType.BE);
+
+    assertThat(result).isTrue();
+    verify(beChecker, never()).exists(module, registry);
+  }
+
   @Test
   void exists_negative_artifactNotFound() {
     var module = new ModuleDefinition().name("mod-users").version("1.0.0");
@@ -76,11 +106,24 @@ class ArtifactExistenceCheckerFacadeTest {
     var module = new ModuleDefinition().name("mod-users").version("1.0.0");
     var registry = new DockerHubArtifactRegistry().namespace("folioorg");
 
-    var facadeWithLimitedCheckers = new ArtifactExistenceCheckerFacade(List.of(beChecker));
+    var facadeWithLimitedCheckers = new ArtifactExistenceCheckerFacade(log, List.of(beChecker), circuitBreakers);
 
     assertThatThrownBy(() -> facadeWithLimitedCheckers.exists(module, registry, ModuleType.UI))
       .isInstanceOf(IllegalStateException.class)
       .hasMessageContaining("No artifact existence checker found for module type: UI")
       .hasMessageContaining("configuration or programming error");
   }
+
+  @Test
+  void exists_negative_circuitBreakerOpen() {
+    var module = new ModuleDefinition().name("mod-users").version("1.0.0");
+    var registry = new DockerHubArtifactRegistry().namespace("folioorg");
+    circuitBreakers.forRegistry(registry).recordFailure();
+
+    var result = facade.exists(module, registry, ModuleType.BE);
+
+    assertThat(result).isFalse();
+    verify(log).warn(contains("circuit breaker is open"));
+    verify(beChecker, never()).exists(module, registry);
+  }
 }
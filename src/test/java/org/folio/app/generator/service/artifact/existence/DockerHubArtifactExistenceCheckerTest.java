@@ -3,6 +3,8 @@ package org.folio.app.generator.service.artifact.existence;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,14 +14,20 @@ import java.io.InputStream;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
 import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.artifact.DockerHubArtifactRegistry;
 import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.folio.app.generator.service.resilience.RateLimiter;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryRateLimiters;
 import org.folio.app.generator.support.UnitTest;
 import org.folio.app.generator.utils.JsonConverter;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,13 +43,15 @@ class DockerHubArtifactExistenceCheckerTest {
   @Mock private HttpClient httpClient;
   @Mock private Log log;
   @Mock private JsonConverter jsonConverter;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
+  @Mock private RegistryRateLimiters rateLimiters;
   @Mock private HttpResponse<InputStream> httpResponse;
 
   private DockerHubArtifactExistenceChecker checker;
 
   @BeforeEach
   void setUp() {
-    checker = new DockerHubArtifactExistenceChecker(httpClient, log, jsonConverter);
+    checker = new DockerHubArtifactExistenceChecker(httpClient, log, jsonConverter, circuitBreakers, rateLimiters);
   }
 
   @Test
@@ -122,6 +132,35 @@ class DockerHubArtifactExistenceCheckerTest {
     verify(log).debug("Retrying request due to status code 429 (attempt 1)");
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void exists_positive_rateLimiterAdaptsToRetryAfter() throws Exception {
+    var module = new ModuleDefinition().name("mod-users").version("1.0.0");
+    var registry = new DockerHubArtifactRegistry().namespace("folioorg");
+    var rateLimiter = mock(RateLimiter.class);
+    var rateLimitHeaders = HttpHeaders.of(Map.of("Retry-After", List.of("1")), (name, value) -> true);
+
+    HttpResponse<InputStream> rateLimitResponse = mock(HttpResponse.class);
+    HttpResponse<InputStream> successResponse = mock(HttpResponse.class);
+
+    when(rateLimiters.forRegistry(registry)).thenReturn(rateLimiter);
+    when(rateLimitResponse.statusCode()).thenReturn(429);
+    when(rateLimitResponse.headers()).thenReturn(rateLimitHeaders);
+    when(successResponse.statusCode()).thenReturn(200);
+    when(successResponse.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+
+    when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+      .thenReturn(rateLimitResponse)
+      .thenReturn(successResponse);
+
+    var result = checker.exists(module, registry);
+
+    assertThat(result).isTrue();
+    verify(rateLimiter, times(2)).acquire();
+    verify(rateLimiter).onResponse(429, rateLimitHeaders);
+    verify(rateLimiter).onResponse(eq(200), any(HttpHeaders.class));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   void exists_positive_retryOnServiceUnavailable() throws Exception {
@@ -0,0 +1,213 @@
+package org.folio.app.generator.service.artifact.existence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.model.ModuleDefinition;
+import org.folio.app.generator.model.registry.artifact.DockerRegistryArtifactRegistry;
+import org.folio.app.generator.model.types.ArtifactRegistryType;
+import org.folio.app.generator.model.types.ErrorCategory;
+import org.folio.app.generator.model.types.ModuleType;
+import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryRateLimiters;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.JsonConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class DockerRegistryArtifactExistenceCheckerTest {
+
+  private static final String MANIFEST_URL = "https://registry-1.docker.io/v2/folioorg/mod-users/manifests/1.0.0";
+  private static final String CHALLENGE = "Bearer realm=\"https://auth.docker.io/token\","
+    + "service=\"registry.docker.io\",scope=\"repository:folioorg/mod-users:pull\"";
+
+  @Mock private HttpClient httpClient;
+  @Mock private Log log;
+  @Mock private JsonConverter jsonConverter;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
+  @Mock private RegistryRateLimiters rateLimiters;
+
+  private DockerRegistryArtifactExistenceChecker checker;
+
+  @BeforeEach
+  void setUp() {
+    checker = new DockerRegistryArtifactExistenceChecker(httpClient, log, jsonConverter, circuitBreakers,
+      rateLimiters);
+  }
+
+  @Test
+  void getTypes_positive() {
+    assertThat(checker.getModuleType()).isEqualTo(ModuleType.BE);
+    assertThat(checker.getRegistryType()).isEqualTo(ArtifactRegistryType.DOCKER_REGISTRY);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void exists_positive_anonymousRegistry() throws Exception {
+    var module = new ModuleDefinition().name("mod-users").version("1.0.0");
+    var registry = new DockerRegistryArtifactRegistry().namespace("folioorg").baseUrl("http://localhost:5000/");
+    var response = response(200, Map.of());
+
+    when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenReturn(response);
+
+    var result = checker.exists(module, registry);
+
+    assertThat(result).isTrue();
+    verify(httpClient).send(argThat(request -> request.method().equals("HEAD")
+        && request.uri().toString().equals("http://localhost:5000/v2/folioorg/mod-users/manifests/1.0.0")
+        && request.headers().firstValue("Accept").orElseThrow()
+          .equals(DockerRegistryArtifactExistenceChecker.MANIFEST_MEDIA_TYPES)
+        && request.headers().firstValue("Authorization").isEmpty()),
+      any(HttpResponse.BodyHandler.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void exists_positive_bearerTokenRequestedAndCached() throws Exception {
+    var module = new ModuleDefinition().name("mod-users").version("1.0.0");
+    var registry = new DockerRegistryArtifactRegistry().namespace("folioorg");
+    var unauthorized = response(401, Map.of("WWW-Authenticate", List.of(CHALLENGE)));
+    var tokenResponse = response(200, Map.of());
+    var found = response(200, Map.of());
+
+    when(httpClient.send(argThat(request -> request != null && isHead(request) && !hasToken(request)),
+      any(HttpResponse.BodyHandler.class))).thenReturn(unauthorized);
+    when(httpClient.send(argThat(request -> request != null && isHead(request) && hasToken(request)),
+      any(HttpResponse.BodyHandler.class))).thenReturn(found);
+    when(httpClient.send(argThat(request -> request != null && !isHead(request)),
+      any(HttpResponse.BodyHandler.class))).thenReturn(tokenResponse);
+    when(jsonConverter.parse(any(), any(TypeReference.class))).thenReturn(Map.of("token", "abc", "expires_in", 300));
+
+    assertThat(checker.exists(module, registry)).isTrue();
+    assertThat(checker.exists(module, registry)).isTrue();
+
+    verify(httpClient, times(1)).send(argThat(request -> request != null && !isHead(request)
+        && request.uri().toString().equals("https://auth.docker.io/token"
+          + "?scope=repository%3Afolioorg%2Fmod-users%3Apull&service=registry.docker.io")),
+      any(HttpResponse.BodyHandler.class));
+    verify(httpClient, times(2)).send(argThat(request -> request != null && isHead(request) && hasToken(request)),
+      any(HttpResponse.BodyHandler.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void exists_positive_bearerTokenNotSharedBetweenRegistries() throws Exception {
+    var module = new ModuleDefinition().name("mod-users").version("1.0.0");
+    var firstRegistry = new DockerRegistryArtifactRegistry().namespace("folioorg").baseUrl("https://first.io");
+    var secondRegistry = new DockerRegistryArtifactRegistry().namespace("folioorg").baseUrl("https://second.io");
+    var unauthorized = response(401, Map.of("WWW-Authenticate", List.of(CHALLENGE)));
+    var tokenResponse = response(200, Map.of());
+    var found = response(200, Map.of());
+
+    when(httpClient.send(argThat(request -> request != null && isHead(request) && !hasToken(request)),
+      any(HttpResponse.BodyHandler.class))).thenReturn(unauthorized);
+    when(httpClient.send(argThat(request -> request != null && isHead(request) && hasToken(request)),
+      any(HttpResponse.BodyHandler.class))).thenReturn(found);
+    when(httpClient.send(argThat(request -> request != null && !isHead(request)),
+      any(HttpResponse.BodyHandler.class))).thenReturn(tokenResponse);
+    when(jsonConverter.parse(any(), any(TypeReference.class))).thenReturn(Map.of("token", "abc", "expires_in", 300));
+
+    assertThat(checker.exists(module, firstRegistry)).isTrue();
+    assertThat(checker.exists(module, secondRegistry)).isTrue();
+
+    verify(httpClient, times(2)).send(argThat(request -> request != null && !isHead(request)),
+      any(HttpResponse.BodyHandler.class));
+    verify(httpClient).send(argThat(request -> request != null && isHead(request) && !hasToken(request)
+        && request.uri().getHost().equals("second.io")),
+      any(HttpResponse.BodyHandler.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void exists_negative_manifestNotFound() throws Exception {
+    var module = new ModuleDefinition().name("mod-users").version("1.0.0");
+    var registry = new DockerRegistryArtifactRegistry().namespace("folioorg");
+    var response = response(404, Map.of());
+
+    when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenReturn(response);
+
+    var result = checker.exists(module, registry);
+
+    assertThat(result).isFalse();
+    verify(log).warn("Docker image not found: mod-users:1.0.0 (status: 404, url: " + MANIFEST_URL + ")");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void exists_negative_unauthorizedWithoutBearerChallenge() throws Exception {
+    var module = new ModuleDefinition().name("mod-users").version("1.0.0");
+    var registry = new DockerRegistryArtifactRegistry().namespace("folioorg");
+    var response = response(401, Map.of("WWW-Authenticate", List.of("Basic realm=\"registry\"")));
+
+    when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenReturn(response);
+
+    assertThatThrownBy(() -> checker.exists(module, registry))
+      .isInstanceOf(ApplicationGeneratorException.class)
+      .hasMessage("Docker registry access error 401 for mod-users:1.0.0 (url: " + MANIFEST_URL + ")")
+      .satisfies(e -> assertThat(((ApplicationGeneratorException) e).getCategory())
+        .isEqualTo(ErrorCategory.INFRASTRUCTURE));
+    verify(httpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void exists_negative_tokenRequestFailed() throws Exception {
+    var module = new ModuleDefinition().name("mod-users").version("1.0.0");
+    var registry = new DockerRegistryArtifactRegistry().namespace("folioorg");
+    var unauthorized = response(401, Map.of("WWW-Authenticate", List.of(CHALLENGE)));
+
+    when(httpClient.send(argThat(request -> request != null && isHead(request)),
+      any(HttpResponse.BodyHandler.class))).thenReturn(unauthorized);
+    when(httpClient.send(argThat(request -> request != null && !isHead(request)),
+      any(HttpResponse.BodyHandler.class))).thenThrow(new IOException("Connection refused"));
+
+    assertThatThrownBy(() -> checker.exists(module, registry))
+      .isInstanceOf(ApplicationGeneratorException.class)
+      .hasMessage("Network error while checking Docker image mod-users:1.0.0 (url: " + MANIFEST_URL
+        + "): Connection refused")
+      .satisfies(e -> assertThat(((ApplicationGeneratorException) e).getCategory())
+        .isEqualTo(ErrorCategory.INFRASTRUCTURE));
+    verify(circuitBreakers, times(2)).forRegistry(registry);
+    verify(rateLimiters, times(2)).forRegistry(registry);
+  }
+
+  private static boolean isHead(HttpRequest request) {
+    return request.method().equals("HEAD");
+  }
+
+  private static boolean hasToken(HttpRequest request) {
+    return request.headers().firstValue("Authorization").filter("Bearer abc"::equals).isPresent();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HttpResponse<InputStream> response(int statusCode, Map<String, List<String>> headers) {
+    HttpResponse<InputStream> response = mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(statusCode);
+    if (!headers.isEmpty()) {
+      when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+    }
+    return response;
+  }
+}
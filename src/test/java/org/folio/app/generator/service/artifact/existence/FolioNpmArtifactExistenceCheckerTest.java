@@ -18,6 +18,10 @@ import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.artifact.FolioNpmArtifactRegistry;
 import org.folio.app.generator.model.types.ModuleType;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryRateLimiters;
+import org.folio.app.generator.service.resilience.RequestCoalescer;
 import org.folio.app.generator.support.UnitTest;
 import org.folio.app.generator.utils.JsonConverter;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,13 +39,16 @@ class FolioNpmArtifactExistenceCheckerTest {
   @Mock private HttpClient httpClient;
   @Mock private Log log;
   @Mock private JsonConverter jsonConverter;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
+  @Mock private RegistryRateLimiters rateLimiters;
   @Mock private HttpResponse<InputStream> httpResponse;
 
   private FolioNpmArtifactExistenceChecker checker;
 
   @BeforeEach
   void setUp() {
-    checker = new FolioNpmArtifactExistenceChecker(httpClient, log, jsonConverter);
+    checker = new FolioNpmArtifactExistenceChecker(httpClient, log, jsonConverter, circuitBreakers, rateLimiters,
+      new RequestCoalescer(new RunMetrics()));
   }
 
   @Test
@@ -69,6 +76,23 @@ class FolioNpmArtifactExistenceCheckerTest {
     verify(log).debug("NPM package found: @folio/users@1.0.0");
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void exists_positive_packageReusedForOtherVersion() throws Exception {
+    var registry = new FolioNpmArtifactRegistry().namespace("npm-folio");
+
+    when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+      .thenReturn(httpResponse);
+    when(httpResponse.statusCode()).thenReturn(200);
+    when(httpResponse.body()).thenReturn(new ByteArrayInputStream("{}".getBytes()));
+    when(jsonConverter.parse(any(InputStream.class), any(TypeReference.class)))
+      .thenReturn(Map.of("versions", Map.of("1.0.0", Map.of(), "1.1.0", Map.of())));
+
+    assertThat(checker.exists(new ModuleDefinition().name("folio_users").version("1.0.0"), registry)).isTrue();
+    assertThat(checker.exists(new ModuleDefinition().name("folio_users").version("1.1.0"), registry)).isTrue();
+    verify(httpClient).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   void exists_negative_packageNotFound() throws Exception {
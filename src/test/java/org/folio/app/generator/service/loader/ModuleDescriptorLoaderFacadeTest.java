@@ -0,0 +1,125 @@
+package org.folio.app.generator.service.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.model.ModuleDefinition;
+import org.folio.app.generator.model.registry.OkapiModuleRegistry;
+import org.folio.app.generator.model.registry.S3ModuleRegistry;
+import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ModuleDescriptorLoaderFacadeTest {
+
+  @Mock private Log log;
+  @Mock private ModuleDescriptorLoader okapiLoader;
+
+  private RegistryCircuitBreakers circuitBreakers;
+  private ModuleDescriptorLoaderFacade facade;
+
+  @BeforeEach
+  void setUp() {
+    when(okapiLoader.getType()).thenReturn(RegistryType.OKAPI);
+    var pluginConfig = PluginConfig.builder().circuitBreakerFailureThreshold(1).build();
+    circuitBreakers = new RegistryCircuitBreakers(log, pluginConfig, new RunMetrics());
+    facade = new ModuleDescriptorLoaderFacade(log, List.of(okapiLoader), circuitBreakers);
+  }
+
+  @Test
+  void find_positive() {
+    var registry = okapiRegistry();
+    var module = fooModule();
+    var container = new LoaderResultContainer().moduleDescriptor(Map.of("id", "mod-foo-1.0.0"));
+    when(okapiLoader.findModuleDescriptor(registry, module)).thenReturn(Optional.of(container));
+
+    var result = facade.find(registry, module);
+
+    assertThat(result).containsSame(container);
+  }
+
+  @Test
+  void find_negative_unknownRegistryType() {
+    var registry = new S3ModuleRegistry().bucket("bucket").path("path/").withGeneratedFields();
+
+    var result = facade.find(registry, fooModule());
+
+    assertThat(result).isEmpty();
+    verify(log).warn("Failed to find module descriptor loader for a registry: S3ModuleRegistry");
+  }
+
+  @Test
+  void find_negative_circuitBreakerOpen() {
+    var registry = okapiRegistry();
+    var module = fooModule();
+    circuitBreakers.onFailure(registry);
+
+    var result = facade.find(registry, module);
+
+    assertThat(result).isEmpty();
+    verify(okapiLoader, never()).findModuleDescriptor(any(), any());
+    verify(log).debug("Registry 'http://localhost' is skipped for module 'mod-foo-1.0.0': circuit breaker is open");
+  }
+
+  @Test
+  void supportsBatchLoading_positive() {
+    var registry = okapiRegistry();
+    when(okapiLoader.supportsBatchLoading(registry)).thenReturn(true);
+
+    assertThat(facade.supportsBatchLoading(registry)).isTrue();
+  }
+
+  @Test
+  void supportsBatchLoading_negative_unknownRegistryType() {
+    var registry = new S3ModuleRegistry().bucket("bucket").path("path/").withGeneratedFields();
+
+    assertThat(facade.supportsBatchLoading(registry)).isFalse();
+  }
+
+  @Test
+  void findAll_positive() {
+    var registry = okapiRegistry();
+    var modules = List.of(fooModule());
+    var container = new LoaderResultContainer().moduleDescriptor(Map.of("id", "mod-foo-1.0.0"));
+    when(okapiLoader.findModuleDescriptors(registry, modules)).thenReturn(Map.of("mod-foo-1.0.0", container));
+
+    var result = facade.findAll(registry, modules);
+
+    assertThat(result).containsExactly(Map.entry("mod-foo-1.0.0", container));
+  }
+
+  @Test
+  void findAll_negative_circuitBreakerOpen() {
+    var registry = okapiRegistry();
+    circuitBreakers.onFailure(registry);
+
+    var result = facade.findAll(registry, List.of(fooModule()));
+
+    assertThat(result).isEmpty();
+    verify(okapiLoader, never()).findModuleDescriptors(any(), any());
+  }
+
+  private static ModuleDefinition fooModule() {
+    return new ModuleDefinition().id("mod-foo-1.0.0").name("mod-foo").version("1.0.0");
+  }
+
+  private static OkapiModuleRegistry okapiRegistry() {
+    return new OkapiModuleRegistry().url("http://localhost").withGeneratedFields();
+  }
+}
@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -19,12 +22,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
+import org.apache.commons.lang3.SerializationException;
 import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.ModuleDefinition;
+import org.folio.app.generator.model.registry.ModuleRegistry;
 import org.folio.app.generator.model.registry.OkapiModuleRegistry;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryTimeouts;
+import org.folio.app.generator.service.resilience.RequestHedger;
 import org.folio.app.generator.support.UnitTest;
 import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +44,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.shaded.org.apache.commons.io.IOUtils;
@@ -46,6 +57,12 @@ class OkapiModuleDescriptorLoaderTest {
   
   @InjectMocks private OkapiModuleDescriptorLoader loader;
   @Mock private Log log;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
+  @Mock private RequestHedger requestHedger;
+  @Spy private final RegistryTimeouts registryTimeouts =
+    new RegistryTimeouts(PluginConfig.builder().build(), new RunMetrics());
+  @Mock private PluginConfig pluginConfig;
+  @Mock private PrefetchedModuleDescriptors prefetchedModuleDescriptors;
   @Mock private HttpClient httpClient;
   @Mock private HttpResponse<Object> httpResponse;
   @Mock private JsonConverter jsonConverter;
@@ -120,6 +137,26 @@ class OkapiModuleDescriptorLoaderTest {
       .warn("Failed to load module descriptor 'mod-foo-1.0.0' from http://localhost", exception);
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void findModuleDescriptor_positive_hedgingEnabled() throws IOException, InterruptedException {
+    ReflectionTestUtils.setField(loader, "httpClient", httpClient);
+    var expectedModuleDescriptor = fooModuleDescriptor("1.0.0");
+    var registry = okapiRegistry("");
+
+    when(requestHedger.isEnabled()).thenReturn(true);
+    when(requestHedger.send(eq(httpClient), eq(registry), any(HttpRequest.class)))
+      .thenReturn((HttpResponse<InputStream>) (HttpResponse<?>) httpResponse);
+    when(httpResponse.statusCode()).thenReturn(200);
+    mockPayloadResponse(List.of(expectedModuleDescriptor));
+
+    var result = loader.findModuleDescriptor(registry, fooModule("1.0.0"));
+
+    assertTrue(result.isPresent());
+    verify(httpClient, never()).send(any(HttpRequest.class), any());
+    verify(log).info("Module descriptor 'mod-foo-1.0.0' loaded from http://localhost");
+  }
+
   @Test
   void findModuleDescriptor_positive_retryOnSocketExceptionThenSuccess()
       throws IOException, InterruptedException {
@@ -276,6 +313,125 @@ class OkapiModuleDescriptorLoaderTest {
     );
   }
 
+  @Test
+  void supportsBatchLoading_positive() {
+    when(pluginConfig.isOkapiBatchLoading()).thenReturn(true);
+
+    assertThat(loader.supportsBatchLoading(okapiRegistry(""))).isTrue();
+  }
+
+  @Test
+  void findModuleDescriptors_positive_singleCatalogRequest() throws IOException, InterruptedException {
+    mockStatusResponse(200, 0);
+    var body = IOUtils.toInputStream("[]", "UTF-8");
+    when(httpResponse.body()).thenReturn(body);
+    when(jsonConverter.parseArrayFilteredById(eq(body), any()))
+      .thenReturn(List.of(fooModuleDescriptor("1.0.0")));
+    var modules = List.of(fooModule("1.0.0"), barModule());
+
+    var result = loader.findModuleDescriptors(okapiRegistry(""), modules);
+
+    assertThat(result).containsOnlyKeys("mod-foo-1.0.0");
+    assertThat(result.get("mod-foo-1.0.0").getSourceUrl()).hasToString(URL);
+    var requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+    verify(httpClient).send(requestCaptor.capture(), any());
+    assertThat(requestCaptor.getValue().uri()).hasToString("http://localhost/_/proxy/modules?full=true");
+    verify(log).warn("Module descriptor 'mod-bar-2.0.0' is not found in http://localhost");
+    verify(log).info("1 module descriptor(s) loaded from http://localhost in a single request");
+  }
+
+  @Test
+  void findModuleDescriptor_positive_prefetchedDescriptor() {
+    var registry = okapiRegistry("");
+    var expectedModuleDescriptor = fooModuleDescriptor("1.0.0");
+    when(prefetchedModuleDescriptors.take(registry, "mod-foo-1.0.0")).thenReturn(Optional.of(expectedModuleDescriptor));
+
+    var result = loader.findModuleDescriptor(registry, fooModule("1.0.0"));
+
+    assertTrue(result.isPresent());
+    assertThat(result.get().getModuleDescriptor()).isSameAs(expectedModuleDescriptor);
+    assertThat(result.get().getSourceUrl()).hasToString(URL);
+    verifyNoInteractions(httpClient);
+    verify(log).info("Module descriptor 'mod-foo-1.0.0' taken from version listing of http://localhost");
+  }
+
+  @Test
+  void findModuleDescriptors_positive_prefetchedDescriptorsNotRequested() {
+    var registry = okapiRegistry("");
+    var expectedModuleDescriptor = fooModuleDescriptor("1.0.0");
+    when(prefetchedModuleDescriptors.take(registry, "mod-foo-1.0.0")).thenReturn(Optional.of(expectedModuleDescriptor));
+
+    var result = loader.findModuleDescriptors(registry, List.of(fooModule("1.0.0")));
+
+    assertThat(result).containsOnlyKeys("mod-foo-1.0.0");
+    verifyNoInteractions(httpClient);
+    verify(log).info("Module descriptor 'mod-foo-1.0.0' taken from version listing of http://localhost");
+  }
+
+  @Test
+  void findModuleDescriptors_negative_catalogRequestFailed() throws IOException, InterruptedException {
+    mockStatusResponse(404, 0);
+    when(circuitBreakers.tryAcquire(any(ModuleRegistry.class))).thenReturn(true);
+    when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
+
+    var result = loader.findModuleDescriptors(okapiRegistry(""), List.of(fooModule("1.0.0")));
+
+    assertThat(result).isEmpty();
+    verify(log).warn("Failed to load 1 module descriptor(s) from http://localhost: 404");
+    verify(log).info("Loading 1 module descriptor(s) one by one from http://localhost");
+    verify(log).warn("Failed to load module descriptor 'mod-foo-1.0.0' from http://localhost: 404");
+  }
+
+  @Test
+  void findModuleDescriptors_negative_catalogRequestFailedCircuitBreakerOpen()
+    throws IOException, InterruptedException {
+    mockStatusResponse(404, 0);
+    when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
+    var registry = okapiRegistry("");
+
+    var result = loader.findModuleDescriptors(registry, List.of(fooModule("1.0.0"), barModule()));
+
+    assertThat(result).isEmpty();
+    verify(httpClient).send(any(HttpRequest.class), any());
+    verify(circuitBreakers).tryAcquire(registry);
+    verify(log).warn("Failed to load 2 module descriptor(s) from http://localhost: 404");
+    verify(log).info("Loading 2 module descriptor(s) one by one from http://localhost");
+    verify(log).warn("Registry 'http://localhost' is skipped for 2 module(s): circuit breaker is open");
+  }
+
+  @Test
+  void findModuleDescriptors_positive_catalogRequestFailedModulesLoadedOneByOne()
+    throws IOException, InterruptedException {
+    mockStatusResponse(200, 0);
+    when(circuitBreakers.tryAcquire(any(ModuleRegistry.class))).thenReturn(true);
+    when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
+    var catalogError = new SerializationException("Failed to parse value from input stream");
+    when(jsonConverter.parseArrayFilteredById(any(InputStream.class), any()))
+      .thenThrow(catalogError)
+      .thenReturn(List.of(fooModuleDescriptor("1.0.0")));
+
+    var result = loader.findModuleDescriptors(okapiRegistry(""), List.of(fooModule("1.0.0")));
+
+    assertThat(result).containsOnlyKeys("mod-foo-1.0.0");
+    assertThat(result.get("mod-foo-1.0.0").getSourceUrl()).hasToString(URL);
+    verify(log).warn("Failed to load 1 module descriptor(s) from http://localhost", catalogError);
+    verify(log).info("Loading 1 module descriptor(s) one by one from http://localhost");
+    verify(log).info("Module descriptor 'mod-foo-1.0.0' loaded from http://localhost");
+  }
+
+  @Test
+  void findModuleDescriptors_positive_latestVersionLoadedSeparately() throws IOException, InterruptedException {
+    mockStatusResponse(200, 0);
+    when(circuitBreakers.tryAcquire(any(ModuleRegistry.class))).thenReturn(true);
+    mockPayloadResponse(List.of(fooModuleDescriptor("2.0.0")));
+
+    var result = loader.findModuleDescriptors(okapiRegistry(""), List.of(fooModule("latest")));
+
+    assertThat(result).containsOnlyKeys("mod-foo-latest");
+    verify(httpClient).send(any(HttpRequest.class), any());
+    verify(log).info("Module descriptor 'mod-foo-latest' loaded from http://localhost");
+  }
+
   private void assertEmptyAndWarnLog(Optional<LoaderResultContainer> result, String message) {
     assertThat(result).isEmpty();
     verify(log).warn(message);
@@ -293,9 +449,9 @@ class OkapiModuleDescriptorLoaderTest {
     when(httpResponse.statusCode()).thenReturn(statusCode);
   }
 
-  private void mockPayloadResponse(Object payload) {
+  private void mockPayloadResponse(List<Map<String, Object>> payload) {
     when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
-    when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(payload);
+    when(jsonConverter.parseArrayFilteredById(any(InputStream.class), any())).thenReturn(payload);
   }
 
   private static Map<String, Object> fooModuleDescriptor(String version) {
@@ -306,6 +462,10 @@ class OkapiModuleDescriptorLoaderTest {
     );
   }
 
+  private static ModuleDefinition barModule() {
+    return new ModuleDefinition().id("mod-bar-2.0.0").name("mod-bar").version("2.0.0");
+  }
+
   private static ModuleDefinition fooModule(String version) {
     return new ModuleDefinition().id("mod-foo-" + version).name("mod-foo").version(version);
   }
@@ -0,0 +1,63 @@
+package org.folio.app.generator.service.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.folio.app.generator.model.registry.OkapiModuleRegistry;
+import org.folio.app.generator.support.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class PrefetchedModuleDescriptorsTest {
+
+  private final PrefetchedModuleDescriptors prefetchedModuleDescriptors = new PrefetchedModuleDescriptors();
+
+  @Test
+  void take_positive_descriptorIsRemoved() {
+    var registry = okapiRegistry("http://localhost");
+    var moduleDescriptor = Map.<String, Object>of("id", "mod-foo-1.0.0");
+    prefetchedModuleDescriptors.put(registry, "mod-foo", moduleDescriptor);
+
+    assertThat(prefetchedModuleDescriptors.take(registry, "mod-foo-1.0.0")).containsSame(moduleDescriptor);
+    assertThat(prefetchedModuleDescriptors.take(registry, "mod-foo-1.0.0")).isEmpty();
+  }
+
+  @Test
+  void take_negative_otherRegistry() {
+    prefetchedModuleDescriptors.put(okapiRegistry("http://localhost"), "mod-foo", Map.of("id", "mod-foo-1.0.0"));
+
+    var result = prefetchedModuleDescriptors.take(okapiRegistry("http://other"), "mod-foo-1.0.0");
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void retain_positive_descriptorsOfOtherVersionsAndRegistriesEvicted() {
+    var registry = okapiRegistry("http://localhost");
+    var otherRegistry = okapiRegistry("http://other");
+    var moduleDescriptor = Map.<String, Object>of("id", "mod-foo-1.0.0");
+    prefetchedModuleDescriptors.put(registry, "mod-foo", moduleDescriptor);
+    prefetchedModuleDescriptors.put(otherRegistry, "mod-foo", Map.of("id", "mod-foo-1.1.0"));
+    prefetchedModuleDescriptors.put(registry, "mod-bar", Map.of("id", "mod-bar-2.0.0"));
+
+    prefetchedModuleDescriptors.retain("mod-foo", registry, "mod-foo-1.0.0");
+
+    assertThat(prefetchedModuleDescriptors.take(otherRegistry, "mod-foo-1.1.0")).isEmpty();
+    assertThat(prefetchedModuleDescriptors.take(registry, "mod-foo-1.0.0")).containsSame(moduleDescriptor);
+    assertThat(prefetchedModuleDescriptors.take(registry, "mod-bar-2.0.0")).isPresent();
+  }
+
+  @Test
+  void retain_positive_resolvedFromRegistryWithoutPrefetchedDescriptor() {
+    var registry = okapiRegistry("http://localhost");
+    prefetchedModuleDescriptors.put(registry, "mod-foo", Map.of("id", "mod-foo-1.0.0"));
+
+    prefetchedModuleDescriptors.retain("mod-foo", okapiRegistry("http://other"), "mod-foo-1.1.0");
+
+    assertThat(prefetchedModuleDescriptors.take(registry, "mod-foo-1.0.0")).isEmpty();
+  }
+
+  private static OkapiModuleRegistry okapiRegistry(String url) {
+    return new OkapiModuleRegistry().url(url).withGeneratedFields();
+  }
+}
@@ -0,0 +1,191 @@
+package org.folio.app.generator.service.loader;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.folio.app.generator.configuration.SpringConfiguration;
+import org.folio.app.generator.model.registry.S3ModuleRegistry;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class S3AsyncRequestExecutorTest {
+
+  private static final String S3_BUCKET = "test-bucket";
+
+  @Mock private ObjectProvider<S3AsyncClient> s3AsyncClientProvider;
+  @Mock private S3AsyncClient s3AsyncClient;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
+
+  private S3AsyncRequestExecutor executor;
+  private S3ModuleRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    var pluginConfig = PluginConfig.builder().awsS3BatchSize(5).awsS3AsyncLoading(true).awsS3MaxConcurrency(2).build();
+    executor = new S3AsyncRequestExecutor(s3AsyncClientProvider, pluginConfig, circuitBreakers);
+    registry = new S3ModuleRegistry().bucket(S3_BUCKET).path("modules/").withGeneratedFields();
+  }
+
+  @Test
+  void isEnabled_positive() {
+    assertThat(executor.isEnabled()).isTrue();
+  }
+
+  @Test
+  void listObjects_positive_allPagesRequested() {
+    when(s3AsyncClientProvider.getObject()).thenReturn(s3AsyncClient);
+    when(s3AsyncClient.listObjectsV2(listObjectsRequest(null)))
+      .thenReturn(CompletableFuture.completedFuture(listObjectsResponse("token", "modules/mod-foo-1.0.0.json")));
+    when(s3AsyncClient.listObjectsV2(listObjectsRequest("token")))
+      .thenReturn(CompletableFuture.completedFuture(listObjectsResponse(null, "modules/mod-foo-1.1.0.json")));
+
+    var result = executor.listObjects(registry, "modules/mod-foo-").join();
+
+    assertThat(result).extracting(S3Object::key)
+      .containsExactly("modules/mod-foo-1.0.0.json", "modules/mod-foo-1.1.0.json");
+    verify(circuitBreakers, times(2)).onSuccess(registry);
+  }
+
+  @Test
+  void listObjects_negative_failureRecorded() {
+    when(s3AsyncClientProvider.getObject()).thenReturn(s3AsyncClient);
+    when(s3AsyncClient.listObjectsV2(listObjectsRequest(null)))
+      .thenReturn(CompletableFuture.failedFuture(SdkClientException.create("Unable to connect")));
+
+    var result = executor.listObjects(registry, "modules/mod-foo-");
+
+    assertThatThrownBy(result::join).isInstanceOf(CompletionException.class)
+      .hasRootCauseInstanceOf(SdkClientException.class);
+    verify(circuitBreakers).onFailure(registry);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void getObject_positive_bodyParsedFromStream() {
+    var body = "{\"id\":\"mod-foo-1.0.0\",\"name\":\"foo\"}".getBytes(StandardCharsets.UTF_8);
+    var responseStream = new ResponseInputStream<>(GetObjectResponse.builder().build(),
+      AbortableInputStream.create(new ByteArrayInputStream(body)));
+    var request = GetObjectRequest.builder().bucket(S3_BUCKET).key("modules/mod-foo-1.0.0.json").build();
+    when(s3AsyncClientProvider.getObject()).thenReturn(s3AsyncClient);
+    when(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+      .thenAnswer(invocation -> {
+        assertThat(invocation.<GetObjectRequest>getArgument(0)).isEqualTo(request);
+        return CompletableFuture.completedFuture(responseStream);
+      });
+
+    var jsonConverter = new JsonConverter(new SpringConfiguration().objectMapper());
+    var result = executor.getObject(registry, "modules/mod-foo-1.0.0.json", jsonConverter::readModuleDescriptor)
+      .join();
+
+    assertThat(result).isEqualTo(Map.of("id", "mod-foo-1.0.0", "name", "foo"));
+    verify(circuitBreakers).onSuccess(registry);
+  }
+
+  @Test
+  void headObject_positive_missingObjectIsNotRegistryFailure() {
+    var request = HeadObjectRequest.builder().bucket(S3_BUCKET).key("modules/mod-foo-1.0.0.json").build();
+    var notFound = NoSuchKeyException.builder().statusCode(404).build();
+    when(s3AsyncClientProvider.getObject()).thenReturn(s3AsyncClient);
+    when(s3AsyncClient.headObject(request)).thenReturn(CompletableFuture.failedFuture(notFound));
+
+    var result = executor.headObject(registry, "modules/mod-foo-1.0.0.json");
+
+    assertThatThrownBy(result::join).satisfies(error -> assertThat(S3AsyncRequestExecutor.isNotFound(error)).isTrue());
+    assertThat(S3AsyncRequestExecutor.isNotFound(SdkClientException.create("Unable to connect"))).isFalse();
+    verify(circuitBreakers).onSuccess(registry);
+  }
+
+  @Test
+  void executeAll_positive_concurrencyLimited() throws InterruptedException {
+    var inFlight = new AtomicInteger();
+    var maxInFlight = new AtomicInteger();
+    var tasks = new LinkedHashMap<String, Supplier<CompletableFuture<String>>>();
+    for (var key : List.of("a", "b", "c", "d", "e")) {
+      tasks.put(key, () -> {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return CompletableFuture.supplyAsync(() -> {
+          inFlight.decrementAndGet();
+          return "result-" + key;
+        }, CompletableFuture.delayedExecutor(20, MILLISECONDS));
+      });
+    }
+
+    var result = executor.executeAll(tasks, (key, error) -> { });
+
+    assertThat(result).containsExactly(Map.entry("a", "result-a"), Map.entry("b", "result-b"),
+      Map.entry("c", "result-c"), Map.entry("d", "result-d"), Map.entry("e", "result-e"));
+    assertThat(maxInFlight).hasValue(2);
+  }
+
+  @Test
+  void executeAll_negative_failuresReportedAndOmitted() throws InterruptedException {
+    var tasks = new LinkedHashMap<String, Supplier<CompletableFuture<String>>>();
+    tasks.put("a", () -> CompletableFuture.completedFuture("result-a"));
+    tasks.put("b", () -> CompletableFuture.failedFuture(new CompletionException(new IllegalStateException("failed"))));
+    tasks.put("c", () -> {
+      throw new IllegalArgumentException("invalid");
+    });
+    tasks.put("d", () -> CompletableFuture.completedFuture(null));
+    var failures = new LinkedHashMap<String, Throwable>();
+
+    var result = executor.executeAll(tasks, failures::put);
+
+    assertThat(result).containsExactly(Map.entry("a", "result-a"));
+    assertThat(failures).containsOnlyKeys("b", "c");
+    assertThat(failures.get("b")).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+    assertThat(failures.get("c")).isInstanceOf(IllegalArgumentException.class).hasMessage("invalid");
+  }
+
+  private static ListObjectsV2Request listObjectsRequest(String continuationToken) {
+    return ListObjectsV2Request.builder()
+      .bucket(S3_BUCKET)
+      .prefix("modules/mod-foo-")
+      .maxKeys(5)
+      .continuationToken(continuationToken)
+      .build();
+  }
+
+  private static ListObjectsV2Response listObjectsResponse(String continuationToken, String key) {
+    return ListObjectsV2Response.builder()
+      .contents(S3Object.builder().key(key).build())
+      .nextContinuationToken(continuationToken)
+      .isTruncated(continuationToken != null)
+      .build();
+  }
+}
@@ -3,23 +3,33 @@ package org.folio.app.generator.service.loader;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
-import static software.amazon.awssdk.core.ResponseBytes.fromByteArray;
-import static software.amazon.awssdk.core.sync.ResponseTransformer.toBytes;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import lombok.SneakyThrows;
 import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.S3ModuleRegistry;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
 import org.folio.app.generator.support.UnitTest;
 import org.folio.app.generator.utils.JsonConverter;
 import org.folio.app.generator.utils.PluginConfig;
@@ -30,15 +40,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Utilities;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 @UnitTest
@@ -59,9 +73,12 @@ class S3ModuleDescriptorLoaderTest {
 
   @InjectMocks private S3ModuleDescriptorLoader loader;
   @Mock private Log log;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
   @Mock private S3Client s3Client;
   @Mock private JsonConverter jsonConverter;
   @Mock private S3Utilities utilities;
+  @Mock private S3AsyncRequestExecutor s3AsyncRequestExecutor;
+  @Mock private S3RegistryIndexes s3RegistryIndexes;
   @Spy private final PluginConfig pluginConfig = PluginConfig.builder().awsS3BatchSize(5).build();
 
   @AfterEach
@@ -79,26 +96,25 @@ class S3ModuleDescriptorLoaderTest {
     var request = listObjectsRequest("mod-foo-1.0.0", null);
     var listObjectsResponse = listObjectsResponse();
 
+    when(s3Client.getObject(getObjectRequest("mod-foo-1.0.0.json"))).thenThrow(noSuchKey());
     when(s3Client.listObjectsV2(request)).thenReturn(listObjectsResponse);
 
     var result = loader.findModuleDescriptor(s3Registry(), fooModule("1.0.0"));
 
     assertThat(result).isEmpty();
     verify(log).warn("Module 'mod-foo-1.0.0' is not found in s3 bucket: test-bucket/");
+    verify(pluginConfig).isModuleUrlsOnly();
     verify(pluginConfig).getAwsS3BatchSize();
   }
 
   @Test
   void findModuleDescriptor_positive_singleModuleDescriptor() {
     var objectKey = "mod-foo-1.0.0.json";
-    var request = listObjectsRequest("mod-foo-1.0.0", null);
-    var listObjectsResponse = listObjectsResponse(s3Object(objectKey));
     var expectedModuleDescriptor = fooModuleDescriptor("1.0.0");
     var s3ObjectResponse = getObjectResponse(expectedModuleDescriptor);
 
-    when(s3Client.listObjectsV2(request)).thenReturn(listObjectsResponse);
-    when(s3Client.getObject(getObjectRequest(objectKey), toBytes())).thenReturn(s3ObjectResponse);
-    when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(expectedModuleDescriptor);
+    when(s3Client.getObject(getObjectRequest(objectKey))).thenReturn(s3ObjectResponse);
+    when(jsonConverter.readModuleDescriptor(s3ObjectResponse)).thenReturn(expectedModuleDescriptor);
     when(s3Client.utilities()).thenReturn(utilities);
     when(utilities.getUrl((GetUrlRequest) any())).thenReturn(URL);
 
@@ -108,9 +124,29 @@ class S3ModuleDescriptorLoaderTest {
     assertThat(result.get().getModuleDescriptor()).containsAllEntriesOf(expectedModuleDescriptor);
     assertThat(result.get().getSourceUrl().toString()).isEqualTo(URL.toString());
 
-    verify(log).info("Exact match found for module 'mod-foo-1.0.0' in s3 bucket: test-bucket/");
     verify(log).info("Module descriptor 'mod-foo-1.0.0' loaded from s3 bucket: test-bucket/");
-    verify(pluginConfig, times(1)).getAwsS3BatchSize();
+    verify(pluginConfig).isModuleUrlsOnly();
+    verify(s3Client, never()).listObjectsV2(any(ListObjectsV2Request.class));
+    verify(circuitBreakers).onSuccess(s3Registry());
+  }
+
+  @Test
+  void findModuleDescriptor_positive_moduleUrlsOnly() {
+    var headObjectRequest = HeadObjectRequest.builder().bucket(S3_BUCKET).key("mod-foo-1.0.0.json").build();
+    var urlOnlyLoader = new S3ModuleDescriptorLoader(log, s3Client, PluginConfig.builder().moduleUrlsOnly(true).build(),
+      jsonConverter, circuitBreakers, s3AsyncRequestExecutor, s3RegistryIndexes);
+
+    when(s3Client.headObject(headObjectRequest)).thenReturn(HeadObjectResponse.builder().build());
+    when(s3Client.utilities()).thenReturn(utilities);
+    when(utilities.getUrl((GetUrlRequest) any())).thenReturn(URL);
+
+    var result = urlOnlyLoader.findModuleDescriptor(s3Registry(), fooModule("1.0.0"));
+
+    assertTrue(result.isPresent());
+    assertThat(result.get().getModuleDescriptor()).isEqualTo(Map.of("id", "mod-foo-1.0.0"));
+    assertThat(result.get().getSourceUrl()).isEqualTo(URL);
+    verify(log).info("Module descriptor 'mod-foo-1.0.0' found in s3 bucket: test-bucket/");
+    verify(s3Client, never()).getObject(any(GetObjectRequest.class));
   }
 
   @Test
@@ -118,31 +154,30 @@ class S3ModuleDescriptorLoaderTest {
     var request = listObjectsRequest("mod-foo-1.0.0", null);
     var exception = SdkClientException.create("error");
 
+    when(s3Client.getObject(getObjectRequest("mod-foo-1.0.0.json"))).thenThrow(noSuchKey());
     when(s3Client.listObjectsV2(request)).thenThrow(exception);
 
     var result = loader.findModuleDescriptor(s3Registry(), fooModule("1.0.0"));
 
     assertThat(result).isEmpty();
     verify(log).warn("Failed to find module descriptor 'mod-foo-1.0.0' in s3 bucket: test-bucket/", exception);
+    verify(pluginConfig).isModuleUrlsOnly();
     verify(pluginConfig).getAwsS3BatchSize();
   }
 
   @Test
   void findModuleDescriptor_negative_s3ObjectReadingFailed() {
     var objectKey = "mod-foo-1.0.0.json";
-    var request = listObjectsRequest("mod-foo-1.0.0", null);
-    var listObjectsResponse = listObjectsResponse(s3Object(objectKey));
-
-    when(s3Client.listObjectsV2(request)).thenReturn(listObjectsResponse);
     var exception = SdkClientException.create("error");
-    when(s3Client.getObject(getObjectRequest(objectKey), toBytes())).thenThrow(exception);
+    when(s3Client.getObject(getObjectRequest(objectKey))).thenThrow(exception);
 
     var result = loader.findModuleDescriptor(s3Registry(), fooModule("1.0.0"));
 
     assertThat(result).isEmpty();
-    verify(log).info("Exact match found for module 'mod-foo-1.0.0' in s3 bucket: test-bucket/");
     verify(log).warn("Failed to load module descriptor 'mod-foo-1.0.0' from s3 bucket: test-bucket/", exception);
-    verify(pluginConfig, times(1)).getAwsS3BatchSize();
+    verify(pluginConfig).isModuleUrlsOnly();
+    verify(circuitBreakers).onFailure(s3Registry());
+    verify(s3Client, never()).listObjectsV2(any(ListObjectsV2Request.class));
   }
 
   @Test
@@ -169,8 +204,8 @@ class S3ModuleDescriptorLoaderTest {
     when(s3Client.listObjectsV2(listObjectsRequest("mod-foo", null))).thenReturn(listObjectsResponse1);
     when(s3Client.listObjectsV2(listObjectsRequest("mod-foo", "ct1"))).thenReturn(listObjectsResponse2);
     when(s3Client.listObjectsV2(listObjectsRequest("mod-foo", "ct2"))).thenReturn(listObjectsResponse3);
-    when(s3Client.getObject(getObjectRequest(objectKey), toBytes())).thenReturn(s3ObjectResponse);
-    when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(expectedModuleDescriptor);
+    when(s3Client.getObject(getObjectRequest(objectKey))).thenReturn(s3ObjectResponse);
+    when(jsonConverter.readModuleDescriptor(any(InputStream.class))).thenReturn(expectedModuleDescriptor);
     when(s3Client.utilities()).thenReturn(utilities);
     when(utilities.getUrl((GetUrlRequest) any())).thenReturn(URL);
 
@@ -207,8 +242,8 @@ class S3ModuleDescriptorLoaderTest {
     var objectKey = "mod-foo-1.3.0-SNAPSHOT.287.json";
 
     when(s3Client.listObjectsV2(request)).thenReturn(listObjectsResponse);
-    when(s3Client.getObject(getObjectRequest(objectKey), toBytes())).thenReturn(s3ObjectResponse);
-    when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(expectedModuleDescriptor);
+    when(s3Client.getObject(getObjectRequest(objectKey))).thenReturn(s3ObjectResponse);
+    when(jsonConverter.readModuleDescriptor(any(InputStream.class))).thenReturn(expectedModuleDescriptor);
     when(s3Client.utilities()).thenReturn(utilities);
     when(utilities.getUrl((GetUrlRequest) any())).thenReturn(URL);
 
@@ -237,9 +272,10 @@ class S3ModuleDescriptorLoaderTest {
     var s3ObjectResponse = getObjectResponse(expectedModuleDescriptor);
     var objectKey = "mod-foo-1.0.0";
 
+    when(s3Client.getObject(getObjectRequest("mod-foo-1.0.0.json"))).thenThrow(noSuchKey());
     when(s3Client.listObjectsV2(request)).thenReturn(listObjectsResponse);
-    when(s3Client.getObject(getObjectRequest(objectKey), toBytes())).thenReturn(s3ObjectResponse);
-    when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(expectedModuleDescriptor);
+    when(s3Client.getObject(getObjectRequest(objectKey))).thenReturn(s3ObjectResponse);
+    when(jsonConverter.readModuleDescriptor(any(InputStream.class))).thenReturn(expectedModuleDescriptor);
     when(s3Client.utilities()).thenReturn(utilities);
     when(utilities.getUrl((GetUrlRequest) any())).thenReturn(URL);
 
@@ -251,6 +287,7 @@ class S3ModuleDescriptorLoaderTest {
 
     verify(log).info("Exact match found for module 'mod-foo-1.0.0' in s3 bucket: test-bucket/");
     verify(log).info("Module descriptor 'mod-foo-1.0.0' loaded from s3 bucket: test-bucket/");
+    verify(pluginConfig).isModuleUrlsOnly();
     verify(pluginConfig, times(1)).getAwsS3BatchSize();
   }
 
@@ -265,12 +302,14 @@ class S3ModuleDescriptorLoaderTest {
       s3Object("mod-foo-1.0.0-SNAPSHOT.3"),
       s3Object("mod-foo-1.0.0-SNAPSHOT.1"));
 
+    when(s3Client.getObject(getObjectRequest("mod-foo-1.0.0.json"))).thenThrow(noSuchKey());
     when(s3Client.listObjectsV2(request)).thenReturn(listObjectsResponse);
 
     var result = loader.findModuleDescriptor(s3Registry(), fooModule("1.0.0"));
 
     assertThat(result).isEmpty();
 
+    verify(pluginConfig).isModuleUrlsOnly();
     verify(pluginConfig, times(2)).getAwsS3BatchSize();
   }
 
@@ -287,8 +326,8 @@ class S3ModuleDescriptorLoaderTest {
     var objectKey = "mod-foo-1.0.0-SNAPSHOT.4";
 
     when(s3Client.listObjectsV2(request)).thenReturn(listObjectsResponse);
-    when(s3Client.getObject(getObjectRequest(objectKey), toBytes())).thenReturn(s3ObjectResponse);
-    when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(expectedModuleDescriptor);
+    when(s3Client.getObject(getObjectRequest(objectKey))).thenReturn(s3ObjectResponse);
+    when(jsonConverter.readModuleDescriptor(any(InputStream.class))).thenReturn(expectedModuleDescriptor);
     when(s3Client.utilities()).thenReturn(utilities);
     when(utilities.getUrl((GetUrlRequest) any())).thenReturn(URL);
 
@@ -316,8 +355,8 @@ class S3ModuleDescriptorLoaderTest {
     var objectKey = "mod-foo-1.0.0-SNAPSHOT.3";
 
     when(s3Client.listObjectsV2(request)).thenReturn(listObjectsResponse);
-    when(s3Client.getObject(getObjectRequest(objectKey), toBytes())).thenReturn(s3ObjectResponse);
-    when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(expectedModuleDescriptor);
+    when(s3Client.getObject(getObjectRequest(objectKey))).thenReturn(s3ObjectResponse);
+    when(jsonConverter.readModuleDescriptor(any(InputStream.class))).thenReturn(expectedModuleDescriptor);
     when(s3Client.utilities()).thenReturn(utilities);
     when(utilities.getUrl((GetUrlRequest) any())).thenReturn(URL);
 
@@ -331,6 +370,122 @@ class S3ModuleDescriptorLoaderTest {
     verify(pluginConfig, times(2)).getAwsS3BatchSize();
   }
 
+  @Test
+  void findModuleDescriptor_positive_latestVersionFromIndex() {
+    var registry = s3Registry();
+    var objectKey = "mod-foo-1.1.0.json";
+    var expectedModuleDescriptor = fooModuleDescriptor("1.1.0");
+
+    when(s3RegistryIndexes.findObjects(registry, "mod-foo"))
+      .thenReturn(Optional.of(List.of(s3Object("mod-foo-1.0.0.json"), s3Object(objectKey))));
+    when(s3Client.getObject(getObjectRequest(objectKey))).thenReturn(getObjectResponse(expectedModuleDescriptor));
+    when(jsonConverter.readModuleDescriptor(any(InputStream.class))).thenReturn(expectedModuleDescriptor);
+    when(s3Client.utilities()).thenReturn(utilities);
+    when(utilities.getUrl((GetUrlRequest) any())).thenReturn(URL);
+
+    var result = loader.findModuleDescriptor(registry, fooModule("latest"));
+
+    assertTrue(result.isPresent());
+    assertThat(result.get().getModuleDescriptor()).isEqualTo(expectedModuleDescriptor);
+    verify(log).info("Module descriptor 'mod-foo-latest' loaded from s3 bucket: test-bucket/");
+    verify(s3Client, never()).listObjectsV2(any(ListObjectsV2Request.class));
+  }
+
+  @Test
+  void supportsBatchLoading_positive_asyncLoadingEnabled() {
+    when(s3AsyncRequestExecutor.isEnabled()).thenReturn(true);
+
+    assertThat(loader.supportsBatchLoading(s3Registry())).isTrue();
+  }
+
+  @Test
+  @SneakyThrows
+  void findModuleDescriptors_positive_loadedWithAsyncClient() {
+    var registry = s3Registry();
+    var fooDescriptor = fooModuleDescriptor("1.0.0");
+    when(s3AsyncRequestExecutor.executeAll(any(), any())).thenAnswer(invocation -> runTasks(invocation.getArgument(0)));
+    when(s3AsyncRequestExecutor.getObject(eq(registry), eq("mod-foo-1.0.0.json"), any()))
+      .thenReturn(CompletableFuture.completedFuture(fooDescriptor));
+    when(s3AsyncRequestExecutor.getObject(eq(registry), eq("mod-bar-1.0.0.json"), any()))
+      .thenReturn(CompletableFuture.failedFuture(noSuchKey()));
+    when(s3AsyncRequestExecutor.listObjects(registry, "mod-bar-1.0.0")).thenReturn(
+      CompletableFuture.completedFuture(List.of()));
+    when(s3AsyncRequestExecutor.utilities()).thenReturn(utilities);
+    when(utilities.getUrl((GetUrlRequest) any())).thenReturn(URL);
+
+    var barModule = new ModuleDefinition().id("mod-bar-1.0.0").name("mod-bar").version("1.0.0");
+    var result = loader.findModuleDescriptors(registry, List.of(fooModule("1.0.0"), barModule));
+
+    assertThat(result).containsOnlyKeys("mod-foo-1.0.0");
+    assertThat(result.get("mod-foo-1.0.0").getModuleDescriptor()).isEqualTo(fooDescriptor);
+    assertThat(result.get("mod-foo-1.0.0").getSourceUrl()).isEqualTo(URL);
+    verify(log).info("Module descriptor 'mod-foo-1.0.0' loaded from s3 bucket: test-bucket/");
+    verify(log).warn("Module 'mod-bar-1.0.0' is not found in s3 bucket: test-bucket/");
+    verify(pluginConfig, times(2)).isModuleUrlsOnly();
+    verify(s3AsyncRequestExecutor, never()).listObjects(registry, "mod-foo-1.0.0");
+    verifyNoInteractions(s3Client);
+  }
+
+  @Test
+  @SneakyThrows
+  void findModuleDescriptors_positive_moduleUrlsOnly() {
+    var registry = s3Registry();
+    var urlOnlyLoader = new S3ModuleDescriptorLoader(log, s3Client, PluginConfig.builder().moduleUrlsOnly(true).build(),
+      jsonConverter, circuitBreakers, s3AsyncRequestExecutor, s3RegistryIndexes);
+    when(s3AsyncRequestExecutor.executeAll(any(), any())).thenAnswer(invocation -> runTasks(invocation.getArgument(0)));
+    when(s3AsyncRequestExecutor.headObject(registry, "mod-foo-1.0.0.json"))
+      .thenReturn(CompletableFuture.completedFuture(HeadObjectResponse.builder().build()));
+    when(s3AsyncRequestExecutor.utilities()).thenReturn(utilities);
+    when(utilities.getUrl((GetUrlRequest) any())).thenReturn(URL);
+
+    var result = urlOnlyLoader.findModuleDescriptors(registry, List.of(fooModule("1.0.0")));
+
+    assertThat(result).containsOnlyKeys("mod-foo-1.0.0");
+    assertThat(result.get("mod-foo-1.0.0").getModuleDescriptor()).isEqualTo(Map.of("id", "mod-foo-1.0.0"));
+    verify(log).info("Module descriptor 'mod-foo-1.0.0' found in s3 bucket: test-bucket/");
+    verify(s3AsyncRequestExecutor, never()).getObject(any(), any(), any());
+  }
+
+  @Test
+  @SneakyThrows
+  void findModuleDescriptors_negative_failureLogged() {
+    var registry = s3Registry();
+    var error = SdkClientException.create("Unable to connect");
+    when(s3AsyncRequestExecutor.executeAll(any(), any())).thenAnswer(invocation -> runTasks(invocation.getArgument(0),
+      invocation.getArgument(1)));
+    when(s3AsyncRequestExecutor.getObject(eq(registry), eq("mod-foo-1.0.0.json"), any()))
+      .thenReturn(CompletableFuture.failedFuture(error));
+
+    var result = loader.findModuleDescriptors(registry, List.of(fooModule("1.0.0")));
+
+    assertThat(result).isEmpty();
+    verify(log).warn("Failed to load module descriptor 'mod-foo-1.0.0' from s3 bucket: test-bucket/", error);
+    verify(pluginConfig).isModuleUrlsOnly();
+    verify(s3AsyncRequestExecutor, never()).listObjects(any(), any());
+  }
+
+  private static Map<String, LoaderResultContainer> runTasks(
+    Map<String, Supplier<CompletableFuture<LoaderResultContainer>>> tasks) {
+    return runTasks(tasks, (key, error) -> { });
+  }
+
+  private static Map<String, LoaderResultContainer> runTasks(
+    Map<String, Supplier<CompletableFuture<LoaderResultContainer>>> tasks, BiConsumer<String, Throwable> onFailure) {
+    var result = new LinkedHashMap<String, LoaderResultContainer>();
+    tasks.forEach((key, task) -> task.get().whenComplete((value, error) -> {
+      if (error != null) {
+        onFailure.accept(key, error instanceof CompletionException ? error.getCause() : error);
+      } else if (value != null) {
+        result.put(key, value);
+      }
+    }));
+    return result;
+  }
+
+  private static NoSuchKeyException noSuchKey() {
+    return NoSuchKeyException.builder().message("The specified key does not exist.").statusCode(404).build();
+  }
+
   private static Map<String, Object> fooModuleDescriptor(String version) {
     return Map.of(
       "id", "mod-foo" + "-" + version,
@@ -351,9 +506,10 @@ class S3ModuleDescriptorLoaderTest {
   }
 
   @SneakyThrows
-  private static ResponseBytes<GetObjectResponse> getObjectResponse(Object content) {
+  private static ResponseInputStream<GetObjectResponse> getObjectResponse(Object content) {
     var byteContent = OBJECT_MAPPER.writeValueAsBytes(content);
-    return fromByteArray(GetObjectResponse.builder().build(), byteContent);
+    return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+      AbortableInputStream.create(new ByteArrayInputStream(byteContent)));
   }
 
   private static ListObjectsV2Request listObjectsRequest(String prefix, String nct) {
@@ -0,0 +1,210 @@
+package org.folio.app.generator.service.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.configuration.SpringConfiguration;
+import org.folio.app.generator.model.registry.S3ModuleRegistry;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class S3RegistryIndexesTest {
+
+  private static final String INDEX = """
+    {
+      "generatedAt": "2026-10-19T00:00:00Z",
+      "modules": [
+        {"id": "mod-foo-1.0.0", "key": "modules/mod-foo-1.0.0.json", "size": 1024, "etag": "\\"a1\\""},
+        {"id": "mod-foo-1.1.0", "size": 2048, "etag": "\\"b2\\""},
+        {"id": "mod-foo-storage-1.0.0", "key": "modules/mod-foo-storage-1.0.0.json"},
+        {"id": "mod-bar-2.0.0", "key": "modules/mod-bar-2.0.0"}
+      ]
+    }""";
+
+  @Mock private Log log;
+  @Mock private S3Client s3Client;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
+
+  private S3RegistryIndexes s3RegistryIndexes;
+  private S3ModuleRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    var pluginConfig = PluginConfig.builder().awsS3IndexMaxAge(Duration.ofHours(1)).build();
+    var jsonConverter = new JsonConverter(new SpringConfiguration().objectMapper());
+    s3RegistryIndexes = new S3RegistryIndexes(log, s3Client, pluginConfig, jsonConverter, circuitBreakers);
+    registry = new S3ModuleRegistry().bucket("test-bucket").path("modules/").index("index.json");
+  }
+
+  @Test
+  void findObjects_positive_indexLoadedOnceAndFilteredByPrefix() {
+    var indexLastModified = Instant.now();
+    when(s3Client.getObject(indexRequest())).thenReturn(indexResponse(INDEX, indexLastModified));
+    when(s3Client.listObjectsV2(listRequest())).thenReturn(listResponse(
+      S3Object.builder().key("modules/index.json").lastModified(indexLastModified).build(),
+      S3Object.builder().key("modules/mod-bar-2.0.0").lastModified(indexLastModified.minusSeconds(60)).build(),
+      S3Object.builder().key("modules/mod-foo-1.0.0.json").lastModified(indexLastModified.minusSeconds(60)).build()));
+
+    var fooObjects = s3RegistryIndexes.findObjects(registry, "modules/mod-foo-1.");
+    var barObjects = s3RegistryIndexes.findObjects(registry, "modules/mod-bar-");
+
+    assertThat(fooObjects).hasValueSatisfying(objects -> assertThat(objects).containsExactly(
+      S3Object.builder().key("modules/mod-foo-1.0.0.json").size(1024L).eTag("\"a1\"").build(),
+      S3Object.builder().key("modules/mod-foo-1.1.0.json").size(2048L).eTag("\"b2\"").build()));
+    assertThat(barObjects).hasValueSatisfying(objects -> assertThat(objects).extracting(S3Object::key)
+      .containsExactly("modules/mod-bar-2.0.0"));
+    assertThat(s3RegistryIndexes.isAvailable(registry)).isTrue();
+    verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+    verify(circuitBreakers).onSuccess(registry);
+    verify(log).info("Index 'modules/index.json' of s3 bucket test-bucket is used, 4 module(s) indexed");
+  }
+
+  @Test
+  void findObjects_positive_prefixWithoutIndexedObjects() {
+    when(s3Client.getObject(indexRequest())).thenReturn(indexResponse(INDEX, Instant.now()));
+    when(s3Client.listObjectsV2(listRequest())).thenReturn(listResponse());
+
+    assertThat(s3RegistryIndexes.findObjects(registry, "modules/mod-baz-")).isEmpty();
+    assertThat(s3RegistryIndexes.findObjects(registry, "modules/mod-foo-1.2.0")).isEmpty();
+    assertThat(s3RegistryIndexes.isAvailable(registry)).isTrue();
+  }
+
+  @Test
+  void findObjects_negative_objectNotIndexed() {
+    var indexLastModified = Instant.now();
+    when(s3Client.getObject(indexRequest())).thenReturn(indexResponse(INDEX, indexLastModified));
+    when(s3Client.listObjectsV2(listRequest())).thenReturn(listResponse(
+      S3Object.builder().key("modules/mod-bar-2.0.0").lastModified(indexLastModified.minusSeconds(60)).build(),
+      S3Object.builder().key("modules/mod-bar-2.1.0.json").lastModified(indexLastModified.minusSeconds(60)).build()));
+
+    var result = s3RegistryIndexes.findObjects(registry, "modules/mod-bar-");
+
+    assertThat(result).isEmpty();
+    verify(log).info("Index 'modules/index.json' of s3 bucket test-bucket is stale (object "
+      + "'modules/mod-bar-2.1.0.json' is not indexed or modified after the index), objects are listed instead");
+  }
+
+  @Test
+  void findObjects_negative_newVersionOnLaterPage() {
+    var indexLastModified = Instant.now();
+    var indexedObject = S3Object.builder().key("modules/mod-bar-2.0.0").lastModified(indexLastModified).build();
+    when(s3Client.getObject(indexRequest())).thenReturn(indexResponse(INDEX, indexLastModified));
+    when(s3Client.listObjectsV2(listRequest())).thenReturn(ListObjectsV2Response.builder()
+      .contents(indexedObject)
+      .isTruncated(true)
+      .nextContinuationToken("page-2")
+      .build());
+    var secondPageRequest = listRequest().toBuilder().continuationToken("page-2").build();
+    when(s3Client.listObjectsV2(secondPageRequest)).thenReturn(listResponse(
+      S3Object.builder().key("modules/mod-foo-1.0.0.json").lastModified(indexLastModified.minusSeconds(60)).build(),
+      S3Object.builder().key("modules/mod-foo-1.2.0.json").lastModified(indexLastModified.minusSeconds(60)).build()));
+
+    assertThat(s3RegistryIndexes.findObjects(registry, "modules/mod-foo-")).isEmpty();
+    assertThat(s3RegistryIndexes.isAvailable(registry)).isFalse();
+    verify(log).info("Index 'modules/index.json' of s3 bucket test-bucket is stale (object "
+      + "'modules/mod-foo-1.2.0.json' is not indexed or modified after the index), objects are listed instead");
+  }
+
+  @Test
+  void findObjects_negative_objectModifiedAfterIndex() {
+    var indexLastModified = Instant.now().minus(Duration.ofMinutes(5));
+    when(s3Client.getObject(indexRequest())).thenReturn(indexResponse(INDEX, indexLastModified));
+    when(s3Client.listObjectsV2(listRequest())).thenReturn(listResponse(
+      S3Object.builder().key("modules/mod-foo-1.0.0.json").lastModified(Instant.now()).build()));
+
+    assertThat(s3RegistryIndexes.findObjects(registry, "modules/mod-foo-")).isEmpty();
+    assertThat(s3RegistryIndexes.isAvailable(registry)).isFalse();
+  }
+
+  @Test
+  void findObjects_positive_noIndexConfigured() {
+    var result = s3RegistryIndexes.findObjects(registry.index(null), "modules/mod-foo-");
+
+    assertThat(result).isEmpty();
+    verifyNoInteractions(s3Client);
+  }
+
+  @Test
+  void findObjects_negative_staleIndex() {
+    var lastModified = Instant.now().minus(Duration.ofHours(2));
+    when(s3Client.getObject(indexRequest())).thenReturn(indexResponse(INDEX, lastModified));
+
+    var result = s3RegistryIndexes.findObjects(registry, "modules/mod-foo-");
+
+    assertThat(result).isEmpty();
+    verify(log).info("Index 'modules/index.json' of s3 bucket test-bucket is stale (last modified: "
+      + lastModified + "), objects are listed instead");
+  }
+
+  @Test
+  void findObjects_negative_indexNotFound() {
+    when(s3Client.getObject(indexRequest())).thenThrow(NoSuchKeyException.builder().statusCode(404).build());
+
+    assertThat(s3RegistryIndexes.findObjects(registry, "modules/mod-foo-")).isEmpty();
+    assertThat(s3RegistryIndexes.isAvailable(registry)).isFalse();
+
+    verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+    verify(circuitBreakers).onSuccess(registry);
+    verify(log).info("Index 'modules/index.json' is not found in s3 bucket test-bucket, objects are listed instead");
+  }
+
+  @Test
+  void findObjects_negative_requestFailed() {
+    var error = SdkClientException.create("Unable to connect");
+    when(s3Client.getObject(indexRequest())).thenThrow(error);
+
+    var result = s3RegistryIndexes.findObjects(registry, "modules/mod-foo-");
+
+    assertThat(result).isEmpty();
+    verify(circuitBreakers).onFailure(registry);
+    verify(log).warn("Failed to load index 'modules/index.json' from s3 bucket test-bucket, "
+      + "objects are listed instead", error);
+  }
+
+  private static GetObjectRequest indexRequest() {
+    return GetObjectRequest.builder().bucket("test-bucket").key("modules/index.json").build();
+  }
+
+  private static ListObjectsV2Request listRequest() {
+    return ListObjectsV2Request.builder().bucket("test-bucket").prefix("modules/").maxKeys(1000).build();
+  }
+
+  private static ListObjectsV2Response listResponse(S3Object... objects) {
+    return ListObjectsV2Response.builder().contents(List.of(objects)).build();
+  }
+
+  private static ResponseInputStream<GetObjectResponse> indexResponse(String body, Instant lastModified) {
+    var bytes = body.getBytes(StandardCharsets.UTF_8);
+    return new ResponseInputStream<>(GetObjectResponse.builder().lastModified(lastModified).build(),
+      AbortableInputStream.create(new ByteArrayInputStream(bytes)));
+  }
+}
@@ -24,8 +24,13 @@ import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.ModuleDefinition;
 import org.folio.app.generator.model.registry.SimpleModuleRegistry;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryTimeouts;
+import org.folio.app.generator.service.resilience.RequestHedger;
 import org.folio.app.generator.support.UnitTest;
 import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +39,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.shaded.org.apache.commons.io.IOUtils;
@@ -46,6 +52,10 @@ class SimpleModuleDescriptorLoaderTest {
   
   @InjectMocks private SimpleModuleDescriptorLoader loader;
   @Mock private Log log;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
+  @Mock private RequestHedger requestHedger;
+  @Spy private final RegistryTimeouts registryTimeouts =
+    new RegistryTimeouts(PluginConfig.builder().build(), new RunMetrics());
   @Mock private HttpClient httpClient;
   @Mock private HttpResponse<Object> httpResponse;
   @Mock private JsonConverter jsonConverter;
@@ -311,9 +321,9 @@ class SimpleModuleDescriptorLoaderTest {
     when(httpResponse.statusCode()).thenReturn(statusCode);
   }
 
-  private void mockPayloadResponse(Object payload) {
+  private void mockPayloadResponse(Map<String, Object> payload) {
     when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
-    when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(payload);
+    when(jsonConverter.readModuleDescriptor(any(InputStream.class))).thenReturn(payload);
   }
 
   private static Map<String, Object> fooModuleDescriptor(String version) {
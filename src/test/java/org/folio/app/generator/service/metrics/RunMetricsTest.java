@@ -0,0 +1,43 @@
+package org.folio.app.generator.service.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.folio.app.generator.support.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class RunMetricsTest {
+
+  private final RunMetrics runMetrics = new RunMetrics();
+
+  @Test
+  void snapshot_positive_countersAndEvents() {
+    runMetrics.increment("b.counter");
+    runMetrics.increment("b.counter");
+    runMetrics.add("a.counter", 5);
+    runMetrics.recordEvent("event");
+
+    var result = runMetrics.snapshot();
+
+    assertThat(result.counters()).containsExactly(Map.entry("a.counter", 5L), Map.entry("b.counter", 2L));
+    assertThat(result.events()).containsExactly("event");
+  }
+
+  @Test
+  void get_positive_unknownCounter() {
+    assertThat(runMetrics.get("unknown")).isZero();
+  }
+
+  @Test
+  void snapshot_positive_isImmutable() {
+    runMetrics.increment("counter");
+    var result = runMetrics.snapshot();
+
+    runMetrics.increment("counter");
+
+    assertThat(result.counters()).containsEntry("counter", 1L);
+    assertThatThrownBy(() -> result.counters().put("other", 1L)).isInstanceOf(UnsupportedOperationException.class);
+  }
+}
@@ -0,0 +1,122 @@
+package org.folio.app.generator.service.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.app.generator.service.resilience.CircuitBreaker.State;
+import org.folio.app.generator.support.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CircuitBreakerTest {
+
+  private static final long OPEN_DURATION = 1_000L;
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<String> transitions = new ArrayList<>();
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    circuitBreaker = circuitBreaker(3);
+  }
+
+  @Test
+  void tryAcquire_positive_closedByDefault() {
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(transitions).isEmpty();
+  }
+
+  @Test
+  void recordFailure_positive_opensAfterThreshold() {
+    circuitBreaker.recordFailure();
+    circuitBreaker.recordFailure();
+    assertThat(circuitBreaker.isOpen()).isFalse();
+
+    circuitBreaker.recordFailure();
+
+    assertThat(circuitBreaker.isOpen()).isTrue();
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+    assertThat(transitions).containsExactly("CLOSED->OPEN");
+  }
+
+  @Test
+  void recordSuccess_positive_resetsConsecutiveFailures() {
+    circuitBreaker.recordFailure();
+    circuitBreaker.recordFailure();
+    circuitBreaker.recordSuccess();
+    circuitBreaker.recordFailure();
+    circuitBreaker.recordFailure();
+
+    assertThat(circuitBreaker.isOpen()).isFalse();
+    assertThat(transitions).isEmpty();
+  }
+
+  @Test
+  void tryAcquire_positive_halfOpenProbeClosesBreaker() {
+    open();
+    clock.set(OPEN_DURATION);
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+    circuitBreaker.recordSuccess();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+  }
+
+  @Test
+  void tryAcquire_negative_failedProbeReopensBreaker() {
+    open();
+    clock.set(OPEN_DURATION);
+    circuitBreaker.tryAcquire();
+
+    circuitBreaker.recordFailure();
+
+    assertThat(circuitBreaker.isOpen()).isTrue();
+    clock.set(OPEN_DURATION + OPEN_DURATION - 1);
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+    assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN");
+  }
+
+  @Test
+  void tryAcquire_positive_staleProbeIsReplaced() {
+    open();
+    clock.set(OPEN_DURATION);
+    circuitBreaker.tryAcquire();
+
+    clock.set(OPEN_DURATION * 2);
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+  }
+
+  @Test
+  void recordFailure_positive_disabledWhenThresholdIsZero() {
+    var disabled = circuitBreaker(0);
+
+    for (int i = 0; i < 10; i++) {
+      disabled.recordFailure();
+    }
+
+    assertThat(disabled.isOpen()).isFalse();
+    assertThat(disabled.tryAcquire()).isTrue();
+  }
+
+  private void open() {
+    for (int i = 0; i < 3; i++) {
+      circuitBreaker.recordFailure();
+    }
+  }
+
+  private CircuitBreaker circuitBreaker(int threshold) {
+    return new CircuitBreaker("test", threshold, OPEN_DURATION, clock::get,
+      (cb, from, to) -> transitions.add(from + "->" + to));
+  }
+}
@@ -0,0 +1,40 @@
+package org.folio.app.generator.service.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.folio.app.generator.support.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class LatencyTrackerTest {
+
+  @Test
+  void percentile_positive_nearestRank() {
+    var tracker = new LatencyTracker(100);
+    for (int i = 1; i <= 100; i++) {
+      tracker.record(i);
+    }
+
+    assertThat(tracker.getCount()).isEqualTo(100);
+    assertThat(tracker.percentile(50)).isEqualTo(50L);
+    assertThat(tracker.percentile(95)).isEqualTo(95L);
+    assertThat(tracker.percentile(100)).isEqualTo(100L);
+  }
+
+  @Test
+  void percentile_positive_slidingWindow() {
+    var tracker = new LatencyTracker(3);
+    tracker.record(1000);
+    tracker.record(1);
+    tracker.record(2);
+    tracker.record(3);
+
+    assertThat(tracker.getCount()).isEqualTo(3);
+    assertThat(tracker.percentile(100)).isEqualTo(3L);
+  }
+
+  @Test
+  void percentile_negative_noSamples() {
+    assertThat(new LatencyTracker(10).percentile(99)).isEqualTo(-1L);
+  }
+}
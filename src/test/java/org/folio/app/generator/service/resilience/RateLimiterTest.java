@@ -0,0 +1,129 @@
+package org.folio.app.generator.service.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.app.generator.support.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+  private static final long SECOND = 1_000_000_000L;
+  private static final Duration MAX_PAUSE = Duration.ofMinutes(5);
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Mock private RateLimiter.Listener listener;
+
+  @Test
+  void reserve_positive_burstThenSpreadsRequests() {
+    var rateLimiter = new RateLimiter("test", 2, 2, MAX_PAUSE, clock::get, listener);
+
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isEqualTo(SECOND / 2);
+    assertThat(rateLimiter.reserve()).isEqualTo(SECOND);
+  }
+
+  @Test
+  void reserve_positive_permitsRefillAfterIdlePeriod() {
+    var rateLimiter = new RateLimiter("test", 1, 1, MAX_PAUSE, clock::get, listener);
+    rateLimiter.reserve();
+    rateLimiter.reserve();
+
+    clock.addAndGet(5 * SECOND);
+
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isZero();
+    assertThat(rateLimiter.reserve()).isEqualTo(SECOND);
+  }
+
+  @Test
+  void onResponse_positive_tooManyRequestsPausesAndHalvesRate() {
+    var rateLimiter = new RateLimiter("test", 4, 4, MAX_PAUSE, clock::get, listener);
+
+    rateLimiter.onResponse(429, headers(Map.of("Retry-After", List.of("3"))));
+
+    assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(2);
+    assertThat(rateLimiter.reserve()).isEqualTo(3 * SECOND);
+    verify(listener).onThrottled(rateLimiter, Duration.ofSeconds(3));
+  }
+
+  @Test
+  void onResponse_positive_exhaustedQuotaPausesUntilReset() {
+    var rateLimiter = new RateLimiter("test", 4, 4, MAX_PAUSE, clock::get, listener);
+
+    rateLimiter.onResponse(200, headers(Map.of(
+      "RateLimit-Remaining", List.of("0;w=21600"),
+      "RateLimit-Reset", List.of("10"))));
+
+    assertThat(rateLimiter.reserve()).isEqualTo(10 * SECOND);
+    verify(listener, never()).onThrottled(any(), any());
+  }
+
+  @Test
+  void onResponse_positive_successRestoresConfiguredRate() {
+    var rateLimiter = new RateLimiter("test", 10, 1, MAX_PAUSE, clock::get, listener);
+    rateLimiter.onResponse(429, headers(Map.of()));
+    assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(5);
+
+    for (var i = 0; i < 10; i++) {
+      rateLimiter.onResponse(200, headers(Map.of("RateLimit-Remaining", List.of("98;w=21600"))));
+    }
+
+    assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(10);
+  }
+
+  @Test
+  void acquire_positive_reportsWait() throws Exception {
+    var rateLimiter = new RateLimiter("test", 1000, 1, MAX_PAUSE, clock::get, listener);
+    rateLimiter.acquire();
+    rateLimiter.acquire();
+    rateLimiter.acquire();
+
+    verify(listener).onWait(rateLimiter, SECOND / 1000);
+  }
+
+  @Test
+  void acquire_negative_pauseExceedsMaxPause() throws Exception {
+    var rateLimiter = new RateLimiter("test", 4, 4, MAX_PAUSE, clock::get, listener);
+
+    rateLimiter.onResponse(429, headers(Map.of("Retry-After", List.of("86400"))));
+
+    assertThatThrownBy(rateLimiter::acquire)
+      .isInstanceOf(IOException.class)
+      .hasMessage("Registry 'test' asked to pause requests for 86400s, which exceeds the maximum pause of 300s");
+    verify(listener).onThrottled(rateLimiter, Duration.ofSeconds(86400));
+
+    clock.addAndGet(86400 * SECOND);
+    rateLimiter.acquire();
+    verify(listener, never()).onWait(any(), anyLong());
+  }
+
+  @Test
+  void parseRetryAfter_positive() {
+    assertThat(RateLimiter.parseRetryAfter("120")).isEqualTo(Duration.ofSeconds(120));
+    assertThat(RateLimiter.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")).isEqualTo(Duration.ZERO);
+    assertThat(RateLimiter.parseRetryAfter("soon")).isNull();
+  }
+
+  private static HttpHeaders headers(Map<String, List<String>> values) {
+    return HttpHeaders.of(values, (name, value) -> true);
+  }
+}
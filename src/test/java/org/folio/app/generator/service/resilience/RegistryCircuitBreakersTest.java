@@ -0,0 +1,81 @@
+package org.folio.app.generator.service.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.model.registry.OkapiModuleRegistry;
+import org.folio.app.generator.model.registry.artifact.DockerHubArtifactRegistry;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class RegistryCircuitBreakersTest {
+
+  @Mock private Log log;
+
+  private RunMetrics runMetrics;
+  private RegistryCircuitBreakers circuitBreakers;
+
+  @BeforeEach
+  void setUp() {
+    runMetrics = new RunMetrics();
+    var pluginConfig = PluginConfig.builder().circuitBreakerFailureThreshold(2).build();
+    circuitBreakers = new RegistryCircuitBreakers(log, pluginConfig, runMetrics);
+  }
+
+  @Test
+  void forRegistry_positive_sameBreakerForSameRegistry() {
+    var first = circuitBreakers.forRegistry(okapiRegistry("http://okapi"));
+    var second = circuitBreakers.forRegistry(okapiRegistry("http://okapi"));
+    var other = circuitBreakers.forRegistry(okapiRegistry("http://other"));
+
+    assertThat(first).isSameAs(second).isNotSameAs(other);
+    assertThat(first.getName()).isEqualTo("okapi::http://okapi");
+  }
+
+  @Test
+  void forRegistry_positive_artifactRegistry() {
+    var registry = new DockerHubArtifactRegistry().baseUrl("https://hub.docker.com/v2/").namespace("folioorg");
+
+    var result = circuitBreakers.forRegistry(registry);
+
+    assertThat(result.getName()).isEqualTo("docker-hub::https://hub.docker.com/v2/folioorg");
+  }
+
+  @Test
+  void tryAcquire_negative_openBreakerIsCountedAndReported() {
+    var registry = okapiRegistry("http://okapi");
+
+    circuitBreakers.onFailure(registry);
+    circuitBreakers.onFailure(registry);
+
+    assertThat(circuitBreakers.tryAcquire(registry)).isFalse();
+    assertThat(circuitBreakers.tryAcquire(registry)).isFalse();
+    assertThat(runMetrics.get(RegistryCircuitBreakers.OPENED_COUNTER)).isEqualTo(1L);
+    assertThat(runMetrics.get(RegistryCircuitBreakers.SKIPPED_CALLS_COUNTER)).isEqualTo(2L);
+    assertThat(runMetrics.snapshot().events()).containsExactly("circuitBreaker 'okapi::http://okapi': CLOSED -> OPEN");
+    verify(log).warn("Circuit breaker for registry 'okapi::http://okapi' is open, the registry will be skipped");
+  }
+
+  @Test
+  void tryAcquire_positive_otherRegistryNotAffected() {
+    var failing = okapiRegistry("http://okapi");
+    circuitBreakers.onFailure(failing);
+    circuitBreakers.onFailure(failing);
+
+    assertThat(circuitBreakers.tryAcquire(okapiRegistry("http://other"))).isTrue();
+    assertThat(runMetrics.get(RegistryCircuitBreakers.SKIPPED_CALLS_COUNTER)).isZero();
+  }
+
+  private static OkapiModuleRegistry okapiRegistry(String url) {
+    return new OkapiModuleRegistry().url(url).withGeneratedFields();
+  }
+}
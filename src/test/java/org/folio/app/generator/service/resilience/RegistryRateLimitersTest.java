@@ -0,0 +1,59 @@
+package org.folio.app.generator.service.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.model.registry.artifact.DockerHubArtifactRegistry;
+import org.folio.app.generator.model.registry.artifact.FolioNpmArtifactRegistry;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class RegistryRateLimitersTest {
+
+  @Mock private Log log;
+
+  private final RunMetrics runMetrics = new RunMetrics();
+
+  @Test
+  void forRegistry_positive_disabledByDefault() {
+    var rateLimiters = new RegistryRateLimiters(log, PluginConfig.builder().build(), runMetrics);
+
+    assertThat(rateLimiters.forRegistry(new DockerHubArtifactRegistry().namespace("folioorg"))).isNull();
+  }
+
+  @Test
+  void forRegistry_positive_limiterPerRegistry() {
+    var config = PluginConfig.builder().artifactRateLimit(2).build();
+    var rateLimiters = new RegistryRateLimiters(log, config, runMetrics);
+
+    var dockerHub = rateLimiters.forRegistry(new DockerHubArtifactRegistry().namespace("folioorg"));
+    var sameDockerHub = rateLimiters.forRegistry(new DockerHubArtifactRegistry().namespace("folioorg"));
+    var npm = rateLimiters.forRegistry(new FolioNpmArtifactRegistry().namespace("npm-folio"));
+
+    assertThat(dockerHub).isNotNull().isSameAs(sameDockerHub);
+    assertThat(npm).isNotNull().isNotSameAs(dockerHub);
+    assertThat(dockerHub.getPermitsPerSecond()).isEqualTo(2);
+  }
+
+  @Test
+  void listener_positive_waitsAndThrottlingRecordedInMetrics() {
+    var config = PluginConfig.builder().artifactRateLimit(2).build();
+    var rateLimiters = new RegistryRateLimiters(log, config, runMetrics);
+    var rateLimiter = rateLimiters.forRegistry(new DockerHubArtifactRegistry().namespace("folioorg"));
+
+    rateLimiters.onWait(rateLimiter, 1_500_000_000L);
+    rateLimiters.onThrottled(rateLimiter, Duration.ofSeconds(5));
+
+    assertThat(runMetrics.get(RegistryRateLimiters.WAITS_COUNTER)).isOne();
+    assertThat(runMetrics.get(RegistryRateLimiters.WAIT_MILLIS_COUNTER)).isEqualTo(1500);
+    assertThat(runMetrics.get(RegistryRateLimiters.THROTTLED_COUNTER)).isOne();
+  }
+}
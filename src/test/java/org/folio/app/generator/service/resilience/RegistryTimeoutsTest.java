@@ -0,0 +1,170 @@
+package org.folio.app.generator.service.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import org.folio.app.generator.model.registry.OkapiModuleRegistry;
+import org.folio.app.generator.model.registry.SimpleModuleRegistry;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.HttpRequestUtils.RequestSender;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class RegistryTimeoutsTest {
+
+  private static final HttpRequest REQUEST = HttpRequest.newBuilder(URI.create("http://localhost/modules"))
+    .header("X-Okapi-Tenant", "diku")
+    .build();
+
+  @Mock private HttpResponse<InputStream> response;
+
+  private RunMetrics runMetrics;
+  private OkapiModuleRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    runMetrics = new RunMetrics();
+    registry = new OkapiModuleRegistry().url("http://localhost").withGeneratedFields();
+  }
+
+  @Test
+  void getTimeout_positive_ceilingBeforeMinSamples() throws Exception {
+    var timeouts = timeouts(Duration.ofSeconds(10), Duration.ofMinutes(5));
+    var sender = timeouts.withTimeout(registry, request -> response);
+
+    for (var i = 0; i < RegistryTimeouts.MIN_SAMPLES - 1; i++) {
+      sender.send(REQUEST);
+    }
+
+    assertThat(timeouts.getTimeout(registry)).isEqualTo(Duration.ofMinutes(5));
+  }
+
+  @Test
+  void getTimeout_positive_floorForFastRegistry() throws Exception {
+    var timeouts = timeouts(Duration.ofSeconds(10), Duration.ofMinutes(5));
+    warmUp(timeouts, request -> response);
+
+    assertThat(timeouts.getTimeout(registry)).isEqualTo(Duration.ofSeconds(10));
+    assertThat(timeouts.getTimeout(new SimpleModuleRegistry().url("http://other").withGeneratedFields()))
+      .isEqualTo(Duration.ofMinutes(5));
+  }
+
+  @Test
+  void getTimeout_positive_percentileMultipliedByFactor() throws Exception {
+    var timeouts = timeouts(Duration.ZERO, Duration.ofMinutes(1));
+    warmUp(timeouts, request -> {
+      Thread.sleep(5);
+      return response;
+    });
+
+    assertThat(timeouts.getTimeout(registry)).isBetween(Duration.ofMillis(15), Duration.ofMinutes(1).minusNanos(1));
+  }
+
+  @Test
+  void getTimeout_positive_cappedByCeiling() throws Exception {
+    var timeouts = timeouts(Duration.ZERO, Duration.ofMillis(1));
+    warmUp(timeouts, request -> {
+      Thread.sleep(2);
+      return response;
+    });
+
+    assertThat(timeouts.getTimeout(registry)).isEqualTo(Duration.ofMillis(1));
+  }
+
+  @Test
+  void getTimeout_positive_ceilingByDefault() throws Exception {
+    var timeouts = new RegistryTimeouts(PluginConfig.builder().build(), runMetrics);
+    warmUp(timeouts, request -> response);
+
+    assertThat(timeouts.getTimeout(registry)).isEqualTo(Duration.ofMinutes(5));
+  }
+
+  @Test
+  void getTimeout_positive_ceilingIfDisabled() throws Exception {
+    var pluginConfig = PluginConfig.builder().adaptiveTimeoutEnabled(false).build();
+    var timeouts = new RegistryTimeouts(pluginConfig, runMetrics);
+    warmUp(timeouts, request -> response);
+
+    assertThat(timeouts.getTimeout(registry)).isEqualTo(Duration.ofMinutes(5));
+  }
+
+  @Test
+  void withTimeout_positive_timeoutAppliedToRequest() throws Exception {
+    var timeouts = timeouts(Duration.ofSeconds(10), Duration.ofMinutes(2));
+    var sentRequests = new ArrayList<HttpRequest>();
+
+    var result = timeouts.withTimeout(registry, request -> {
+      sentRequests.add(request);
+      return response;
+    }).send(REQUEST);
+
+    assertThat(result).isSameAs(response);
+    assertThat(sentRequests).hasSize(1);
+    var sentRequest = sentRequests.get(0);
+    assertThat(sentRequest.timeout()).contains(Duration.ofMinutes(2));
+    assertThat(sentRequest.uri()).isEqualTo(REQUEST.uri());
+    assertThat(sentRequest.headers()).isEqualTo(REQUEST.headers());
+  }
+
+  @Test
+  void withBulkTimeout_positive_ceilingAppliedAndLatencyNotRecorded() throws Exception {
+    var timeouts = timeouts(Duration.ofSeconds(10), Duration.ofMinutes(2));
+    warmUp(timeouts, request -> response);
+    var sentRequests = new ArrayList<HttpRequest>();
+    var sender = timeouts.withBulkTimeout(registry, request -> {
+      sentRequests.add(request);
+      Thread.sleep(20);
+      return response;
+    });
+
+    for (var i = 0; i < RegistryTimeouts.MIN_SAMPLES; i++) {
+      sender.send(REQUEST);
+    }
+
+    assertThat(sentRequests).allSatisfy(request -> assertThat(request.timeout()).contains(Duration.ofMinutes(2)));
+    assertThat(timeouts.getTimeout(registry)).isEqualTo(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void withTimeout_negative_timedOutRequestIsCounted() {
+    var timeouts = timeouts(Duration.ofSeconds(10), Duration.ofMinutes(5));
+    var sender = timeouts.withTimeout(registry, request -> {
+      throw new HttpTimeoutException("request timed out");
+    });
+
+    assertThatThrownBy(() -> sender.send(REQUEST))
+      .isInstanceOf(HttpTimeoutException.class)
+      .hasMessage("request timed out");
+    assertThat(runMetrics.get(RegistryTimeouts.TIMED_OUT_COUNTER)).isOne();
+  }
+
+  private RegistryTimeouts timeouts(Duration floor, Duration ceiling) {
+    var pluginConfig = PluginConfig.builder()
+      .adaptiveTimeoutEnabled(true)
+      .adaptiveTimeoutFloor(floor)
+      .adaptiveTimeoutCeiling(ceiling)
+      .build();
+    return new RegistryTimeouts(pluginConfig, runMetrics);
+  }
+
+  private void warmUp(RegistryTimeouts timeouts, RequestSender delegate) throws Exception {
+    var sender = timeouts.withTimeout(registry, delegate);
+    for (var i = 0; i < RegistryTimeouts.MIN_SAMPLES; i++) {
+      sender.send(REQUEST);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package org.folio.app.generator.service.resilience;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.support.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class RequestCoalescerTest {
+
+  private final RunMetrics runMetrics = new RunMetrics();
+  private final RequestCoalescer coalescer = new RequestCoalescer(runMetrics);
+
+  @Test
+  void execute_positive_concurrentCallersShareSingleCall() throws Exception {
+    var calls = new AtomicInteger();
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var executor = Executors.newFixedThreadPool(2);
+    try {
+      var leader = executor.submit(() -> coalescer.execute("key", () -> {
+        calls.incrementAndGet();
+        started.countDown();
+        release.await(5, SECONDS);
+        return "result";
+      }));
+      assertThat(started.await(5, SECONDS)).isTrue();
+
+      var follower = executor.submit(() -> coalescer.execute("key", () -> {
+        calls.incrementAndGet();
+        return "other";
+      }));
+      awaitCoalesced();
+      release.countDown();
+
+      assertThat(leader.get(5, SECONDS)).isEqualTo("result");
+      assertThat(follower.get(5, SECONDS)).isEqualTo("result");
+      assertThat(calls).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void execute_positive_sequentialCallsAreNotCoalesced() throws Exception {
+    var calls = new AtomicInteger();
+
+    coalescer.execute("key", calls::incrementAndGet);
+    var result = coalescer.execute("key", calls::incrementAndGet);
+
+    assertThat(result).isEqualTo(2);
+    assertThat(runMetrics.get(RequestCoalescer.COALESCED_COUNTER)).isZero();
+  }
+
+  @Test
+  void execute_negative_failureIsPropagatedAndKeyReleased() throws Exception {
+    assertThatThrownBy(() -> coalescer.execute("key", () -> {
+      throw new IOException("Connection reset");
+    })).isInstanceOf(IOException.class).hasMessage("Connection reset");
+
+    assertThat(coalescer.execute("key", () -> "retried")).isEqualTo("retried");
+  }
+
+  @Test
+  void executeCached_positive_reusableResultKeptForRun() throws Exception {
+    var calls = new AtomicInteger();
+
+    coalescer.executeCached("key", calls::incrementAndGet, value -> true);
+    var result = coalescer.executeCached("key", calls::incrementAndGet, value -> true);
+
+    assertThat(result).isOne();
+    assertThat(calls).hasValue(1);
+    assertThat(runMetrics.get(RequestCoalescer.REUSED_COUNTER)).isOne();
+  }
+
+  @Test
+  void executeCached_negative_notReusableResultLoadedAgain() throws Exception {
+    var calls = new AtomicInteger();
+
+    coalescer.executeCached("key", calls::incrementAndGet, value -> value > 1);
+    coalescer.executeCached("key", calls::incrementAndGet, value -> value > 1);
+    var result = coalescer.executeCached("key", calls::incrementAndGet, value -> value > 1);
+
+    assertThat(result).isEqualTo(2);
+    assertThat(calls).hasValue(2);
+    assertThat(runMetrics.get(RequestCoalescer.REUSED_COUNTER)).isOne();
+  }
+
+  @Test
+  void executeCached_negative_failureNotKept() throws Exception {
+    assertThatThrownBy(() -> coalescer.executeCached("key", () -> {
+      throw new IOException("Connection reset");
+    }, value -> true)).isInstanceOf(IOException.class);
+
+    assertThat(coalescer.executeCached("key", () -> "retried", value -> true)).isEqualTo("retried");
+  }
+
+  @Test
+  void key_positive_includesMethodUriAndHeaders() {
+    var request = HttpRequest.newBuilder(URI.create("http://localhost/modules"))
+      .header("X-Okapi-Tenant", "diku")
+      .GET()
+      .build();
+    var otherHeaders = HttpRequest.newBuilder(URI.create("http://localhost/modules"))
+      .header("X-Okapi-Tenant", "other")
+      .GET()
+      .build();
+
+    assertThat(RequestCoalescer.key(request)).isEqualTo("GET http://localhost/modules {X-Okapi-Tenant=[diku]}");
+    assertThat(RequestCoalescer.key(otherHeaders)).isNotEqualTo(RequestCoalescer.key(request));
+  }
+
+  private void awaitCoalesced() throws InterruptedException {
+    for (var i = 0; i < 500 && runMetrics.get(RequestCoalescer.COALESCED_COUNTER) == 0; i++) {
+      Thread.sleep(10);
+    }
+    assertThat(runMetrics.get(RequestCoalescer.COALESCED_COUNTER)).isOne();
+  }
+}
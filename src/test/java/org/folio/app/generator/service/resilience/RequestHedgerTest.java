@@ -0,0 +1,160 @@
+package org.folio.app.generator.service.resilience;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.model.registry.OkapiModuleRegistry;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.PluginConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class RequestHedgerTest {
+
+  private static final HttpRequest REQUEST = HttpRequest.newBuilder(URI.create("http://localhost/modules")).build();
+
+  @Mock private Log log;
+  @Mock private HttpClient httpClient;
+  @Mock private HttpResponse<InputStream> primaryResponse;
+  @Mock private HttpResponse<InputStream> hedgeResponse;
+
+  private RunMetrics runMetrics;
+  private OkapiModuleRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    runMetrics = new RunMetrics();
+    registry = new OkapiModuleRegistry().url("http://localhost").withGeneratedFields();
+  }
+
+  @Test
+  void isEnabled_negative_disabledByDefault() {
+    var hedger = new RequestHedger(log, PluginConfig.builder().build(), runMetrics);
+
+    assertThat(hedger.isEnabled()).isFalse();
+  }
+
+  @Test
+  void send_positive_noHedgingBeforeMinSamples() throws Exception {
+    var hedger = hedger(1.0);
+    mockSendAsync(CompletableFuture.completedFuture(primaryResponse));
+
+    var result = hedger.send(httpClient, registry, REQUEST);
+
+    assertThat(result).isSameAs(primaryResponse);
+    verify(httpClient, times(1)).sendAsync(any(), any());
+    assertThat(runMetrics.get(RequestHedger.HEDGED_COUNTER)).isZero();
+  }
+
+  @Test
+  void send_positive_hedgeWins() throws Exception {
+    var hedger = warmedUpHedger(1.0);
+    var slowPrimary = new CompletableFuture<HttpResponse<InputStream>>();
+    mockSendAsync(slowPrimary, CompletableFuture.completedFuture(hedgeResponse));
+
+    var result = hedger.send(httpClient, registry, REQUEST);
+
+    assertThat(result).isSameAs(hedgeResponse);
+    assertThat(slowPrimary).isCancelled();
+    assertThat(runMetrics.get(RequestHedger.HEDGED_COUNTER)).isEqualTo(1L);
+    assertThat(runMetrics.get(RequestHedger.HEDGE_WINS_COUNTER)).isEqualTo(1L);
+  }
+
+  @Test
+  void send_positive_primaryWinsAfterHedgeSent() throws Exception {
+    var hedger = warmedUpHedger(1.0);
+    var hangingHedge = new CompletableFuture<HttpResponse<InputStream>>();
+    mockSendAsync(delayed(primaryResponse), hangingHedge);
+
+    var result = hedger.send(httpClient, registry, REQUEST);
+
+    assertThat(result).isSameAs(primaryResponse);
+    assertThat(hangingHedge).isCancelled();
+    assertThat(runMetrics.get(RequestHedger.HEDGED_COUNTER)).isEqualTo(1L);
+    assertThat(runMetrics.get(RequestHedger.HEDGE_WINS_COUNTER)).isZero();
+  }
+
+  @Test
+  void send_positive_hedgeRateCapped() throws Exception {
+    var hedger = warmedUpHedger(0.0);
+    mockSendAsync(delayed(primaryResponse));
+
+    var result = hedger.send(httpClient, registry, REQUEST);
+
+    assertThat(result).isSameAs(primaryResponse);
+    verify(httpClient, times(RequestHedger.MIN_SAMPLES + 1)).sendAsync(any(), any());
+    assertThat(runMetrics.get(RequestHedger.HEDGED_COUNTER)).isZero();
+    assertThat(runMetrics.get(RequestHedger.RATE_CAPPED_COUNTER)).isEqualTo(1L);
+  }
+
+  @Test
+  void send_negative_bothRequestsFailed() throws Exception {
+    var hedger = warmedUpHedger(1.0);
+    var slowFailure = new CompletableFuture<HttpResponse<InputStream>>();
+    mockSendAsync(slowFailure, CompletableFuture.failedFuture(new ConnectException("Connection refused")));
+    CompletableFuture.delayedExecutor(50, MILLISECONDS)
+      .execute(() -> slowFailure.completeExceptionally(new ConnectException("Connection refused")));
+
+    assertThatThrownBy(() -> hedger.send(httpClient, registry, REQUEST))
+      .isInstanceOf(ConnectException.class)
+      .hasMessage("Connection refused");
+  }
+
+  @Test
+  void send_negative_primaryFailedWithoutHedging() {
+    var hedger = hedger(1.0);
+    mockSendAsync(CompletableFuture.failedFuture(new ConnectException("Connection refused")));
+
+    assertThatThrownBy(() -> hedger.send(httpClient, registry, REQUEST))
+      .isInstanceOf(ConnectException.class)
+      .hasMessage("Connection refused");
+  }
+
+  private RequestHedger hedger(double maxRate) {
+    var pluginConfig = PluginConfig.builder()
+      .hedgingEnabled(true)
+      .hedgingMaxRate(maxRate)
+      .hedgingMinDelay(Duration.ofMillis(5))
+      .build();
+    return new RequestHedger(log, pluginConfig, runMetrics);
+  }
+
+  private RequestHedger warmedUpHedger(double maxRate) throws Exception {
+    var hedger = hedger(maxRate);
+    mockSendAsync(CompletableFuture.completedFuture(primaryResponse));
+    for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+      hedger.send(httpClient, registry, REQUEST);
+    }
+    return hedger;
+  }
+
+  @SafeVarargs
+  private void mockSendAsync(CompletableFuture<HttpResponse<InputStream>> first,
+    CompletableFuture<HttpResponse<InputStream>>... next) {
+    doReturn(first, (Object[]) next).when(httpClient).sendAsync(any(), any());
+  }
+
+  private static CompletableFuture<HttpResponse<InputStream>> delayed(HttpResponse<InputStream> response) {
+    return CompletableFuture.supplyAsync(() -> response, CompletableFuture.delayedExecutor(100, MILLISECONDS));
+  }
+}
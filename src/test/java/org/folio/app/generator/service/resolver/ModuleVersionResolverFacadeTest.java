@@ -1,6 +1,8 @@
 package org.folio.app.generator.service.resolver;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -11,9 +13,15 @@ import org.folio.app.generator.model.Dependency;
 import org.folio.app.generator.model.PreReleaseFilter;
 import org.folio.app.generator.model.registry.OkapiModuleRegistry;
 import org.folio.app.generator.model.registry.S3ModuleRegistry;
+import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.folio.app.generator.service.loader.PrefetchedModuleDescriptors;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
 import org.folio.app.generator.support.UnitTest;
+import org.folio.app.generator.utils.PluginConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,14 +35,19 @@ class ModuleVersionResolverFacadeTest {
   @Mock private Log log;
   @Mock private ModuleVersionResolver okapiResolver;
   @Mock private ModuleVersionResolver s3Resolver;
+  @Mock private PrefetchedModuleDescriptors prefetchedModuleDescriptors;
 
+  private RegistryCircuitBreakers circuitBreakers;
   private ModuleVersionResolverFacade facade;
 
   @BeforeEach
   void setUp() {
     when(okapiResolver.getType()).thenReturn(RegistryType.OKAPI);
     when(s3Resolver.getType()).thenReturn(RegistryType.AWS_S3);
-    facade = new ModuleVersionResolverFacade(log, List.of(okapiResolver, s3Resolver));
+    var pluginConfig = PluginConfig.builder().circuitBreakerFailureThreshold(1).build();
+    circuitBreakers = new RegistryCircuitBreakers(log, pluginConfig, new RunMetrics());
+    facade = new ModuleVersionResolverFacade(log, List.of(okapiResolver, s3Resolver), circuitBreakers,
+      prefetchedModuleDescriptors);
   }
 
   @Test
@@ -108,7 +121,7 @@ class ModuleVersionResolverFacadeTest {
 
   @Test
   void constructor_positive_emptyResolversList() {
-    facade = new ModuleVersionResolverFacade(log, List.of());
+    facade = new ModuleVersionResolverFacade(log, List.of(), circuitBreakers, prefetchedModuleDescriptors);
 
     var dependency = new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.FALSE);
     var result = facade.getAvailableVersions(okapiRegistry(), dependency, ModuleType.BE);
@@ -117,6 +130,43 @@ class ModuleVersionResolverFacadeTest {
     verify(log).warn("Failed to find module version resolver for registry: OkapiModuleRegistry");
   }
 
+  @Test
+  void getAvailableVersions_negative_circuitBreakerOpen() {
+    var dependency = new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.FALSE);
+    var registry = okapiRegistry();
+    circuitBreakers.onFailure(registry);
+
+    assertThatThrownBy(() -> facade.getAvailableVersions(registry, dependency, ModuleType.BE))
+      .isInstanceOf(ApplicationGeneratorException.class)
+      .hasMessage("Registry 'http://localhost' is skipped: circuit breaker is open")
+      .satisfies(e -> assertThat(((ApplicationGeneratorException) e).getCategory())
+        .isEqualTo(ErrorCategory.INFRASTRUCTURE));
+
+    verify(okapiResolver, never()).getAvailableVersions(registry, dependency, ModuleType.BE);
+  }
+
+  @Test
+  void prefetchVersions_positive() {
+    var dependencies = List.of(new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.FALSE));
+    var registry = s3Registry();
+
+    facade.prefetchVersions(registry, dependencies, ModuleType.BE);
+    facade.prefetchVersions(registry, List.of(), ModuleType.BE);
+
+    verify(s3Resolver).prefetchVersions(registry, dependencies, ModuleType.BE);
+    verify(s3Resolver, never()).prefetchVersions(registry, List.of(), ModuleType.BE);
+    verify(okapiResolver, never()).prefetchVersions(registry, dependencies, ModuleType.BE);
+  }
+
+  @Test
+  void versionResolved_positive_prefetchedDescriptorOfResolvedVersionRetained() {
+    var registry = okapiRegistry();
+
+    facade.versionResolved(new Dependency("mod-foo", "1.2.0", PreReleaseFilter.FALSE), registry);
+
+    verify(prefetchedModuleDescriptors).retain("mod-foo", registry, "mod-foo-1.2.0");
+  }
+
   private static OkapiModuleRegistry okapiRegistry() {
     return new OkapiModuleRegistry().url("http://localhost").withGeneratedFields();
   }
@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.SocketException;
@@ -25,15 +27,23 @@ import org.folio.app.generator.model.types.ErrorCategory;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.model.types.RegistryType;
 import org.folio.app.generator.service.exceptions.ApplicationGeneratorException;
+import org.folio.app.generator.service.loader.PrefetchedModuleDescriptors;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryTimeouts;
+import org.folio.app.generator.service.resilience.RequestHedger;
 import org.folio.app.generator.support.UnitTest;
 import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.shaded.org.apache.commons.io.IOUtils;
 
 @UnitTest
@@ -44,9 +54,15 @@ class OkapiModuleVersionResolverTest {
 
   @InjectMocks private OkapiModuleVersionResolver resolver;
   @Mock private Log log;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
+  @Mock private RequestHedger requestHedger;
+  @Spy private final RegistryTimeouts registryTimeouts =
+    new RegistryTimeouts(PluginConfig.builder().build(), new RunMetrics());
   @Mock private HttpClient httpClient;
   @Mock private HttpResponse<Object> httpResponse;
   @Mock private JsonConverter jsonConverter;
+  @Mock private PluginConfig pluginConfig;
+  @Mock private PrefetchedModuleDescriptors prefetchedModuleDescriptors;
 
   @AfterEach
   void tearDown() {
@@ -225,8 +241,8 @@ class OkapiModuleVersionResolverTest {
       .thenReturn(httpResponse);
     when(httpResponse.statusCode()).thenReturn(200);
     when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
-    when(jsonConverter.parse(any(InputStream.class), any()))
-      .thenReturn(List.of(Map.of("id", "mod-foo-1.0.0")));
+    when(jsonConverter.readIds(any(InputStream.class)))
+      .thenReturn(List.of("mod-foo-1.0.0"));
 
     var result = resolver.getAvailableVersions(okapiRegistry(), dependency, ModuleType.BE);
 
@@ -246,8 +262,8 @@ class OkapiModuleVersionResolverTest {
       .thenReturn(httpResponse);
     when(httpResponse.statusCode()).thenReturn(200);
     when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
-    when(jsonConverter.parse(any(InputStream.class), any()))
-      .thenReturn(List.of(Map.of("id", "mod-foo-1.0.0")));
+    when(jsonConverter.readIds(any(InputStream.class)))
+      .thenReturn(List.of("mod-foo-1.0.0"));
 
     var result = resolver.getAvailableVersions(okapiRegistry(), dependency, ModuleType.BE);
 
@@ -267,8 +283,8 @@ class OkapiModuleVersionResolverTest {
       .thenReturn(httpResponse);
     when(httpResponse.statusCode()).thenReturn(200);
     when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
-    when(jsonConverter.parse(any(InputStream.class), any()))
-      .thenReturn(List.of(Map.of("id", "mod-foo-1.0.0")));
+    when(jsonConverter.readIds(any(InputStream.class)))
+      .thenReturn(List.of("mod-foo-1.0.0"));
 
     var result = resolver.getAvailableVersions(okapiRegistry(), dependency, ModuleType.BE);
 
@@ -336,8 +352,8 @@ class OkapiModuleVersionResolverTest {
       .thenReturn(504)
       .thenReturn(200);
     when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
-    when(jsonConverter.parse(any(InputStream.class), any()))
-      .thenReturn(List.of(Map.of("id", "mod-foo-1.0.0")));
+    when(jsonConverter.readIds(any(InputStream.class)))
+      .thenReturn(List.of("mod-foo-1.0.0"));
 
     var result = resolver.getAvailableVersions(okapiRegistry(), dependency, ModuleType.BE);
 
@@ -409,7 +425,7 @@ class OkapiModuleVersionResolverTest {
     when(httpClient.send(requestCaptor.capture(), any())).thenReturn(httpResponse);
     when(httpResponse.statusCode()).thenReturn(200);
     when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
-    when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(List.of(Map.of("id", "mod-foo-1.0.0")));
+    when(jsonConverter.readIds(any(InputStream.class))).thenReturn(List.of("mod-foo-1.0.0"));
 
     var registry = okapiRegistry();
     registry.setHeaders(Map.of("X-Okapi-Token", "secret"));
@@ -422,6 +438,63 @@ class OkapiModuleVersionResolverTest {
     verify(log).debug("Module 'mod-foo' versions fetched from http://localhost");
   }
 
+  @Test
+  void getAvailableVersions_positive_prefetchesGreatestMatchingDescriptor() throws IOException, InterruptedException {
+    ReflectionTestUtils.setField(resolver, "jsonConverter", new JsonConverter(new ObjectMapper()));
+    var requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+    when(pluginConfig.isOkapiPrefetchDescriptors()).thenReturn(true);
+    when(httpClient.send(requestCaptor.capture(), any())).thenReturn(httpResponse);
+    when(httpResponse.statusCode()).thenReturn(200);
+    when(httpResponse.body()).thenReturn(IOUtils.toInputStream("["
+      + "{\"id\":\"mod-foo-2.0.0\",\"name\":\"foo\"},"
+      + "{\"id\":\"mod-foo-1.10.0\",\"name\":\"foo\"},"
+      + "{\"id\":\"mod-foo-1.9.0\",\"name\":\"foo\"}]", "UTF-8"));
+
+    var registry = okapiRegistry();
+    var dependency = new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.FALSE);
+    var result = resolver.getAvailableVersions(registry, dependency, ModuleType.BE);
+
+    assertThat(result).contains(List.of("2.0.0", "1.10.0", "1.9.0"));
+    assertThat(requestCaptor.getValue().uri().toString()).endsWith("&full=true");
+    verify(prefetchedModuleDescriptors).put(registry, "mod-foo", Map.of("id", "mod-foo-1.10.0", "name", "foo"));
+    verify(log).debug("Module 'mod-foo' versions fetched from http://localhost");
+  }
+
+  @Test
+  void getAvailableVersions_positive_noMatchingDescriptorToPrefetch() throws IOException, InterruptedException {
+    ReflectionTestUtils.setField(resolver, "jsonConverter", new JsonConverter(new ObjectMapper()));
+    when(pluginConfig.isOkapiPrefetchDescriptors()).thenReturn(true);
+    when(httpClient.send(any(HttpRequest.class), any())).thenReturn(httpResponse);
+    when(httpResponse.statusCode()).thenReturn(200);
+    when(httpResponse.body()).thenReturn(IOUtils.toInputStream("[{\"id\":\"mod-foo-2.0.0\"}]", "UTF-8"));
+
+    var dependency = new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.FALSE);
+    var result = resolver.getAvailableVersions(okapiRegistry(), dependency, ModuleType.BE);
+
+    assertThat(result).contains(List.of("2.0.0"));
+    verifyNoInteractions(prefetchedModuleDescriptors);
+    verify(log).debug("Module 'mod-foo' versions fetched from http://localhost");
+  }
+
+  @Test
+  void getAvailableVersions_positive_preReleaseListingNotPrefetched() throws IOException, InterruptedException {
+    ReflectionTestUtils.setField(resolver, "jsonConverter", new JsonConverter(new ObjectMapper()));
+    var requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+    when(pluginConfig.isOkapiPrefetchDescriptors()).thenReturn(true);
+    when(httpClient.send(requestCaptor.capture(), any())).thenReturn(httpResponse);
+    when(httpResponse.statusCode()).thenReturn(200);
+    when(httpResponse.body()).thenReturn(IOUtils.toInputStream(
+      "[{\"id\":\"mod-foo-1.1.0-SNAPSHOT.2\"},{\"id\":\"mod-foo-1.0.0\"}]", "UTF-8"));
+
+    var dependency = new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.TRUE);
+    var result = resolver.getAvailableVersions(okapiRegistry(), dependency, ModuleType.BE);
+
+    assertThat(result).contains(List.of("1.1.0-SNAPSHOT.2", "1.0.0"));
+    assertThat(requestCaptor.getValue().uri().toString()).doesNotContain("full=true");
+    verifyNoInteractions(prefetchedModuleDescriptors);
+    verify(log).debug("Module 'mod-foo' versions fetched from http://localhost");
+  }
+
   private void mockHttpResponse(int statusCode, List<Map<String, Object>> payload)
       throws IOException, InterruptedException {
     when(httpClient.send(any(HttpRequest.class), any())).thenReturn(httpResponse);
@@ -429,7 +502,7 @@ class OkapiModuleVersionResolverTest {
 
     if (payload != null) {
       when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
-      when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(payload);
+      when(jsonConverter.readIds(any(InputStream.class))).thenReturn(ids(payload));
     }
   }
 
@@ -440,4 +513,8 @@ class OkapiModuleVersionResolverTest {
   private static OkapiModuleRegistry okapiRegistryWithSlash() {
     return new OkapiModuleRegistry().url(BASE_URL + "/").withGeneratedFields();
   }
+
+  private static List<String> ids(List<Map<String, Object>> payload) {
+    return payload.stream().map(md -> md.get("id")).filter(String.class::isInstance).map(String.class::cast).toList();
+  }
 }
@@ -1,9 +1,17 @@
 package org.folio.app.generator.service.resolver;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.maven.plugin.logging.Log;
 import org.folio.app.generator.model.Dependency;
@@ -11,6 +19,9 @@ import org.folio.app.generator.model.PreReleaseFilter;
 import org.folio.app.generator.model.registry.S3ModuleRegistry;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.loader.S3AsyncRequestExecutor;
+import org.folio.app.generator.service.loader.S3RegistryIndexes;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
 import org.folio.app.generator.support.UnitTest;
 import org.folio.app.generator.utils.PluginConfig;
 import org.junit.jupiter.api.Test;
@@ -37,7 +48,10 @@ class S3ModuleVersionResolverTest {
 
   @InjectMocks private S3ModuleVersionResolver resolver;
   @Mock private Log log;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
   @Mock private S3Client s3Client;
+  @Mock private S3AsyncRequestExecutor s3AsyncRequestExecutor;
+  @Mock private S3RegistryIndexes s3RegistryIndexes;
   @Spy private final PluginConfig pluginConfig = PluginConfig.builder().awsS3BatchSize(5).build();
 
   @Test
@@ -226,6 +240,59 @@ class S3ModuleVersionResolverTest {
     assertThat(result.get()).containsExactly("1.2.0", "1.0.0");
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void getAvailableVersions_positive_prefetchedListingUsed() throws InterruptedException {
+    var registry = s3Registry();
+    var foo = new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.FALSE);
+    var bar = new Dependency("mod-bar", "^2.0.0", PreReleaseFilter.FALSE);
+    when(s3AsyncRequestExecutor.isEnabled()).thenReturn(true);
+    when(s3AsyncRequestExecutor.executeAll(any(), any())).thenAnswer(invocation -> {
+      Map<String, Supplier<CompletableFuture<List<S3Object>>>> tasks = invocation.getArgument(0);
+      assertThat(tasks).containsOnlyKeys("s3://test-bucket/modules/mod-foo-", "s3://test-bucket/modules/mod-bar-");
+      return Map.of("s3://test-bucket/modules/mod-foo-", List.of(s3Object("modules/mod-foo-1.1.0.json")));
+    });
+
+    resolver.prefetchVersions(registry, List.of(foo, bar), ModuleType.BE);
+    var result = resolver.getAvailableVersions(registry, foo, ModuleType.BE);
+
+    assertThat(result).contains(List.of("1.1.0"));
+    verifyNoInteractions(s3Client);
+  }
+
+  @Test
+  void getAvailableVersions_positive_indexUsed() {
+    var registry = s3Registry();
+    var dependency = new Dependency("mod-foo", "^1.0.0", PreReleaseFilter.FALSE);
+    when(s3RegistryIndexes.findObjects(registry, "modules/mod-foo-")).thenReturn(Optional.of(List.of(
+      s3Object("modules/mod-foo-1.0.0.json"), s3Object("modules/mod-foo-1.1.0.json"))));
+
+    var result = resolver.getAvailableVersions(registry, dependency, ModuleType.BE);
+
+    assertThat(result).contains(List.of("1.1.0", "1.0.0"));
+    verifyNoInteractions(s3Client);
+  }
+
+  @Test
+  void prefetchVersions_positive_registryIndexAvailable() {
+    var registry = s3Registry();
+    when(s3AsyncRequestExecutor.isEnabled()).thenReturn(true);
+    when(s3RegistryIndexes.isAvailable(registry)).thenReturn(true);
+
+    resolver.prefetchVersions(registry, List.of(new Dependency("mod-foo", "^1.0.0", null)), ModuleType.BE);
+
+    verify(s3AsyncRequestExecutor).isEnabled();
+    verifyNoMoreInteractions(s3AsyncRequestExecutor);
+  }
+
+  @Test
+  void prefetchVersions_positive_asyncLoadingDisabled() {
+    resolver.prefetchVersions(s3Registry(), List.of(new Dependency("mod-foo", "^1.0.0", null)), ModuleType.BE);
+
+    verify(s3AsyncRequestExecutor).isEnabled();
+    verifyNoMoreInteractions(s3AsyncRequestExecutor);
+  }
+
   private static Stream<Arguments> provideInvalidS3Objects() {
     return Stream.of(
       Arguments.of("invalid module ID", "modules/mod-foo-invalid"),
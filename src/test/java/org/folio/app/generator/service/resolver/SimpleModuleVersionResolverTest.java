@@ -2,6 +2,7 @@ package org.folio.app.generator.service.resolver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,12 +19,19 @@ import org.folio.app.generator.model.PreReleaseFilter;
 import org.folio.app.generator.model.registry.SimpleModuleRegistry;
 import org.folio.app.generator.model.types.ModuleType;
 import org.folio.app.generator.model.types.RegistryType;
+import org.folio.app.generator.service.metrics.RunMetrics;
+import org.folio.app.generator.service.resilience.RegistryCircuitBreakers;
+import org.folio.app.generator.service.resilience.RegistryTimeouts;
+import org.folio.app.generator.service.resilience.RequestCoalescer;
+import org.folio.app.generator.service.resilience.RequestHedger;
 import org.folio.app.generator.support.UnitTest;
 import org.folio.app.generator.utils.JsonConverter;
+import org.folio.app.generator.utils.PluginConfig;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.testcontainers.shaded.org.apache.commons.io.IOUtils;
 
@@ -35,6 +43,11 @@ class SimpleModuleVersionResolverTest {
 
   @InjectMocks private SimpleModuleVersionResolver resolver;
   @Mock private Log log;
+  @Mock private RegistryCircuitBreakers circuitBreakers;
+  @Mock private RequestHedger requestHedger;
+  @Spy private final RegistryTimeouts registryTimeouts =
+    new RegistryTimeouts(PluginConfig.builder().build(), new RunMetrics());
+  @Spy private final RequestCoalescer requestCoalescer = new RequestCoalescer(new RunMetrics());
   @Mock private HttpClient httpClient;
   @Mock private HttpResponse<Object> httpResponse;
   @Mock private JsonConverter jsonConverter;
@@ -255,6 +268,30 @@ class SimpleModuleVersionResolverTest {
     assertThat(result.get()).containsExactly("1.0.0");
   }
 
+  @Test
+  void getAvailableVersions_positive_listingReusedForOtherModules() throws IOException, InterruptedException {
+    mockHttpResponse(200, List.of(Map.of("id", "mod-foo-1.0.0"), Map.of("id", "mod-bar-2.0.0")));
+
+    var foo = resolver.getAvailableVersions(simpleRegistry(), new Dependency("mod-foo", "^1.0.0", null), ModuleType.BE);
+    var bar = resolver.getAvailableVersions(simpleRegistry(), new Dependency("mod-bar", "^2.0.0", null), ModuleType.BE);
+
+    assertThat(foo).contains(List.of("1.0.0"));
+    assertThat(bar).contains(List.of("2.0.0"));
+    verify(httpClient).send(any(HttpRequest.class), any());
+  }
+
+  @Test
+  void getAvailableVersions_negative_failedListingNotReused() throws IOException, InterruptedException {
+    var dependency = new Dependency("mod-foo", "^1.0.0", null);
+    mockHttpResponse(503, null);
+
+    resolver.getAvailableVersions(simpleRegistry(), dependency, ModuleType.BE);
+    var result = resolver.getAvailableVersions(simpleRegistry(), dependency, ModuleType.BE);
+
+    assertThat(result).isEmpty();
+    verify(httpClient, times(2)).send(any(HttpRequest.class), any());
+  }
+
   private void mockHttpResponse(int statusCode, List<Map<String, Object>> payload)
       throws IOException, InterruptedException {
     when(httpClient.send(any(HttpRequest.class), any())).thenReturn(httpResponse);
@@ -262,7 +299,7 @@ class SimpleModuleVersionResolverTest {
 
     if (payload != null) {
       when(httpResponse.body()).thenReturn(IOUtils.toInputStream("", "UTF-8"));
-      when(jsonConverter.parse(any(InputStream.class), any())).thenReturn(payload);
+      when(jsonConverter.readIds(any(InputStream.class))).thenReturn(ids(payload));
     }
   }
 
@@ -273,4 +310,8 @@ class SimpleModuleVersionResolverTest {
   private static SimpleModuleRegistry simpleRegistryWithSlash() {
     return new SimpleModuleRegistry().url(BASE_URL + "/").withGeneratedFields();
   }
+
+  private static List<String> ids(List<Map<String, Object>> payload) {
+    return payload.stream().map(md -> md.get("id")).filter(String.class::isInstance).map(String.class::cast).toList();
+  }
 }
@@ -0,0 +1,15 @@
+package org.folio.app.generator.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * Marks test as benchmark, benchmarks are executed with the {@code benchmark} Maven profile only.
+ */
+@Tag("benchmark")
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface BenchmarkTest {}
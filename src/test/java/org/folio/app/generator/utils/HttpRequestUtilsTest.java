@@ -6,9 +6,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.URI;
@@ -19,6 +21,7 @@ import java.net.http.HttpTimeoutException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import org.apache.maven.plugin.logging.Log;
+import org.folio.app.generator.service.resilience.CircuitBreaker;
 import org.folio.app.generator.support.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -167,6 +170,59 @@ class HttpRequestUtilsTest {
     verify(httpClient, times(5)).send(any(), any());
   }
 
+  @Test
+  void sendWithRetry_positive_successClosesCircuitBreaker() throws IOException, InterruptedException {
+    var circuitBreaker = circuitBreaker(1);
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(404);
+
+    var result = HttpRequestUtils.sendWithRetry(httpClient, log, request, circuitBreaker);
+
+    assertThat(result).isSameAs(response);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void sendWithRetry_negative_stopsRetryingWhenCircuitBreakerOpens() throws IOException, InterruptedException {
+    var circuitBreaker = circuitBreaker(1);
+    when(httpClient.send(any(), any())).thenReturn(response);
+    when(response.statusCode()).thenReturn(503);
+
+    var result = HttpRequestUtils.sendWithRetry(httpClient, log, request, circuitBreaker);
+
+    assertThat(result).isSameAs(response);
+    assertThat(circuitBreaker.isOpen()).isTrue();
+    verify(httpClient, times(1)).send(any(), any());
+  }
+
+  @Test
+  void sendWithRetry_negative_networkErrorOpensCircuitBreaker() throws IOException, InterruptedException {
+    var circuitBreaker = circuitBreaker(1);
+    when(httpClient.send(any(), any())).thenThrow(new SocketException("Connection reset"));
+
+    assertThatThrownBy(() -> HttpRequestUtils.sendWithRetry(httpClient, log, request, circuitBreaker))
+      .isInstanceOf(SocketException.class)
+      .hasMessage("Connection reset");
+
+    assertThat(circuitBreaker.isOpen()).isTrue();
+    verify(httpClient, times(1)).send(any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void sendWithRetry_positive_customRequestSender() throws IOException, InterruptedException {
+    var sender = mock(HttpRequestUtils.RequestSender.class);
+    var streamResponse = (HttpResponse<InputStream>) (HttpResponse<?>) response;
+    when(sender.send(request)).thenReturn(streamResponse);
+    when(response.statusCode()).thenReturn(200);
+
+    var result = HttpRequestUtils.sendWithRetry(sender, log, request, null);
+
+    assertThat(result).isSameAs(response);
+    verify(sender).send(request);
+    verifyNoInteractions(httpClient);
+  }
+
   @Test
   void cleanUrl_removesTrailingSlash() {
     var result = HttpRequestUtils.cleanUrl("http://example.com/");
@@ -226,4 +282,8 @@ class HttpRequestUtilsTest {
 
     assertThat(builder.GET().build().headers().map()).isEmpty();
   }
+
+  private static CircuitBreaker circuitBreaker(int failureThreshold) {
+    return new CircuitBreaker("test", failureThreshold, Long.MAX_VALUE, System::nanoTime, (cb, from, to) -> { });
+  }
 }
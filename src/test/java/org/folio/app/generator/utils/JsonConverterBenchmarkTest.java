@@ -0,0 +1,202 @@
+package org.folio.app.generator.utils;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+import org.folio.app.generator.configuration.SpringConfiguration;
+import org.folio.app.generator.model.ApplicationDescriptor;
+import org.folio.app.generator.model.types.DescriptorFormat;
+import org.folio.app.generator.support.BenchmarkTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+/**
+ * Compares allocations of reading module ids from a version listing, retained heap of module descriptors written in
+ * a binary format and throughput of reading and writing application descriptors, run with {@code mvn test -Pbenchmark}.
+ *
+ * <p>Measured values are published as test report entries. Allocation and retained heap assertions fail if an
+ * optimization no longer reduces memory, throughput is only reported, because it depends on the machine and JIT.</p>
+ */
+@BenchmarkTest
+class JsonConverterBenchmarkTest {
+
+  private static final int MODULES = 5_000;
+  private static final int WARMUP_ITERATIONS = 20;
+  private static final int ITERATIONS = 20;
+  private static final int APPLICATION_MODULES = 300;
+  private static final int THROUGHPUT_ROUNDS = 5;
+  private static final long THROUGHPUT_NANOS = 1_000_000_000L;
+
+  private final ObjectMapper objectMapper = new SpringConfiguration().objectMapper();
+  private final JsonConverter jsonConverter = new JsonConverter(objectMapper);
+  private final byte[] listing = createListing();
+  private final String application = createApplication();
+
+  @Test
+  void readIds_allocatesLessThanParsingListing(TestReporter testReporter) {
+    var parsed = measure(() -> {
+      List<Map<String, Object>> modules = jsonConverter.parse(inputStream(), new TypeReference<>() {});
+      return modules.stream().map(md -> String.valueOf(md.get("id"))).toList();
+    });
+    var streamed = measure(() -> jsonConverter.readIds(inputStream()));
+
+    testReporter.publishEntry("allocations", format("Version listing with %d modules (%d KiB): parse = %d KiB/op, "
+      + "readIds = %d KiB/op", MODULES, listing.length / 1024, parsed / 1024, streamed / 1024));
+    assertThat(streamed).isLessThan(parsed / 2);
+  }
+
+  @Test
+  @SneakyThrows
+  void parseAndWriteApplication_cachedCodecsAndBlackbirdMeasuredSeparately(TestReporter testReporter) {
+    var reflectionMapper = new ObjectMapper()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true)
+      .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, false);
+    var operations = new LinkedHashMap<String, ThrowingSupplier<String>>();
+    operations.put("ObjectMapper", () -> reflectionMapper.writeValueAsString(
+      reflectionMapper.readValue(application, ApplicationDescriptor.class)));
+    operations.put("cached codecs", cachedCodecs(reflectionMapper));
+    operations.put("ObjectMapper with Blackbird", () -> objectMapper.writeValueAsString(
+      objectMapper.readValue(application, ApplicationDescriptor.class)));
+    operations.put("cached codecs with Blackbird", cachedCodecs(objectMapper));
+
+    var throughput = new LinkedHashMap<String, Double>();
+    for (var round = 0; round < THROUGHPUT_ROUNDS; round++) {
+      operations.forEach((name, operation) -> throughput.merge(name, measureThroughput(operation), Math::max));
+    }
+
+    var results = new StringJoiner(", ");
+    throughput.forEach((name, opsPerSecond) -> results.add(format("%s = %.1f ops/s", name, opsPerSecond)));
+    testReporter.publishEntry("throughput", format("Application descriptor with %d modules (%d KiB): %s",
+      APPLICATION_MODULES, application.length() / 1024, results));
+    assertThat(jsonConverter.toJsonString(jsonConverter.parse(application, ApplicationDescriptor.class)))
+      .isEqualTo(application);
+  }
+
+  @Test
+  @SneakyThrows
+  void writeModuleDescriptorsAsSmile_fieldsNotRetained(TestReporter testReporter) {
+    var smileMapper = objectMapper.copyWith(DescriptorFormat.SMILE.createFactory());
+    var written = new ArrayList<Map<String, Object>>();
+    var writtenHeap = measureRetainedHeap(() -> {
+      jsonConverter.readArrayFilteredById(inputStream(), id -> true, written::add);
+      assertThat(smileMapper.writeValueAsBytes(written)).isNotEmpty();
+    });
+    var accessed = new ArrayList<Map<String, Object>>();
+    var accessedHeap = measureRetainedHeap(() -> {
+      jsonConverter.readArrayFilteredById(inputStream(), id -> true, accessed::add);
+      accessed.forEach(Map::entrySet);
+    });
+
+    testReporter.publishEntry("retainedHeap", format("%d module descriptors: written as Smile = %d KiB, "
+      + "fields accessed = %d KiB", MODULES, writtenHeap / 1024, accessedHeap / 1024));
+    assertThat(written).hasSize(MODULES);
+    assertThat(writtenHeap).isLessThan(accessedHeap);
+  }
+
+  private ThrowingSupplier<String> cachedCodecs(ObjectMapper mapper) {
+    var reader = mapper.readerFor(ApplicationDescriptor.class);
+    var writer = mapper.writerFor(ApplicationDescriptor.class);
+    return () -> writer.writeValueAsString(reader.readValue(application));
+  }
+
+  @SneakyThrows
+  private double measureThroughput(ThrowingSupplier<String> operation) {
+    var deadline = System.nanoTime() + THROUGHPUT_NANOS;
+    while (System.nanoTime() < deadline) {
+      assertThat(operation.get()).hasSameSizeAs(application);
+    }
+
+    var operations = 0;
+    var start = System.nanoTime();
+    while (System.nanoTime() - start < THROUGHPUT_NANOS) {
+      operation.get();
+      operations++;
+    }
+    return operations * 1_000_000_000d / (System.nanoTime() - start);
+  }
+
+  private long measure(Supplier<List<String>> operation) {
+    for (var i = 0; i < WARMUP_ITERATIONS; i++) {
+      assertThat(operation.get()).hasSize(MODULES);
+    }
+
+    var threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    var threadId = Thread.currentThread().getId();
+    var before = threadMxBean.getThreadAllocatedBytes(threadId);
+    for (var i = 0; i < ITERATIONS; i++) {
+      operation.get();
+    }
+    return (threadMxBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+  }
+
+  @SneakyThrows
+  private static long measureRetainedHeap(ThrowingRunnable operation) {
+    var memoryMxBean = ManagementFactory.getMemoryMXBean();
+    System.gc();
+    var before = memoryMxBean.getHeapMemoryUsage().getUsed();
+    operation.run();
+    System.gc();
+    return memoryMxBean.getHeapMemoryUsage().getUsed() - before;
+  }
+
+  private ByteArrayInputStream inputStream() {
+    return new ByteArrayInputStream(listing);
+  }
+
+  private static String createApplication() {
+    var modules = new StringBuilder();
+    var descriptors = new StringBuilder();
+    for (var i = 0; i < APPLICATION_MODULES; i++) {
+      var separator = i == 0 ? "" : ",";
+      modules.append(separator)
+        .append("{\"id\":\"mod-test-").append(i).append("-1.0.0\",\"name\":\"mod-test-").append(i)
+        .append("\",\"version\":\"1.0.0\"}");
+      descriptors.append(separator)
+        .append("{\"id\":\"mod-test-").append(i).append("-1.0.0\",\"name\":\"Test module\",")
+        .append("\"provides\":[{\"id\":\"test-").append(i).append("\",\"version\":\"1.0\",\"handlers\":[")
+        .append("{\"methods\":[\"GET\"],\"pathPattern\":\"/test/{id}\",\"permissionsRequired\":[\"test.item.get\"]},")
+        .append("{\"methods\":[\"POST\"],\"pathPattern\":\"/test\",\"permissionsRequired\":[\"test.item.post\"]}]}],")
+        .append("\"permissionSets\":[{\"permissionName\":\"test.item.get\",\"displayName\":\"Get item\"}]}");
+    }
+    return "{\"id\":\"app-test-1.0.0\",\"name\":\"app-test\",\"version\":\"1.0.0\",\"description\":null,"
+      + "\"modules\":[" + modules + "],\"uiModules\":[],\"dependencies\":[],"
+      + "\"moduleDescriptors\":[" + descriptors + "],\"uiModuleDescriptors\":[]}";
+  }
+
+  private static byte[] createListing() {
+    var json = new StringBuilder("[");
+    for (var i = 0; i < MODULES; i++) {
+      json.append(i == 0 ? "" : ",")
+        .append("{\"id\":\"folio_users-8.1.").append(i).append("000\",")
+        .append("\"name\":\"Users\",\"requires\":[],\"optional\":[],")
+        .append("\"provides\":[{\"id\":\"users\",\"version\":\"16.1\"}],")
+        .append("\"permissionSets\":[{\"permissionName\":\"module.users.enabled\",\"visible\":false}]}");
+    }
+    return json.append("]").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @FunctionalInterface
+  private interface ThrowingSupplier<T> {
+
+    T get() throws Exception;
+  }
+
+  @FunctionalInterface
+  private interface ThrowingRunnable {
+
+    void run() throws Exception;
+  }
+}
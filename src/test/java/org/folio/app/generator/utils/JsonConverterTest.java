@@ -1,15 +1,29 @@
 package org.folio.app.generator.utils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.SneakyThrows;
+import org.apache.commons.lang3.SerializationException;
 import org.folio.app.generator.configuration.SpringConfiguration;
 import org.folio.app.generator.model.ApplicationDescriptor;
 import org.folio.app.generator.model.ApplicationDescriptorTemplate;
+import org.folio.app.generator.model.RawModuleDescriptor;
+import org.folio.app.generator.model.types.DescriptorFormat;
 import org.folio.app.generator.support.UnitTest;
 import org.junit.jupiter.api.Test;
 
@@ -41,4 +55,215 @@ class JsonConverterTest {
     assertNotNull(applicationDescriptor);
     assertThat(applicationDescriptor.getId()).isEqualTo("app-consortia-1.0.0-SNAPSHOT");
   }
+
+  @Test
+  void parseArrayFilteredById_positive() {
+    var json = "[{\"id\":\"mod-a-1.0.0\",\"provides\":[{\"id\":\"a\"}]},"
+      + "{\"id\":\"mod-b-1.0.0\",\"nested\":{\"id\":\"mod-c-1.0.0\"},\"list\":[1,[2]]},"
+      + "{\"name\":\"mod-c\",\"id\":\"mod-c-1.0.0\"},"
+      + "{\"name\":\"mod-d\",\"id\":\"mod-d-1.0.0\"}]";
+    var inputStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+
+    var result = jsonConverter.parseArrayFilteredById(inputStream, Set.of("mod-a-1.0.0", "mod-c-1.0.0")::contains);
+
+    assertThat(result).containsExactly(
+      Map.of("id", "mod-a-1.0.0", "provides", List.of(Map.of("id", "a"))),
+      Map.of("name", "mod-c", "id", "mod-c-1.0.0"));
+  }
+
+  @Test
+  void readArrayFilteredById_positive_filterCalledOncePerId() {
+    var json = "[{\"id\":\"a\"},{\"name\":\"b\",\"id\":\"b\"},{\"name\":\"no-id\"},{\"id\":\"c\"}]";
+    var inputStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    var seenIds = new ArrayList<String>();
+    var accepted = new ArrayList<Map<String, Object>>();
+
+    jsonConverter.readArrayFilteredById(inputStream, id -> seenIds.add(id) && !"c".equals(id), accepted::add);
+
+    assertThat(seenIds).containsExactly("a", "b", "c");
+    assertThat(accepted).containsExactly(Map.of("id", "a"), Map.of("name", "b", "id", "b"));
+  }
+
+  @Test
+  void readIds_positive() {
+    var json = "[{\"id\":\"mod-a-1.0.0\",\"provides\":[{\"id\":\"a\"}]},"
+      + "{\"nested\":{\"id\":\"x\"},\"name\":\"mod-b\",\"id\":\"mod-b-1.0.0\"},"
+      + "{\"name\":\"no-id\"},{\"id\":42},{\"id\":\"mod-c-1.0.0\",\"list\":[1,[2]]}]";
+    var inputStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+
+    var result = jsonConverter.readIds(inputStream);
+
+    assertThat(result).containsExactly("mod-a-1.0.0", "mod-b-1.0.0", "mod-c-1.0.0");
+  }
+
+  @Test
+  void readIds_negative_notAnArray() {
+    var inputStream = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> jsonConverter.readIds(inputStream))
+      .isInstanceOf(SerializationException.class)
+      .hasMessage("Expected JSON array, but found: START_OBJECT");
+  }
+
+  @Test
+  void parseArrayFilteredById_negative_notAnArray() {
+    var inputStream = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> jsonConverter.parseArrayFilteredById(inputStream, id -> true))
+      .isInstanceOf(SerializationException.class)
+      .hasMessage("Expected JSON array, but found: START_OBJECT");
+  }
+
+  @Test
+  void readModuleDescriptor_positive_compactBytesKept() {
+    var json = "{\n  \"id\" : \"mod-a-1.0.0\",\n  \"provides\" : [ { \"id\" : \"a\" } ]\n}\n";
+    var compactJson = "{\"id\":\"mod-a-1.0.0\",\"provides\":[{\"id\":\"a\"}]}";
+
+    var result = readModuleDescriptor(json);
+
+    assertThat(result).isInstanceOf(RawModuleDescriptor.class).hasSize(2).containsEntry("id", "mod-a-1.0.0");
+    assertThat(((RawModuleDescriptor) result).getJson()).isEqualTo(compactJson.getBytes(StandardCharsets.UTF_8));
+    assertThat(result).isEqualTo(Map.of("id", "mod-a-1.0.0", "provides", List.of(Map.of("id", "a"))));
+    assertThat(jsonConverter.toJsonString(List.of(result))).isEqualTo("[" + compactJson + "]");
+  }
+
+  @Test
+  void readModuleDescriptor_positive_byteOrderMarkAndEncodingNotCopied() {
+    var json = "\uFEFF  {\"id\" : \"mod-\u00e4-1.0.0\"}\r\n";
+    var compactJson = "{\"id\":\"mod-\u00e4-1.0.0\"}".getBytes(StandardCharsets.UTF_8);
+
+    var utf8 = jsonConverter.readModuleDescriptor(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    var utf16 = jsonConverter.readModuleDescriptor(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_16BE)));
+
+    assertThat(((RawModuleDescriptor) utf8).getJson()).isEqualTo(compactJson);
+    assertThat(((RawModuleDescriptor) utf16).getJson()).isEqualTo(compactJson);
+    assertThat(jsonConverter.toJsonString(utf16)).isEqualTo("{\"id\":\"mod-\u00e4-1.0.0\"}");
+  }
+
+  @Test
+  void readModuleDescriptor_positive_nonJsonOutputUsesParsedFields() {
+    var json = "{\"id\":\"mod-a-1.0.0\",\"version\":1}";
+    var result = jsonConverter.readModuleDescriptor(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+    var converted = new SpringConfiguration().objectMapper().convertValue(result, Map.class);
+
+    assertThat(converted).isEqualTo(Map.of("id", "mod-a-1.0.0", "version", 1));
+  }
+
+  @Test
+  @SneakyThrows
+  void readModuleDescriptor_positive_nonJsonOutputDoesNotKeepFields() {
+    var objectMapper = new SpringConfiguration().objectMapper();
+    var smileMapper = objectMapper.copyWith(DescriptorFormat.SMILE.createFactory());
+    var reader = spy(objectMapper.readerFor(new TypeReference<Map<String, Object>>() {}));
+    var json = "{\"id\":\"mod-a-1.0.0\",\"version\":1}".getBytes(StandardCharsets.UTF_8);
+    var moduleDescriptor = new RawModuleDescriptor("mod-a-1.0.0", json, 2, reader);
+
+    smileMapper.writeValueAsBytes(moduleDescriptor);
+    smileMapper.writeValueAsBytes(moduleDescriptor);
+    verify(reader, times(2)).readValue(any(byte[].class));
+
+    assertThat(moduleDescriptor).containsEntry("version", 1);
+    smileMapper.writeValueAsBytes(moduleDescriptor);
+    verify(reader, times(3)).readValue(any(byte[].class));
+  }
+
+  @Test
+  void readModuleDescriptor_negative_notAnObject() {
+    var inputStream = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> jsonConverter.readModuleDescriptor(inputStream))
+      .isInstanceOf(SerializationException.class)
+      .hasMessage("Expected JSON object, but found: START_ARRAY");
+  }
+
+  @Test
+  void readModuleDescriptor_negative_invalidJson() {
+    var inputStream = new ByteArrayInputStream("{\"id\":\"mod-a-1.0.0\",".getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> jsonConverter.readModuleDescriptor(inputStream))
+      .isInstanceOf(SerializationException.class)
+      .hasMessage("Failed to parse value from input stream");
+  }
+
+  @Test
+  void parseArrayFilteredById_positive_acceptedObjectsWrittenAsCopied() {
+    var json = "[ { \"id\" : \"mod-a-1.0.0\", \"list\" : [ 1, { \"x\" : null } ] }, { \"id\" : \"mod-b-1.0.0\" } ]";
+    var inputStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+
+    var result = jsonConverter.parseArrayFilteredById(inputStream, "mod-a-1.0.0"::equals);
+
+    assertThat(result).singleElement().isInstanceOf(RawModuleDescriptor.class);
+    assertThat(jsonConverter.toJsonString(result)).isEqualTo("[{\"id\":\"mod-a-1.0.0\",\"list\":[1,{\"x\":null}]}]");
+  }
+
+  @Test
+  void parseApplicationDescriptor_positive_moduleDescriptorsReadAsRawValues() {
+    var moduleDescriptorsJson = "[{\"id\":\"mod-a-1.0.0\",\"provides\":[{\"id\":\"a\",\"version\":\"1.0\"}],"
+      + "\"launchDescriptor\":{\"dockerPull\":true}},{\"name\":\"no-id\"}]";
+    var json = "{\"id\":\"app-test-1.0.0\",\"moduleDescriptors\":" + moduleDescriptorsJson
+      + ",\"uiModuleDescriptors\":null}";
+
+    var application = jsonConverter.parse(json, ApplicationDescriptor.class);
+
+    var moduleDescriptors = application.getModuleDescriptors();
+    assertThat(moduleDescriptors).hasSize(2).allSatisfy(md -> assertThat(md).isInstanceOf(RawModuleDescriptor.class));
+    assertThat(((RawModuleDescriptor) moduleDescriptors.get(0)).getId()).isEqualTo("mod-a-1.0.0");
+    assertThat(moduleDescriptors.get(0)).hasSize(3).containsEntry("launchDescriptor", Map.of("dockerPull", true));
+    assertThat(moduleDescriptors.get(1)).isEqualTo(Map.of("name", "no-id"));
+    assertThat(application.getUiModuleDescriptors()).isNull();
+    assertThat(jsonConverter.toJsonString(moduleDescriptors)).isEqualTo(moduleDescriptorsJson);
+  }
+
+  @Test
+  void parseApplicationDescriptor_positive_moduleDescriptorFieldsReadWithSharedReader() {
+    var loaded = readModuleDescriptor("{\"id\":\"mod-a-1.0.0\",\"handlers\":[{\"methods\":[\"GET\"]}]}");
+    var json = "{\"id\":\"app-test-1.0.0\",\"moduleDescriptors\":"
+      + "[{\"id\":\"mod-b-1.0.0\",\"handlers\":[{\"methods\":[\"GET\"]}]}]}";
+
+    var application = jsonConverter.parse(json, ApplicationDescriptor.class);
+
+    var moduleDescriptor = (RawModuleDescriptor) application.getModuleDescriptors().get(0);
+    assertThat(moduleDescriptor.getReader()).isSameAs(((RawModuleDescriptor) loaded).getReader());
+    assertThat(methodOf(moduleDescriptor)).isEqualTo("GET");
+  }
+
+  @Test
+  @SneakyThrows
+  void parseApplicationDescriptor_positive_binaryInputKeptAsJson() {
+    var objectMapper = new SpringConfiguration().objectMapper();
+    var json = "{\"id\":\"app-test-1.0.0\",\"moduleDescriptors\":[{\"id\":\"mod-a-1.0.0\",\"version\":1}]}";
+    var smile = objectMapper.copyWith(DescriptorFormat.SMILE.createFactory())
+      .writeValueAsBytes(objectMapper.readTree(json));
+
+    var application = jsonConverter.parse(new ByteArrayInputStream(smile), ApplicationDescriptor.class,
+      DescriptorFormat.SMILE);
+    var mapperApplication = objectMapper.copyWith(DescriptorFormat.SMILE.createFactory())
+      .readValue(smile, ApplicationDescriptor.class);
+
+    var expectedJson = "{\"id\":\"mod-a-1.0.0\",\"version\":1}".getBytes(StandardCharsets.UTF_8);
+    assertThat(((RawModuleDescriptor) application.getModuleDescriptors().get(0)).getJson()).isEqualTo(expectedJson);
+    assertThat(((RawModuleDescriptor) mapperApplication.getModuleDescriptors().get(0)).getJson())
+      .isEqualTo(expectedJson);
+    assertThat(mapperApplication.getModuleDescriptors().get(0)).containsEntry("version", 1);
+  }
+
+  @Test
+  void parseApplicationDescriptor_negative_moduleDescriptorIsNotAnObject() {
+    var json = "{\"id\":\"app-test-1.0.0\",\"moduleDescriptors\":[\"mod-a-1.0.0\"]}";
+
+    assertThatThrownBy(() -> jsonConverter.parse(json, ApplicationDescriptor.class))
+      .isInstanceOf(SerializationException.class)
+      .hasMessage("Failed to read value from string");
+  }
+
+  private Map<String, Object> readModuleDescriptor(String json) {
+    return jsonConverter.readModuleDescriptor(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object methodOf(Map<String, Object> moduleDescriptor) {
+    var handler = ((List<Map<String, Object>>) moduleDescriptor.get("handlers")).get(0);
+    return ((List<Object>) handler.get("methods")).get(0);
+  }
 }